@@ -0,0 +1,47 @@
+package tss;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Unix domain (AF_UNIX) socket channels (Java 16 and later version of src/tss/UnixSockets.java,
+ * packaged under META-INF/versions/16 of the multi-release jar)
+ */
+class UnixSockets
+{
+    /** @return Whether Unix domain sockets are supported by this Java runtime */
+    static boolean isSupported()
+    {
+        return true;
+    }
+
+    /**
+     * Connects to a Unix domain socket
+     * @param path Path of the socket file
+     * @return Connected (blocking) channel
+     */
+    static SocketChannel connect(String path) throws IOException
+    {
+        return SocketChannel.open(UnixDomainSocketAddress.of(path));
+    }
+
+    /**
+     * Creates a Unix domain socket listening for connections
+     * @param path Path of the socket file (must not exist)
+     * @return Bound (blocking) server channel
+     */
+    static ServerSocketChannel listen(String path) throws IOException
+    {
+        ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            server.bind(UnixDomainSocketAddress.of(path));
+        } catch (IOException e) {
+            server.close();
+            throw e;
+        }
+        return server;
+    }
+}
@@ -0,0 +1,23 @@
+package benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the regular JMH command line, but unless another
+ * result format is requested, also writes the results as JSON (to jmh-result.json by default,
+ * or to the file given by -rff) so that they can be tracked over time.
+ */
+public class BenchmarkMain
+{
+    public static void main(String[] args) throws Exception
+    {
+        ArrayList<String> jmhArgs = new ArrayList<String>(Arrays.asList(args));
+        if (!jmhArgs.contains("-rf"))
+        {
+            jmhArgs.add("-rf");
+            jmhArgs.add("json");
+        }
+        org.openjdk.jmh.Main.main(jmhArgs.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,68 @@
+package benchmarks;
+
+import java.util.HashMap;
+
+import tss.*;
+import tss.tpm.*;
+
+/**
+ * In-memory TPM device that answers each command with a canned response registered for its
+ * command code. It makes it possible to measure the client-side cost of a TPM command round
+ * trip (command marshaling, dispatch and response processing) without any I/O.
+ */
+class CannedTpmDevice extends TpmDevice
+{
+    final HashMap<Integer, byte[]> responses = new HashMap<Integer, byte[]>();
+    byte[] pendingResponse;
+
+    /** Registers the successful response returned for the given command
+     * @param cc Command code
+     * @param params Response parameters
+     * @param withSessions Whether the command is expected to be sent with a (password) session
+     */
+    void addResponse(TPM_CC cc, TpmStructure params, boolean withSessions)
+    {
+        TpmBuffer buf = new TpmBuffer();
+        buf.writeShort(withSessions ? TPM_ST.SESSIONS.toInt() : TPM_ST.NO_SESSIONS.toInt());
+        buf.writeInt(0);    // response size placeholder
+        buf.writeInt(TPM_RC.SUCCESS.toInt());
+        int paramsSizePos = buf.curPos();
+        if (withSessions)
+            buf.writeInt(0);
+        int paramsPos = buf.curPos();
+        params.toTpm(buf);
+        if (withSessions)
+        {
+            // Password session response: empty nonce, continueSession, empty HMAC
+            buf.writeNumAtPos(buf.curPos() - paramsPos, paramsSizePos);
+            buf.writeShort(0);
+            buf.writeByte((byte)TPMA_SESSION.continueSession.toInt());
+            buf.writeShort(0);
+        }
+        buf.writeNumAtPos(buf.curPos(), 2);
+        responses.put(cc.toInt(), buf.trim());
+    }
+
+    @Override
+    public boolean connect() { return true; }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public void dispatchCommand(byte[] cmdBuf)
+    {
+        TpmBuffer cmd = new TpmBuffer(cmdBuf);
+        cmd.curPos(6);
+        int cc = cmd.readInt();
+        pendingResponse = responses.get(cc);
+        if (pendingResponse == null)
+            throw new TpmException("No canned response for command " + TPM_CC.fromInt(cc));
+    }
+
+    @Override
+    public byte[] getResponse() { return pendingResponse; }
+
+    @Override
+    public boolean responseReady() { return true; }
+}
@@ -0,0 +1,75 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import tss.*;
+import tss.tpm.*;
+
+/**
+ * Software cryptography used by the TSS: hashing and HMAC of command/response sized data,
+ * session key derivation, and validation of TPM signatures and quotes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CryptoBenchmarks
+{
+    @Param({"32", "1024"})
+    int dataSize;
+
+    byte[] data;
+    byte[] key;
+    byte[] nonceCaller;
+    byte[] nonceTpm;
+
+    Fixtures fixtures;
+    TPMS_SIGNATURE_RSASSA signature;
+
+    @Setup
+    public void setup()
+    {
+        data = Helpers.RandomBytes(dataSize);
+        key = Helpers.RandomBytes(32);
+        nonceCaller = Helpers.RandomBytes(32);
+        nonceTpm = Helpers.RandomBytes(32);
+
+        fixtures = new Fixtures();
+        signature = fixtures.sign(data);
+    }
+
+    @Benchmark
+    public byte[] hashSha256()
+    {
+        return Crypto.hash(TPM_ALG_ID.SHA256, data);
+    }
+
+    @Benchmark
+    public byte[] hmacSha256()
+    {
+        return Crypto.hmac(TPM_ALG_ID.SHA256, key, data);
+    }
+
+    /** Derivation of an AES-128 parameter encryption key and IV, as done for each command */
+    @Benchmark
+    public byte[] kdfaCfbKey()
+    {
+        return Crypto.KDFa(TPM_ALG_ID.SHA256, key, "CFB", nonceCaller, nonceTpm, 256);
+    }
+
+    @Benchmark
+    public boolean validateSignature()
+    {
+        return fixtures.signingKey.validateSignature(data, signature);
+    }
+
+    @Benchmark
+    public boolean validateQuote()
+    {
+        return fixtures.signingKey.validateQuote(fixtures.pcrs, fixtures.nonce, fixtures.quote);
+    }
+}
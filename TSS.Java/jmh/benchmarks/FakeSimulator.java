@@ -0,0 +1,125 @@
+package benchmarks;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import tss.*;
+
+/**
+ * Local stand-in for the TPM simulator that speaks its TCP protocol (command and platform
+ * ports) and executes the commands with an in-memory device. The server side answers each
+ * frame with a single write and disables the Nagle algorithm, so that the measured latency is
+ * dominated by the way the client talks to the socket.
+ */
+class FakeSimulator implements AutoCloseable
+{
+    static final int SendCommand = 8;
+    static final int SessionEnd = 20;
+
+    final TpmDevice device;
+    final ServerSocket cmdServer;
+    final ServerSocket platformServer;
+
+    /**
+     * Starts listening on a pair of consecutive local ports
+     * @param device Device executing the commands
+     */
+    FakeSimulator(TpmDevice device) throws IOException
+    {
+        this.device = device;
+        InetAddress lo = InetAddress.getLoopbackAddress();
+        ServerSocket cmd = null, platform = null;
+        while (platform == null)
+        {
+            cmd = new ServerSocket(0, 50, lo);
+            try {
+                platform = new ServerSocket(cmd.getLocalPort() + 1, 50, lo);
+            } catch (IOException e) {
+                cmd.close();
+            }
+        }
+        cmdServer = cmd;
+        platformServer = platform;
+        startAcceptor(cmdServer, true);
+        startAcceptor(platformServer, false);
+    }
+
+    /** @return The command port (the platform port is the next one) */
+    int getPort()
+    {
+        return cmdServer.getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        cmdServer.close();
+        platformServer.close();
+    }
+
+    void startAcceptor(final ServerSocket server, final boolean commandPort)
+    {
+        Thread t = new Thread(() -> {
+            try {
+                while (true)
+                {
+                    final Socket s = server.accept();
+                    s.setTcpNoDelay(true);
+                    Thread conn = new Thread(() -> serve(s, commandPort));
+                    conn.setDaemon(true);
+                    conn.start();
+                }
+            } catch (IOException e) {
+                // Server closed
+            }
+        });
+        t.setDaemon(true);
+        t.start();
+    }
+
+    void serve(Socket s, boolean commandPort)
+    {
+        try (Socket sock = s) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(sock.getInputStream()));
+            OutputStream out = sock.getOutputStream();
+            while (true)
+            {
+                int cmd = in.readInt();
+                if (cmd == SessionEnd)
+                    return;
+                if (!commandPort)
+                {
+                    // Platform signals are only acknowledged
+                    out.write(new byte[4]);
+                    continue;
+                }
+                if (cmd != SendCommand)
+                    throw new IOException("Unexpected simulator command " + cmd);
+
+                in.readByte();  // locality
+                byte[] cmdBuf = new byte[in.readInt()];
+                in.readFully(cmdBuf);
+                byte[] resp;
+                synchronized (device)
+                {
+                    device.dispatchCommand(cmdBuf);
+                    resp = device.getResponse();
+                }
+
+                // Response size, response, and the trailing acknowledgment
+                TpmBuffer frame = new TpmBuffer(resp.length + 8);
+                frame.writeInt(resp.length);
+                frame.writeByteBuf(resp);
+                frame.writeInt(0);
+                out.write(frame.trim());
+            }
+        } catch (IOException e) {
+            // Connection closed by the client
+        }
+    }
+}
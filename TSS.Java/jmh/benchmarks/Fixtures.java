@@ -0,0 +1,85 @@
+package benchmarks;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+
+import tss.*;
+import tss.tpm.*;
+
+/**
+ * Representative TPM data shared by the benchmarks: an RSA-2048 signing key (with the private
+ * part kept in software, so that valid signatures and quotes can be produced without a TPM),
+ * a quote over a few SHA-256 PCRs, and the matching PCR values.
+ */
+class Fixtures
+{
+    static final int[] QuotedPcrs = { 0, 1, 2, 3, 7 };
+
+    final KeyPair keyPair;
+    final TPMT_PUBLIC signingKey;
+    final PCR_ReadResponse pcrs;
+    final byte[] nonce;
+    final QuoteResponse quote;
+
+    Fixtures()
+    {
+        try {
+            KeyPairGenerator gen = KeyPairGenerator.getInstance("RSA");
+            gen.initialize(2048);
+            keyPair = gen.generateKeyPair();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        signingKey = new TPMT_PUBLIC(TPM_ALG_ID.SHA256,
+                new TPMA_OBJECT(TPMA_OBJECT.sign, TPMA_OBJECT.sensitiveDataOrigin, TPMA_OBJECT.userWithAuth),
+                new byte[0],
+                new TPMS_RSA_PARMS(new TPMT_SYM_DEF_OBJECT(TPM_ALG_ID.NULL, 0, TPM_ALG_ID.NULL),
+                        new TPMS_SIG_SCHEME_RSASSA(TPM_ALG_ID.SHA256), 2048, 65537),
+                new TPM2B_PUBLIC_KEY_RSA(unsigned(((RSAPublicKey)keyPair.getPublic()).getModulus(), 256)));
+
+        pcrs = new PCR_ReadResponse();
+        pcrs.pcrUpdateCounter = 42;
+        pcrs.pcrSelectionOut = new TPMS_PCR_SELECTION[] { new TPMS_PCR_SELECTION(TPM_ALG_ID.SHA256, QuotedPcrs) };
+        pcrs.pcrValues = new TPM2B_DIGEST[QuotedPcrs.length];
+        TpmBuffer pcrBuf = new TpmBuffer();
+        for (int i = 0; i < QuotedPcrs.length; ++i)
+        {
+            pcrs.pcrValues[i] = new TPM2B_DIGEST(Helpers.RandomBytes(32));
+            pcrBuf.writeByteBuf(pcrs.pcrValues[i].buffer);
+        }
+
+        nonce = Helpers.RandomBytes(16);
+        quote = new QuoteResponse();
+        quote.quoted = new TPMS_ATTEST(TPM_GENERATED.VALUE, Helpers.RandomBytes(34), nonce,
+                new TPMS_CLOCK_INFO(123456789L, 3, 0, (byte)1), 0x2001000000010000L,
+                new TPMS_QUOTE_INFO(pcrs.pcrSelectionOut, Crypto.hash(TPM_ALG_ID.SHA256, pcrBuf.trim())));
+        quote.signature = sign(quote.quoted.toBytes());
+    }
+
+    /** @return RSASSA-PKCS1-v1_5/SHA-256 signature of the given data made with the software key */
+    TPMS_SIGNATURE_RSASSA sign(byte[] data)
+    {
+        try {
+            Signature signer = Signature.getInstance("SHA256withRSA");
+            signer.initSign(keyPair.getPrivate());
+            signer.update(data);
+            return new TPMS_SIGNATURE_RSASSA(TPM_ALG_ID.SHA256, signer.sign());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /** @return Big-endian unsigned representation of the given value padded to the given size */
+    static byte[] unsigned(BigInteger val, int size)
+    {
+        byte[] bytes = val.toByteArray();
+        byte[] res = new byte[size];
+        int len = Math.min(bytes.length, size);
+        System.arraycopy(bytes, bytes.length - len, res, size - len, len);
+        return res;
+    }
+}
@@ -0,0 +1,119 @@
+package benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import tss.*;
+import tss.tpm.*;
+
+/**
+ * Round-trip latency of a TPM command through the socket based devices: TpmDeviceTcp talking
+ * to a local fake TPM simulator, and TpmDeviceTunnelClient and TpmDeviceUnixSocket talking to
+ * a local tunnel server over TCP and a Unix domain socket. The servers execute the commands
+ * with canned responses, so that the results show the cost of the socket I/O of the clients
+ * (e.g. delays caused by commands split into small writes, or the loopback TCP overhead).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SocketDeviceBenchmarks
+{
+    FakeSimulator simulator;
+    TpmDeviceTunnelServer tunnelServer;
+    Tpm simulatorTpm;
+    Tpm tunnelTpm;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        simulator = new FakeSimulator(cannedDevice());
+        simulatorTpm = connect(new TpmDeviceTcp("127.0.0.1", simulator.getPort()));
+
+        tunnelServer = new TpmDeviceTunnelServer(0, cannedDevice());
+        Thread serverThread = new Thread(tunnelServer);
+        serverThread.setDaemon(true);
+        serverThread.start();
+        tunnelTpm = connect(new TpmDeviceTunnelClient("127.0.0.1", tunnelServer.getPort()));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception
+    {
+        simulatorTpm.close();
+        tunnelTpm.close();
+        simulator.close();
+        tunnelServer.close();
+    }
+
+    static CannedTpmDevice cannedDevice()
+    {
+        CannedTpmDevice device = new CannedTpmDevice();
+        GetRandomResponse getRandom = new GetRandomResponse();
+        getRandom.randomBytes = Helpers.RandomBytes(32);
+        device.addResponse(TPM_CC.GetRandom, getRandom, false);
+        return device;
+    }
+
+    static Tpm connect(TpmDevice device)
+    {
+        if (!device.connect())
+            throw new TpmException("Failed to connect to the local server");
+        Tpm tpm = new Tpm();
+        tpm._setDevice(device);
+        return tpm;
+    }
+
+    @Benchmark
+    public byte[] simulatorGetRandom()
+    {
+        return simulatorTpm.GetRandom(32);
+    }
+
+    @Benchmark
+    public byte[] tunnelGetRandom()
+    {
+        return tunnelTpm.GetRandom(32);
+    }
+
+    /** Tunnel server listening on a Unix domain socket (requires Java 16 or later) */
+    @State(Scope.Thread)
+    public static class UnixSocketTunnel
+    {
+        Path socketDir;
+        TpmDeviceTunnelServer server;
+        Tpm tpm;
+
+        @Setup
+        public void setup() throws Exception
+        {
+            socketDir = Files.createTempDirectory("tss-bench");
+            String socketPath = socketDir.resolve("tpm.sock").toString();
+            server = new TpmDeviceTunnelServer(socketPath, cannedDevice());
+            Thread serverThread = new Thread(server);
+            serverThread.setDaemon(true);
+            serverThread.start();
+            tpm = connect(new TpmDeviceUnixSocket(socketPath));
+        }
+
+        @TearDown
+        public void tearDown() throws Exception
+        {
+            tpm.close();
+            server.close();
+            Files.deleteIfExists(socketDir.resolve("tpm.sock"));
+            Files.deleteIfExists(socketDir);
+        }
+    }
+
+    @Benchmark
+    public byte[] unixTunnelGetRandom(UnixSocketTunnel tunnel)
+    {
+        return tunnel.tpm.GetRandom(32);
+    }
+}
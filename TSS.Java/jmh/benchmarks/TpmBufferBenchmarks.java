@@ -0,0 +1,128 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import tss.*;
+import tss.tpm.*;
+
+/**
+ * Marshaling of representative TPM structures: an RSA-2048 signing key public area (deep
+ * structure with unions), a quote attestation structure, and a list of PCR digests.
+ * <P>
+ * The writeNum benchmarks compare the integer marshaling primitive with the way it used to be
+ * done (converting each value to a temporary big-endian byte array first).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TpmBufferBenchmarks
+{
+    TPMT_PUBLIC rsaPub;
+    byte[] rsaPubBytes;
+    TPMS_ATTEST attest;
+    byte[] attestBytes;
+    TPML_DIGEST digests;
+    byte[] digestsBytes;
+    TpmBuffer outBuf;
+
+    @Setup
+    public void setup()
+    {
+        rsaPub = new TPMT_PUBLIC(TPM_ALG_ID.SHA256,
+                new TPMA_OBJECT(TPMA_OBJECT.sign, TPMA_OBJECT.sensitiveDataOrigin, TPMA_OBJECT.userWithAuth),
+                new byte[32],
+                new TPMS_RSA_PARMS(new TPMT_SYM_DEF_OBJECT(TPM_ALG_ID.NULL, 0, TPM_ALG_ID.NULL),
+                        new TPMS_SIG_SCHEME_RSASSA(TPM_ALG_ID.SHA256), 2048, 65537),
+                new TPM2B_PUBLIC_KEY_RSA(Helpers.RandomBytes(256)));
+        rsaPubBytes = rsaPub.toBytes();
+
+        attest = new Fixtures().quote.quoted;
+        attestBytes = attest.toBytes();
+
+        digests = new TPML_DIGEST(new TPM2B_DIGEST[8]);
+        for (int i = 0; i < digests.digests.length; ++i)
+            digests.digests[i] = new TPM2B_DIGEST(Helpers.RandomBytes(32));
+        digestsBytes = digests.toBytes();
+
+        outBuf = new TpmBuffer();
+    }
+
+    @Benchmark
+    public int writeTpmtPublic()
+    {
+        outBuf.reset();
+        rsaPub.toTpm(outBuf);
+        return outBuf.curPos();
+    }
+
+    @Benchmark
+    public byte[] tpmtPublicToBytes()
+    {
+        return rsaPub.toBytes();
+    }
+
+    @Benchmark
+    public TPMT_PUBLIC readTpmtPublic()
+    {
+        return TPMT_PUBLIC.fromBytes(rsaPubBytes);
+    }
+
+    @Benchmark
+    public int writeTpmsAttest()
+    {
+        outBuf.reset();
+        attest.toTpm(outBuf);
+        return outBuf.curPos();
+    }
+
+    @Benchmark
+    public TPMS_ATTEST readTpmsAttest()
+    {
+        return TPMS_ATTEST.fromBytes(attestBytes);
+    }
+
+    @Benchmark
+    public int writeTpmlDigest()
+    {
+        outBuf.reset();
+        digests.toTpm(outBuf);
+        return outBuf.curPos();
+    }
+
+    @Benchmark
+    public TPML_DIGEST readTpmlDigest()
+    {
+        return TPML_DIGEST.fromBytes(digestsBytes);
+    }
+
+    @Benchmark
+    public int writeNum()
+    {
+        outBuf.reset();
+        for (int i = 0; i < 64; ++i)
+        {
+            outBuf.writeShort(i);
+            outBuf.writeInt(i);
+            outBuf.writeInt64(i);
+        }
+        return outBuf.curPos();
+    }
+
+    @Benchmark
+    public int writeNumViaHostToNet()
+    {
+        outBuf.reset();
+        for (int i = 0; i < 64; ++i)
+        {
+            outBuf.writeByteBuf(Helpers.hostToNet((short)i));
+            outBuf.writeByteBuf(Helpers.hostToNet(i));
+            outBuf.writeByteBuf(Helpers.hostToNet((long)i));
+        }
+        return outBuf.curPos();
+    }
+}
@@ -0,0 +1,76 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import tss.*;
+import tss.tpm.*;
+
+/**
+ * End-to-end TPM command round trips against an in-memory device returning canned responses.
+ * These measure everything the TSS does per command (marshaling, authorization area, response
+ * header checks and unmarshaling) but not the I/O or the TPM itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TpmCommandBenchmarks
+{
+    Tpm tpm;
+    TPM_HANDLE keyHandle;
+    byte[] digest;
+    TPMS_PCR_SELECTION[] pcrSelection;
+
+    @Setup
+    public void setup()
+    {
+        Fixtures fixtures = new Fixtures();
+        digest = Helpers.RandomBytes(32);
+        pcrSelection = fixtures.pcrs.pcrSelectionOut;
+        keyHandle = TPM_HANDLE.from(0x80000001);
+        keyHandle.AuthValue = new byte[0];
+
+        CannedTpmDevice device = new CannedTpmDevice();
+
+        GetRandomResponse getRandom = new GetRandomResponse();
+        getRandom.randomBytes = Helpers.RandomBytes(32);
+        device.addResponse(TPM_CC.GetRandom, getRandom, false);
+
+        device.addResponse(TPM_CC.PCR_Read, fixtures.pcrs, false);
+
+        SignResponse sign = new SignResponse();
+        sign.signature = fixtures.sign(digest);
+        device.addResponse(TPM_CC.Sign, sign, true);
+
+        tpm = new Tpm();
+        tpm._setDevice(device);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception
+    {
+        tpm.close();
+    }
+
+    @Benchmark
+    public byte[] getRandom()
+    {
+        return tpm.GetRandom(32);
+    }
+
+    @Benchmark
+    public PCR_ReadResponse pcrRead()
+    {
+        return tpm.PCR_Read(pcrSelection);
+    }
+
+    @Benchmark
+    public TPMU_SIGNATURE sign()
+    {
+        return tpm.Sign(keyHandle, digest, new TPMS_NULL_SIG_SCHEME(), TPMT_TK_HASHCHECK.nullTicket());
+    }
+}
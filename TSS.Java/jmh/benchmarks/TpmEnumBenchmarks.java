@@ -0,0 +1,41 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import tss.*;
+import tss.tpm.*;
+
+/**
+ * Conversions of integer values to TPM enums. TPM_RC conversion happens on every response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TpmEnumBenchmarks
+{
+    int rcSuccess = TPM_RC.SUCCESS.toInt();
+    int rcFmt1 = TPM_RC.AUTH_FAIL.toInt() + TPM_RC._1.toInt() + TPM_RC.S.toInt();
+    int algId = TPM_ALG_ID.SHA256.toInt();
+    int unknownCc = 0x1FF;
+    byte[] marshaledCc = TPM_CC.Sign.toBytes();
+
+    @Benchmark
+    public TPM_RC responseCodeSuccess() { return TpmHelpers.fromRawResponse(rcSuccess); }
+
+    @Benchmark
+    public TPM_RC responseCodeError() { return TpmHelpers.fromRawResponse(rcFmt1); }
+
+    @Benchmark
+    public TPM_ALG_ID algIdFromInt() { return TPM_ALG_ID.fromInt(algId); }
+
+    @Benchmark
+    public TPM_CC unknownCommandCodeFromInt() { return TPM_CC.fromInt(unknownCc); }
+
+    @Benchmark
+    public TPM_CC commandCodeFromTpm() { return TPM_CC.fromTpm(new TpmBuffer(marshaledCc)); }
+}
@@ -8,6 +8,31 @@ public class DrsServer {
 
     static TPMT_PUBLIC IdKeyTemplate = null;
     static TPMS_SENSITIVE_CREATE IdKeySens = null;
+
+    // Policy required for key duplication, and the policy sessions reused across the calls
+    static final TpmPolicy DupPolicy = new TpmPolicy().commandCode(TPM_CC.Duplicate);
+    static PolicySessionPool DupSessions = null;
+    static Tpm DupSessionsTpm = null;
+
+    /** @return The pool of duplication policy sessions for the given TPM */
+    static synchronized PolicySessionPool dupSessions(Tpm tpm)
+    {
+        if (DupSessionsTpm != tpm)
+        {
+            if (DupSessions != null)
+            {
+                // Flush the sessions left in the previous TPM. If it has already been closed,
+                // its sessions are gone together with the connection.
+                try {
+                    DupSessions.close();
+                } catch (RuntimeException e) {
+                }
+            }
+            DupSessions = new PolicySessionPool(tpm, TPM_ALG_ID.SHA256, 1);
+            DupSessionsTpm = tpm;
+        }
+        return DupSessions;
+    }
     
     public static int VerifyIdSignature(Tpm tpm, byte[] data, byte[] sig)
     {
@@ -21,15 +46,8 @@ public class DrsServer {
         TPMT_PUBLIC ekPub = TPM2B_PUBLIC.fromBytes(ekPubBlob).publicArea; 
         TPMT_PUBLIC srkPub = TPM2B_PUBLIC.fromBytes(srkPubBlob).publicArea;
         
-        // Start a policy session required for key duplication
-        TPM_HANDLE sess = tpm.StartAuthSession(TPM_HANDLE.NULL, TPM_HANDLE.NULL,
-                                               Helpers.RandomBytes(20), new byte[0], TPM_SE.POLICY,
-                                               new TPMT_SYM_DEF(TPM_ALG_ID.NULL, 0, TPM_ALG_ID.NULL), TPM_ALG_ID.SHA256)
-                        .handle;
-        // Run the necessary policy command
-        tpm.PolicyCommandCode(sess, TPM_CC.Duplicate);
-        // Retrieve the policy digest computed by the TPM
-        byte[] dupPolicyDigest = tpm.PolicyGetDigest(sess);
+        // The policy digest is computed in software (no trial session is needed)
+        byte[] dupPolicyDigest = DupPolicy.getPolicyDigest(TPM_ALG_ID.SHA256);
         
         IdKeyTemplate = new TPMT_PUBLIC(
                 TPM_ALG_ID.SHA256,
@@ -45,9 +63,21 @@ public class DrsServer {
         
         TPM_HANDLE srkPubHandle = tpm.LoadExternal(null, srkPub, TPM_HANDLE.from(TPM_RH.OWNER));
         
+        // Get a policy session satisfying the duplication policy
+        PolicySessionPool dupSessions = dupSessions(tpm);
+        AuthSession sess = dupSessions.acquire(DupPolicy);
+
         TPMT_SYM_DEF_OBJECT symWrapperDef = new TPMT_SYM_DEF_OBJECT(TPM_ALG_ID.AES, 128, TPM_ALG_ID.CFB);
-        DuplicateResponse dupResp = tpm._withSession(sess)
-                                       .Duplicate(idKey.handle, srkPubHandle, new byte[0], symWrapperDef);
+        DuplicateResponse dupResp;
+        try {
+            dupResp = tpm._withSession(sess)
+                         .Duplicate(idKey.handle, srkPubHandle, new byte[0], symWrapperDef);
+        } catch (RuntimeException e) {
+            // The state of the session is unknown after a failure
+            dupSessions.discard(sess);
+            throw e;
+        }
+        dupSessions.release(sess);
 
         tpm.FlushContext(srkPubHandle);
 
@@ -56,10 +86,9 @@ public class DrsServer {
         MakeCredentialResponse cred = tpm.MakeCredential(ekPubHandle, dupResp.encryptionKeyOut, srkPub.getName());
 
     
-        // Delete the key and session handles
+        // Delete the key handles
         tpm.FlushContext(ekPubHandle);
         tpm.FlushContext(idKey.handle);
-        tpm.FlushContext(sess);
 
         /**
          * Not all TPMs support AES usage. Use software AES.
@@ -0,0 +1,133 @@
+package test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tss.*;
+import tss.tpm.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Command dispatching of AsyncTpm, with canned TPM responses.
+ */
+public class AsyncTpmTests {
+
+    /** Canned device blocking the first command until it is released, and recording the
+     *  executed commands */
+    static class GatedDevice extends CannedTpmDevice
+    {
+        final CountDownLatch started = new CountDownLatch(1),
+                             released = new CountDownLatch(1);
+        final ArrayList<TPM_CC> executed = new ArrayList<TPM_CC>();
+
+        /** Command answered once with TPM_RC_RETRY */
+        TPM_CC retry;
+
+        @Override
+        byte[] execute(byte[] cmdBuf)
+        {
+            TPM_CC cc = commandCode(cmdBuf);
+            executed.add(cc);
+            if (cc == retry)
+            {
+                retry = null;
+                return errorResponse(TPM_RC.RETRY);
+            }
+            if (commandCount == 1)
+            {
+                started.countDown();
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    throw new TpmException("Interrupted");
+                }
+            }
+            return super.execute(cmdBuf);
+        }
+    }
+
+    static GatedDevice cannedDevice()
+    {
+        GatedDevice device = new GatedDevice();
+        device.pipelining = true;
+        GetRandomResponse getRandom = new GetRandomResponse();
+        getRandom.randomBytes = new byte[8];
+        device.addResponse(TPM_CC.GetRandom, getRandom, false);
+        ReadClockResponse readClock = new ReadClockResponse();
+        readClock.currentTime = new TPMS_TIME_INFO(1, new TPMS_CLOCK_INFO(2, 3, 4, (byte)1));
+        device.addResponse(TPM_CC.ReadClock, readClock, false);
+        return device;
+    }
+
+    static Tpm connect(TpmDevice device)
+    {
+        Tpm tpm = new Tpm();
+        tpm._setDevice(device);
+        return tpm;
+    }
+
+    static ArrayList<TPM_CC> recordCommands(Tpm tpm)
+    {
+        ArrayList<TPM_CC> commands = new ArrayList<TPM_CC>();
+        tpm._setCallback((cc, rc, cmd, resp) -> commands.add(cc));
+        return commands;
+    }
+
+    @Test
+    public void commandsAreCompletedByTheirOwnTpm() throws Exception {
+        GatedDevice device = cannedDevice();
+        Tpm tpm1 = connect(device),
+            tpm2 = connect(device);
+        ArrayList<TPM_CC> commands1 = recordCommands(tpm1),
+                          commands2 = recordCommands(tpm2);
+        AsyncTpm async1 = new AsyncTpm(tpm1),
+                 async2 = new AsyncTpm(tpm2);
+        try {
+            // Hold the dispatcher, so that the commands of both objects are queued together
+            ArrayList<CompletableFuture<?>> futures = new ArrayList<CompletableFuture<?>>();
+            futures.add(async1.GetRandom(8));
+            device.started.await();
+            for (int i = 0; i < 3; ++i)
+                futures.add(async2.ReadClock());
+            futures.add(async1.GetRandom(8));
+            device.released.countDown();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get();
+
+            Assertions.assertEquals(2, commands1.size());
+            Assertions.assertTrue(commands1.stream().allMatch(cc -> cc == TPM_CC.GetRandom));
+            Assertions.assertEquals(3, commands2.size());
+            Assertions.assertTrue(commands2.stream().allMatch(cc -> cc == TPM_CC.ReadClock));
+        } finally {
+            async1.close();
+            async2.close();
+        }
+    }
+
+    @Test
+    public void retriedAuditedCommandEndsItsBatch() throws Exception {
+        GatedDevice device = cannedDevice();
+        device.retry = TPM_CC.ReadClock;
+        Tpm tpm = connect(device);
+        tpm._startAudit(TPM_ALG_ID.SHA256);
+        tpm._auditCommands(TPM_CC.ReadClock);
+        AsyncTpm async = new AsyncTpm(tpm);
+        try {
+            CompletableFuture<?> first = async.GetRandom(8);
+            device.started.await();
+            CompletableFuture<?> audited = async.ReadClock(),
+                                 next = async.GetRandom(8);
+            device.released.countDown();
+            CompletableFuture.allOf(first, audited, next).get();
+
+            // The command after the audited one is not executed before the audited one is retried
+            Assertions.assertEquals(Arrays.asList(TPM_CC.GetRandom, TPM_CC.ReadClock, TPM_CC.ReadClock,
+                                                  TPM_CC.GetRandom), device.executed);
+            Assertions.assertFalse(Arrays.equals(new byte[32], tpm._getAuditHash().digest));
+        } finally {
+            async.close();
+        }
+    }
+}
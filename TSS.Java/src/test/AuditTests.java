@@ -0,0 +1,95 @@
+package test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tss.*;
+import tss.tpm.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Command audit digest tracked by the TSS, checked against the audit digest of SoftTpmDevice.
+ */
+public class AuditTests {
+
+    static void checkAuditDigest(SoftTpmDevice device, Tpm tpm)
+    {
+        TPMT_HA auditHash = tpm._getAuditHash();
+        Assertions.assertEquals(device.auditAlg, auditHash.hashAlg);
+        Assertions.assertArrayEquals(device.auditDigest, auditHash.digest);
+    }
+
+    @Test
+    public void auditedCommandsExtendTheDigest() {
+        SoftTpmDevice device = new SoftTpmDevice();
+        device.startAudit(TPM_ALG_ID.SHA256, TPM_CC.GetRandom, TPM_CC.HierarchyChangeAuth);
+        Tpm tpm = SessionTests.connect(device);
+        tpm._startAudit(TPM_ALG_ID.SHA256);
+        tpm._auditCommands(TPM_CC.GetRandom);
+
+        tpm.GetRandom(8);
+        checkAuditDigest(device, tpm);
+        Assertions.assertFalse(Helpers.arraysAreEqual(new byte[32], device.auditDigest));
+
+        // Audited on demand, with a handle and an authorization
+        tpm._audit().HierarchyChangeAuth(SessionTests.owner(new byte[0]), new byte[] {1, 2});
+        checkAuditDigest(device, tpm);
+
+        // A failed command is not audited
+        tpm._audit()._expectError(TPM_RC.AUTH_FAIL).HierarchyChangeAuth(SessionTests.owner(new byte[] {3}),
+                                                                         new byte[] {4});
+        checkAuditDigest(device, tpm);
+
+        TPMT_HA last = tpm._endAudit();
+        Assertions.assertArrayEquals(device.auditDigest, last.digest);
+        Assertions.assertNull(tpm._getAuditHash());
+        Assertions.assertThrows(TpmException.class, () -> tpm._audit());
+    }
+
+    @Test
+    public void auditCoversEncryptedParameters() {
+        SoftTpmDevice device = new SoftTpmDevice();
+        device.authValues.put(TPM_RH.OWNER.toInt(), new byte[] {1, 2});
+        device.startAudit(TPM_ALG_ID.SHA1, TPM_CC.GetRandom, TPM_CC.HierarchyChangeAuth);
+        Tpm tpm = SessionTests.connect(device);
+        tpm._startAudit(TPM_ALG_ID.SHA1);
+        tpm._auditCommands(TPM_CC.GetRandom, TPM_CC.HierarchyChangeAuth);
+
+        AuthSession decrypt = ParameterEncryptionTests.startSession(tpm, SessionTests.Aes128Cfb,
+                                        TPMA_SESSION.continueSession, TPMA_SESSION.decrypt),
+                    encrypt = ParameterEncryptionTests.startSession(tpm, SessionTests.Aes128Cfb,
+                                        TPMA_SESSION.continueSession, TPMA_SESSION.encrypt);
+
+        // The cpHash and rpHash are computed over the parameters as sent on the wire
+        tpm._withSession(decrypt).HierarchyChangeAuth(SessionTests.owner(new byte[] {1, 2}), new byte[] {1, 2, 3});
+        checkAuditDigest(device, tpm);
+        Assertions.assertArrayEquals(new byte[] {1, 2, 3, 4, 5}, tpm._withSession(encrypt).GetRandom(5));
+        checkAuditDigest(device, tpm);
+    }
+
+    @Test
+    public void pipelinedCommandsAreAuditedInOrder() throws Exception {
+        SoftTpmDevice device = new SoftTpmDevice();
+        device.pipelining = true;
+        device.startAudit(TPM_ALG_ID.SHA256, TPM_CC.GetRandom);
+        Tpm tpm = SessionTests.connect(device);
+        tpm._startAudit(TPM_ALG_ID.SHA256);
+        tpm._auditCommands(TPM_CC.GetRandom);
+
+        AsyncTpm async = new AsyncTpm(tpm);
+        try {
+            ArrayList<CompletableFuture<?>> results = new ArrayList<CompletableFuture<?>>();
+            for (int i = 1; i <= 8; ++i)
+            {
+                results.add(async.GetRandom(i));
+                results.add(async._allowErrors().HierarchyChangeAuth(SessionTests.owner(new byte[0]),
+                                                                      new byte[0]));
+            }
+            CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get();
+        } finally {
+            async.close();
+        }
+        checkAuditDigest(device, tpm);
+    }
+}
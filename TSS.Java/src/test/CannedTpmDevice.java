@@ -0,0 +1,131 @@
+package test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+
+import tss.*;
+import tss.tpm.*;
+
+/**
+ * In-memory TPM device answering each command with a response registered for its command code,
+ * so that the command processing of the TSS can be tested without a TPM.
+ */
+class CannedTpmDevice extends TpmDevice
+{
+    final HashMap<Integer, byte[]> responses = new HashMap<Integer, byte[]>();
+    final ArrayDeque<byte[]> pendingResponses = new ArrayDeque<byte[]>();
+    boolean pipelining;
+    int commandCount;
+
+    /** Whether the device reports ByteBuffer support, and the number of commands sent that way */
+    boolean byteBuffers;
+    int byteBufferCommands;
+
+    /**
+     * Registers the successful response returned for the given command
+     * @param cc Command code
+     * @param params Response parameters
+     * @param withSessions Whether the command is expected to be sent with a (password) session
+     */
+    void addResponse(TPM_CC cc, TpmStructure params, boolean withSessions)
+    {
+        responses.put(cc.toInt(), response(null, params, withSessions));
+    }
+
+    /**
+     * @param handle Handle returned by the command, or null
+     * @param params Response parameters
+     * @param withSessions Whether the command is expected to be sent with a (password) session
+     * @return Successful response
+     */
+    static byte[] response(TPM_HANDLE handle, TpmStructure params, boolean withSessions)
+    {
+        TpmBuffer buf = new TpmBuffer();
+        buf.writeShort(withSessions ? TPM_ST.SESSIONS.toInt() : TPM_ST.NO_SESSIONS.toInt());
+        buf.writeInt(0);    // response size placeholder
+        buf.writeInt(TPM_RC.SUCCESS.toInt());
+        if (handle != null)
+            handle.toTpm(buf);
+        int paramsSizePos = buf.curPos();
+        if (withSessions)
+            buf.writeInt(0);
+        int paramsPos = buf.curPos();
+        params.toTpm(buf);
+        if (withSessions)
+        {
+            // Password session response: empty nonce, continueSession, empty HMAC
+            buf.writeNumAtPos(buf.curPos() - paramsPos, paramsSizePos);
+            buf.writeShort(0);
+            buf.writeByte((byte)TPMA_SESSION.continueSession.toInt());
+            buf.writeShort(0);
+        }
+        buf.writeNumAtPos(buf.curPos(), 2);
+        return buf.trim();
+    }
+
+    /** @return Response with the given response code and no parameters */
+    static byte[] errorResponse(TPM_RC rc)
+    {
+        TpmBuffer buf = new TpmBuffer();
+        buf.writeShort(TPM_ST.NO_SESSIONS.toInt());
+        buf.writeInt(10);
+        buf.writeInt(rc.toInt());
+        return buf.trim();
+    }
+
+    /** @return Command code of a marshaled command */
+    static TPM_CC commandCode(byte[] cmdBuf)
+    {
+        TpmBuffer cmd = new TpmBuffer(cmdBuf);
+        cmd.curPos(6);
+        return TPM_CC.fromInt(cmd.readInt());
+    }
+
+    /** @return Response to the given command (called by dispatchCommand()) */
+    byte[] execute(byte[] cmdBuf)
+    {
+        TPM_CC cc = commandCode(cmdBuf);
+        byte[] resp = responses.get(cc.toInt());
+        if (resp == null)
+            throw new TpmException("No canned response for command " + cc);
+        return resp;
+    }
+
+    @Override
+    public boolean connect() { return true; }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public void dispatchCommand(byte[] cmdBuf)
+    {
+        ++commandCount;
+        pendingResponses.add(execute(cmdBuf));
+    }
+
+    @Override
+    public byte[] getResponse()
+    {
+        if (pendingResponses.isEmpty())
+            throw new TpmException("Cannot getResponse() without a prior dispatchCommand()");
+        return pendingResponses.poll();
+    }
+
+    @Override
+    public void dispatchCommand(ByteBuffer cmdBuf)
+    {
+        ++byteBufferCommands;
+        super.dispatchCommand(cmdBuf);
+    }
+
+    @Override
+    public boolean supportsByteBuffers() { return byteBuffers; }
+
+    @Override
+    public boolean responseReady() { return !pendingResponses.isEmpty(); }
+
+    @Override
+    public boolean supportsPipelining() { return pipelining; }
+}
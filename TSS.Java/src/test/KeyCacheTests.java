@@ -0,0 +1,167 @@
+package test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tss.*;
+import tss.tpm.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * TpmKeyCache against a fake TPM tracking its transient object slots.
+ */
+public class KeyCacheTests {
+
+    /** Fake TPM implementing the object commands used by the key cache */
+    static class ObjectSlotsDevice extends CannedTpmDevice
+    {
+        final int numSlots;
+
+        /** Names of the loaded objects by handle */
+        final HashMap<Integer, byte[]> loaded = new HashMap<Integer, byte[]>();
+        int nextHandle = 0x80000000;
+        int loads, contextLoads, contextSaves;
+
+        ObjectSlotsDevice(int numSlots)
+        {
+            this.numSlots = numSlots;
+        }
+
+        @Override
+        byte[] execute(byte[] cmdBuf)
+        {
+            TpmBuffer cmd = new TpmBuffer(cmdBuf);
+            TPM_CC cc = commandCode(cmdBuf);
+            cmd.curPos(10);
+            if (cc == TPM_CC.GetCapability)
+            {
+                GetCapabilityResponse caps = new GetCapabilityResponse();
+                caps.capabilityData = new TPML_TAGGED_TPM_PROPERTY(new TPMS_TAGGED_PROPERTY[] {
+                    new TPMS_TAGGED_PROPERTY(TPM_PT.HR_TRANSIENT_AVAIL, numSlots - loaded.size()) });
+                return response(null, caps, false);
+            }
+            if (cc == TPM_CC.Load)
+            {
+                cmd.readInt();                      // parent
+                cmd.curPos(cmd.curPos() + 4 + cmd.readInt());
+                cmd.readSizedByteBuf();             // private
+                ++loads;
+                return loadObject(TPM2B_PUBLIC.fromTpm(cmd).publicArea.getName(), true);
+            }
+            if (cc == TPM_CC.ContextLoad)
+            {
+                ++contextLoads;
+                return loadObject(TPMS_CONTEXT.fromTpm(cmd).contextBlob.encrypted, false);
+            }
+
+            byte[] name = loaded.get(cmd.readInt());
+            if (name == null)
+                return errorResponse(TPM_RC.HANDLE);
+            if (cc == TPM_CC.ContextSave)
+            {
+                ++contextSaves;
+                ContextSaveResponse resp = new ContextSaveResponse();
+                resp.context = new TPMS_CONTEXT(contextSaves, TPM_HANDLE.from(0x80000000), TPM_HANDLE.from(TPM_RH.OWNER),
+                                                new TPMS_CONTEXT_DATA(new byte[0], name));
+                return response(null, resp, false);
+            }
+            if (cc == TPM_CC.FlushContext)
+            {
+                loaded.values().remove(name);
+                return response(null, new RespStructure(), false);
+            }
+            return super.execute(cmdBuf);
+        }
+
+        byte[] loadObject(byte[] name, boolean withSessions)
+        {
+            if (loaded.size() == numSlots)
+                return errorResponse(TPM_RC.OBJECT_MEMORY);
+            int h = nextHandle++;
+            loaded.put(h, name);
+            LoadResponse resp = new LoadResponse();
+            resp.name = name;
+            return response(TPM_HANDLE.from(h), withSessions ? resp : new RespStructure(), withSessions);
+        }
+
+        boolean isLoaded(TPMT_PUBLIC key)
+        {
+            return loaded.values().stream().anyMatch(n -> Arrays.equals(n, key.getName()));
+        }
+    }
+
+    static TPMT_PUBLIC key(int id)
+    {
+        TPMT_PUBLIC pub = MarshalingTests.rsaTemplate();
+        pub.unique = new TPM2B_PUBLIC_KEY_RSA(new byte[] {(byte)id});
+        return pub;
+    }
+
+    static Tpm connect(TpmDevice device)
+    {
+        Tpm tpm = new Tpm();
+        tpm._setDevice(device);
+        return tpm;
+    }
+
+    static final TPM_HANDLE parent = TPM_HANDLE.persistent(1);
+    static final TPM2B_PRIVATE priv = new TPM2B_PRIVATE(new byte[16]);
+
+    @Test
+    public void leastRecentlyUsedKeyIsEvictedAndRestored() {
+        // Two slots for the cache, and one for the application
+        ObjectSlotsDevice device = new ObjectSlotsDevice(3);
+        TpmKeyCache cache = new TpmKeyCache(connect(device));
+        Assertions.assertEquals(2, cache.getCapacity());
+
+        TPMT_PUBLIC a = key(1), b = key(2), c = key(3);
+        TPM_HANDLE ha = cache.load(parent, priv, a);
+        cache.load(parent, priv, b);
+        Assertions.assertEquals(ha, cache.load(parent, priv, a));
+        Assertions.assertEquals(2, device.loads);
+
+        // b is the least recently used key
+        cache.load(parent, priv, c);
+        Assertions.assertEquals(1, device.contextSaves);
+        Assertions.assertFalse(device.isLoaded(b));
+        Assertions.assertTrue(device.isLoaded(a));
+
+        // b is restored from its context, and a is evicted
+        TPM_HANDLE hb = cache.load(parent, priv, b);
+        Assertions.assertEquals(3, device.loads);
+        Assertions.assertEquals(1, device.contextLoads);
+        Assertions.assertArrayEquals(b.getName(), hb.Name);
+        Assertions.assertTrue(device.isLoaded(b));
+        Assertions.assertFalse(device.isLoaded(a));
+
+        cache.close();
+        Assertions.assertTrue(device.loaded.isEmpty());
+    }
+
+    @Test
+    public void acquiredKeyIsNotEvicted() {
+        ObjectSlotsDevice device = new ObjectSlotsDevice(3);
+        TpmKeyCache cache = new TpmKeyCache(connect(device));
+
+        TPMT_PUBLIC a = key(1), b = key(2), c = key(3);
+        cache.acquire(parent, priv, a);
+        cache.load(parent, priv, b);
+        cache.load(parent, priv, c);
+        Assertions.assertTrue(device.isLoaded(a));
+        Assertions.assertFalse(device.isLoaded(b));
+
+        // No key can be evicted while both loaded keys are acquired
+        cache.acquire(parent, priv, c);
+        Assertions.assertThrows(TpmException.class, () -> cache.load(parent, priv, b));
+        Assertions.assertThrows(TpmException.class, () -> cache.remove(a));
+
+        cache.release(a);
+        cache.load(parent, priv, b);
+        Assertions.assertFalse(device.isLoaded(a));
+        Assertions.assertTrue(device.isLoaded(c));
+        cache.release(c);
+        Assertions.assertThrows(TpmException.class, () -> cache.release(c));
+        cache.close();
+    }
+}
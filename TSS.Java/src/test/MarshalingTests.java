@@ -0,0 +1,155 @@
+package test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tss.*;
+import tss.tpm.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Marshaling of TPM data structures. Unlike the other tests here these ones do not need a TPM.
+ */
+public class MarshalingTests {
+
+    static TPMT_PUBLIC rsaTemplate()
+    {
+        return new TPMT_PUBLIC(TPM_ALG_ID.SHA256,
+                new TPMA_OBJECT(TPMA_OBJECT.sign, TPMA_OBJECT.sensitiveDataOrigin, TPMA_OBJECT.userWithAuth),
+                new byte[0],
+                new TPMS_RSA_PARMS(new TPMT_SYM_DEF_OBJECT(TPM_ALG_ID.NULL, 0, TPM_ALG_ID.NULL),
+                        new TPMS_SIG_SCHEME_RSASSA(TPM_ALG_ID.SHA256), 2048, 65537),
+                new TPM2B_PUBLIC_KEY_RSA(new byte[256]));
+    }
+
+    static void checkWireSize(TpmStructure s)
+    {
+        TpmBuffer buf = new TpmBuffer();
+        s.toTpm(buf);
+        Assertions.assertEquals(buf.curPos(), s.wireSize(), s.getClass().getSimpleName());
+        Assertions.assertEquals(buf.curPos(), s.toBytes().length, s.getClass().getSimpleName());
+    }
+
+    @Test
+    public void wireSizeMatchesMarshaledSize() {
+        TPMT_PUBLIC pub = rsaTemplate();
+        checkWireSize(pub);
+        checkWireSize(new TPM2B_PUBLIC(pub));
+        checkWireSize(new TPMT_SYM_DEF(TPM_ALG_ID.NULL, 0, TPM_ALG_ID.NULL));
+        checkWireSize(new TPMT_SYM_DEF(TPM_ALG_ID.AES, 128, TPM_ALG_ID.CFB));
+        checkWireSize(new TPML_DIGEST(new TPM2B_DIGEST[] { new TPM2B_DIGEST(new byte[32]),
+                                                           new TPM2B_DIGEST(new byte[20]) }));
+        checkWireSize(new TPMS_CAPABILITY_DATA(new TPML_CC(new TPM_CC[] { TPM_CC.NV_ReadPublic })));
+        checkWireSize(new TPMT_SENSITIVE());
+    }
+
+    @Test
+    public void nullUnionsAreSizedAsMarshaled() {
+        checkWireSize(new TPMT_PUBLIC());
+        checkWireSize(new TPM2B_PUBLIC(new TPMT_PUBLIC()));
+        checkWireSize(new TPMT_SIG_SCHEME());
+        checkWireSize(new TPMT_SIGNATURE());
+        checkWireSize(new TPMS_KEYEDHASH_PARMS());
+        checkWireSize(new TPMS_CAPABILITY_DATA());
+    }
+
+    @Test
+    public void wrongWireSizeDoesNotTruncate() {
+        TPM2B_DIGEST under = new TPM2B_DIGEST(new byte[8]) {
+                                @Override public int wireSize() { return 3; }
+                             },
+                     over = new TPM2B_DIGEST(new byte[8]) {
+                                @Override public int wireSize() { return 50; }
+                             };
+        byte[] expected = new TPM2B_DIGEST(new byte[8]).toBytes();
+        Assertions.assertArrayEquals(expected, under.toBytes());
+        Assertions.assertArrayEquals(expected, over.toBytes());
+
+        // The size prefix of a sized object is what was actually marshaled
+        TPMT_PUBLIC pub = rsaTemplate();
+        TPMT_PUBLIC wrongSize = new TPMT_PUBLIC(pub.nameAlg, pub.objectAttributes, pub.authPolicy,
+                                                pub.parameters, pub.unique) {
+                                    @Override public int wireSize() { return 5; }
+                                };
+        Assertions.assertArrayEquals(new TPM2B_PUBLIC(pub).toBytes(), new TPM2B_PUBLIC(wrongSize).toBytes());
+    }
+
+    @Test
+    public void sizedObjectRoundTrip() {
+        TPMT_PUBLIC pub = rsaTemplate();
+        byte[] sized = new TPM2B_PUBLIC(pub).toBytes();
+        Assertions.assertEquals(pub.wireSize(), new TpmBuffer(sized).readShort());
+
+        TPM2B_PUBLIC pub2B = TPM2B_PUBLIC.fromBytes(sized);
+        Assertions.assertArrayEquals(pub.toBytes(), pub2B.publicArea.toBytes());
+    }
+
+    @Test
+    public void objectArrayRoundTrip() {
+        TPML_DIGEST digests = new TPML_DIGEST(new TPM2B_DIGEST[] { new TPM2B_DIGEST(new byte[32]),
+                                                                   new TPM2B_DIGEST(new byte[] {1, 2, 3}) });
+        TPML_DIGEST digests2 = TPML_DIGEST.fromBytes(digests.toBytes());
+        Assertions.assertEquals(2, digests2.digests.length);
+        Assertions.assertArrayEquals(new byte[] {1, 2, 3}, digests2.digests[1].buffer);
+
+        TPML_CC ccs = TPML_CC.fromBytes(new TPML_CC(new TPM_CC[] { TPM_CC.Sign, TPM_CC.Quote }).toBytes());
+        Assertions.assertArrayEquals(new TPM_CC[] { TPM_CC.Sign, TPM_CC.Quote }, ccs.commandCodes);
+    }
+
+    @Test
+    public void structuralEquality() {
+        TPMT_PUBLIC pub = rsaTemplate();
+        TPMT_PUBLIC pub2 = TPMT_PUBLIC.fromBytes(pub.toBytes());
+        Assertions.assertEquals(pub, pub2);
+        Assertions.assertEquals(pub.hashCode(), pub2.hashCode());
+
+        HashMap<TPMT_PUBLIC, String> map = new HashMap<TPMT_PUBLIC, String>();
+        map.put(pub, "rsa");
+        Assertions.assertEquals("rsa", map.get(pub2));
+
+        pub2.authPolicy = new byte[] {1};
+        Assertions.assertNotEquals(pub, pub2);
+        Assertions.assertNotEquals(pub.hashCode(), pub2.hashCode());
+        pub2.authPolicy = new byte[0];
+        Assertions.assertEquals(pub.hashCode(), pub2.hashCode());
+
+        // The hash code follows in-place modifications of nested structures
+        ((TPM2B_PUBLIC_KEY_RSA)pub2.unique).buffer[0] = 1;
+        Assertions.assertNotEquals(pub, pub2);
+        Assertions.assertNotEquals(pub.hashCode(), pub2.hashCode());
+        Assertions.assertNull(map.get(pub2));
+        ((TPM2B_PUBLIC_KEY_RSA)pub2.unique).buffer[0] = 0;
+        Assertions.assertEquals(pub.hashCode(), pub2.hashCode());
+
+        // Handle equality ignores the associated name and auth value
+        TPM_HANDLE h = TPM_HANDLE.persistent(1);
+        TPM_HANDLE h2 = TPM_HANDLE.persistent(1);
+        h2.AuthValue = new byte[] {1, 2};
+        Assertions.assertEquals(h, h2);
+        Assertions.assertEquals(h.hashCode(), h2.hashCode());
+        Assertions.assertNotEquals(h, TPM_HANDLE.persistent(2));
+    }
+
+    @Test
+    public void memoizedName() {
+        TPMT_PUBLIC pub = rsaTemplate();
+        byte[] name = pub.getName();
+        Assertions.assertEquals(2 + 32, name.length);
+        Assertions.assertArrayEquals(name, TPMT_PUBLIC.fromBytes(pub.toBytes()).getName());
+
+        // Callers may not corrupt the memoized value
+        name[2] ^= 1;
+        Assertions.assertArrayEquals(rsaTemplate().getName(), pub.getName());
+
+        pub.authPolicy = new byte[32];
+        byte[] newName = pub.getName();
+        Assertions.assertFalse(Arrays.equals(rsaTemplate().getName(), newName));
+
+        // In-place modifications are detected as well
+        pub.authPolicy[0] = 1;
+        Assertions.assertFalse(Arrays.equals(newName, pub.getName()));
+        ((TPM2B_PUBLIC_KEY_RSA)pub.unique).buffer[0] = 1;
+        Assertions.assertArrayEquals(TPMT_PUBLIC.fromBytes(pub.toBytes()).getName(), pub.getName());
+    }
+}
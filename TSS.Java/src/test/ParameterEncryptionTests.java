@@ -0,0 +1,143 @@
+package test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tss.*;
+import tss.tpm.*;
+
+/**
+ * Session-based parameter encryption (AES-CFB and XOR), checked against SoftTpmDevice.
+ */
+public class ParameterEncryptionTests {
+
+    static final TPMT_SYM_DEF Aes128Cfb = new TPMT_SYM_DEF(TPM_ALG_ID.AES, 128, TPM_ALG_ID.CFB),
+                              Aes256Cfb = new TPMT_SYM_DEF(TPM_ALG_ID.AES, 256, TPM_ALG_ID.CFB),
+                              XorSha256 = new TPMT_SYM_DEF(TPM_ALG_ID.XOR, TPM_ALG_ID.SHA256.toInt(), TPM_ALG_ID.NULL);
+
+    static boolean contains(byte[] buf, byte[] data)
+    {
+        for (int i = 0; i + data.length <= buf.length; ++i)
+        {
+            int j = 0;
+            while (j < data.length && buf[i + j] == data[j])
+                ++j;
+            if (j == data.length)
+                return true;
+        }
+        return false;
+    }
+
+    /** @return Parameter longer than an AES block and than a KDFa block of SHA-256 */
+    static byte[] longParameter()
+    {
+        byte[] param = new byte[40];
+        for (int i = 0; i < param.length; ++i)
+            param[i] = (byte)(i + 1);
+        return param;
+    }
+
+    static AuthSession startSession(Tpm tpm, TPMT_SYM_DEF symmetric, TPMA_SESSION... attrs)
+    {
+        AuthSession sess = tpm.StartAuthSession(TPM_SE.HMAC, TPM_ALG_ID.SHA256, symmetric,
+                                                SessionTests.owner(new byte[] {1, 2}), null, null);
+        sess.Attributes = new TPMA_SESSION(attrs);
+        return sess;
+    }
+
+    static SoftTpmDevice softTpm()
+    {
+        SoftTpmDevice device = new SoftTpmDevice();
+        device.authValues.put(TPM_RH.OWNER.toInt(), new byte[] {1, 2});
+        device.authValues.put(TPM_RH.ENDORSEMENT.toInt(), new byte[] {3});
+        return device;
+    }
+
+    static void checkCommandEncryption(TPMT_SYM_DEF symmetric)
+    {
+        SoftTpmDevice device = softTpm();
+        Tpm tpm = SessionTests.connect(device);
+        AuthSession sess = startSession(tpm, symmetric, TPMA_SESSION.continueSession, TPMA_SESSION.decrypt);
+
+        // Used for an entity other than the bind one, the key includes its authorization value
+        TPM_HANDLE endorsement = TPM_HANDLE.from(TPM_RH.ENDORSEMENT);
+        endorsement.AuthValue = new byte[] {3};
+        byte[] newAuth = longParameter();
+        tpm._withSession(sess).HierarchyChangeAuth(endorsement, newAuth);
+        Assertions.assertArrayEquals(newAuth, device.authValues.get(TPM_RH.ENDORSEMENT.toInt()));
+        Assertions.assertFalse(contains(device.lastCommand, newAuth));
+
+        // Bind entity (the key is the session key alone)
+        tpm._withSession(sess).HierarchyChangeAuth(SessionTests.owner(new byte[] {1, 2}), newAuth);
+        Assertions.assertArrayEquals(newAuth, device.authValues.get(TPM_RH.OWNER.toInt()));
+    }
+
+    static void checkResponseEncryption(TPMT_SYM_DEF symmetric)
+    {
+        SoftTpmDevice device = softTpm();
+        Tpm tpm = SessionTests.connect(device);
+        AuthSession sess = startSession(tpm, symmetric, TPMA_SESSION.continueSession, TPMA_SESSION.encrypt);
+
+        byte[] expected = longParameter();
+        for (int i = 0; i < 2; ++i)
+        {
+            // Different nonces for each command
+            Assertions.assertArrayEquals(expected, tpm._withSession(sess).GetRandom(expected.length));
+            Assertions.assertFalse(contains(device.lastResponse, expected));
+        }
+    }
+
+    @Test
+    public void aesCfbCommandParameter() {
+        checkCommandEncryption(Aes128Cfb);
+        checkCommandEncryption(Aes256Cfb);
+    }
+
+    @Test
+    public void aesCfbResponseParameter() {
+        checkResponseEncryption(Aes128Cfb);
+        checkResponseEncryption(Aes256Cfb);
+    }
+
+    @Test
+    public void xorCommandParameter() {
+        checkCommandEncryption(XorSha256);
+    }
+
+    @Test
+    public void xorResponseParameter() {
+        checkResponseEncryption(XorSha256);
+    }
+
+    @Test
+    public void commandsAreSentFromPooledBuffers() {
+        SoftTpmDevice device = softTpm();
+        device.byteBuffers = true;
+        Tpm tpm = SessionTests.connect(device);
+        AuthSession decrypt = startSession(tpm, Aes128Cfb, TPMA_SESSION.continueSession, TPMA_SESSION.decrypt),
+                    encrypt = startSession(tpm, Aes128Cfb, TPMA_SESSION.continueSession, TPMA_SESSION.encrypt);
+
+        // The pooled buffers are reused by the subsequent commands
+        byte[] newAuth = longParameter();
+        tpm._withSession(decrypt).HierarchyChangeAuth(SessionTests.owner(new byte[] {1, 2}), newAuth);
+        Assertions.assertArrayEquals(newAuth, device.authValues.get(TPM_RH.OWNER.toInt()));
+        for (int i = 0; i < 2; ++i)
+            Assertions.assertArrayEquals(longParameter(), tpm._withSession(encrypt).GetRandom(newAuth.length));
+        Assertions.assertEquals(device.commandCount, device.byteBufferCommands);
+    }
+
+    @Test
+    public void unencryptableParameterIsRejectedBeforeSending() {
+        SoftTpmDevice device = softTpm();
+        Tpm tpm = SessionTests.connect(device);
+        AuthSession decrypt = startSession(tpm, Aes128Cfb, TPMA_SESSION.continueSession, TPMA_SESSION.decrypt),
+                    encrypt = startSession(tpm, Aes128Cfb, TPMA_SESSION.continueSession, TPMA_SESSION.encrypt);
+        int numCommands = device.commandCount;
+
+        // The parameter of TPM2_GetRandom is not a sized buffer, and HierarchyChangeAuth has no
+        // response parameter
+        Assertions.assertThrows(TpmException.class, () -> tpm._withSession(decrypt).GetRandom(8));
+        Assertions.assertThrows(TpmException.class, () -> tpm._withSession(encrypt)
+                                    .HierarchyChangeAuth(SessionTests.owner(new byte[] {1, 2}), new byte[] {1}));
+        Assertions.assertEquals(numCommands, device.commandCount);
+    }
+}
@@ -0,0 +1,187 @@
+package test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tss.*;
+import tss.tpm.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Software policy digests of TpmPolicy and the policy sessions of PolicySessionPool,
+ * checked against the policy sessions of SoftTpmDevice.
+ */
+public class PolicyTests {
+
+    /** Policy of the TCG EK templates: PolicySecret(TPM_RH_ENDORSEMENT) */
+    static final String EkPolicy = "837197674484b3f81a90cc8d46a5d724fd52d76e06520b64f2a1da1b331469aa";
+
+    static final byte[] Pcr0 = Helpers.fromHex("0102030405060708091011121314151617181920212223242526272829303132"),
+                        Pcr7 = Helpers.fromHex("7777777777777777777777777777777777777777777777777777777777777777");
+
+    static SoftTpmDevice softTpm()
+    {
+        SoftTpmDevice device = new SoftTpmDevice();
+        device.pcrs.put(0, Pcr0);
+        device.pcrs.put(7, Pcr7);
+        device.authValues.put(TPM_RH.ENDORSEMENT.toInt(), new byte[] {5});
+        return device;
+    }
+
+    static TPM_HANDLE endorsement()
+    {
+        TPM_HANDLE h = TPM_HANDLE.from(TPM_RH.ENDORSEMENT);
+        h.AuthValue = new byte[] {5};
+        return h;
+    }
+
+    static TpmPolicy pcrPolicy(byte[] pcr0, byte[] pcr7)
+    {
+        TPMS_PCR_SELECTION[] sel = {new TPMS_PCR_SELECTION(TPM_ALG_ID.SHA256, new int[] {0, 7})};
+        return new TpmPolicy().pcr(sel, pcr0, pcr7);
+    }
+
+    static byte[] sessionDigest(SoftTpmDevice device, AuthSession sess)
+    {
+        return device.sessions.get(sess.handle).policyDigest;
+    }
+
+    @Test
+    public void ekPolicyDigest() {
+        TpmPolicy ekPolicy = new TpmPolicy().secret(TPM_HANDLE.from(TPM_RH.ENDORSEMENT), new byte[0]);
+        Assertions.assertArrayEquals(Helpers.fromHex(EkPolicy), ekPolicy.getPolicyDigest(TPM_ALG_ID.SHA256));
+
+        SoftTpmDevice device = softTpm();
+        Tpm tpm = SessionTests.connect(device);
+        AuthSession sess = tpm.StartAuthSession(TPM_SE.POLICY, TPM_ALG_ID.SHA256);
+        new TpmPolicy().secret(endorsement(), new byte[0]).execute(tpm, sess);
+        Assertions.assertArrayEquals(Helpers.fromHex(EkPolicy), tpm.PolicyGetDigest(sess));
+    }
+
+    @Test
+    public void policyDigestsMatchTheTpm() {
+        TpmPolicy[] policies = {
+            new TpmPolicy().commandCode(TPM_CC.Sign),
+            pcrPolicy(Pcr0, Pcr7),
+            new TpmPolicy().secret(endorsement(), new byte[] {1, 2}),
+            new TpmPolicy().commandCode(TPM_CC.Sign)
+                           .or(1, pcrPolicy(Pcr7, Pcr0),
+                                  new TpmPolicy().secret(endorsement(), new byte[0]),
+                                  new TpmPolicy().commandCode(TPM_CC.Unseal)),
+            // Nested branches, followed by another assertion
+            new TpmPolicy().or(0, new TpmPolicy().or(1, new TpmPolicy(), pcrPolicy(Pcr0, Pcr7)),
+                                  new TpmPolicy().commandCode(TPM_CC.Unseal))
+                           .commandCode(TPM_CC.Sign)
+        };
+        SoftTpmDevice device = softTpm();
+        Tpm tpm = SessionTests.connect(device);
+        for (TPM_ALG_ID hashAlg : new TPM_ALG_ID[] {TPM_ALG_ID.SHA1, TPM_ALG_ID.SHA256})
+        {
+            for (TpmPolicy policy : policies)
+            {
+                AuthSession sess = tpm.StartAuthSession(TPM_SE.POLICY, hashAlg);
+                policy.execute(tpm, sess);
+                Assertions.assertArrayEquals(policy.getPolicyDigest(hashAlg), tpm.PolicyGetDigest(sess));
+                tpm.FlushContext(sess);
+            }
+        }
+    }
+
+    @Test
+    public void unsatisfiedAssertionIsRejected() {
+        Tpm tpm = SessionTests.connect(softTpm());
+        AuthSession sess = tpm.StartAuthSession(TPM_SE.POLICY, TPM_ALG_ID.SHA256);
+        TpmPolicy policy = new TpmPolicy().or(0, pcrPolicy(Pcr7, Pcr0), pcrPolicy(Pcr0, Pcr7));
+        Assertions.assertThrows(TpmException.class, () -> policy.execute(tpm, sess));
+
+        Assertions.assertThrows(TpmException.class, () -> new TpmPolicy().or(0, new TpmPolicy()));
+        Assertions.assertThrows(TpmException.class, () -> new TpmPolicy().or(2, new TpmPolicy(), new TpmPolicy()));
+    }
+
+    @Test
+    public void pooledSessionsAreRestartedAndReused() {
+        SoftTpmDevice device = softTpm();
+        Tpm tpm = SessionTests.connect(device);
+        TpmPolicy sign = new TpmPolicy().commandCode(TPM_CC.Sign),
+                  pcr = pcrPolicy(Pcr0, Pcr7);
+        try (PolicySessionPool pool = new PolicySessionPool(tpm, TPM_ALG_ID.SHA256, 2)) {
+            AuthSession s1 = pool.acquire(sign);
+            Assertions.assertArrayEquals(sign.getPolicyDigest(TPM_ALG_ID.SHA256), sessionDigest(device, s1));
+            pool.release(s1);
+
+            AuthSession s2 = pool.acquire(pcr);
+            Assertions.assertEquals(s1.handle, s2.handle);
+            Assertions.assertArrayEquals(pcr.getPolicyDigest(TPM_ALG_ID.SHA256), sessionDigest(device, s2));
+            Assertions.assertEquals(1, device.nextSession);
+
+            // A session used without continueSession is flushed by the TPM, and dropped
+            s2.Attributes = new TPMA_SESSION();
+            pool.release(s2);
+            Assertions.assertTrue(device.sessions.isEmpty());
+            AuthSession s3 = pool.acquire(sign);
+            Assertions.assertEquals(2, device.nextSession);
+            pool.discard(s3);
+            Assertions.assertTrue(device.sessions.isEmpty());
+        }
+    }
+
+    @Test
+    public void lostPooledSessionIsReplaced() {
+        SoftTpmDevice device = softTpm();
+        Tpm tpm = SessionTests.connect(device);
+        TpmPolicy policy = new TpmPolicy().commandCode(TPM_CC.Sign);
+        try (PolicySessionPool pool = new PolicySessionPool(tpm, TPM_ALG_ID.SHA256, 1)) {
+            AuthSession s1 = pool.acquire(policy);
+            pool.release(s1);
+
+            // TPM reset
+            device.sessions.clear();
+            AuthSession s2 = pool.acquire(policy);
+            Assertions.assertNotEquals(s1.handle, s2.handle);
+            Assertions.assertArrayEquals(policy.getPolicyDigest(TPM_ALG_ID.SHA256), sessionDigest(device, s2));
+            pool.release(s2);
+        }
+    }
+
+    @Test
+    public void acquireWaitsForARelease() throws Exception {
+        SoftTpmDevice device = softTpm();
+        Tpm tpm = SessionTests.connect(device);
+        TpmPolicy policy = new TpmPolicy().commandCode(TPM_CC.Sign);
+        PolicySessionPool pool = new PolicySessionPool(tpm, TPM_ALG_ID.SHA256, 1);
+        AuthSession s1 = pool.acquire(policy);
+        CompletableFuture<AuthSession> next = CompletableFuture.supplyAsync(() -> pool.acquire(policy));
+        Thread.sleep(100);
+        Assertions.assertFalse(next.isDone());
+        pool.release(s1);
+        Assertions.assertEquals(s1.handle, next.get(10, TimeUnit.SECONDS).handle);
+
+        // Closing the pool flushes the idle sessions, and those in use when they are released
+        AuthSession s2 = next.get();
+        pool.close();
+        Assertions.assertEquals(1, device.sessions.size());
+        Assertions.assertThrows(TpmException.class, () -> pool.acquire(policy));
+        pool.release(s2);
+        Assertions.assertTrue(device.sessions.isEmpty());
+    }
+
+    @Test
+    public void closeWakesUpWaitingAcquire() throws Exception {
+        Tpm tpm = SessionTests.connect(softTpm());
+        TpmPolicy policy = new TpmPolicy().commandCode(TPM_CC.Sign);
+        PolicySessionPool pool = new PolicySessionPool(tpm, TPM_ALG_ID.SHA256, 1);
+        AuthSession s1 = pool.acquire(policy);
+        CompletableFuture<AuthSession> next = CompletableFuture.supplyAsync(() -> pool.acquire(policy));
+        Thread.sleep(100);
+        pool.close();
+        try {
+            next.get(10, TimeUnit.SECONDS);
+            Assertions.fail("acquire() succeeded after close()");
+        } catch (ExecutionException e) {
+            Assertions.assertTrue(e.getCause() instanceof TpmException);
+        }
+        pool.release(s1);
+    }
+}
@@ -0,0 +1,67 @@
+package test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tss.*;
+import tss.tpm.*;
+
+/**
+ * Command parsing of TpmDeviceResourceManager, with canned TPM responses.
+ */
+public class ResourceManagerTests {
+
+    static TpmDeviceResourceManager resourceManager()
+    {
+        CannedTpmDevice device = new CannedTpmDevice();
+        GetCapabilityResponse caps = new GetCapabilityResponse();
+        caps.capabilityData = new TPML_CCA(new TPMA_CC[] {
+            TPMA_CC.fromInt(TPM_CC.HierarchyChangeAuth.toInt() | (1 << TPMA_CC.cHandles_BIT_OFFSET.toInt()))
+        });
+        device.addResponse(TPM_CC.GetCapability, caps, false);
+        TpmDeviceResourceManager rm = new TpmDeviceResourceManager(device);
+        Assertions.assertTrue(rm.connect());
+        return rm;
+    }
+
+    /** @return Response code of the resource manager to a raw command */
+    static TPM_RC execute(TpmDeviceResourceManager rm, byte[] cmd)
+    {
+        rm.dispatchCommand(cmd);
+        TpmBuffer resp = new TpmBuffer(rm.getResponse());
+        resp.curPos(6);
+        return TPM_RC.fromInt(resp.readInt());
+    }
+
+    /** @return TPM2_HierarchyChangeAuth(TPM_RH.OWNER) command with the given authorization area */
+    static byte[] changeAuthCommand(int... authArea)
+    {
+        TpmBuffer buf = new TpmBuffer();
+        buf.writeShort(TPM_ST.SESSIONS.toInt());
+        buf.writeInt(0);
+        buf.writeInt(TPM_CC.HierarchyChangeAuth.toInt());
+        buf.writeInt(TPM_RH.OWNER.toInt());
+        for (int b : authArea)
+            buf.writeByte((byte)b);
+        buf.writeNumAtPos(buf.curPos(), 2);
+        return buf.trim();
+    }
+
+    @Test
+    public void malformedAuthorizationAreaIsRejected() {
+        TpmDeviceResourceManager rm = resourceManager();
+
+        // No authorization area size
+        Assertions.assertEquals(TPM_RC.COMMAND_SIZE, execute(rm, changeAuthCommand()));
+        // Authorization area larger than the command
+        Assertions.assertEquals(TPM_RC.AUTHSIZE, execute(rm, changeAuthCommand(0, 0, 0, 9)));
+        // Authorization area too small for a session
+        Assertions.assertEquals(TPM_RC.AUTHSIZE, execute(rm, changeAuthCommand(0, 0, 0, 4, 0x40, 0, 0, 9)));
+        // Nonce running past the authorization area
+        Assertions.assertEquals(TPM_RC.AUTHSIZE, execute(rm, changeAuthCommand(0, 0, 0, 9,
+                                                                     0x40, 0, 0, 9, 0, 8, 1, 0, 0)));
+        // HMAC running past the authorization area
+        Assertions.assertEquals(TPM_RC.AUTHSIZE, execute(rm, changeAuthCommand(0, 0, 0, 9,
+                                                                     0x40, 0, 0, 9, 0, 0, 1, 0, 4)));
+        rm.close();
+    }
+}
@@ -0,0 +1,168 @@
+package test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tss.*;
+import tss.tpm.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * HMAC authorization sessions, checked against the session implementation of SoftTpmDevice.
+ */
+public class SessionTests {
+
+    /** SoftTpmDevice blocking TPM2_ReadClock until it is released */
+    static class GatedDevice extends SoftTpmDevice
+    {
+        final CountDownLatch started = new CountDownLatch(1),
+                             released = new CountDownLatch(1);
+
+        GatedDevice()
+        {
+            ReadClockResponse readClock = new ReadClockResponse();
+            readClock.currentTime = new TPMS_TIME_INFO(1, new TPMS_CLOCK_INFO(2, 3, 4, (byte)1));
+            addResponse(TPM_CC.ReadClock, readClock, false);
+        }
+
+        @Override
+        byte[] execute(byte[] cmdBuf)
+        {
+            if (commandCode(cmdBuf) == TPM_CC.ReadClock)
+            {
+                started.countDown();
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    throw new TpmException("Interrupted");
+                }
+            }
+            return super.execute(cmdBuf);
+        }
+    }
+
+    static Tpm connect(TpmDevice device)
+    {
+        Tpm tpm = new Tpm();
+        tpm._setDevice(device);
+        return tpm;
+    }
+
+    static TPM_HANDLE owner(byte[] authValue)
+    {
+        TPM_HANDLE h = TPM_HANDLE.from(TPM_RH.OWNER);
+        h.AuthValue = authValue;
+        return h;
+    }
+
+    static final TPMT_SYM_DEF Aes128Cfb = new TPMT_SYM_DEF(TPM_ALG_ID.AES, 128, TPM_ALG_ID.CFB);
+
+    @Test
+    public void hmacSessionAuthorizesCommands() {
+        SoftTpmDevice device = new SoftTpmDevice();
+        Tpm tpm = connect(device);
+        AuthSession sess = tpm.StartAuthSession(TPM_SE.HMAC, TPM_ALG_ID.SHA256);
+
+        byte[] auth1 = {1, 2, 3}, auth2 = {4, 5, 6, 7};
+        tpm._withSession(sess).HierarchyChangeAuth(owner(new byte[0]), auth1);
+        Assertions.assertArrayEquals(auth1, device.authValues.get(TPM_RH.OWNER.toInt()));
+
+        // The response HMAC is computed with the new authorization value
+        tpm._withSession(sess).HierarchyChangeAuth(owner(auth1), auth2);
+        Assertions.assertArrayEquals(auth2, device.authValues.get(TPM_RH.OWNER.toInt()));
+
+        // Trailing zeros of the authorization value are not part of the HMAC key
+        tpm._withSession(sess).HierarchyChangeAuth(owner(new byte[] {4, 5, 6, 7, 0, 0}), auth1);
+
+        tpm._withSession(sess)._expectError(TPM_RC.AUTH_FAIL).HierarchyChangeAuth(owner(auth2), auth2);
+    }
+
+    @Test
+    public void boundSessionOmitsTheBindAuthValue() {
+        SoftTpmDevice device = new SoftTpmDevice();
+        byte[] ownerAuth = {9, 8, 7};
+        device.authValues.put(TPM_RH.OWNER.toInt(), ownerAuth);
+        device.authValues.put(TPM_RH.ENDORSEMENT.toInt(), new byte[] {1});
+        Tpm tpm = connect(device);
+        AuthSession sess = tpm.StartAuthSession(TPM_SE.HMAC, TPM_ALG_ID.SHA256, null, owner(ownerAuth), null, null);
+
+        TPM_HANDLE endorsement = TPM_HANDLE.from(TPM_RH.ENDORSEMENT);
+        endorsement.AuthValue = new byte[] {1};
+        tpm._withSession(sess).HierarchyChangeAuth(endorsement, new byte[] {2});
+        tpm._withSession(sess).GetRandom(8);
+    }
+
+    @Test
+    public void nvChangeAuthResponseUsesTheNewAuthValue() {
+        SoftTpmDevice device = new SoftTpmDevice();
+        TPM_HANDLE nvIndex = TPM_HANDLE.NV(0x500001);
+        nvIndex.Name = Helpers.concatenate(new byte[] {0, 0x0B}, new byte[32]);
+        nvIndex.AuthValue = new byte[] {1, 1};
+        device.names.put(nvIndex.handle, nvIndex.Name);
+        device.authValues.put(nvIndex.handle, nvIndex.AuthValue);
+        Tpm tpm = connect(device);
+
+        AuthSession sess = tpm.StartAuthSession(TPM_SE.HMAC, TPM_ALG_ID.SHA256);
+        tpm._withSession(sess).NV_ChangeAuth(nvIndex, new byte[] {2, 2});
+        Assertions.assertArrayEquals(new byte[] {2, 2}, device.authValues.get(nvIndex.handle));
+    }
+
+    @Test
+    public void firstSessionHmacCoversParameterEncryptionNonces() {
+        SoftTpmDevice device = new SoftTpmDevice();
+        TPM_HANDLE key = TPM_HANDLE.from(0x80000001);
+        key.Name = Helpers.concatenate(new byte[] {0, 0x0B}, new byte[32]);
+        key.AuthValue = new byte[] {5};
+        device.names.put(key.handle, key.Name);
+        device.authValues.put(key.handle, key.AuthValue);
+        TPM_HANDLE parent = TPM_HANDLE.persistent(1);
+        parent.Name = Helpers.concatenate(new byte[] {0, 0x0B}, new byte[] {1}, new byte[31]);
+        device.names.put(parent.handle, parent.Name);
+        Tpm tpm = connect(device);
+
+        AuthSession auth = tpm.StartAuthSession(TPM_SE.HMAC, TPM_ALG_ID.SHA256),
+                    decrypt = tpm.StartAuthSession(TPM_SE.HMAC, TPM_ALG_ID.SHA256, Aes128Cfb),
+                    encrypt = tpm.StartAuthSession(TPM_SE.HMAC, TPM_ALG_ID.SHA1, Aes128Cfb);
+        decrypt.Attributes = new TPMA_SESSION(TPMA_SESSION.continueSession, TPMA_SESSION.decrypt);
+        encrypt.Attributes = new TPMA_SESSION(TPMA_SESSION.continueSession, TPMA_SESSION.encrypt);
+
+        // Decrypt session
+        tpm._withSessions(TPM_HANDLE.PW, decrypt).HierarchyChangeAuth(owner(new byte[0]), new byte[] {3, 4});
+        tpm._withSessions(auth, decrypt).HierarchyChangeAuth(owner(new byte[] {3, 4}), new byte[] {5, 6});
+        Assertions.assertArrayEquals(new byte[] {5, 6}, device.authValues.get(TPM_RH.OWNER.toInt()));
+
+        // Transient object (named in the cpHash)
+        byte[] newAuth = {7, 8, 9};
+        TPM2B_PRIVATE priv = tpm._withSessions(auth, decrypt).ObjectChangeAuth(key, parent, newAuth);
+        Assertions.assertArrayEquals(newAuth, priv.buffer);
+
+        // Encrypt session
+        byte[] random = tpm._withSessions(auth, encrypt).GetRandom(4);
+        Assertions.assertArrayEquals(new byte[] {1, 2, 3, 4}, random);
+    }
+
+    @Test
+    public void asyncCommandsShareASession() throws Exception {
+        GatedDevice device = new GatedDevice();
+        device.pipelining = true;
+        device.authValues.put(TPM_RH.OWNER.toInt(), new byte[] {1});
+        Tpm tpm = connect(device);
+        AuthSession sess = tpm.StartAuthSession(TPM_SE.HMAC, TPM_ALG_ID.SHA256, null,
+                                                owner(new byte[] {1}), null, null);
+        AsyncTpm async = new AsyncTpm(tpm);
+        try {
+            // Hold the dispatcher, so that both commands using the session are queued together
+            CompletableFuture<?> first = async.ReadClock();
+            device.started.await();
+            CompletableFuture<byte[]> r1 = async._withSession(sess).GetRandom(8),
+                                      r2 = async._withSession(sess).GetRandom(16);
+            device.released.countDown();
+            first.get();
+            Assertions.assertEquals(8, r1.get().length);
+            Assertions.assertEquals(16, r2.get().length);
+        } finally {
+            async.close();
+        }
+    }
+}
@@ -0,0 +1,441 @@
+package test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import tss.*;
+import tss.tpm.*;
+
+/**
+ * In-memory TPM implementing, as specified in TPM 2.0 Part 1, the authorization sessions
+ * (HMAC, parameter encryption), the command audit and the policy session digests for a few
+ * commands. The TSS computations are thus checked against an independent implementation. Other
+ * commands get the canned responses of CannedTpmDevice.
+ */
+class SoftTpmDevice extends CannedTpmDevice
+{
+    static final int RS_PW = TPM_RH.PW.toInt();
+
+    static class Session
+    {
+        TPM_ALG_ID hashAlg;
+        TPMT_SYM_DEF symmetric;
+        byte[] sessionKey;
+        byte[] bindName;
+        byte[] nonceTpm;
+        byte[] nonceCaller;
+        /** Policy digest of a policy session (null for an HMAC session) */
+        byte[] policyDigest;
+    }
+
+    /** A session of the authorization area of a command */
+    static class Auth
+    {
+        int handle;
+        byte[] nonceCaller;
+        int attrs;
+        byte[] hmac;
+        Session sess;
+
+        boolean has(TPMA_SESSION attr) { return (attrs & attr.toInt()) != 0; }
+    }
+
+    final HashMap<Integer, Session> sessions = new HashMap<Integer, Session>();
+    /** Number of sessions started */
+    int nextSession;
+
+    /** Authorization values of the entities (empty if not set) */
+    final HashMap<Integer, byte[]> authValues = new HashMap<Integer, byte[]>();
+
+    /** Names of the entities other than the permanent ones */
+    final HashMap<Integer, byte[]> names = new HashMap<Integer, byte[]>();
+
+    /** Values of the SHA-256 PCRs (zero if not set) */
+    final HashMap<Integer, byte[]> pcrs = new HashMap<Integer, byte[]>();
+
+    /** Last command and response of the implemented commands, as sent on the wire */
+    byte[] lastCommand, lastResponse;
+
+    /** Command audit digest and the audited commands */
+    TPM_ALG_ID auditAlg;
+    byte[] auditDigest;
+    final HashSet<TPM_CC> audited = new HashSet<TPM_CC>();
+
+    /** Starts the command audit with the zero digest */
+    void startAudit(TPM_ALG_ID hashAlg, TPM_CC... commands)
+    {
+        auditAlg = hashAlg;
+        auditDigest = new byte[Crypto.digestSize(hashAlg)];
+        audited.addAll(Arrays.asList(commands));
+    }
+
+    byte[] authValue(int h)
+    {
+        byte[] auth = authValues.get(h);
+        return auth != null ? trimAuth(auth) : new byte[0];
+    }
+
+    byte[] name(int h)
+    {
+        return names.containsKey(h) ? names.get(h) : Helpers.hostToNet(h);
+    }
+
+    @Override
+    byte[] execute(byte[] cmdBuf)
+    {
+        TPM_CC cc = commandCode(cmdBuf);
+        int numHandles, numAuthHandles = 1;
+        boolean policyCommand = false;
+        if (cc == TPM_CC.StartAuthSession)
+            numHandles = 2;
+        else if (cc == TPM_CC.HierarchyChangeAuth || cc == TPM_CC.NV_ChangeAuth)
+            numHandles = 1;
+        else if (cc == TPM_CC.ObjectChangeAuth)
+            numHandles = 2;
+        else if (cc == TPM_CC.GetRandom || cc == TPM_CC.FlushContext)
+            numHandles = numAuthHandles = 0;
+        else if (cc == TPM_CC.PolicySecret)
+        {
+            numHandles = 2;
+            policyCommand = true;
+        }
+        else if (cc == TPM_CC.PolicyCommandCode || cc == TPM_CC.PolicyPCR || cc == TPM_CC.PolicyOR
+                 || cc == TPM_CC.PolicyRestart || cc == TPM_CC.PolicyGetDigest)
+        {
+            numHandles = 1;
+            numAuthHandles = 0;
+            policyCommand = true;
+        }
+        else
+            return super.execute(cmdBuf);
+
+        lastCommand = cmdBuf.clone();
+        TpmBuffer cmd = new TpmBuffer(cmdBuf);
+        int tag = cmd.readShort() & 0xFFFF;
+        cmd.curPos(10);
+        int[] handles = new int[numHandles];
+        for (int i = 0; i < numHandles; ++i)
+            handles[i] = cmd.readInt();
+
+        ArrayList<Auth> auths = new ArrayList<Auth>();
+        if (tag == TPM_ST.SESSIONS.toInt())
+        {
+            int end = cmd.readInt() + cmd.curPos();
+            while (cmd.curPos() < end)
+            {
+                Auth a = new Auth();
+                a.handle = cmd.readInt();
+                a.nonceCaller = cmd.readSizedByteBuf();
+                a.attrs = cmd.readByte() & 0xFF;
+                a.hmac = cmd.readSizedByteBuf();
+                if (a.handle != RS_PW)
+                {
+                    a.sess = sessions.get(a.handle);
+                    if (a.sess == null)
+                        return errorResponse(TPM_RC.HANDLE);
+                }
+                auths.add(a);
+            }
+        }
+        byte[] params = Arrays.copyOfRange(cmdBuf, cmd.curPos(), cmdBuf.length);
+
+        // Command HMACs (computed over the parameters as sent)
+        byte[] nonceDecrypt = null,
+               nonceEncrypt = null;
+        Auth decrypt = null,
+             encrypt = null;
+        for (int i = 0; i < auths.size(); ++i)
+        {
+            Auth a = auths.get(i);
+            if (a.sess == null)
+                continue;
+            if (a.has(TPMA_SESSION.decrypt) && decrypt == null)
+            {
+                decrypt = a;
+                if (i > 0)
+                    nonceDecrypt = a.sess.nonceTpm;
+            }
+            if (a.has(TPMA_SESSION.encrypt) && encrypt == null)
+            {
+                encrypt = a;
+                if (i > 0 && a != decrypt)
+                    nonceEncrypt = a.sess.nonceTpm;
+            }
+        }
+        for (int i = 0; i < auths.size(); ++i)
+        {
+            Auth a = auths.get(i);
+            int entity = i < numAuthHandles ? handles[i] : 0;
+            if (a.sess == null)
+            {
+                byte[] expected = i < numAuthHandles ? authValue(entity) : new byte[0];
+                if (!Arrays.equals(expected, trimAuth(a.hmac)))
+                    return errorResponse(TPM_RC.AUTH_FAIL);
+                continue;
+            }
+            a.sess.nonceCaller = a.nonceCaller;
+            byte[] cpHash = Crypto.hash(a.sess.hashAlg, Helpers.concatenate(new byte[][] {
+                                Helpers.hostToNet(cc.toInt()), names(handles), params }));
+            byte[] expected = Crypto.hmac(a.sess.hashAlg, hmacKey(a.sess, i < numAuthHandles ? entity : null),
+                Helpers.concatenate(new byte[][] {
+                    cpHash, a.nonceCaller, a.sess.nonceTpm,
+                    i == 0 && nonceDecrypt != null ? nonceDecrypt : new byte[0],
+                    i == 0 && nonceEncrypt != null ? nonceEncrypt : new byte[0],
+                    new byte[] {(byte)a.attrs} }));
+            if (!Arrays.equals(expected, a.hmac))
+                return errorResponse(TPM_RC.AUTH_FAIL);
+        }
+        byte[] auditCpHash = audited.contains(cc)
+                           ? Crypto.hash(auditAlg, Helpers.concatenate(new byte[][] {
+                                             Helpers.hostToNet(cc.toInt()), names(handles), params }))
+                           : null;
+
+        if (decrypt != null)
+        {
+            int i = auths.indexOf(decrypt);
+            cryptParameter(decrypt.sess, hmacKey(decrypt.sess, i < numAuthHandles ? handles[i] : null),
+                           false, decrypt.nonceCaller, decrypt.sess.nonceTpm, params);
+        }
+
+        // The policy session is the last handle of the policy commands
+        Session policy = null;
+        if (policyCommand)
+        {
+            policy = sessions.get(handles[numHandles - 1]);
+            if (policy == null || policy.policyDigest == null)
+                return errorResponse(TPM_RC.HANDLE);
+        }
+
+        // Execute the command
+        TpmBuffer in = new TpmBuffer(params);
+        TpmBuffer out = new TpmBuffer();
+        Integer respHandle = null;
+        switch (cc.asEnum())
+        {
+            case StartAuthSession:
+            {
+                TPM2_StartAuthSession_REQUEST req = new TPM2_StartAuthSession_REQUEST();
+                req.initFromTpm(in);
+                Session s = new Session();
+                s.hashAlg = req.authHash;
+                s.symmetric = req.symmetric;
+                s.nonceCaller = req.nonceCaller;
+                s.nonceTpm = Helpers.RandomBytes(req.nonceCaller.length);
+                s.sessionKey = new byte[0];
+                if (handles[1] != TPM_RH.NULL.toInt())
+                {
+                    s.bindName = name(handles[1]);
+                    byte[] bindAuth = authValue(handles[1]);
+                    if (bindAuth.length > 0)
+                        s.sessionKey = Crypto.KDFa(s.hashAlg, bindAuth, "ATH", s.nonceTpm, s.nonceCaller,
+                                                   Crypto.digestSize(s.hashAlg) * 8);
+                }
+                if (req.sessionType == TPM_SE.POLICY)
+                    s.policyDigest = new byte[Crypto.digestSize(s.hashAlg)];
+                respHandle = (req.sessionType == TPM_SE.POLICY ? 0x03000000 : 0x02000000) + nextSession++;
+                sessions.put(respHandle, s);
+                out.writeSizedByteBuf(s.nonceTpm);
+                break;
+            }
+            case HierarchyChangeAuth:
+            case NV_ChangeAuth:
+                authValues.put(handles[0], in.readSizedByteBuf());
+                break;
+            case ObjectChangeAuth:
+                // The new private area is represented by the new authorization value
+                out.writeSizedByteBuf(in.readSizedByteBuf());
+                break;
+            case GetRandom:
+            {
+                byte[] random = new byte[in.readShort()];
+                for (int i = 0; i < random.length; ++i)
+                    random[i] = (byte)(i + 1);
+                out.writeSizedByteBuf(random);
+                break;
+            }
+            case FlushContext:
+                if (sessions.remove(in.readInt()) == null)
+                    return errorResponse(TPM_RC.HANDLE);
+                break;
+            case PolicyRestart:
+                policy.policyDigest = new byte[policy.policyDigest.length];
+                break;
+            case PolicyGetDigest:
+                out.writeSizedByteBuf(policy.policyDigest);
+                break;
+            case PolicyCommandCode:
+                policyUpdate(policy, cc, Helpers.hostToNet(in.readInt()));
+                break;
+            case PolicyPCR:
+            {
+                TPM2_PolicyPCR_REQUEST req = new TPM2_PolicyPCR_REQUEST();
+                req.initFromTpm(in);
+                byte[][] values = new byte[0][];
+                for (TPMS_PCR_SELECTION sel : req.pcrs)
+                {
+                    if (sel.hash != TPM_ALG_ID.SHA256)
+                        return errorResponse(TPM_RC.PCR);
+                    for (int i = 0; i < sel.pcrSelect.length * 8; ++i)
+                    {
+                        if ((sel.pcrSelect[i / 8] & (1 << (i % 8))) == 0)
+                            continue;
+                        values = Arrays.copyOf(values, values.length + 1);
+                        values[values.length - 1] = pcrs.containsKey(i) ? pcrs.get(i) : new byte[32];
+                    }
+                }
+                byte[] pcrDigest = Crypto.hash(policy.hashAlg, Helpers.concatenate(values));
+                if (req.pcrDigest.length != 0 && !Arrays.equals(req.pcrDigest, pcrDigest))
+                    return errorResponse(TPM_RC.VALUE);
+                policyUpdate(policy, cc, new TPML_PCR_SELECTION(req.pcrs).toBytes(), pcrDigest);
+                break;
+            }
+            case PolicySecret:
+            {
+                TPM2_PolicySecret_REQUEST req = new TPM2_PolicySecret_REQUEST();
+                req.initFromTpm(in);
+                policyUpdate(policy, cc, name(handles[0]));
+                policyUpdate(policy, null, req.policyRef);
+                out.writeSizedByteBuf(new byte[0]);
+                new TPMT_TK_AUTH(TPM_ST.AUTH_SECRET, TPM_HANDLE.from(TPM_RH.NULL), new byte[0]).toTpm(out);
+                break;
+            }
+            case PolicyOR:
+            {
+                TPM2_PolicyOR_REQUEST req = new TPM2_PolicyOR_REQUEST();
+                req.initFromTpm(in);
+                byte[][] digests = new byte[req.pHashList.length][];
+                boolean found = false;
+                for (int i = 0; i < digests.length; ++i)
+                {
+                    digests[i] = req.pHashList[i].buffer;
+                    found |= Arrays.equals(digests[i], policy.policyDigest);
+                }
+                if (!found)
+                    return errorResponse(TPM_RC.VALUE);
+                policy.policyDigest = new byte[policy.policyDigest.length];
+                policyUpdate(policy, cc, Helpers.concatenate(digests));
+                break;
+            }
+            default:
+                break;
+        }
+        byte[] respParams = out.trim();
+
+        // Roll the nonces and protect the response
+        for (Auth a : auths)
+        {
+            if (a.sess != null)
+                a.sess.nonceTpm = Helpers.RandomBytes(a.sess.nonceCaller.length);
+        }
+        if (encrypt != null)
+        {
+            int i = auths.indexOf(encrypt);
+            cryptParameter(encrypt.sess, hmacKey(encrypt.sess, i < numAuthHandles ? handles[i] : null),
+                           true, encrypt.sess.nonceTpm, encrypt.nonceCaller, respParams);
+        }
+
+        TpmBuffer resp = new TpmBuffer();
+        resp.writeShort(tag);
+        resp.writeInt(0);
+        resp.writeInt(TPM_RC.SUCCESS.toInt());
+        if (respHandle != null)
+            resp.writeInt(respHandle);
+        if (tag == TPM_ST.SESSIONS.toInt())
+            resp.writeInt(respParams.length);
+        resp.writeByteBuf(respParams);
+        for (int i = 0; i < auths.size(); ++i)
+        {
+            Auth a = auths.get(i);
+            if (a.sess == null)
+            {
+                resp.writeShort(0);
+                resp.writeByte((byte)a.attrs);
+                resp.writeShort(0);
+                continue;
+            }
+            byte[] rpHash = Crypto.hash(a.sess.hashAlg, Helpers.concatenate(new byte[][] {
+                                new byte[4], Helpers.hostToNet(cc.toInt()), respParams }));
+            resp.writeSizedByteBuf(a.sess.nonceTpm);
+            resp.writeByte((byte)a.attrs);
+            resp.writeSizedByteBuf(Crypto.hmac(a.sess.hashAlg, hmacKey(a.sess, i < numAuthHandles ? handles[i] : null),
+                Helpers.concatenate(new byte[][] { rpHash, a.sess.nonceTpm, a.nonceCaller,
+                                                   new byte[] {(byte)a.attrs} })));
+            if (!a.has(TPMA_SESSION.continueSession))
+                sessions.remove(a.handle);
+        }
+        resp.writeNumAtPos(resp.curPos(), 2);
+
+        if (auditCpHash != null)
+        {
+            byte[] rpHash = Crypto.hash(auditAlg, Helpers.concatenate(new byte[][] {
+                                new byte[4], Helpers.hostToNet(cc.toInt()), respParams }));
+            auditDigest = Crypto.hash(auditAlg, Helpers.concatenate(auditDigest, auditCpHash, rpHash));
+        }
+        lastResponse = resp.trim();
+        // The TSS decrypts the response in place
+        return lastResponse.clone();
+    }
+
+    /** Extends the policy digest with the command code (if any) and the given data */
+    static void policyUpdate(Session s, TPM_CC cc, byte[]... data)
+    {
+        byte[] ccBytes = cc != null ? Helpers.hostToNet(cc.toInt()) : new byte[0];
+        s.policyDigest = Crypto.hash(s.hashAlg, Helpers.concatenate(s.policyDigest, ccBytes,
+                                                                    Helpers.concatenate(data)));
+    }
+
+    byte[] names(int[] handles)
+    {
+        byte[][] res = new byte[handles.length][];
+        for (int i = 0; i < handles.length; ++i)
+            res[i] = name(handles[i]);
+        return Helpers.concatenate(res);
+    }
+
+    /** @return HMAC and parameter encryption key of a session used for the given entity */
+    byte[] hmacKey(Session s, Integer entity)
+    {
+        if (entity == null || Arrays.equals(s.bindName, name(entity)))
+            return s.sessionKey;
+        return Helpers.concatenate(s.sessionKey, authValue(entity));
+    }
+
+    /** Encrypts or decrypts the data of a sized parameter at the start of params */
+    static void cryptParameter(Session s, byte[] key, boolean encrypt, byte[] nonceNewer, byte[] nonceOlder,
+                               byte[] params)
+    {
+        int size = ((params[0] & 0xFF) << 8) | (params[1] & 0xFF);
+        if (s.symmetric.algorithm == TPM_ALG_ID.XOR)
+        {
+            byte[] mask = Crypto.KDFa(s.hashAlg, key, "XOR", nonceNewer, nonceOlder, size * 8);
+            for (int i = 0; i < size; ++i)
+                params[2 + i] ^= mask[i];
+            return;
+        }
+        int keyBytes = s.symmetric.keyBits / 8;
+        byte[] keyAndIv = Crypto.KDFa(s.hashAlg, key, "CFB", nonceNewer, nonceOlder, (keyBytes + 16) * 8);
+        try {
+            Cipher cfb = Cipher.getInstance("AES/CFB/NoPadding");
+            cfb.init(encrypt ? Cipher.ENCRYPT_MODE : Cipher.DECRYPT_MODE,
+                     new SecretKeySpec(keyAndIv, 0, keyBytes, "AES"),
+                     new IvParameterSpec(keyAndIv, keyBytes, 16));
+            cfb.doFinal(params, 2, size, params, 2);
+        } catch (Exception e) {
+            throw new TpmException("AES-CFB failure", e);
+        }
+    }
+
+    static byte[] trimAuth(byte[] auth)
+    {
+        int len = auth.length;
+        while (len > 0 && auth[len - 1] == 0)
+            --len;
+        return Arrays.copyOf(auth, len);
+    }
+}
@@ -0,0 +1,219 @@
+package test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tss.*;
+import tss.tpm.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection management of TpmPool, with in-memory TPM devices.
+ */
+public class TpmPoolTests {
+
+    /** Connection to a TPM answering TPM2_GetRandom while it is healthy */
+    static class PooledDevice extends CannedTpmDevice
+    {
+        boolean healthy = true;
+        boolean closed;
+
+        PooledDevice()
+        {
+            GetRandomResponse getRandom = new GetRandomResponse();
+            getRandom.randomBytes = new byte[] {1};
+            addResponse(TPM_CC.GetRandom, getRandom, false);
+        }
+
+        @Override
+        byte[] execute(byte[] cmdBuf)
+        {
+            if (!healthy)
+                throw new TpmException("Connection to the TPM lost");
+            return super.execute(cmdBuf);
+        }
+
+        @Override
+        public void close()
+        {
+            closed = true;
+        }
+    }
+
+    /** Creates the devices of a pool */
+    static class DeviceFactory
+    {
+        final ArrayList<PooledDevice> devices = new ArrayList<PooledDevice>();
+        boolean connectFails;
+
+        synchronized TpmDevice create()
+        {
+            PooledDevice device = new PooledDevice() {
+                @Override
+                public boolean connect() { return !connectFails; }
+            };
+            devices.add(device);
+            return device;
+        }
+    }
+
+    static PooledDevice device(Tpm tpm)
+    {
+        return (PooledDevice)tpm._getDevice();
+    }
+
+    @Test
+    public void connectionsAreReusedUpToTheMaximum() {
+        DeviceFactory factory = new DeviceFactory();
+        try (TpmPool pool = new TpmPool(2, factory::create)) {
+            Tpm t1 = pool.acquire(0),
+                t2 = pool.acquire(0);
+            Assertions.assertNotSame(t1, t2);
+            Assertions.assertEquals(2, pool.size());
+            Assertions.assertThrows(TpmException.class, () -> pool.acquire(50));
+
+            // The most recently used connection is handed out first
+            pool.release(t1);
+            pool.release(t2);
+            Assertions.assertSame(t2, pool.acquire(0));
+            Assertions.assertSame(t1, pool.acquire(0));
+            Assertions.assertEquals(2, factory.devices.size());
+
+            // No health check for recently used connections
+            Assertions.assertEquals(0, device(t1).commandCount);
+            pool.release(t1);
+            pool.release(t2);
+        }
+    }
+
+    @Test
+    public void acquireWaitsForARelease() throws Exception {
+        DeviceFactory factory = new DeviceFactory();
+        try (TpmPool pool = new TpmPool(1, factory::create)) {
+            Tpm t1 = pool.acquire(0);
+            long start = System.currentTimeMillis();
+            Assertions.assertThrows(TpmException.class, () -> pool.acquire(100));
+            Assertions.assertTrue(System.currentTimeMillis() - start >= 100);
+
+            CompletableFuture<Tpm> next = CompletableFuture.supplyAsync(() -> pool.acquire(10000));
+            Thread.sleep(50);
+            Assertions.assertFalse(next.isDone());
+            pool.release(t1);
+            Assertions.assertSame(t1, next.get(10, TimeUnit.SECONDS));
+            pool.release(t1);
+        }
+    }
+
+    @Test
+    public void invalidatedConnectionIsReplaced() throws Exception {
+        DeviceFactory factory = new DeviceFactory();
+        try (TpmPool pool = new TpmPool(1, factory::create)) {
+            Tpm t1 = pool.acquire(0);
+            CompletableFuture<Tpm> next = CompletableFuture.supplyAsync(() -> pool.acquire(10000));
+            Thread.sleep(50);
+
+            // The freed slot is taken by the waiting acquire() with a new connection
+            PooledDevice d1 = device(t1);
+            pool.invalidate(t1);
+            Assertions.assertTrue(d1.closed);
+            Tpm t2 = next.get(10, TimeUnit.SECONDS);
+            Assertions.assertNotSame(t1, t2);
+            Assertions.assertEquals(2, factory.devices.size());
+            Assertions.assertEquals(1, pool.size());
+
+            Assertions.assertThrows(TpmException.class, () -> pool.release(t1));
+            Assertions.assertThrows(TpmException.class, () -> pool.invalidate(t1));
+            pool.release(t2);
+            Assertions.assertThrows(TpmException.class, () -> pool.release(t2));
+        }
+    }
+
+    @Test
+    public void unhealthyIdleConnectionIsReplaced() {
+        DeviceFactory factory = new DeviceFactory();
+        try (TpmPool pool = new TpmPool(1, factory::create)) {
+            pool.setHealthCheckInterval(0);
+            Tpm t1 = pool.acquire(0);
+            pool.release(t1);
+
+            // Probed before being reused
+            Assertions.assertSame(t1, pool.acquire(0));
+            Assertions.assertEquals(1, device(t1).commandCount);
+            pool.release(t1);
+
+            PooledDevice d1 = device(t1);
+            d1.healthy = false;
+            Tpm t2 = pool.acquire(0);
+            Assertions.assertNotSame(t1, t2);
+            Assertions.assertTrue(d1.closed);
+            Assertions.assertFalse(device(t2).closed);
+            Assertions.assertEquals(1, pool.size());
+            pool.release(t2);
+        }
+    }
+
+    @Test
+    public void failedConnectionFreesItsSlot() {
+        DeviceFactory factory = new DeviceFactory();
+        try (TpmPool pool = new TpmPool(1, factory::create)) {
+            factory.connectFails = true;
+            Assertions.assertThrows(TpmException.class, () -> pool.acquire(0));
+            Assertions.assertEquals(0, pool.size());
+            Assertions.assertTrue(factory.devices.get(0).closed);
+
+            // Also when replacing an unhealthy connection
+            factory.connectFails = false;
+            pool.setHealthCheckInterval(0);
+            Tpm t1 = pool.acquire(0);
+            pool.release(t1);
+            device(t1).healthy = false;
+            factory.connectFails = true;
+            Assertions.assertThrows(TpmException.class, () -> pool.acquire(0));
+            Assertions.assertEquals(0, pool.size());
+
+            factory.connectFails = false;
+            pool.release(pool.acquire(0));
+        }
+    }
+
+    @Test
+    public void closeWhileInUse() throws Exception {
+        DeviceFactory factory = new DeviceFactory();
+        TpmPool pool = new TpmPool(2, factory::create);
+        Tpm t1 = pool.acquire(0),
+            t2 = pool.acquire(0);
+        PooledDevice d1 = device(t1),
+                     d2 = device(t2);
+        pool.release(t2);
+
+        pool.close();
+        Assertions.assertTrue(d2.closed);
+        Assertions.assertFalse(d1.closed);
+        Assertions.assertEquals(1, pool.size());
+        Assertions.assertThrows(TpmException.class, () -> pool.acquire(0));
+
+        // The connections in use are closed when they are released
+        pool.release(t1);
+        Assertions.assertTrue(d1.closed);
+        Assertions.assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void closeWakesUpWaitingAcquire() throws Exception {
+        TpmPool pool = new TpmPool(1, new DeviceFactory()::create);
+        Tpm t1 = pool.acquire(0);
+        CompletableFuture<Tpm> next = CompletableFuture.supplyAsync(() -> pool.acquire(10000));
+        Thread.sleep(50);
+        pool.close();
+        try {
+            next.get(5, TimeUnit.SECONDS);
+            Assertions.fail("acquire() succeeded after close()");
+        } catch (ExecutionException e) {
+            Assertions.assertTrue(e.getCause() instanceof TpmException);
+        }
+        pool.release(t1);
+    }
+}
@@ -0,0 +1,255 @@
+package test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tss.*;
+import tss.tpm.*;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multiplexed tunnel protocol (TpmTunnelMux and the tunnel server runnables) over loopback
+ * connections, with canned TPM responses.
+ */
+public class TunnelMuxTests {
+
+    static final int HelloTag = 0x4D55,
+                     HelloCode = 0x4D555831;
+
+    /** Canned device blocking TPM2_ReadClock until it is released */
+    static class GatedDevice extends CannedTpmDevice
+    {
+        final CountDownLatch started = new CountDownLatch(1),
+                             released = new CountDownLatch(1);
+
+        GatedDevice()
+        {
+            TunnelServerTests.cannedDevice(this);
+            ReadClockResponse readClock = new ReadClockResponse();
+            readClock.currentTime = new TPMS_TIME_INFO(1, new TPMS_CLOCK_INFO(2, 3, 4, (byte)1));
+            addResponse(TPM_CC.ReadClock, readClock, false);
+        }
+
+        @Override
+        byte[] execute(byte[] cmdBuf)
+        {
+            if (commandCode(cmdBuf) == TPM_CC.ReadClock)
+            {
+                started.countDown();
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    throw new TpmException("Interrupted");
+                }
+            }
+            return super.execute(cmdBuf);
+        }
+    }
+
+    /** Canned device rejecting the commands it has no response for, as a TPM would */
+    static class StrictDevice extends CannedTpmDevice
+    {
+        @Override
+        byte[] execute(byte[] cmdBuf)
+        {
+            if (!responses.containsKey(commandCode(cmdBuf).toInt()))
+                return errorResponse(TPM_RC.BAD_TAG);
+            return super.execute(cmdBuf);
+        }
+    }
+
+    static int freePort() throws Exception
+    {
+        try (ServerSocket s = new ServerSocket(0)) {
+            return s.getLocalPort();
+        }
+    }
+
+    /** @return Port of a new TpmDeviceTunnelServerRunnable serving the device */
+    static int startServer(TpmDevice device) throws Exception
+    {
+        int port = freePort();
+        Thread server = new Thread(new TpmDeviceTunnelServerRunnable(port, device));
+        server.setDaemon(true);
+        server.start();
+        return port;
+    }
+
+    static TpmTunnelMux connect(int port)
+    {
+        TpmTunnelMux mux = new TpmTunnelMux("127.0.0.1", port, false);
+        Assertions.assertTrue(mux.connect());
+        return mux;
+    }
+
+    /** @return Marshaled TPM2_GetRandom command */
+    static byte[] getRandomCommand(int numBytes)
+    {
+        TpmBuffer buf = new TpmBuffer();
+        buf.writeShort(TPM_ST.NO_SESSIONS.toInt());
+        buf.writeInt(12);
+        buf.writeInt(TPM_CC.GetRandom.toInt());
+        buf.writeShort(numBytes);
+        return buf.trim();
+    }
+
+    static TPM_RC responseCode(byte[] resp)
+    {
+        TpmBuffer buf = new TpmBuffer(resp);
+        buf.curPos(6);
+        return TPM_RC.fromInt(buf.readInt());
+    }
+
+    @Test
+    public void helloAndFraming() throws Exception {
+        int port = startServer(TunnelServerTests.cannedDevice(new CannedTpmDevice()));
+        try (Socket socket = new Socket("127.0.0.1", port)) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+
+            // Hello in a legacy frame, answered with the selected version
+            out.writeByte(0);
+            out.writeInt(14);
+            out.writeShort(HelloTag);
+            out.writeInt(14);
+            out.writeInt(HelloCode);
+            out.writeInt(5);
+            Assertions.assertEquals(14, in.readInt());
+            Assertions.assertEquals(HelloTag, in.readUnsignedShort());
+            Assertions.assertEquals(14, in.readInt());
+            Assertions.assertEquals(HelloCode, in.readInt());
+            Assertions.assertEquals(1, in.readInt());
+
+            // Command frame: type, stream ID, request ID, size, locality and command
+            byte[] cmd = getRandomCommand(8);
+            out.writeByte(1);
+            out.writeInt(7);
+            out.writeInt(42);
+            out.writeInt(cmd.length + 1);
+            out.writeByte(0);
+            out.write(cmd);
+            out.flush();
+            Assertions.assertEquals(0x81, in.readUnsignedByte());
+            Assertions.assertEquals(7, in.readInt());
+            Assertions.assertEquals(42, in.readInt());
+            byte[] resp = new byte[in.readInt()];
+            in.readFully(resp);
+            GetRandomResponse getRandom = new GetRandomResponse();
+            TpmBuffer respBuf = new TpmBuffer(resp);
+            respBuf.curPos(10);
+            getRandom.initFromTpm(respBuf);
+            Assertions.assertArrayEquals(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}, getRandom.randomBytes);
+
+            // An unknown frame type ends the connection
+            out.writeByte(9);
+            out.writeInt(7);
+            out.writeInt(43);
+            out.writeInt(0);
+            out.flush();
+            Assertions.assertThrows(EOFException.class, () -> in.readUnsignedByte());
+        }
+    }
+
+    @Test
+    public void streamsShareTheConnection() throws Exception {
+        int port = startServer(TunnelServerTests.cannedDevice(new CannedTpmDevice()));
+        try (TpmTunnelMux mux = connect(port)) {
+            Assertions.assertTrue(mux.isMultiplexed());
+            Tpm tpm1 = TunnelServerTests.connect(mux.openStream()),
+                tpm2 = TunnelServerTests.connect(mux.openStream());
+            CompletableFuture<?>[] results = new CompletableFuture<?>[8];
+            for (int i = 0; i < results.length; ++i)
+            {
+                Tpm tpm = i % 2 == 0 ? tpm1 : tpm2;
+                results[i] = CompletableFuture.runAsync(() -> {
+                    for (int j = 0; j < 20; ++j)
+                        Assertions.assertEquals(8, tpm.GetRandom(8).length);
+                });
+            }
+            CompletableFuture.allOf(results).get(30, TimeUnit.SECONDS);
+            tpm1.close();
+            tpm2.close();
+        }
+    }
+
+    @Test
+    public void cancelledCommandIsAnsweredWithCanceled() throws Exception {
+        GatedDevice device = new GatedDevice();
+        int port = startServer(device);
+        try (TpmTunnelMux mux = connect(port)) {
+            Tpm tpm1 = TunnelServerTests.connect(mux.openStream());
+            TpmTunnelMux.Stream stream2 = mux.openStream();
+
+            // The command of the second stream waits for the one of the first stream
+            CompletableFuture<?> readClock = CompletableFuture.runAsync(() -> tpm1.ReadClock());
+            device.started.await();
+            stream2.dispatchCommand(getRandomCommand(8));
+            stream2.cancel();
+            Assertions.assertEquals(TPM_RC.CANCELED, responseCode(stream2.getResponse()));
+
+            // A command timing out is cancelled as well
+            stream2.setTimeout(100);
+            stream2.dispatchCommand(getRandomCommand(8));
+            Assertions.assertThrows(TpmException.class, () -> stream2.getResponse());
+
+            device.released.countDown();
+            readClock.get(10, TimeUnit.SECONDS);
+            stream2.setTimeout(0);
+            Assertions.assertEquals(8, TunnelServerTests.connect(stream2).GetRandom(8).length);
+            Assertions.assertEquals(2, device.commandCount);
+        }
+    }
+
+    @Test
+    public void failedCommandIsAnsweredWithFailure() throws Exception {
+        int port = startServer(TunnelServerTests.cannedDevice(new TunnelServerTests.FaultyDevice()));
+        try (TpmTunnelMux mux = connect(port)) {
+            TpmTunnelMux.Stream stream1 = mux.openStream(),
+                                stream2 = mux.openStream();
+            stream1.setTimeout(10000);
+            stream2.setTimeout(10000);
+            Tpm tpm1 = TunnelServerTests.connect(stream1),
+                tpm2 = TunnelServerTests.connect(stream2);
+            tpm1._expectError(TPM_RC.FAILURE).ReadClock();
+
+            // The connection and both streams are still served
+            Assertions.assertEquals(8, tpm1.GetRandom(8).length);
+            Assertions.assertEquals(8, tpm2.GetRandom(8).length);
+        }
+    }
+
+    /** Checks the fallback to the legacy framing with a server forwarding the hello to the TPM */
+    static void checkLegacyFallback(CannedTpmDevice device) throws Exception
+    {
+        TpmDeviceTunnelServer server = new TpmDeviceTunnelServer(0, TunnelServerTests.cannedDevice(device));
+        Thread serverThread = new Thread(server);
+        serverThread.start();
+        try (TpmTunnelMux mux = connect(server.getPort())) {
+            Assertions.assertFalse(mux.isMultiplexed());
+            TpmTunnelMux.Stream stream = mux.openStream();
+            Assertions.assertThrows(TpmException.class, () -> mux.openStream());
+            Tpm tpm = TunnelServerTests.connect(stream);
+            Assertions.assertEquals(8, tpm.GetRandom(8).length);
+            Assertions.assertEquals(8, tpm.GetRandom(8).length);
+        } finally {
+            server.close();
+            serverThread.join();
+        }
+    }
+
+    @Test
+    public void legacyServerFallback() throws Exception {
+        // The TPM rejects the hello
+        checkLegacyFallback(new StrictDevice());
+
+        // The TPM device fails on the hello, and the server drops the connection
+        checkLegacyFallback(new CannedTpmDevice());
+    }
+}
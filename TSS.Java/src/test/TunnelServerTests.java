@@ -0,0 +1,60 @@
+package test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tss.*;
+import tss.tpm.*;
+
+/**
+ * Tunnel servers and clients talking over loopback connections, with canned TPM responses.
+ */
+public class TunnelServerTests {
+
+    /** Canned device failing with an unexpected exception on TPM2_ReadClock */
+    static class FaultyDevice extends CannedTpmDevice
+    {
+        @Override
+        byte[] execute(byte[] cmdBuf)
+        {
+            if (commandCode(cmdBuf) == TPM_CC.ReadClock)
+                throw new IllegalStateException("Device failure");
+            return super.execute(cmdBuf);
+        }
+    }
+
+    static CannedTpmDevice cannedDevice(CannedTpmDevice device)
+    {
+        GetRandomResponse getRandom = new GetRandomResponse();
+        getRandom.randomBytes = new byte[] {1, 2, 3, 4, 5, 6, 7, 8};
+        device.addResponse(TPM_CC.GetRandom, getRandom, false);
+        return device;
+    }
+
+    static Tpm connect(TpmDevice device)
+    {
+        Assertions.assertTrue(device.connect());
+        Tpm tpm = new Tpm();
+        tpm._setDevice(device);
+        return tpm;
+    }
+
+    @Test
+    public void failedCommandClosesOnlyItsConnection() throws Exception {
+        TpmDeviceTunnelServer server = new TpmDeviceTunnelServer(0, cannedDevice(new FaultyDevice()));
+        Thread serverThread = new Thread(server);
+        serverThread.start();
+        try {
+            Tpm tpm1 = connect(new TpmDeviceTunnelClient("127.0.0.1", server.getPort())),
+                tpm2 = connect(new TpmDeviceTunnelClient("127.0.0.1", server.getPort()));
+            Assertions.assertEquals(8, tpm1.GetRandom(8).length);
+
+            Assertions.assertThrows(TpmException.class, () -> tpm1.ReadClock());
+            Assertions.assertEquals(8, tpm2.GetRandom(8).length);
+            tpm1.close();
+            tpm2.close();
+        } finally {
+            server.close();
+            serverThread.join();
+        }
+    }
+}
@@ -0,0 +1,880 @@
+package tss;
+
+import tss.tpm.*;
+import java.util.concurrent.CompletableFuture;
+
+// -----------This is an auto-generated file: do not edit
+
+//>>>
+/** The AsyncTpm class provides asynchronous counterparts of the Tpm class methods.
+ *  <P>
+ *  Each method queues the command for execution by the dispatcher thread of the TPM device,
+ *  and returns a future of the result that the corresponding Tpm method would return.
+ *  If the TPM returns an unexpected response code, the future completes exceptionally
+ *  with a TpmException. The modifiers (like _allowErrors() or _withSession()) apply to
+ *  the next command submitted by the calling thread.
+ */
+public class AsyncTpm extends AsyncTpmBase
+{
+    /** Creates an asynchronous interface to the given TPM
+     *  @param tpm Tpm object with an attached device. It can still be used synchronously.
+     */
+    public AsyncTpm(Tpm tpm) { super(tpm); }
+
+    /** Asynchronous version of {@link Tpm#Startup} */
+    public CompletableFuture<Void> Startup(TPM_SU startupType)
+    {
+        TPM2_Startup_REQUEST req = new TPM2_Startup_REQUEST(startupType);
+        return dispatch(TPM_CC.Startup, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#Shutdown} */
+    public CompletableFuture<Void> Shutdown(TPM_SU shutdownType)
+    {
+        TPM2_Shutdown_REQUEST req = new TPM2_Shutdown_REQUEST(shutdownType);
+        return dispatch(TPM_CC.Shutdown, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#SelfTest} */
+    public CompletableFuture<Void> SelfTest(byte fullTest)
+    {
+        TPM2_SelfTest_REQUEST req = new TPM2_SelfTest_REQUEST(fullTest);
+        return dispatch(TPM_CC.SelfTest, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#IncrementalSelfTest} */
+    public CompletableFuture<TPM_ALG_ID[]> IncrementalSelfTest(TPM_ALG_ID[] toTest)
+    {
+        TPM2_IncrementalSelfTest_REQUEST req = new TPM2_IncrementalSelfTest_REQUEST(toTest);
+        return dispatch(TPM_CC.IncrementalSelfTest, req, new IncrementalSelfTestResponse(), resp -> resp.toDoList);
+    }
+
+    /** Asynchronous version of {@link Tpm#GetTestResult} */
+    public CompletableFuture<GetTestResultResponse> GetTestResult()
+    {
+        TPM2_GetTestResult_REQUEST req = new TPM2_GetTestResult_REQUEST();
+        return dispatch(TPM_CC.GetTestResult, req, new GetTestResultResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#StartAuthSession} */
+    public CompletableFuture<StartAuthSessionResponse> StartAuthSession(TPM_HANDLE tpmKey, TPM_HANDLE bind, byte[] nonceCaller, byte[] encryptedSalt, TPM_SE sessionType, TPMT_SYM_DEF symmetric, TPM_ALG_ID authHash)
+    {
+        TPM2_StartAuthSession_REQUEST req = new TPM2_StartAuthSession_REQUEST(tpmKey, bind, nonceCaller, encryptedSalt, sessionType, symmetric, authHash);
+        return dispatch(TPM_CC.StartAuthSession, req, new StartAuthSessionResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicyRestart} */
+    public CompletableFuture<Void> PolicyRestart(TPM_HANDLE sessionHandle)
+    {
+        TPM2_PolicyRestart_REQUEST req = new TPM2_PolicyRestart_REQUEST(sessionHandle);
+        return dispatch(TPM_CC.PolicyRestart, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#Create} */
+    public CompletableFuture<CreateResponse> Create(TPM_HANDLE parentHandle, TPMS_SENSITIVE_CREATE inSensitive, TPMT_PUBLIC inPublic, byte[] outsideInfo, TPMS_PCR_SELECTION[] creationPCR)
+    {
+        TPM2_Create_REQUEST req = new TPM2_Create_REQUEST(parentHandle, inSensitive, inPublic, outsideInfo, creationPCR);
+        return dispatch(TPM_CC.Create, req, new CreateResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#Load} */
+    public CompletableFuture<TPM_HANDLE> Load(TPM_HANDLE parentHandle, TPM2B_PRIVATE inPrivate, TPMT_PUBLIC inPublic)
+    {
+        TPM2_Load_REQUEST req = new TPM2_Load_REQUEST(parentHandle, inPrivate, inPublic);
+        return dispatch(TPM_CC.Load, req, new LoadResponse(), resp -> resp.handle);
+    }
+
+    /** Asynchronous version of {@link Tpm#LoadExternal} */
+    public CompletableFuture<TPM_HANDLE> LoadExternal(TPMT_SENSITIVE inPrivate, TPMT_PUBLIC inPublic, TPM_HANDLE hierarchy)
+    {
+        TPM2_LoadExternal_REQUEST req = new TPM2_LoadExternal_REQUEST(inPrivate, inPublic, hierarchy);
+        return dispatch(TPM_CC.LoadExternal, req, new LoadExternalResponse(), resp -> resp.handle);
+    }
+
+    /** Asynchronous version of {@link Tpm#ReadPublic} */
+    public CompletableFuture<ReadPublicResponse> ReadPublic(TPM_HANDLE objectHandle)
+    {
+        TPM2_ReadPublic_REQUEST req = new TPM2_ReadPublic_REQUEST(objectHandle);
+        return dispatch(TPM_CC.ReadPublic, req, new ReadPublicResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#ActivateCredential} */
+    public CompletableFuture<byte[]> ActivateCredential(TPM_HANDLE activateHandle, TPM_HANDLE keyHandle, TPMS_ID_OBJECT credentialBlob, byte[] secret)
+    {
+        TPM2_ActivateCredential_REQUEST req = new TPM2_ActivateCredential_REQUEST(activateHandle, keyHandle, credentialBlob, secret);
+        return dispatch(TPM_CC.ActivateCredential, req, new ActivateCredentialResponse(), resp -> resp.certInfo);
+    }
+
+    /** Asynchronous version of {@link Tpm#MakeCredential} */
+    public CompletableFuture<MakeCredentialResponse> MakeCredential(TPM_HANDLE handle, byte[] credential, byte[] objectName)
+    {
+        TPM2_MakeCredential_REQUEST req = new TPM2_MakeCredential_REQUEST(handle, credential, objectName);
+        return dispatch(TPM_CC.MakeCredential, req, new MakeCredentialResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#Unseal} */
+    public CompletableFuture<byte[]> Unseal(TPM_HANDLE itemHandle)
+    {
+        TPM2_Unseal_REQUEST req = new TPM2_Unseal_REQUEST(itemHandle);
+        return dispatch(TPM_CC.Unseal, req, new UnsealResponse(), resp -> resp.outData);
+    }
+
+    /** Asynchronous version of {@link Tpm#ObjectChangeAuth} */
+    public CompletableFuture<TPM2B_PRIVATE> ObjectChangeAuth(TPM_HANDLE objectHandle, TPM_HANDLE parentHandle, byte[] newAuth)
+    {
+        TPM2_ObjectChangeAuth_REQUEST req = new TPM2_ObjectChangeAuth_REQUEST(objectHandle, parentHandle, newAuth);
+        return dispatch(TPM_CC.ObjectChangeAuth, req, new ObjectChangeAuthResponse(), resp -> resp.outPrivate);
+    }
+
+    /** Asynchronous version of {@link Tpm#CreateLoaded} */
+    public CompletableFuture<CreateLoadedResponse> CreateLoaded(TPM_HANDLE parentHandle, TPMS_SENSITIVE_CREATE inSensitive, byte[] inPublic)
+    {
+        TPM2_CreateLoaded_REQUEST req = new TPM2_CreateLoaded_REQUEST(parentHandle, inSensitive, inPublic);
+        return dispatch(TPM_CC.CreateLoaded, req, new CreateLoadedResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#Duplicate} */
+    public CompletableFuture<DuplicateResponse> Duplicate(TPM_HANDLE objectHandle, TPM_HANDLE newParentHandle, byte[] encryptionKeyIn, TPMT_SYM_DEF_OBJECT symmetricAlg)
+    {
+        TPM2_Duplicate_REQUEST req = new TPM2_Duplicate_REQUEST(objectHandle, newParentHandle, encryptionKeyIn, symmetricAlg);
+        return dispatch(TPM_CC.Duplicate, req, new DuplicateResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#Rewrap} */
+    public CompletableFuture<RewrapResponse> Rewrap(TPM_HANDLE oldParent, TPM_HANDLE newParent, TPM2B_PRIVATE inDuplicate, byte[] name, byte[] inSymSeed)
+    {
+        TPM2_Rewrap_REQUEST req = new TPM2_Rewrap_REQUEST(oldParent, newParent, inDuplicate, name, inSymSeed);
+        return dispatch(TPM_CC.Rewrap, req, new RewrapResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#Import} */
+    public CompletableFuture<TPM2B_PRIVATE> Import(TPM_HANDLE parentHandle, byte[] encryptionKey, TPMT_PUBLIC objectPublic, TPM2B_PRIVATE duplicate, byte[] inSymSeed, TPMT_SYM_DEF_OBJECT symmetricAlg)
+    {
+        TPM2_Import_REQUEST req = new TPM2_Import_REQUEST(parentHandle, encryptionKey, objectPublic, duplicate, inSymSeed, symmetricAlg);
+        return dispatch(TPM_CC.Import, req, new ImportResponse(), resp -> resp.outPrivate);
+    }
+
+    /** Asynchronous version of {@link Tpm#RSA_Encrypt} */
+    public CompletableFuture<byte[]> RSA_Encrypt(TPM_HANDLE keyHandle, byte[] message, TPMU_ASYM_SCHEME inScheme, byte[] label)
+    {
+        TPM2_RSA_Encrypt_REQUEST req = new TPM2_RSA_Encrypt_REQUEST(keyHandle, message, inScheme, label);
+        return dispatch(TPM_CC.RSA_Encrypt, req, new RSA_EncryptResponse(), resp -> resp.outData);
+    }
+
+    /** Asynchronous version of {@link Tpm#RSA_Decrypt} */
+    public CompletableFuture<byte[]> RSA_Decrypt(TPM_HANDLE keyHandle, byte[] cipherText, TPMU_ASYM_SCHEME inScheme, byte[] label)
+    {
+        TPM2_RSA_Decrypt_REQUEST req = new TPM2_RSA_Decrypt_REQUEST(keyHandle, cipherText, inScheme, label);
+        return dispatch(TPM_CC.RSA_Decrypt, req, new RSA_DecryptResponse(), resp -> resp.message);
+    }
+
+    /** Asynchronous version of {@link Tpm#ECDH_KeyGen} */
+    public CompletableFuture<ECDH_KeyGenResponse> ECDH_KeyGen(TPM_HANDLE keyHandle)
+    {
+        TPM2_ECDH_KeyGen_REQUEST req = new TPM2_ECDH_KeyGen_REQUEST(keyHandle);
+        return dispatch(TPM_CC.ECDH_KeyGen, req, new ECDH_KeyGenResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#ECDH_ZGen} */
+    public CompletableFuture<TPMS_ECC_POINT> ECDH_ZGen(TPM_HANDLE keyHandle, TPMS_ECC_POINT inPoint)
+    {
+        TPM2_ECDH_ZGen_REQUEST req = new TPM2_ECDH_ZGen_REQUEST(keyHandle, inPoint);
+        return dispatch(TPM_CC.ECDH_ZGen, req, new ECDH_ZGenResponse(), resp -> resp.outPoint);
+    }
+
+    /** Asynchronous version of {@link Tpm#ECC_Parameters} */
+    public CompletableFuture<TPMS_ALGORITHM_DETAIL_ECC> ECC_Parameters(TPM_ECC_CURVE curveID)
+    {
+        TPM2_ECC_Parameters_REQUEST req = new TPM2_ECC_Parameters_REQUEST(curveID);
+        return dispatch(TPM_CC.ECC_Parameters, req, new ECC_ParametersResponse(), resp -> resp.parameters);
+    }
+
+    /** Asynchronous version of {@link Tpm#ZGen_2Phase} */
+    public CompletableFuture<ZGen_2PhaseResponse> ZGen_2Phase(TPM_HANDLE keyA, TPMS_ECC_POINT inQsB, TPMS_ECC_POINT inQeB, TPM_ALG_ID inScheme, int counter)
+    {
+        TPM2_ZGen_2Phase_REQUEST req = new TPM2_ZGen_2Phase_REQUEST(keyA, inQsB, inQeB, inScheme, counter);
+        return dispatch(TPM_CC.ZGen_2Phase, req, new ZGen_2PhaseResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#ECC_Encrypt} */
+    public CompletableFuture<ECC_EncryptResponse> ECC_Encrypt(TPM_HANDLE keyHandle, byte[] plainText, TPMU_KDF_SCHEME inScheme)
+    {
+        TPM2_ECC_Encrypt_REQUEST req = new TPM2_ECC_Encrypt_REQUEST(keyHandle, plainText, inScheme);
+        return dispatch(TPM_CC.ECC_Encrypt, req, new ECC_EncryptResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#ECC_Decrypt} */
+    public CompletableFuture<byte[]> ECC_Decrypt(TPM_HANDLE keyHandle, TPMS_ECC_POINT C1, byte[] C2, byte[] C3, TPMU_KDF_SCHEME inScheme)
+    {
+        TPM2_ECC_Decrypt_REQUEST req = new TPM2_ECC_Decrypt_REQUEST(keyHandle, C1, C2, C3, inScheme);
+        return dispatch(TPM_CC.ECC_Decrypt, req, new ECC_DecryptResponse(), resp -> resp.plainText);
+    }
+
+    /** Asynchronous version of {@link Tpm#EncryptDecrypt} */
+    public CompletableFuture<EncryptDecryptResponse> EncryptDecrypt(TPM_HANDLE keyHandle, byte decrypt, TPM_ALG_ID mode, byte[] ivIn, byte[] inData)
+    {
+        TPM2_EncryptDecrypt_REQUEST req = new TPM2_EncryptDecrypt_REQUEST(keyHandle, decrypt, mode, ivIn, inData);
+        return dispatch(TPM_CC.EncryptDecrypt, req, new EncryptDecryptResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#EncryptDecrypt2} */
+    public CompletableFuture<EncryptDecrypt2Response> EncryptDecrypt2(TPM_HANDLE keyHandle, byte[] inData, byte decrypt, TPM_ALG_ID mode, byte[] ivIn)
+    {
+        TPM2_EncryptDecrypt2_REQUEST req = new TPM2_EncryptDecrypt2_REQUEST(keyHandle, inData, decrypt, mode, ivIn);
+        return dispatch(TPM_CC.EncryptDecrypt2, req, new EncryptDecrypt2Response());
+    }
+
+    /** Asynchronous version of {@link Tpm#Hash} */
+    public CompletableFuture<HashResponse> Hash(byte[] data, TPM_ALG_ID hashAlg, TPM_HANDLE hierarchy)
+    {
+        TPM2_Hash_REQUEST req = new TPM2_Hash_REQUEST(data, hashAlg, hierarchy);
+        return dispatch(TPM_CC.Hash, req, new HashResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#HMAC} */
+    public CompletableFuture<byte[]> HMAC(TPM_HANDLE handle, byte[] buffer, TPM_ALG_ID hashAlg)
+    {
+        TPM2_HMAC_REQUEST req = new TPM2_HMAC_REQUEST(handle, buffer, hashAlg);
+        return dispatch(TPM_CC.HMAC, req, new HMACResponse(), resp -> resp.outHMAC);
+    }
+
+    /** Asynchronous version of {@link Tpm#MAC} */
+    public CompletableFuture<byte[]> MAC(TPM_HANDLE handle, byte[] buffer, TPM_ALG_ID inScheme)
+    {
+        TPM2_MAC_REQUEST req = new TPM2_MAC_REQUEST(handle, buffer, inScheme);
+        return dispatch(TPM_CC.MAC, req, new MACResponse(), resp -> resp.outMAC);
+    }
+
+    /** Asynchronous version of {@link Tpm#GetRandom} */
+    public CompletableFuture<byte[]> GetRandom(int bytesRequested)
+    {
+        TPM2_GetRandom_REQUEST req = new TPM2_GetRandom_REQUEST(bytesRequested);
+        return dispatch(TPM_CC.GetRandom, req, new GetRandomResponse(), resp -> resp.randomBytes);
+    }
+
+    /** Asynchronous version of {@link Tpm#StirRandom} */
+    public CompletableFuture<Void> StirRandom(byte[] inData)
+    {
+        TPM2_StirRandom_REQUEST req = new TPM2_StirRandom_REQUEST(inData);
+        return dispatch(TPM_CC.StirRandom, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#HMAC_Start} */
+    public CompletableFuture<TPM_HANDLE> HMAC_Start(TPM_HANDLE handle, byte[] auth, TPM_ALG_ID hashAlg)
+    {
+        TPM2_HMAC_Start_REQUEST req = new TPM2_HMAC_Start_REQUEST(handle, auth, hashAlg);
+        return dispatch(TPM_CC.HMAC_Start, req, new HMAC_StartResponse(), resp -> resp.handle);
+    }
+
+    /** Asynchronous version of {@link Tpm#MAC_Start} */
+    public CompletableFuture<TPM_HANDLE> MAC_Start(TPM_HANDLE handle, byte[] auth, TPM_ALG_ID inScheme)
+    {
+        TPM2_MAC_Start_REQUEST req = new TPM2_MAC_Start_REQUEST(handle, auth, inScheme);
+        return dispatch(TPM_CC.MAC_Start, req, new MAC_StartResponse(), resp -> resp.handle);
+    }
+
+    /** Asynchronous version of {@link Tpm#HashSequenceStart} */
+    public CompletableFuture<TPM_HANDLE> HashSequenceStart(byte[] auth, TPM_ALG_ID hashAlg)
+    {
+        TPM2_HashSequenceStart_REQUEST req = new TPM2_HashSequenceStart_REQUEST(auth, hashAlg);
+        return dispatch(TPM_CC.HashSequenceStart, req, new HashSequenceStartResponse(), resp -> resp.handle);
+    }
+
+    /** Asynchronous version of {@link Tpm#SequenceUpdate} */
+    public CompletableFuture<Void> SequenceUpdate(TPM_HANDLE sequenceHandle, byte[] buffer)
+    {
+        TPM2_SequenceUpdate_REQUEST req = new TPM2_SequenceUpdate_REQUEST(sequenceHandle, buffer);
+        return dispatch(TPM_CC.SequenceUpdate, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#SequenceComplete} */
+    public CompletableFuture<SequenceCompleteResponse> SequenceComplete(TPM_HANDLE sequenceHandle, byte[] buffer, TPM_HANDLE hierarchy)
+    {
+        TPM2_SequenceComplete_REQUEST req = new TPM2_SequenceComplete_REQUEST(sequenceHandle, buffer, hierarchy);
+        return dispatch(TPM_CC.SequenceComplete, req, new SequenceCompleteResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#EventSequenceComplete} */
+    public CompletableFuture<TPMT_HA[]> EventSequenceComplete(TPM_HANDLE pcrHandle, TPM_HANDLE sequenceHandle, byte[] buffer)
+    {
+        TPM2_EventSequenceComplete_REQUEST req = new TPM2_EventSequenceComplete_REQUEST(pcrHandle, sequenceHandle, buffer);
+        return dispatch(TPM_CC.EventSequenceComplete, req, new EventSequenceCompleteResponse(), resp -> resp.results);
+    }
+
+    /** Asynchronous version of {@link Tpm#Certify} */
+    public CompletableFuture<CertifyResponse> Certify(TPM_HANDLE objectHandle, TPM_HANDLE signHandle, byte[] qualifyingData, TPMU_SIG_SCHEME inScheme)
+    {
+        TPM2_Certify_REQUEST req = new TPM2_Certify_REQUEST(objectHandle, signHandle, qualifyingData, inScheme);
+        return dispatch(TPM_CC.Certify, req, new CertifyResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#CertifyCreation} */
+    public CompletableFuture<CertifyCreationResponse> CertifyCreation(TPM_HANDLE signHandle, TPM_HANDLE objectHandle, byte[] qualifyingData, byte[] creationHash, TPMU_SIG_SCHEME inScheme, TPMT_TK_CREATION creationTicket)
+    {
+        TPM2_CertifyCreation_REQUEST req = new TPM2_CertifyCreation_REQUEST(signHandle, objectHandle, qualifyingData, creationHash, inScheme, creationTicket);
+        return dispatch(TPM_CC.CertifyCreation, req, new CertifyCreationResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#Quote} */
+    public CompletableFuture<QuoteResponse> Quote(TPM_HANDLE signHandle, byte[] qualifyingData, TPMU_SIG_SCHEME inScheme, TPMS_PCR_SELECTION[] PCRselect)
+    {
+        TPM2_Quote_REQUEST req = new TPM2_Quote_REQUEST(signHandle, qualifyingData, inScheme, PCRselect);
+        return dispatch(TPM_CC.Quote, req, new QuoteResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#GetSessionAuditDigest} */
+    public CompletableFuture<GetSessionAuditDigestResponse> GetSessionAuditDigest(TPM_HANDLE privacyAdminHandle, TPM_HANDLE signHandle, TPM_HANDLE sessionHandle, byte[] qualifyingData, TPMU_SIG_SCHEME inScheme)
+    {
+        TPM2_GetSessionAuditDigest_REQUEST req = new TPM2_GetSessionAuditDigest_REQUEST(privacyAdminHandle, signHandle, sessionHandle, qualifyingData, inScheme);
+        return dispatch(TPM_CC.GetSessionAuditDigest, req, new GetSessionAuditDigestResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#GetCommandAuditDigest} */
+    public CompletableFuture<GetCommandAuditDigestResponse> GetCommandAuditDigest(TPM_HANDLE privacyHandle, TPM_HANDLE signHandle, byte[] qualifyingData, TPMU_SIG_SCHEME inScheme)
+    {
+        TPM2_GetCommandAuditDigest_REQUEST req = new TPM2_GetCommandAuditDigest_REQUEST(privacyHandle, signHandle, qualifyingData, inScheme);
+        return dispatch(TPM_CC.GetCommandAuditDigest, req, new GetCommandAuditDigestResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#GetTime} */
+    public CompletableFuture<GetTimeResponse> GetTime(TPM_HANDLE privacyAdminHandle, TPM_HANDLE signHandle, byte[] qualifyingData, TPMU_SIG_SCHEME inScheme)
+    {
+        TPM2_GetTime_REQUEST req = new TPM2_GetTime_REQUEST(privacyAdminHandle, signHandle, qualifyingData, inScheme);
+        return dispatch(TPM_CC.GetTime, req, new GetTimeResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#CertifyX509} */
+    public CompletableFuture<CertifyX509Response> CertifyX509(TPM_HANDLE objectHandle, TPM_HANDLE signHandle, byte[] reserved, TPMU_SIG_SCHEME inScheme, byte[] partialCertificate)
+    {
+        TPM2_CertifyX509_REQUEST req = new TPM2_CertifyX509_REQUEST(objectHandle, signHandle, reserved, inScheme, partialCertificate);
+        return dispatch(TPM_CC.CertifyX509, req, new CertifyX509Response());
+    }
+
+    /** Asynchronous version of {@link Tpm#Commit} */
+    public CompletableFuture<CommitResponse> Commit(TPM_HANDLE signHandle, TPMS_ECC_POINT P1, byte[] s2, byte[] y2)
+    {
+        TPM2_Commit_REQUEST req = new TPM2_Commit_REQUEST(signHandle, P1, s2, y2);
+        return dispatch(TPM_CC.Commit, req, new CommitResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#EC_Ephemeral} */
+    public CompletableFuture<EC_EphemeralResponse> EC_Ephemeral(TPM_ECC_CURVE curveID)
+    {
+        TPM2_EC_Ephemeral_REQUEST req = new TPM2_EC_Ephemeral_REQUEST(curveID);
+        return dispatch(TPM_CC.EC_Ephemeral, req, new EC_EphemeralResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#VerifySignature} */
+    public CompletableFuture<TPMT_TK_VERIFIED> VerifySignature(TPM_HANDLE keyHandle, byte[] digest, TPMU_SIGNATURE signature)
+    {
+        TPM2_VerifySignature_REQUEST req = new TPM2_VerifySignature_REQUEST(keyHandle, digest, signature);
+        return dispatch(TPM_CC.VerifySignature, req, new VerifySignatureResponse(), resp -> resp.validation);
+    }
+
+    /** Asynchronous version of {@link Tpm#Sign} */
+    public CompletableFuture<TPMU_SIGNATURE> Sign(TPM_HANDLE keyHandle, byte[] digest, TPMU_SIG_SCHEME inScheme, TPMT_TK_HASHCHECK validation)
+    {
+        TPM2_Sign_REQUEST req = new TPM2_Sign_REQUEST(keyHandle, digest, inScheme, validation);
+        return dispatch(TPM_CC.Sign, req, new SignResponse(), resp -> resp.signature);
+    }
+
+    /** Asynchronous version of {@link Tpm#SetCommandCodeAuditStatus} */
+    public CompletableFuture<Void> SetCommandCodeAuditStatus(TPM_HANDLE auth, TPM_ALG_ID auditAlg, TPM_CC[] setList, TPM_CC[] clearList)
+    {
+        TPM2_SetCommandCodeAuditStatus_REQUEST req = new TPM2_SetCommandCodeAuditStatus_REQUEST(auth, auditAlg, setList, clearList);
+        return dispatch(TPM_CC.SetCommandCodeAuditStatus, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PCR_Extend} */
+    public CompletableFuture<Void> PCR_Extend(TPM_HANDLE pcrHandle, TPMT_HA[] digests)
+    {
+        TPM2_PCR_Extend_REQUEST req = new TPM2_PCR_Extend_REQUEST(pcrHandle, digests);
+        return dispatch(TPM_CC.PCR_Extend, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PCR_Event} */
+    public CompletableFuture<TPMT_HA[]> PCR_Event(TPM_HANDLE pcrHandle, byte[] eventData)
+    {
+        TPM2_PCR_Event_REQUEST req = new TPM2_PCR_Event_REQUEST(pcrHandle, eventData);
+        return dispatch(TPM_CC.PCR_Event, req, new PCR_EventResponse(), resp -> resp.digests);
+    }
+
+    /** Asynchronous version of {@link Tpm#PCR_Read} */
+    public CompletableFuture<PCR_ReadResponse> PCR_Read(TPMS_PCR_SELECTION[] pcrSelectionIn)
+    {
+        TPM2_PCR_Read_REQUEST req = new TPM2_PCR_Read_REQUEST(pcrSelectionIn);
+        return dispatch(TPM_CC.PCR_Read, req, new PCR_ReadResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#PCR_Allocate} */
+    public CompletableFuture<PCR_AllocateResponse> PCR_Allocate(TPM_HANDLE authHandle, TPMS_PCR_SELECTION[] pcrAllocation)
+    {
+        TPM2_PCR_Allocate_REQUEST req = new TPM2_PCR_Allocate_REQUEST(authHandle, pcrAllocation);
+        return dispatch(TPM_CC.PCR_Allocate, req, new PCR_AllocateResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#PCR_SetAuthPolicy} */
+    public CompletableFuture<Void> PCR_SetAuthPolicy(TPM_HANDLE authHandle, byte[] authPolicy, TPM_ALG_ID hashAlg, TPM_HANDLE pcrNum)
+    {
+        TPM2_PCR_SetAuthPolicy_REQUEST req = new TPM2_PCR_SetAuthPolicy_REQUEST(authHandle, authPolicy, hashAlg, pcrNum);
+        return dispatch(TPM_CC.PCR_SetAuthPolicy, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PCR_SetAuthValue} */
+    public CompletableFuture<Void> PCR_SetAuthValue(TPM_HANDLE pcrHandle, byte[] auth)
+    {
+        TPM2_PCR_SetAuthValue_REQUEST req = new TPM2_PCR_SetAuthValue_REQUEST(pcrHandle, auth);
+        return dispatch(TPM_CC.PCR_SetAuthValue, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PCR_Reset} */
+    public CompletableFuture<Void> PCR_Reset(TPM_HANDLE pcrHandle)
+    {
+        TPM2_PCR_Reset_REQUEST req = new TPM2_PCR_Reset_REQUEST(pcrHandle);
+        return dispatch(TPM_CC.PCR_Reset, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicySigned} */
+    public CompletableFuture<PolicySignedResponse> PolicySigned(TPM_HANDLE authObject, TPM_HANDLE policySession, byte[] nonceTPM, byte[] cpHashA, byte[] policyRef, int expiration, TPMU_SIGNATURE auth)
+    {
+        TPM2_PolicySigned_REQUEST req = new TPM2_PolicySigned_REQUEST(authObject, policySession, nonceTPM, cpHashA, policyRef, expiration, auth);
+        return dispatch(TPM_CC.PolicySigned, req, new PolicySignedResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicySecret} */
+    public CompletableFuture<PolicySecretResponse> PolicySecret(TPM_HANDLE authHandle, TPM_HANDLE policySession, byte[] nonceTPM, byte[] cpHashA, byte[] policyRef, int expiration)
+    {
+        TPM2_PolicySecret_REQUEST req = new TPM2_PolicySecret_REQUEST(authHandle, policySession, nonceTPM, cpHashA, policyRef, expiration);
+        return dispatch(TPM_CC.PolicySecret, req, new PolicySecretResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicyTicket} */
+    public CompletableFuture<Void> PolicyTicket(TPM_HANDLE policySession, byte[] timeout, byte[] cpHashA, byte[] policyRef, byte[] authName, TPMT_TK_AUTH ticket)
+    {
+        TPM2_PolicyTicket_REQUEST req = new TPM2_PolicyTicket_REQUEST(policySession, timeout, cpHashA, policyRef, authName, ticket);
+        return dispatch(TPM_CC.PolicyTicket, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicyOR} */
+    public CompletableFuture<Void> PolicyOR(TPM_HANDLE policySession, TPM2B_DIGEST[] pHashList)
+    {
+        TPM2_PolicyOR_REQUEST req = new TPM2_PolicyOR_REQUEST(policySession, pHashList);
+        return dispatch(TPM_CC.PolicyOR, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicyPCR} */
+    public CompletableFuture<Void> PolicyPCR(TPM_HANDLE policySession, byte[] pcrDigest, TPMS_PCR_SELECTION[] pcrs)
+    {
+        TPM2_PolicyPCR_REQUEST req = new TPM2_PolicyPCR_REQUEST(policySession, pcrDigest, pcrs);
+        return dispatch(TPM_CC.PolicyPCR, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicyLocality} */
+    public CompletableFuture<Void> PolicyLocality(TPM_HANDLE policySession, TPMA_LOCALITY locality)
+    {
+        TPM2_PolicyLocality_REQUEST req = new TPM2_PolicyLocality_REQUEST(policySession, locality);
+        return dispatch(TPM_CC.PolicyLocality, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicyNV} */
+    public CompletableFuture<Void> PolicyNV(TPM_HANDLE authHandle, TPM_HANDLE nvIndex, TPM_HANDLE policySession, byte[] operandB, int offset, TPM_EO operation)
+    {
+        TPM2_PolicyNV_REQUEST req = new TPM2_PolicyNV_REQUEST(authHandle, nvIndex, policySession, operandB, offset, operation);
+        return dispatch(TPM_CC.PolicyNV, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicyCounterTimer} */
+    public CompletableFuture<Void> PolicyCounterTimer(TPM_HANDLE policySession, byte[] operandB, int offset, TPM_EO operation)
+    {
+        TPM2_PolicyCounterTimer_REQUEST req = new TPM2_PolicyCounterTimer_REQUEST(policySession, operandB, offset, operation);
+        return dispatch(TPM_CC.PolicyCounterTimer, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicyCommandCode} */
+    public CompletableFuture<Void> PolicyCommandCode(TPM_HANDLE policySession, TPM_CC code)
+    {
+        TPM2_PolicyCommandCode_REQUEST req = new TPM2_PolicyCommandCode_REQUEST(policySession, code);
+        return dispatch(TPM_CC.PolicyCommandCode, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicyPhysicalPresence} */
+    public CompletableFuture<Void> PolicyPhysicalPresence(TPM_HANDLE policySession)
+    {
+        TPM2_PolicyPhysicalPresence_REQUEST req = new TPM2_PolicyPhysicalPresence_REQUEST(policySession);
+        return dispatch(TPM_CC.PolicyPhysicalPresence, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicyCpHash} */
+    public CompletableFuture<Void> PolicyCpHash(TPM_HANDLE policySession, byte[] cpHashA)
+    {
+        TPM2_PolicyCpHash_REQUEST req = new TPM2_PolicyCpHash_REQUEST(policySession, cpHashA);
+        return dispatch(TPM_CC.PolicyCpHash, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicyNameHash} */
+    public CompletableFuture<Void> PolicyNameHash(TPM_HANDLE policySession, byte[] nameHash)
+    {
+        TPM2_PolicyNameHash_REQUEST req = new TPM2_PolicyNameHash_REQUEST(policySession, nameHash);
+        return dispatch(TPM_CC.PolicyNameHash, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicyDuplicationSelect} */
+    public CompletableFuture<Void> PolicyDuplicationSelect(TPM_HANDLE policySession, byte[] objectName, byte[] newParentName, byte includeObject)
+    {
+        TPM2_PolicyDuplicationSelect_REQUEST req = new TPM2_PolicyDuplicationSelect_REQUEST(policySession, objectName, newParentName, includeObject);
+        return dispatch(TPM_CC.PolicyDuplicationSelect, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicyAuthorize} */
+    public CompletableFuture<Void> PolicyAuthorize(TPM_HANDLE policySession, byte[] approvedPolicy, byte[] policyRef, byte[] keySign, TPMT_TK_VERIFIED checkTicket)
+    {
+        TPM2_PolicyAuthorize_REQUEST req = new TPM2_PolicyAuthorize_REQUEST(policySession, approvedPolicy, policyRef, keySign, checkTicket);
+        return dispatch(TPM_CC.PolicyAuthorize, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicyAuthValue} */
+    public CompletableFuture<Void> PolicyAuthValue(TPM_HANDLE policySession)
+    {
+        TPM2_PolicyAuthValue_REQUEST req = new TPM2_PolicyAuthValue_REQUEST(policySession);
+        return dispatch(TPM_CC.PolicyAuthValue, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicyPassword} */
+    public CompletableFuture<Void> PolicyPassword(TPM_HANDLE policySession)
+    {
+        TPM2_PolicyPassword_REQUEST req = new TPM2_PolicyPassword_REQUEST(policySession);
+        return dispatch(TPM_CC.PolicyPassword, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicyGetDigest} */
+    public CompletableFuture<byte[]> PolicyGetDigest(TPM_HANDLE policySession)
+    {
+        TPM2_PolicyGetDigest_REQUEST req = new TPM2_PolicyGetDigest_REQUEST(policySession);
+        return dispatch(TPM_CC.PolicyGetDigest, req, new PolicyGetDigestResponse(), resp -> resp.policyDigest);
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicyNvWritten} */
+    public CompletableFuture<Void> PolicyNvWritten(TPM_HANDLE policySession, byte writtenSet)
+    {
+        TPM2_PolicyNvWritten_REQUEST req = new TPM2_PolicyNvWritten_REQUEST(policySession, writtenSet);
+        return dispatch(TPM_CC.PolicyNvWritten, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicyTemplate} */
+    public CompletableFuture<Void> PolicyTemplate(TPM_HANDLE policySession, byte[] templateHash)
+    {
+        TPM2_PolicyTemplate_REQUEST req = new TPM2_PolicyTemplate_REQUEST(policySession, templateHash);
+        return dispatch(TPM_CC.PolicyTemplate, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PolicyAuthorizeNV} */
+    public CompletableFuture<Void> PolicyAuthorizeNV(TPM_HANDLE authHandle, TPM_HANDLE nvIndex, TPM_HANDLE policySession)
+    {
+        TPM2_PolicyAuthorizeNV_REQUEST req = new TPM2_PolicyAuthorizeNV_REQUEST(authHandle, nvIndex, policySession);
+        return dispatch(TPM_CC.PolicyAuthorizeNV, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#CreatePrimary} */
+    public CompletableFuture<CreatePrimaryResponse> CreatePrimary(TPM_HANDLE primaryHandle, TPMS_SENSITIVE_CREATE inSensitive, TPMT_PUBLIC inPublic, byte[] outsideInfo, TPMS_PCR_SELECTION[] creationPCR)
+    {
+        TPM2_CreatePrimary_REQUEST req = new TPM2_CreatePrimary_REQUEST(primaryHandle, inSensitive, inPublic, outsideInfo, creationPCR);
+        return dispatch(TPM_CC.CreatePrimary, req, new CreatePrimaryResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#HierarchyControl} */
+    public CompletableFuture<Void> HierarchyControl(TPM_HANDLE authHandle, TPM_HANDLE enable, byte state)
+    {
+        TPM2_HierarchyControl_REQUEST req = new TPM2_HierarchyControl_REQUEST(authHandle, enable, state);
+        return dispatch(TPM_CC.HierarchyControl, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#SetPrimaryPolicy} */
+    public CompletableFuture<Void> SetPrimaryPolicy(TPM_HANDLE authHandle, byte[] authPolicy, TPM_ALG_ID hashAlg)
+    {
+        TPM2_SetPrimaryPolicy_REQUEST req = new TPM2_SetPrimaryPolicy_REQUEST(authHandle, authPolicy, hashAlg);
+        return dispatch(TPM_CC.SetPrimaryPolicy, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#ChangePPS} */
+    public CompletableFuture<Void> ChangePPS(TPM_HANDLE authHandle)
+    {
+        TPM2_ChangePPS_REQUEST req = new TPM2_ChangePPS_REQUEST(authHandle);
+        return dispatch(TPM_CC.ChangePPS, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#ChangeEPS} */
+    public CompletableFuture<Void> ChangeEPS(TPM_HANDLE authHandle)
+    {
+        TPM2_ChangeEPS_REQUEST req = new TPM2_ChangeEPS_REQUEST(authHandle);
+        return dispatch(TPM_CC.ChangeEPS, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#Clear} */
+    public CompletableFuture<Void> Clear(TPM_HANDLE authHandle)
+    {
+        TPM2_Clear_REQUEST req = new TPM2_Clear_REQUEST(authHandle);
+        return dispatch(TPM_CC.Clear, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#ClearControl} */
+    public CompletableFuture<Void> ClearControl(TPM_HANDLE auth, byte disable)
+    {
+        TPM2_ClearControl_REQUEST req = new TPM2_ClearControl_REQUEST(auth, disable);
+        return dispatch(TPM_CC.ClearControl, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#HierarchyChangeAuth} */
+    public CompletableFuture<Void> HierarchyChangeAuth(TPM_HANDLE authHandle, byte[] newAuth)
+    {
+        TPM2_HierarchyChangeAuth_REQUEST req = new TPM2_HierarchyChangeAuth_REQUEST(authHandle, newAuth);
+        return dispatch(TPM_CC.HierarchyChangeAuth, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#DictionaryAttackLockReset} */
+    public CompletableFuture<Void> DictionaryAttackLockReset(TPM_HANDLE lockHandle)
+    {
+        TPM2_DictionaryAttackLockReset_REQUEST req = new TPM2_DictionaryAttackLockReset_REQUEST(lockHandle);
+        return dispatch(TPM_CC.DictionaryAttackLockReset, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#DictionaryAttackParameters} */
+    public CompletableFuture<Void> DictionaryAttackParameters(TPM_HANDLE lockHandle, int newMaxTries, int newRecoveryTime, int lockoutRecovery)
+    {
+        TPM2_DictionaryAttackParameters_REQUEST req = new TPM2_DictionaryAttackParameters_REQUEST(lockHandle, newMaxTries, newRecoveryTime, lockoutRecovery);
+        return dispatch(TPM_CC.DictionaryAttackParameters, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#PP_Commands} */
+    public CompletableFuture<Void> PP_Commands(TPM_HANDLE auth, TPM_CC[] setList, TPM_CC[] clearList)
+    {
+        TPM2_PP_Commands_REQUEST req = new TPM2_PP_Commands_REQUEST(auth, setList, clearList);
+        return dispatch(TPM_CC.PP_Commands, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#SetAlgorithmSet} */
+    public CompletableFuture<Void> SetAlgorithmSet(TPM_HANDLE authHandle, int algorithmSet)
+    {
+        TPM2_SetAlgorithmSet_REQUEST req = new TPM2_SetAlgorithmSet_REQUEST(authHandle, algorithmSet);
+        return dispatch(TPM_CC.SetAlgorithmSet, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#FieldUpgradeStart} */
+    public CompletableFuture<Void> FieldUpgradeStart(TPM_HANDLE authorization, TPM_HANDLE keyHandle, byte[] fuDigest, TPMU_SIGNATURE manifestSignature)
+    {
+        TPM2_FieldUpgradeStart_REQUEST req = new TPM2_FieldUpgradeStart_REQUEST(authorization, keyHandle, fuDigest, manifestSignature);
+        return dispatch(TPM_CC.FieldUpgradeStart, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#FieldUpgradeData} */
+    public CompletableFuture<FieldUpgradeDataResponse> FieldUpgradeData(byte[] fuData)
+    {
+        TPM2_FieldUpgradeData_REQUEST req = new TPM2_FieldUpgradeData_REQUEST(fuData);
+        return dispatch(TPM_CC.FieldUpgradeData, req, new FieldUpgradeDataResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#FirmwareRead} */
+    public CompletableFuture<byte[]> FirmwareRead(int sequenceNumber)
+    {
+        TPM2_FirmwareRead_REQUEST req = new TPM2_FirmwareRead_REQUEST(sequenceNumber);
+        return dispatch(TPM_CC.FirmwareRead, req, new FirmwareReadResponse(), resp -> resp.fuData);
+    }
+
+    /** Asynchronous version of {@link Tpm#ContextSave} */
+    public CompletableFuture<TPMS_CONTEXT> ContextSave(TPM_HANDLE saveHandle)
+    {
+        TPM2_ContextSave_REQUEST req = new TPM2_ContextSave_REQUEST(saveHandle);
+        return dispatch(TPM_CC.ContextSave, req, new ContextSaveResponse(), resp -> resp.context);
+    }
+
+    /** Asynchronous version of {@link Tpm#ContextLoad} */
+    public CompletableFuture<TPM_HANDLE> ContextLoad(TPMS_CONTEXT context)
+    {
+        TPM2_ContextLoad_REQUEST req = new TPM2_ContextLoad_REQUEST(context);
+        return dispatch(TPM_CC.ContextLoad, req, new ContextLoadResponse(), resp -> resp.handle);
+    }
+
+    /** Asynchronous version of {@link Tpm#FlushContext} */
+    public CompletableFuture<Void> FlushContext(TPM_HANDLE flushHandle)
+    {
+        TPM2_FlushContext_REQUEST req = new TPM2_FlushContext_REQUEST(flushHandle);
+        return dispatch(TPM_CC.FlushContext, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#EvictControl} */
+    public CompletableFuture<Void> EvictControl(TPM_HANDLE auth, TPM_HANDLE objectHandle, TPM_HANDLE persistentHandle)
+    {
+        TPM2_EvictControl_REQUEST req = new TPM2_EvictControl_REQUEST(auth, objectHandle, persistentHandle);
+        return dispatch(TPM_CC.EvictControl, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#ReadClock} */
+    public CompletableFuture<TPMS_TIME_INFO> ReadClock()
+    {
+        TPM2_ReadClock_REQUEST req = new TPM2_ReadClock_REQUEST();
+        return dispatch(TPM_CC.ReadClock, req, new ReadClockResponse(), resp -> resp.currentTime);
+    }
+
+    /** Asynchronous version of {@link Tpm#ClockSet} */
+    public CompletableFuture<Void> ClockSet(TPM_HANDLE auth, long newTime)
+    {
+        TPM2_ClockSet_REQUEST req = new TPM2_ClockSet_REQUEST(auth, newTime);
+        return dispatch(TPM_CC.ClockSet, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#ClockRateAdjust} */
+    public CompletableFuture<Void> ClockRateAdjust(TPM_HANDLE auth, TPM_CLOCK_ADJUST rateAdjust)
+    {
+        TPM2_ClockRateAdjust_REQUEST req = new TPM2_ClockRateAdjust_REQUEST(auth, rateAdjust);
+        return dispatch(TPM_CC.ClockRateAdjust, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#GetCapability} */
+    public CompletableFuture<GetCapabilityResponse> GetCapability(TPM_CAP capability, int property, int propertyCount)
+    {
+        TPM2_GetCapability_REQUEST req = new TPM2_GetCapability_REQUEST(capability, property, propertyCount);
+        return dispatch(TPM_CC.GetCapability, req, new GetCapabilityResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#TestParms} */
+    public CompletableFuture<Void> TestParms(TPMU_PUBLIC_PARMS parameters)
+    {
+        TPM2_TestParms_REQUEST req = new TPM2_TestParms_REQUEST(parameters);
+        return dispatch(TPM_CC.TestParms, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#NV_DefineSpace} */
+    public CompletableFuture<Void> NV_DefineSpace(TPM_HANDLE authHandle, byte[] auth, TPMS_NV_PUBLIC publicInfo)
+    {
+        TPM2_NV_DefineSpace_REQUEST req = new TPM2_NV_DefineSpace_REQUEST(authHandle, auth, publicInfo);
+        return dispatch(TPM_CC.NV_DefineSpace, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#NV_UndefineSpace} */
+    public CompletableFuture<Void> NV_UndefineSpace(TPM_HANDLE authHandle, TPM_HANDLE nvIndex)
+    {
+        TPM2_NV_UndefineSpace_REQUEST req = new TPM2_NV_UndefineSpace_REQUEST(authHandle, nvIndex);
+        return dispatch(TPM_CC.NV_UndefineSpace, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#NV_UndefineSpaceSpecial} */
+    public CompletableFuture<Void> NV_UndefineSpaceSpecial(TPM_HANDLE nvIndex, TPM_HANDLE platform)
+    {
+        TPM2_NV_UndefineSpaceSpecial_REQUEST req = new TPM2_NV_UndefineSpaceSpecial_REQUEST(nvIndex, platform);
+        return dispatch(TPM_CC.NV_UndefineSpaceSpecial, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#NV_ReadPublic} */
+    public CompletableFuture<NV_ReadPublicResponse> NV_ReadPublic(TPM_HANDLE nvIndex)
+    {
+        TPM2_NV_ReadPublic_REQUEST req = new TPM2_NV_ReadPublic_REQUEST(nvIndex);
+        return dispatch(TPM_CC.NV_ReadPublic, req, new NV_ReadPublicResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#NV_Write} */
+    public CompletableFuture<Void> NV_Write(TPM_HANDLE authHandle, TPM_HANDLE nvIndex, byte[] data, int offset)
+    {
+        TPM2_NV_Write_REQUEST req = new TPM2_NV_Write_REQUEST(authHandle, nvIndex, data, offset);
+        return dispatch(TPM_CC.NV_Write, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#NV_Increment} */
+    public CompletableFuture<Void> NV_Increment(TPM_HANDLE authHandle, TPM_HANDLE nvIndex)
+    {
+        TPM2_NV_Increment_REQUEST req = new TPM2_NV_Increment_REQUEST(authHandle, nvIndex);
+        return dispatch(TPM_CC.NV_Increment, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#NV_Extend} */
+    public CompletableFuture<Void> NV_Extend(TPM_HANDLE authHandle, TPM_HANDLE nvIndex, byte[] data)
+    {
+        TPM2_NV_Extend_REQUEST req = new TPM2_NV_Extend_REQUEST(authHandle, nvIndex, data);
+        return dispatch(TPM_CC.NV_Extend, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#NV_SetBits} */
+    public CompletableFuture<Void> NV_SetBits(TPM_HANDLE authHandle, TPM_HANDLE nvIndex, long bits)
+    {
+        TPM2_NV_SetBits_REQUEST req = new TPM2_NV_SetBits_REQUEST(authHandle, nvIndex, bits);
+        return dispatch(TPM_CC.NV_SetBits, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#NV_WriteLock} */
+    public CompletableFuture<Void> NV_WriteLock(TPM_HANDLE authHandle, TPM_HANDLE nvIndex)
+    {
+        TPM2_NV_WriteLock_REQUEST req = new TPM2_NV_WriteLock_REQUEST(authHandle, nvIndex);
+        return dispatch(TPM_CC.NV_WriteLock, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#NV_GlobalWriteLock} */
+    public CompletableFuture<Void> NV_GlobalWriteLock(TPM_HANDLE authHandle)
+    {
+        TPM2_NV_GlobalWriteLock_REQUEST req = new TPM2_NV_GlobalWriteLock_REQUEST(authHandle);
+        return dispatch(TPM_CC.NV_GlobalWriteLock, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#NV_Read} */
+    public CompletableFuture<byte[]> NV_Read(TPM_HANDLE authHandle, TPM_HANDLE nvIndex, int size, int offset)
+    {
+        TPM2_NV_Read_REQUEST req = new TPM2_NV_Read_REQUEST(authHandle, nvIndex, size, offset);
+        return dispatch(TPM_CC.NV_Read, req, new NV_ReadResponse(), resp -> resp.data);
+    }
+
+    /** Asynchronous version of {@link Tpm#NV_ReadLock} */
+    public CompletableFuture<Void> NV_ReadLock(TPM_HANDLE authHandle, TPM_HANDLE nvIndex)
+    {
+        TPM2_NV_ReadLock_REQUEST req = new TPM2_NV_ReadLock_REQUEST(authHandle, nvIndex);
+        return dispatch(TPM_CC.NV_ReadLock, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#NV_ChangeAuth} */
+    public CompletableFuture<Void> NV_ChangeAuth(TPM_HANDLE nvIndex, byte[] newAuth)
+    {
+        TPM2_NV_ChangeAuth_REQUEST req = new TPM2_NV_ChangeAuth_REQUEST(nvIndex, newAuth);
+        return dispatch(TPM_CC.NV_ChangeAuth, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#NV_Certify} */
+    public CompletableFuture<NV_CertifyResponse> NV_Certify(TPM_HANDLE signHandle, TPM_HANDLE authHandle, TPM_HANDLE nvIndex, byte[] qualifyingData, TPMU_SIG_SCHEME inScheme, int size, int offset)
+    {
+        TPM2_NV_Certify_REQUEST req = new TPM2_NV_Certify_REQUEST(signHandle, authHandle, nvIndex, qualifyingData, inScheme, size, offset);
+        return dispatch(TPM_CC.NV_Certify, req, new NV_CertifyResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#AC_GetCapability} */
+    public CompletableFuture<AC_GetCapabilityResponse> AC_GetCapability(TPM_HANDLE ac, TPM_AT capability, int count)
+    {
+        TPM2_AC_GetCapability_REQUEST req = new TPM2_AC_GetCapability_REQUEST(ac, capability, count);
+        return dispatch(TPM_CC.AC_GetCapability, req, new AC_GetCapabilityResponse());
+    }
+
+    /** Asynchronous version of {@link Tpm#AC_Send} */
+    public CompletableFuture<TPMS_AC_OUTPUT> AC_Send(TPM_HANDLE sendObject, TPM_HANDLE authHandle, TPM_HANDLE ac, byte[] acDataIn)
+    {
+        TPM2_AC_Send_REQUEST req = new TPM2_AC_Send_REQUEST(sendObject, authHandle, ac, acDataIn);
+        return dispatch(TPM_CC.AC_Send, req, new AC_SendResponse(), resp -> resp.acDataOut);
+    }
+
+    /** Asynchronous version of {@link Tpm#Policy_AC_SendSelect} */
+    public CompletableFuture<Void> Policy_AC_SendSelect(TPM_HANDLE policySession, byte[] objectName, byte[] authHandleName, byte[] acName, byte includeObject)
+    {
+        TPM2_Policy_AC_SendSelect_REQUEST req = new TPM2_Policy_AC_SendSelect_REQUEST(policySession, objectName, authHandleName, acName, includeObject);
+        return dispatch(TPM_CC.Policy_AC_SendSelect, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#ACT_SetTimeout} */
+    public CompletableFuture<Void> ACT_SetTimeout(TPM_HANDLE actHandle, int startTimeout)
+    {
+        TPM2_ACT_SetTimeout_REQUEST req = new TPM2_ACT_SetTimeout_REQUEST(actHandle, startTimeout);
+        return dispatch(TPM_CC.ACT_SetTimeout, req);
+    }
+
+    /** Asynchronous version of {@link Tpm#Vendor_TCG_Test} */
+    public CompletableFuture<byte[]> Vendor_TCG_Test(byte[] inputData)
+    {
+        TPM2_Vendor_TCG_Test_REQUEST req = new TPM2_Vendor_TCG_Test_REQUEST(inputData);
+        return dispatch(TPM_CC.Vendor_TCG_Test, req, new Vendor_TCG_TestResponse(), resp -> resp.outputData);
+    }
+
+}
+
+//<<<
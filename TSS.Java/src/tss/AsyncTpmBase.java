@@ -0,0 +1,361 @@
+package tss;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+import tss.tpm.*;
+
+
+/**
+ * AsyncTpmBase is the base class for AsyncTpm (AsyncTpm is auto-generated)
+ * <P>
+ * Commands are executed by a dispatcher thread shared by all AsyncTpm objects attached to the
+ * same TPM device. The returned futures are completed on this thread, so that continuations
+ * that block or take long should be scheduled with the *Async() methods of CompletableFuture.
+ * <P>
+ * If the device supports pipelining (see TpmDevice.supportsPipelining()), the commands queued
+ * by the time the dispatcher is ready to send the next one are sent back-to-back as a batch
+ * (up to MaxPipelineDepth), and their responses are matched in order. Commands are always sent
+ * in the order they were submitted. A command answered with TPM_RC_RETRY is sent again after the
+ * rest of its batch has executed, so that an audited command always ends its batch: nothing is
+ * executed between its retries, and the audit digest is extended in the TPM order. A command
+ * using an AuthSession already used in the batch starts a new batch, since its HMAC depends on
+ * the TPM nonce returned with the previous response.
+ */
+public abstract class AsyncTpmBase implements Closeable
+{
+    /** Maximal number of commands sent to a pipelining device before reading the responses */
+    public static final int MaxPipelineDepth = 16;
+
+    /** A queued TPM command and the future of its result */
+    static class Task<R extends RespStructure, T>
+    {
+        /** Tpm object the command was submitted through (its sessions, audit state, etc.) */
+        final Tpm tpm;
+        final TPM_CC cmdCode;
+        final ReqStructure req;
+        final R resp;
+        final Function<R, T> result;
+        final TpmBase.InvocationState modifiers;
+        final CompletableFuture<T> future = new CompletableFuture<T>();
+        TpmBase.PendingCommand cmd;
+
+        Task(Tpm tpm, TPM_CC cmdCode, ReqStructure req, R resp, Function<R, T> result,
+             TpmBase.InvocationState modifiers)
+        {
+            this.tpm = tpm;
+            this.cmdCode = cmdCode;
+            this.req = req;
+            this.resp = resp;
+            this.result = result;
+            this.modifiers = modifiers;
+        }
+
+        /** @return The AuthSession objects used by the command, in its authorization area
+         *          or as a handle (policy commands) */
+        ArrayList<AuthSession> sessions()
+        {
+            ArrayList<AuthSession> res = new ArrayList<AuthSession>();
+            if (modifiers.Sessions != null)
+            {
+                for (TPM_HANDLE h : modifiers.Sessions)
+                    if (h instanceof AuthSession)
+                        res.add((AuthSession)h);
+            }
+            TPM_HANDLE[] handles = req.getHandles();
+            if (handles != null)
+            {
+                for (TPM_HANDLE h : handles)
+                    if (h instanceof AuthSession)
+                        res.add((AuthSession)h);
+            }
+            return res;
+        }
+
+        void complete()
+        {
+            future.complete(result.apply(resp));
+        }
+    }
+
+    /** Dispatcher thread of a TPM device and the number of AsyncTpm objects using it */
+    static class Dispatcher
+    {
+        final TpmDevice device;
+        final ExecutorService executor;
+        final ConcurrentLinkedQueue<Task<?, ?>> queue = new ConcurrentLinkedQueue<Task<?, ?>>();
+        int refCount;
+
+        Dispatcher(TpmDevice device)
+        {
+            this.device = device;
+            executor = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "TPM dispatcher (" + device.getClass().getSimpleName() + ")");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    static final IdentityHashMap<TpmDevice, Dispatcher> dispatchers = new IdentityHashMap<TpmDevice, Dispatcher>();
+
+    final Tpm tpm;
+    final TpmDevice device;
+    volatile Dispatcher dispatcher;
+
+    /**
+     * Creates an asynchronous interface to the given TPM
+     * @param tpm Tpm object with an attached device. It can still be used synchronously.
+     */
+    protected AsyncTpmBase(Tpm tpm)
+    {
+        this.tpm = tpm;
+        device = tpm._getDevice();
+        if (device == null)
+            throw new IllegalArgumentException("The Tpm object has no device attached");
+
+        synchronized (dispatchers)
+        {
+            Dispatcher d = dispatchers.get(device);
+            if (d == null)
+            {
+                d = new Dispatcher(device);
+                dispatchers.put(device, d);
+            }
+            ++d.refCount;
+            dispatcher = d;
+        }
+    }
+
+    /** @return The underlying synchronous Tpm object */
+    public Tpm _getTpm()
+    {
+        return tpm;
+    }
+
+    /**
+     * For the next TPM command submitted by the calling thread, errors will not cause the
+     * returned future to complete exceptionally
+     * @return This object (to allow modifier chaining)
+     */
+    public AsyncTpm _allowErrors()
+    {
+        tpm._allowErrors();
+        return (AsyncTpm)this;
+    }
+
+    /**
+     * For the next TPM command submitted by the calling thread, the returned future will
+     * complete exceptionally if the command returns a response code different from
+     * expectedResponse.
+     * @param expectedResponse Expected response code. May be null or TPM_RC.SUCCESS.
+     * @return This object (to allow modifier chaining)
+     */
+    public AsyncTpm _expectError(TPM_RC expectedResponse)
+    {
+        tpm._expectError(expectedResponse);
+        return (AsyncTpm)this;
+    }
+
+    /**
+     * The next command submitted by the calling thread should return one of the given
+     * response codes (see Tpm._expectResponses())
+     * @param expectedResponses One or more allowed response codes. May be null.
+     * @return This object (to allow modifier chaining)
+     */
+    public AsyncTpm _expectResponses(TPM_RC... expectedResponses)
+    {
+        tpm._expectResponses(expectedResponses);
+        return (AsyncTpm)this;
+    }
+
+    /**
+     * Specifies a single session handle to use with the next command submitted by the
+     * calling thread
+     * @param h Session handle
+     * @return This object (to allow modifier chaining)
+     */
+    public AsyncTpm _withSession(TPM_HANDLE h)
+    {
+        tpm._withSession(h);
+        return (AsyncTpm)this;
+    }
+
+    /**
+     * Specifies the session handles to use with the next command submitted by the calling
+     * thread
+     * @param hh List of up to 3 session handles
+     * @return This object (to allow modifier chaining)
+     */
+    public AsyncTpm _withSessions(TPM_HANDLE ... hh)
+    {
+        tpm._withSessions(hh);
+        return (AsyncTpm)this;
+    }
+
+    /**
+     * Queues a TPM command for execution by the dispatcher thread. The modifiers set by the
+     * calling thread are applied to this command.
+     * @param cmdCode The command code
+     * @param req The input parameter structure
+     * @param resp The output parameter structure
+     * @param result Extracts the command result from the output parameters
+     * @return Future completed with the command result, or exceptionally with the exception
+     *         thrown while executing the command (e.g. TpmException)
+     */
+    protected <R extends RespStructure, T> CompletableFuture<T> dispatch(TPM_CC cmdCode, ReqStructure req,
+                                                                         R resp, Function<R, T> result)
+    {
+        Task<R, T> task = new Task<R, T>(tpm, cmdCode, req, resp, result, tpm.invocation().take());
+        Dispatcher d = dispatcher;
+        if (d == null)
+        {
+            task.future.completeExceptionally(new TpmException("AsyncTpm is closed"));
+            return task.future;
+        }
+        d.queue.add(task);
+        try {
+            d.executor.execute(() -> processQueue(d));
+        } catch (RejectedExecutionException e) {
+            if (d.queue.remove(task))
+                task.future.completeExceptionally(new TpmException("AsyncTpm is closed", e));
+        }
+        return task.future;
+    }
+
+    /**
+     * Queues a TPM command for execution by the dispatcher thread
+     * @return Future completed with the command output parameters
+     */
+    protected <R extends RespStructure> CompletableFuture<R> dispatch(TPM_CC cmdCode, ReqStructure req, R resp)
+    {
+        return dispatch(cmdCode, req, resp, r -> r);
+    }
+
+    /**
+     * Queues a TPM command without output parameters for execution by the dispatcher thread
+     * @return Future completed when the command has been executed
+     */
+    protected CompletableFuture<Void> dispatch(TPM_CC cmdCode, ReqStructure req)
+    {
+        return dispatch(cmdCode, req, null, r -> (Void)null);
+    }
+
+    /**
+     * Executes the next batch of queued commands (runs on the dispatcher thread). The queue is
+     * shared by the AsyncTpm objects of the device, so that each command is prepared and
+     * completed by the Tpm object it was submitted through.
+     */
+    static void processQueue(Dispatcher d)
+    {
+        int maxBatch = d.device.supportsPipelining() ? MaxPipelineDepth : 1;
+        ArrayList<Task<?, ?>> batch = new ArrayList<Task<?, ?>>();
+        ArrayList<byte[]> cmdBufs = new ArrayList<byte[]>();
+        ArrayList<AuthSession> batchSessions = new ArrayList<AuthSession>();
+        for (Task<?, ?> task; batch.size() < maxBatch && (task = d.queue.peek()) != null; )
+        {
+            ArrayList<AuthSession> sessions = task.sessions();
+            if (!batch.isEmpty() && usesAny(batchSessions, sessions))
+                break;
+            if (!d.queue.remove(task))
+                continue;   // failed by dispatch() after the dispatcher was shut down
+            batchSessions.addAll(sessions);
+
+            // A command that cannot be marshaled fails alone
+            try {
+                task.tpm.invocation.set(task.modifiers);
+                task.cmd = task.tpm.prepareCommand(task.cmdCode, task.req, task.resp);
+            } catch (Throwable e) {
+                task.future.completeExceptionally(e);
+                continue;
+            }
+            batch.add(task);
+            if (task.cmd != null)
+            {
+                cmdBufs.add(task.cmd.cmdBuf);
+                if (task.cmd.auditHash != null)
+                    break;
+            }
+        }
+
+        if (batch.isEmpty())
+            return;
+
+        boolean audited = false;
+        for (Task<?, ?> task : batch)
+            audited |= task.cmd != null && task.cmd.auditHash != null;
+        if (!audited)
+            transmitBatch(batch, cmdBufs);
+        else synchronized (d.device)
+        {
+            // Audited commands extend the audit digest in the order of their execution
+            transmitBatch(batch, cmdBufs);
+        }
+    }
+
+    /** @return Whether one of the sessions is in the list (compared by reference) */
+    static boolean usesAny(ArrayList<AuthSession> list, ArrayList<AuthSession> sessions)
+    {
+        for (AuthSession s : sessions)
+        {
+            for (AuthSession t : list)
+                if (s == t)
+                    return true;
+        }
+        return false;
+    }
+
+    /** Sends a batch of prepared commands and completes their tasks */
+    static void transmitBatch(ArrayList<Task<?, ?>> batch, ArrayList<byte[]> cmdBufs)
+    {
+        byte[][] respBufs;
+        try {
+            // All the Tpm objects sharing the dispatcher use its device
+            respBufs = batch.get(0).tpm.transmit(cmdBufs.toArray(new byte[0][]));
+        } catch (Throwable e) {
+            for (Task<?, ?> task : batch)
+                task.future.completeExceptionally(e);
+            return;
+        }
+
+        int i = 0;
+        for (Task<?, ?> task : batch)
+        {
+            try {
+                if (task.cmd != null)
+                    task.tpm.completeCommand(task.cmd, respBufs[i++]);
+                task.complete();
+            } catch (Throwable e) {
+                task.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Releases the dispatcher thread of the TPM device (after the already submitted commands
+     * are executed) unless it is used by other AsyncTpm objects. Neither the Tpm object nor
+     * the device are closed.
+     */
+    @Override
+    public void close()
+    {
+        synchronized (dispatchers)
+        {
+            if (dispatcher == null)
+                return;
+            if (--dispatcher.refCount == 0)
+            {
+                dispatcher.executor.shutdown();
+                dispatchers.remove(device);
+            }
+            dispatcher = null;
+        }
+    }
+}
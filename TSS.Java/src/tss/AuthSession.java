@@ -0,0 +1,242 @@
+package tss;
+
+import java.util.Arrays;
+
+import org.bouncycastle.crypto.engines.AESEngine;
+import org.bouncycastle.crypto.macs.HMac;
+import org.bouncycastle.crypto.modes.CFBBlockCipher;
+import org.bouncycastle.crypto.params.KeyParameter;
+import org.bouncycastle.crypto.params.ParametersWithIV;
+
+import tss.tpm.*;
+
+/**
+ * An HMAC or policy session started by Tpm.StartAuthSession(TPM_SE, TPM_ALG_ID, ...), together
+ * with the state needed to compute and verify its HMACs: the session key (derived once when
+ * the session is started), and the nonces, which are rolled with every command.
+ * <P>
+ * It can be passed to _withSession() / _withSessions() (and as a session handle to the
+ * commands that take one, e.g. PolicySecret). A session must not be used by several commands
+ * executing at the same time.
+ */
+public class AuthSession extends TPM_HANDLE
+{
+    /** Session type (HMAC or policy) */
+    public TPM_SE SessionType;
+
+    /** Hash algorithm of the session (used for its HMACs and policy digest) */
+    public TPM_ALG_ID HashAlg;
+
+    /** Symmetric algorithm used for parameter encryption */
+    public TPMT_SYM_DEF Symmetric;
+
+    /** Session attributes sent with the commands */
+    public TPMA_SESSION Attributes = new TPMA_SESSION(TPMA_SESSION.continueSession);
+
+    /** Last nonce returned by the TPM */
+    byte[] NonceTpm;
+
+    /** Last nonce sent to the TPM */
+    byte[] NonceCaller;
+
+    /** Key derived from the bind authorization value and the salt */
+    byte[] SessionKey;
+
+    /** Name of the entity the session is bound to, or null */
+    byte[] BindName;
+
+    /** Whether the HMAC of a policy session includes the authorization value
+     *  (set by TPM2_PolicyAuthValue) */
+    boolean PolicyAuthValue;
+
+    /** Whether a policy session carries the plain authorization value instead of an HMAC
+     *  (set by TPM2_PolicyPassword) */
+    boolean PolicyPassword;
+
+    /** Reused HMAC engine of the session hash algorithm */
+    HMac hmac;
+
+    /** Reused AES-CFB cipher used for parameter encryption */
+    CFBBlockCipher cfb;
+
+    AuthSession(TPM_HANDLE handle, TPM_SE sessionType, TPM_ALG_ID hashAlg, TPMT_SYM_DEF symmetric,
+                byte[] nonceCaller, byte[] nonceTpm, TPM_HANDLE bind, byte[] salt)
+    {
+        super(handle.handle);
+        SessionType = sessionType;
+        HashAlg = hashAlg;
+        Symmetric = symmetric;
+        NonceCaller = nonceCaller;
+        NonceTpm = nonceTpm;
+
+        byte[] bindAuth = new byte[0];
+        if (bind != null && bind.handle != TPM_RH.NULL.toInt())
+        {
+            BindName = bind.getName();
+            bindAuth = trimAuth(bind.AuthValue);
+        }
+        byte[] keyMaterial = Helpers.concatenate(bindAuth, salt != null ? salt : new byte[0]);
+        SessionKey = keyMaterial.length == 0 ? keyMaterial
+                   : Crypto.KDFa(hashAlg, keyMaterial, "ATH", nonceTpm, nonceCaller,
+                                 Crypto.digestSize(hashAlg) * 8);
+    }
+
+    /** @return Whether the commands using this session carry an HMAC */
+    public boolean isHmacSession()
+    {
+        return SessionType == TPM_SE.HMAC || (SessionType == TPM_SE.POLICY && !PolicyPassword);
+    }
+
+    /** @return Whether the session is used for parameter encryption */
+    boolean encryptsParams()
+    {
+        return Symmetric != null && Symmetric.algorithm != TPM_ALG_ID.NULL;
+    }
+
+    /** @return Nonce size used by the session */
+    int nonceSize()
+    {
+        return NonceCaller.length;
+    }
+
+    /**
+     * @param entity The entity authorized by this session in a command (or null)
+     * @return The HMAC key for a command authorizing the given entity
+     */
+    byte[] hmacKey(TPM_HANDLE entity)
+    {
+        boolean includeAuth = entity != null
+            && (SessionType == TPM_SE.POLICY ? PolicyAuthValue
+                                             : BindName == null || !Arrays.equals(BindName, entity.getName()));
+        return includeAuth ? Helpers.concatenate(SessionKey, trimAuth(entity.AuthValue)) : SessionKey;
+    }
+
+    /**
+     * Computes the HMAC of a command:
+     * HMAC(key, cpHash || nonceCaller || nonceTPM || nonceTPMdecrypt || nonceTPMencrypt || sessionAttributes)
+     * @param key HMAC key (see hmacKey())
+     * @param cpHash Command parameters hash
+     * @param nonceDecrypt For the first session of the command, the TPM nonce of another session
+     *        used to encrypt the command parameter (TPM 2.0 Part 1, 19.6.5), otherwise null
+     * @param nonceEncrypt For the first session of the command, the TPM nonce of another session
+     *        (than the decrypt one) used to encrypt the response parameter, otherwise null
+     * @param sessAttrs Session attributes of the command
+     * @return The HMAC
+     */
+    byte[] commandHmac(byte[] key, byte[] cpHash, byte[] nonceDecrypt, byte[] nonceEncrypt, int sessAttrs)
+    {
+        return computeHmac(key, cpHash, NonceCaller, NonceTpm, nonceDecrypt, nonceEncrypt, sessAttrs);
+    }
+
+    /**
+     * Verifies the HMAC of a response and rolls the TPM nonce:
+     * HMAC(key, rpHash || nonceTPM || nonceCaller || sessionAttributes)
+     * @return Whether the response HMAC is valid
+     */
+    boolean checkResponseHmac(byte[] key, byte[] rpHash, byte[] nonceTpm, int sessAttrs,
+                              byte[] respBuf, int hmacPos, int hmacSize)
+    {
+        NonceTpm = nonceTpm;
+        byte[] expected = computeHmac(key, rpHash, nonceTpm, NonceCaller, null, null, sessAttrs);
+        if (expected.length != hmacSize)
+            return false;
+        int diff = 0;
+        for (int i = 0; i < hmacSize; ++i)
+            diff |= expected[i] ^ respBuf[hmacPos + i];
+        return diff == 0;
+    }
+
+    byte[] computeHmac(byte[] key, byte[] paramsHash, byte[] nonceNewer, byte[] nonceOlder,
+                       byte[] nonceDecrypt, byte[] nonceEncrypt, int sessAttrs)
+    {
+        if (hmac == null)
+            hmac = new HMac(Crypto.getDigest(HashAlg));
+        hmac.init(new KeyParameter(key));
+        hmac.update(paramsHash, 0, paramsHash.length);
+        hmac.update(nonceNewer, 0, nonceNewer.length);
+        hmac.update(nonceOlder, 0, nonceOlder.length);
+        if (nonceDecrypt != null)
+            hmac.update(nonceDecrypt, 0, nonceDecrypt.length);
+        if (nonceEncrypt != null)
+            hmac.update(nonceEncrypt, 0, nonceEncrypt.length);
+        hmac.update((byte)sessAttrs);
+        byte[] res = new byte[hmac.getMacSize()];
+        hmac.doFinal(res, 0);
+        return res;
+    }
+
+    /**
+     * Encrypts or decrypts in place the first parameter of a command or response.
+     * Commands are encrypted with nonceNewer = nonceCaller and nonceOlder = nonceTPM,
+     * and responses are decrypted with the nonces in the opposite order.
+     * @param key Encryption key (the HMAC key of the session for the command)
+     * @param encrypt Whether to encrypt (command) or decrypt (response) the parameter
+     * @param nonceNewer Nonce of the sender of the parameter
+     * @param nonceOlder Nonce of the receiver of the parameter
+     * @param buf Command or response buffer
+     * @param pos Start position of the parameter data (after its size prefix)
+     * @param len Size of the parameter data
+     */
+    void cryptParameter(byte[] key, boolean encrypt, byte[] nonceNewer, byte[] nonceOlder,
+                        byte[] buf, int pos, int len)
+    {
+        if (Symmetric.algorithm == TPM_ALG_ID.XOR)
+        {
+            byte[] mask = kdfa(key, "XOR", nonceNewer, nonceOlder, len);
+            for (int i = 0; i < len; ++i)
+                buf[pos + i] ^= mask[i];
+            return;
+        }
+        if (Symmetric.algorithm != TPM_ALG_ID.AES || Symmetric.mode != TPM_ALG_ID.CFB)
+            throw new TpmException("Unsupported parameter encryption algorithm " + Symmetric.algorithm
+                                   + "/" + Symmetric.mode);
+
+        int keySize = Symmetric.keyBits / 8,
+            blockSize = 16;
+        byte[] keyAndIv = kdfa(key, "CFB", nonceNewer, nonceOlder, keySize + blockSize);
+        if (cfb == null)
+            cfb = new CFBBlockCipher(new AESEngine(), blockSize * 8);
+        cfb.init(encrypt, new ParametersWithIV(new KeyParameter(keyAndIv, 0, keySize),
+                                               keyAndIv, keySize, blockSize));
+        cfb.processBytes(buf, pos, len, buf, pos);
+    }
+
+    /**
+     * KDFa() computed with the reused HMAC engine of the session
+     * @return numBytes bytes of the derived key stream
+     */
+    byte[] kdfa(byte[] key, String label, byte[] contextU, byte[] contextV, int numBytes)
+    {
+        if (hmac == null)
+            hmac = new HMac(Crypto.getDigest(HashAlg));
+        byte[] labelBytes = Crypto.stringToLabel(label),
+               numBits = Helpers.hostToNet(numBytes * 8),
+               block = new byte[hmac.getMacSize()],
+               res = new byte[numBytes];
+        KeyParameter keyParam = new KeyParameter(key);
+        for (int i = 1, pos = 0; pos < numBytes; ++i, pos += block.length)
+        {
+            byte[] counter = Helpers.hostToNet(i);
+            hmac.init(keyParam);
+            hmac.update(counter, 0, counter.length);
+            hmac.update(labelBytes, 0, labelBytes.length);
+            hmac.update(contextU, 0, contextU.length);
+            hmac.update(contextV, 0, contextV.length);
+            hmac.update(numBits, 0, numBits.length);
+            hmac.doFinal(block, 0);
+            System.arraycopy(block, 0, res, pos, Math.min(block.length, numBytes - pos));
+        }
+        return res;
+    }
+
+    /** @return The authorization value without trailing zeros (as used in HMAC keys) */
+    static byte[] trimAuth(byte[] authValue)
+    {
+        if (authValue == null)
+            return new byte[0];
+        int len = authValue.length;
+        while (len > 0 && authValue[len - 1] == 0)
+            --len;
+        return len == authValue.length ? authValue : Arrays.copyOf(authValue, len);
+    }
+}
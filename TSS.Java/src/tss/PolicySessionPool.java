@@ -0,0 +1,146 @@
+package tss;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+
+import tss.tpm.*;
+
+/**
+ * A pool of policy sessions kept open between operations. Instead of starting a policy
+ * session, executing the policy, and flushing the session for each operation, acquire()
+ * reuses an idle session reset with TPM2_PolicyRestart, and executes the policy on it.
+ * <P>
+ * Used together with TpmPolicy.getPolicyDigest(), which replaces trial sessions, this
+ * saves TPM2_StartAuthSession, TPM2_PolicyGetDigest and TPM2_FlushContext for each operation.
+ * <P>
+ * The methods of a pool can be called from different threads. A session is used by a
+ * single thread between acquire() and release().
+ */
+public class PolicySessionPool implements Closeable
+{
+    final Tpm tpm;
+    final TPM_ALG_ID hashAlg;
+    final int maxSessions;
+
+    /** Sessions ready to be reused */
+    final ArrayDeque<AuthSession> idle = new ArrayDeque<AuthSession>();
+
+    /** Number of sessions started by the pool (idle or in use) */
+    int numSessions;
+
+    boolean closed;
+
+    /**
+     * Creates a pool of policy sessions (started as needed)
+     * @param tpm The TPM
+     * @param hashAlg Hash algorithm of the sessions
+     * @param maxSessions Maximal number of sessions used at the same time. acquire() waits
+     *        for a session to be released when this number is reached.
+     */
+    public PolicySessionPool(Tpm tpm, TPM_ALG_ID hashAlg, int maxSessions)
+    {
+        this.tpm = tpm;
+        this.hashAlg = hashAlg;
+        this.maxSessions = maxSessions;
+    }
+
+    /**
+     * Returns a policy session satisfying the given policy
+     * @param policy Policy executed on the session
+     * @return The session, to be returned to the pool with release()
+     */
+    public AuthSession acquire(TpmPolicy policy)
+    {
+        AuthSession sess = take();
+        try {
+            if (sess != null)
+            {
+                tpm._allowErrors().PolicyRestart(sess);
+                // The session may be gone, e.g. after a TPM reset
+                if (!tpm._lastCommandSucceeded())
+                    sess = null;
+            }
+            if (sess == null)
+                sess = tpm.StartAuthSession(TPM_SE.POLICY, hashAlg);
+            policy.execute(tpm, sess);
+            return sess;
+        } catch (RuntimeException e) {
+            discard(sess);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a session obtained from acquire() to the pool
+     * @param sess The session. If it was used without the continueSession attribute
+     *        (and thus flushed by the TPM), it is dropped from the pool.
+     */
+    public void release(AuthSession sess)
+    {
+        synchronized (this)
+        {
+            if (!closed && sess.Attributes.hasAttr(TPMA_SESSION.continueSession))
+            {
+                idle.add(sess);
+                notifyAll();
+                return;
+            }
+        }
+        discard(sess);
+    }
+
+    /**
+     * Flushes a session obtained from acquire() instead of returning it to the pool
+     * (e.g. after the command using it failed)
+     * @param sess The session (may be null)
+     */
+    public void discard(AuthSession sess)
+    {
+        if (sess != null)
+            tpm._allowErrors().FlushContext(sess);
+        synchronized (this)
+        {
+            --numSessions;
+            notifyAll();
+        }
+    }
+
+    /** Flushes the idle sessions. The sessions in use are flushed when they are released. */
+    @Override
+    public void close()
+    {
+        AuthSession[] sessions;
+        synchronized (this)
+        {
+            closed = true;
+            sessions = idle.toArray(new AuthSession[0]);
+            idle.clear();
+            notifyAll();
+        }
+        for (AuthSession sess : sessions)
+            discard(sess);
+    }
+
+    /**
+     * Takes an idle session, or reserves a slot for a new one
+     * @return An idle session, or null if a new session has to be started
+     */
+    synchronized AuthSession take()
+    {
+        while (idle.isEmpty() && numSessions >= maxSessions && !closed)
+        {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TpmException("Interrupted while waiting for a policy session");
+            }
+        }
+        if (closed)
+            throw new TpmException("The policy session pool is closed");
+        if (!idle.isEmpty())
+            return idle.poll();
+        ++numSessions;
+        return null;
+    }
+}
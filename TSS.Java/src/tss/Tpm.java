@@ -17,6 +17,10 @@ import tss.tpm.*;
  *  Tpm objects must be "connected" to a physical TPM or TPM simulator using the _setDevice()
  *  method.  Some devices (like the TPM simulator) need to be configured before they can
  *  be used.
+ *  <P>
+ *  A Tpm object can be shared by multiple threads. The modifiers (like _allowErrors() or
+ *  _withSession()) apply to the next command executed by the calling thread, and the commands
+ *  of different threads are sent to the TPM device one at a time.
  *  See the sample code that is part of the TSS.Java distribution for more information.
  */
 public class Tpm extends TpmBase
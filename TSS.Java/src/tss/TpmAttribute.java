@@ -1,6 +1,6 @@
 package tss;
 
-import java.util.Map;
+import java.util.function.IntFunction;
 
 public abstract class TpmAttribute<T extends TpmAttribute<T>> extends TpmEnum<T> {
 
@@ -32,7 +32,19 @@ public abstract class TpmAttribute<T extends TpmAttribute<T>> extends TpmEnum<T>
     {
         return null;
     }
+
+    protected static <T extends TpmEnum<T>> T fromInt (int value, ValueMap<T> values, IntFunction<T> ctor)
+    {
+        return null;
+    }
     
+    protected static <T extends TpmAttribute<T>> T attrFromInt (int value, ValueMap<T> values, IntFunction<T> ctor)
+    {
+        T newAttr = TpmEnum.fromInt(value, values, ctor);
+        ((TpmAttribute<T>)newAttr).updateName(values);
+        return newAttr;
+    }
+
     protected static <T extends TpmAttribute<T>> T attrFromInt (int value, ValueMap<T> values, Class<T> cls)
     {
         T newAttr = TpmEnum.fromInt(value, values, cls);
@@ -45,6 +57,11 @@ public abstract class TpmAttribute<T extends TpmAttribute<T>> extends TpmEnum<T>
         return attr.Value == (Value & attr.Value);
     }
 
+    protected T maskAttr(T attr, ValueMap<T> values, IntFunction<T> ctor)
+    {
+        return attrFromInt(Value & attr.Value, values, ctor);
+    }
+
     protected T maskAttr(T attr, ValueMap<T> values, Class<T> cls)
     {
         return attrFromInt(Value & attr.Value, values, cls);
@@ -61,14 +78,14 @@ public abstract class TpmAttribute<T extends TpmAttribute<T>> extends TpmEnum<T>
     private void updateName(ValueMap<T> values)
     {
         int matchedAttrs = 0;
-        for (Map.Entry<Integer, T> pair : values.entrySet())
+        for (T attr : values.values())
         {
-            int key = (int)pair.getKey();
+            int key = attr.Value;
             if ((Value & key) == 0)
                 continue;
             
             matchedAttrs |= key;
-            updateName((pair.getValue()).Name);
+            updateName(attr.Name);
         }
         
         int unmatchedAttrs = Value ^ matchedAttrs;
@@ -2,7 +2,13 @@ package tss;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.bouncycastle.crypto.Digest;
 
 import tss.tpm.*;
 
@@ -39,7 +45,7 @@ public abstract class TpmBase implements Closeable
     public void _setDevice(TpmDevice theDevice)
     {
         device = theDevice;
-        lastResponseCode = TPM_RC.SUCCESS;
+        invocation().lastResponseCode = TPM_RC.SUCCESS;
     }
     /**
      * Tpm objects can interact with TPMs over a variety of interfaces called "devices."  This returns
@@ -61,7 +67,7 @@ public abstract class TpmBase implements Closeable
      */
     public Tpm _allowErrors()
     {
-        AllowErrors = true;
+        invocation().AllowErrors = true;
         return (Tpm)this;
     }
     
@@ -70,7 +76,7 @@ public abstract class TpmBase implements Closeable
      */
     public TPM_RC[] _GetExpectedResponses()
     {
-        return ExpectedResponses;
+        return invocation().ExpectedResponses;
     }
 
     /**
@@ -96,7 +102,8 @@ public abstract class TpmBase implements Closeable
     public Tpm _expectResponses(TPM_RC... expectedResponses)
     {
         // Empty responses list indicates success
-        ExpectedResponses = null;
+        InvocationState inv = invocation();
+        inv.ExpectedResponses = null;
 
         if (expectedResponses.length == 0 ||
             (expectedResponses.length == 1 &&
@@ -105,7 +112,7 @@ public abstract class TpmBase implements Closeable
             return (Tpm)this;
         }
 
-        ExpectedResponses = new TPM_RC[0];
+        inv.ExpectedResponses = new TPM_RC[0];
         return _expectMoreResponses(expectedResponses);
     }
     
@@ -118,15 +125,16 @@ public abstract class TpmBase implements Closeable
      */
     public Tpm _expectMoreResponses(TPM_RC... expectedResponses)
     {
-        if (ExpectedResponses == null)
+        InvocationState inv = invocation();
+        if (inv.ExpectedResponses == null)
         {
-            ExpectedResponses = new TPM_RC[] {TPM_RC.SUCCESS};
+            inv.ExpectedResponses = new TPM_RC[] {TPM_RC.SUCCESS};
         }
-        TPM_RC[] old = ExpectedResponses;
-        ExpectedResponses = new TPM_RC[expectedResponses.length + old.length];
+        TPM_RC[] old = inv.ExpectedResponses;
+        inv.ExpectedResponses = new TPM_RC[expectedResponses.length + old.length];
         for (int i = 0; i < old.length; ++i)
         {
-            ExpectedResponses[i] = old[i];  
+            inv.ExpectedResponses[i] = old[i];  
         }
 
         for (int i = 0; i < expectedResponses.length; ++i)
@@ -135,21 +143,16 @@ public abstract class TpmBase implements Closeable
             int curPos = old.length + i;
             if (rc == TPM_RC.SUCCESS && curPos != 0)
             {
-                if (ExpectedResponses[0] == TPM_RC.SUCCESS)
+                if (inv.ExpectedResponses[0] == TPM_RC.SUCCESS)
                     continue;
-                rc = ExpectedResponses[0];
-                ExpectedResponses[0] = TPM_RC.SUCCESS;
+                rc = inv.ExpectedResponses[0];
+                inv.ExpectedResponses[0] = TPM_RC.SUCCESS;
             }
-            ExpectedResponses[curPos] = rc;
+            inv.ExpectedResponses[curPos] = rc;
         }
         return (Tpm)this;
     }
 
-    private boolean _isSuccessExpected()
-    {
-        return ExpectedResponses == null || ExpectedResponses[0] == TPM_RC.SUCCESS;
-    }
-    
     /**
      * Did the last TPM command return RC_SUCCESS?
      * 
@@ -157,7 +160,7 @@ public abstract class TpmBase implements Closeable
      */
     public Boolean _lastCommandSucceeded()
     {
-        return (lastResponseCode == TPM_RC.SUCCESS);
+        return (invocation().lastResponseCode == TPM_RC.SUCCESS);
     }
 
     /**
@@ -167,7 +170,7 @@ public abstract class TpmBase implements Closeable
      */
     public TPM_RC _getLastResponseCode()
     {
-        return lastResponseCode;
+        return invocation().lastResponseCode;
     }
 
     /**
@@ -178,7 +181,7 @@ public abstract class TpmBase implements Closeable
      */
     public Tpm _withSession(TPM_HANDLE h)
     {
-        Sessions = new TPM_HANDLE[] { h };
+        invocation().Sessions = new TPM_HANDLE[] { h };
         return (Tpm)this;
     }
 
@@ -190,7 +193,81 @@ public abstract class TpmBase implements Closeable
      */
     public Tpm _withSessions(TPM_HANDLE ... hh)
     {
-        Sessions = hh;
+        invocation().Sessions = hh;
+        return (Tpm)this;
+    }
+
+    /**
+     * Starts tracking the command audit digest of the TPM from the zero digest (the value of
+     * the TPM audit digest after it is cleared). The commands executed with the _audit()
+     * modifier, and those listed by _auditCommands(), extend the tracked digest when they succeed.
+     * 
+     * @param hashAlg Audit hash algorithm (as set by TPM2_SetCommandCodeAuditStatus)
+     */
+    public void _startAudit(TPM_ALG_ID hashAlg)
+    {
+        _startAudit(TPMT_HA.zeroHash(hashAlg));
+    }
+
+    /**
+     * Starts tracking the command audit digest of the TPM from the given value
+     * 
+     * @param startDigest Current value of the TPM command audit digest
+     */
+    public synchronized void _startAudit(TPMT_HA startDigest)
+    {
+        CommandAuditHash = new TPMT_HA(startDigest.hashAlg, startDigest.digest.clone());
+    }
+
+    /**
+     * Stops tracking the command audit digest and clears the list set by _auditCommands()
+     * 
+     * @return Final value of the tracked audit digest
+     */
+    public synchronized TPMT_HA _endAudit()
+    {
+        TPMT_HA res = _getAuditHash();
+        CommandAuditHash = null;
+        AuditedCommands = Collections.emptySet();
+        return res;
+    }
+
+    /**
+     * @return Current value of the tracked command audit digest (to be compared with the one
+     *         reported by TPM2_GetCommandAuditDigest), or null if the audit is not started
+     */
+    public synchronized TPMT_HA _getAuditHash()
+    {
+        return CommandAuditHash == null ? null
+             : new TPMT_HA(CommandAuditHash.hashAlg, CommandAuditHash.digest.clone());
+    }
+
+    /**
+     * Specifies the commands that are always audited, i.e. the commands that were added to
+     * the TPM audit list with TPM2_SetCommandCodeAuditStatus. They extend the tracked audit
+     * digest without the _audit() modifier.
+     * 
+     * @param cmdCodes Audited command codes (replace the previously specified ones)
+     */
+    public void _auditCommands(TPM_CC... cmdCodes)
+    {
+        Set<Integer> audited = new HashSet<Integer>();
+        for (TPM_CC cc : cmdCodes)
+            audited.add(cc.toInt());
+        AuditedCommands = audited;
+    }
+
+    /**
+     * The next command extends the tracked command audit digest if it succeeds
+     * (it must be in the TPM audit list)
+     * 
+     * @return this TPM object
+     */
+    public Tpm _audit()
+    {
+        if (CommandAuditHash == null)
+            throw new TpmException("The command audit is not started (see _startAudit())");
+        invocation().AuditCommand = true;
         return (Tpm)this;
     }
 
@@ -200,7 +277,76 @@ public abstract class TpmBase implements Closeable
      */
     public TPM_RC getLastResponseCode()
     {
-        return lastResponseCode;
+        return invocation().lastResponseCode;
+    }
+
+    /**
+     * Starts an unbound and unsalted authorization session without parameter encryption
+     * 
+     * @param sessionType Session type (HMAC, policy or trial policy)
+     * @param authHash Hash algorithm of the session
+     * @return The session, which can be passed to _withSession()
+     */
+    public AuthSession StartAuthSession(TPM_SE sessionType, TPM_ALG_ID authHash)
+    {
+        return StartAuthSession(sessionType, authHash, null, null, null, null);
+    }
+
+    /**
+     * Starts an unbound and unsalted authorization session
+     * 
+     * @param sessionType Session type (HMAC, policy or trial policy)
+     * @param authHash Hash algorithm of the session
+     * @param symmetric Parameter encryption algorithm (or null)
+     * @return The session, which can be passed to _withSession()
+     */
+    public AuthSession StartAuthSession(TPM_SE sessionType, TPM_ALG_ID authHash, TPMT_SYM_DEF symmetric)
+    {
+        return StartAuthSession(sessionType, authHash, symmetric, null, null, null);
+    }
+
+    /**
+     * Starts an authorization session. Its session key is derived once here, from the
+     * authorization value of the bind entity and the salt.
+     * 
+     * @param sessionType Session type (HMAC, policy or trial policy)
+     * @param authHash Hash algorithm of the session
+     * @param symmetric Parameter encryption algorithm (or null)
+     * @param bind Entity the session is bound to, with its AuthValue set (or null)
+     * @param saltKey Loaded RSA key used to encrypt the salt (or null for an unsalted session)
+     * @param saltKeyPub Public area of saltKey
+     * @return The session, which can be passed to _withSession()
+     */
+    public AuthSession StartAuthSession(TPM_SE sessionType, TPM_ALG_ID authHash, TPMT_SYM_DEF symmetric,
+                                        TPM_HANDLE bind, TPM_HANDLE saltKey, TPMT_PUBLIC saltKeyPub)
+    {
+        if (symmetric == null)
+            symmetric = new TPMT_SYM_DEF();
+        byte[] nonceCaller = Helpers.RandomBytes(Crypto.digestSize(authHash));
+        byte[] salt = null,
+               encryptedSalt = new byte[0];
+        if (saltKey != null)
+        {
+            if (!(saltKeyPub.parameters instanceof TPMS_RSA_PARMS))
+                throw new TpmException("Only RSA salt keys are supported");
+            salt = Helpers.RandomBytes(Crypto.digestSize(saltKeyPub.nameAlg));
+            encryptedSalt = Crypto.asymEncrypt(saltKeyPub, salt, "SECRET");
+        }
+
+        StartAuthSessionResponse resp = ((Tpm)this).StartAuthSession(
+                saltKey != null ? saltKey : TPM_HANDLE.NULL, bind != null ? bind : TPM_HANDLE.NULL,
+                nonceCaller, encryptedSalt, sessionType, symmetric, authHash);
+        if (resp == null)
+            return null;    // the command failed, and the error was allowed
+        return new AuthSession(resp.handle, sessionType, authHash, symmetric,
+                               nonceCaller, resp.nonceTPM, bind, salt);
+    }
+
+    /** @return Size of the marshaled session with the given nonce and authorization value */
+    static int sessionSize(byte[] nonceCaller, byte[] authVal)
+    {
+        return 4 + 2 + (nonceCaller != null ? nonceCaller.length : 0)
+                 + 1 + 2 + (authVal != null ? authVal.length : 0);
     }
 
     static void WriteSession (TpmBuffer buf, TPM_HANDLE sessHandle, byte[] nonceCaller,
@@ -219,109 +365,322 @@ public abstract class TpmBase implements Closeable
      * @param resp The output parameter structure
      */
     protected void DispatchCommand(TPM_CC cmdCode, ReqStructure req, RespStructure resp)
-    { try {
+    {
+        PendingCommand cmd = null;
+        try {
+            cmd = prepareCommand(cmdCode, req, resp, device.supportsByteBuffers());
+            if (cmd == null)
+                return;
+            if (cmd.auditHash == null)
+                completeCommand(cmd, transmit(cmd));
+            else synchronized (device)
+            {
+                // Audited commands extend the audit digest in the order of their execution
+                completeCommand(cmd, transmit(cmd));
+            }
+        } finally {
+            if (cmd != null)
+                cmd.releaseBuffers();
+            invocation().reset();
+        }
+    }
+
+    /**
+     * Marshals a TPM command. The modifiers set by the current thread are applied to it
+     * (and cleared).
+     * @param cmdCode The command code
+     * @param req The input parameter structure
+     * @param resp The output parameter structure
+     * @return The command ready to be sent to the TPM, or null if only its cpHash was requested
+     */
+    PendingCommand prepareCommand(TPM_CC cmdCode, ReqStructure req, RespStructure resp)
+    {
+        return prepareCommand(cmdCode, req, resp, false);
+    }
+
+    /**
+     * Marshals a TPM command. The modifiers set by the current thread are applied to it
+     * (and cleared).
+     * @param cmdCode The command code
+     * @param req The input parameter structure
+     * @param resp The output parameter structure
+     * @param keepPooledBuffer Whether the command is left in the pooled buffer it was marshaled
+     *        to (instead of being copied out of it), so that it can be sent directly from there.
+     *        The command must then be completed by the current thread, and its buffers released
+     *        with PendingCommand.releaseBuffers().
+     * @return The command ready to be sent to the TPM, or null if only its cpHash was requested
+     */
+    PendingCommand prepareCommand(TPM_CC cmdCode, ReqStructure req, RespStructure resp,
+                                  boolean keepPooledBuffer)
+    {
+        InvocationState inv = invocation();
         TPM_HANDLE[] inHandles = req.getHandles();
         int numAuthHandles = req.numAuthHandles();
-
-        boolean hasSessions = numAuthHandles != 0 || Sessions != null;
+        byte[] rawCmdBuf = null;
+        byte[] auditCpHash = null;
+        TPMT_HA auditHash = CommandAuditHash;
+        if (auditHash != null && !inv.AuditCommand && !AuditedCommands.contains(cmdCode.toInt()))
+            auditHash = null;
+        AuthSession[] authSessions = null;
+        byte[][] hmacKeys = null;
+        AuthSession encryptSession = null;
+        byte[] encryptKey = null;
+
+        boolean hasSessions = numAuthHandles != 0 || inv.Sessions != null;
         int sessTag = hasSessions ? TPM_ST.SESSIONS.toInt() : TPM_ST.NO_SESSIONS.toInt();
         
-        TpmBuffer cmdBuf = new TpmBuffer();
+        TpmBufferPool bufPool = TpmBufferPool.forThread();
+        TpmBuffer cmdBuf = bufPool.acquire();
+        boolean releaseCmdBuf = true;
+        try {
+            // Standard TPM command header {tag, length, commandCode}
+            cmdBuf.writeShort(sessTag);
+            cmdBuf.writeInt(0);        // to be filled in later
+            cmdBuf.writeInt(cmdCode.toInt());
+
+            // Handles
+            int numHandles = inHandles == null ? 0 : inHandles.length;
+            for (int i=0; i < numHandles; i++)
+                inHandles[i].toTpm(cmdBuf);
+
+            //
+            // Authorization sessions
+            //
+            int authSizePos = cmdBuf.curPos(),
+                authSize = 0;
+            byte[][] authValues = null,
+                     nonces = null;
+            if (hasSessions)
+            {
+                // todo: Make Sessions type Session[]
+                // If not all required sessions were provided explicitly, TSS.Java will create the necessary
+                // number of password sessions with auth values (if any) from the corresponding TPM_HANDLE objects.
+                int numExplicitSessions = 0;
+                if (inv.Sessions == null)
+                    inv.Sessions = new TPM_HANDLE[numAuthHandles];
+                else
+                {
+                    numExplicitSessions = inv.Sessions.length;
+                    if (numExplicitSessions < numAuthHandles)
+                        inv.Sessions = Arrays.copyOf(inv.Sessions, numAuthHandles);
+                }
+                for (int i = numExplicitSessions; i < numAuthHandles; ++i)
+                    inv.Sessions[i] = TPM_HANDLE.PW;
+
+                // The size of the authorization area is known before the command parameters
+                // are marshaled, so that the latter can be placed directly at their final position.
+                // HMACs are computed once the command parameters are marshaled, so that only a
+                // placeholder of the right size is reserved for them here.
+                int numSessions = inv.Sessions.length;
+                authValues = new byte[numSessions][];
+                nonces = new byte[numSessions][];
+                hmacKeys = new byte[numSessions][];
+                authSessions = new AuthSession[numSessions];
+                for (int i=0; i < numSessions; i++)
+                {
+                    TPM_HANDLE entity = i < numAuthHandles ? inHandles[i] : null;
+                    if (inv.Sessions[i] instanceof AuthSession)
+                    {
+                        AuthSession sess = (AuthSession)inv.Sessions[i];
+                        authSessions[i] = sess;
+                        nonces[i] = sess.NonceCaller = Helpers.RandomBytes(sess.nonceSize());
+                        if (sess.isHmacSession())
+                        {
+                            hmacKeys[i] = sess.hmacKey(entity);
+                            authValues[i] = new byte[Crypto.digestSize(sess.HashAlg)];
+                        }
+                        else if (entity != null)
+                            authValues[i] = entity.AuthValue;
+                    }
+                    else
+                    {
+                        boolean needAuth = i < numHandles && inv.Sessions[i].getType() != TPM_HT.POLICY_SESSION;
+                        authValues[i] = needAuth ? inHandles[i].AuthValue : null;
+                    }
+                    authSize += sessionSize(nonces[i], authValues[i]);
+                }
+
+                // Skip the authorization area size and the authorization area itself
+                cmdBuf.curPos(authSizePos + 4 + authSize);
+            }
 
-        // Standard TPM command header {tag, length, commandCode}
-        cmdBuf.writeShort(sessTag);
-        cmdBuf.writeInt(0);        // to be filled in later
-        cmdBuf.writeInt(cmdCode.toInt());
+            // Marshal command params (without handles) directly to the command buffer
+            int paramsPos = cmdBuf.curPos();
+            req.toTpm(cmdBuf);
+            int cmdSize = cmdBuf.curPos();
 
-        // Handles
-        int numHandles = inHandles == null ? 0 : inHandles.length;
-        for (int i=0; i < numHandles; i++)
-            inHandles[i].toTpm(cmdBuf);
-        
-        // Marshal command params (without handles) to paramBuf
-        TpmBuffer paramBuf = new TpmBuffer();
-        req.toTpm(paramBuf);
-        paramBuf.trim();
+            // The cpHash is computed over the marshaled parameters area in place, and only
+            // once per hash algorithm (for the HMACs, the audit, or the caller)
+            TPM_ALG_ID cpHashAlg = null;
+            byte[] cpHash = null;
 
-        byte[] cpHashData = null;
-        
-        //
-        // Authorization sessions
-        //
-        if (hasSessions)
-        {
-            // We do not know the size of the authorization area yet.
-            // Remember the place to marshal it, ...
-            int authSizePos = cmdBuf.curPos();
-            // ... and marshal a placeholder 0 value for now.
-            cmdBuf.writeInt(0);
-
-            // todo: Make Sessions type Session[]
-            // If not all required sessions were provided explicitly, TSS.Java will create the necessary
-            // number of password sessions with auth values (if any) from the corresponding TPM_HANDLE objects.
-            int numExplicitSessions = 0;
-            if (Sessions == null)
-                Sessions = new TPM_HANDLE[numAuthHandles];
-            else
+            if (hasSessions)
             {
-                numExplicitSessions = Sessions.length;
-                if (numExplicitSessions < numAuthHandles)
-                    Sessions = Arrays.copyOf(Sessions, numAuthHandles);
+                // Parameter encryption, done in place before the cpHash is computed
+                for (int i=0; i < inv.Sessions.length; i++)
+                {
+                    AuthSession sess = authSessions[i];
+                    if (sess == null || !sess.encryptsParams())
+                        continue;
+                    TPM_HANDLE entity = i < numAuthHandles ? inHandles[i] : null;
+                    if (sess.Attributes.hasAttr(TPMA_SESSION.decrypt))
+                    {
+                        doParmEncryption(sess, sess.hmacKey(entity), req, cmdBuf, paramsPos, true);
+                        cmdBuf.curPos(cmdSize);
+                    }
+                    if (sess.Attributes.hasAttr(TPMA_SESSION.encrypt))
+                    {
+                        if (resp == null || resp.sessEncInfo().sizeLen == 0)
+                            throw new TpmException("The response of " + cmdCode + " cannot be encrypted");
+                        encryptSession = sess;
+                        encryptKey = sess.hmacKey(entity);
+                    }
+                }
+
+                // The HMAC of the first session also covers the TPM nonces of the other sessions
+                // used for parameter encryption (TPM 2.0 Part 1, 19.6.5)
+                byte[] nonceDecrypt = null,
+                       nonceEncrypt = null;
+                AuthSession decryptSession = null;
+                for (int i=1; i < inv.Sessions.length; i++)
+                {
+                    AuthSession sess = authSessions[i];
+                    if (sess == null || !sess.encryptsParams())
+                        continue;
+                    if (decryptSession == null && sess.Attributes.hasAttr(TPMA_SESSION.decrypt))
+                    {
+                        decryptSession = sess;
+                        nonceDecrypt = sess.NonceTpm;
+                    }
+                    if (nonceEncrypt == null && sess != decryptSession
+                        && sess.Attributes.hasAttr(TPMA_SESSION.encrypt))
+                    {
+                        nonceEncrypt = sess.NonceTpm;
+                    }
+                }
+
+                // HMACs of the command
+                for (int i=0; i < inv.Sessions.length; i++)
+                {
+                    AuthSession sess = authSessions[i];
+                    if (hmacKeys[i] == null)
+                        continue;
+                    if (sess.HashAlg != cpHashAlg)
+                    {
+                        cpHashAlg = sess.HashAlg;
+                        cpHash = getCpHash(cpHashAlg, cmdCode, inHandles,
+                                           cmdBuf.buffer(), paramsPos, cmdSize - paramsPos);
+                    }
+                    authValues[i] = i == 0 ? sess.commandHmac(hmacKeys[i], cpHash, nonceDecrypt, nonceEncrypt,
+                                                              sess.Attributes.toInt())
+                                           : sess.commandHmac(hmacKeys[i], cpHash, null, null,
+                                                              sess.Attributes.toInt());
+                }
+
+                // Now back-patch the authorization area
+                cmdBuf.curPos(authSizePos);
+                cmdBuf.writeInt(authSize);
+                for (int i=0; i < inv.Sessions.length; i++)
+                {
+                    TPMA_SESSION sessAttrs = authSessions[i] != null ? authSessions[i].Attributes
+                                                                    : TPMA_SESSION.continueSession;
+                    WriteSession (cmdBuf, inv.Sessions[i], nonces[i], sessAttrs, authValues[i]);
+                }
+                assert(cmdBuf.curPos() == paramsPos);
+                cmdBuf.curPos(cmdSize);
             }
-            for (int i = numExplicitSessions; i < numAuthHandles; ++i)
-                Sessions[i] = TPM_HANDLE.PW;
 
-            TPMA_SESSION sessAttrs = TPMA_SESSION.continueSession;
-            for (int i=0; i < Sessions.length; i++)
+            // Finally, set the command buffer size
+            cmdBuf.writeNumAtPos(cmdSize, 2);
+
+            if (inv.CpHash != null || auditHash != null)
             {
-                // todo: Add support for policyc sessions with HMAC
-                boolean needAuth = i < numHandles && Sessions[i].getType() != TPM_HT.POLICY_SESSION;
-                WriteSession (cmdBuf, Sessions[i], null, sessAttrs,
-                              needAuth ? inHandles[i].AuthValue : null);
+                TPM_ALG_ID hashAlg = inv.CpHash != null ? inv.CpHash.hashAlg : auditHash.hashAlg;
+                if (hashAlg != cpHashAlg)
+                {
+                    cpHashAlg = hashAlg;
+                    cpHash = getCpHash(cpHashAlg, cmdCode, inHandles,
+                                       cmdBuf.buffer(), paramsPos, cmdSize - paramsPos);
+                }
+                if (inv.CpHash != null)
+                {
+                    inv.CpHash.digest = cpHash;
+                    inv.reset();
+                    return null;
+                }
+                auditCpHash = cpHash;
             }
-            Sessions = null;
 
-            cmdBuf.writeNumAtPos(cmdBuf.curPos() - authSizePos - 4, authSizePos);
+            // The response HMAC of TPM2_HierarchyChangeAuth and TPM2_NV_ChangeAuth uses the new
+            // authorization value
+            byte[] newAuth = req instanceof TPM2_HierarchyChangeAuth_REQUEST
+                                ? ((TPM2_HierarchyChangeAuth_REQUEST)req).newAuth
+                           : req instanceof TPM2_NV_ChangeAuth_REQUEST
+                                ? ((TPM2_NV_ChangeAuth_REQUEST)req).newAuth : null;
+            if (newAuth != null && hmacKeys != null && hmacKeys[0] != null)
+            {
+                TPM_HANDLE entity = TPM_HANDLE.from(inHandles[0].handle);
+                entity.Name = inHandles[0].Name;
+                entity.AuthValue = newAuth;
+                hmacKeys[0] = authSessions[0].hmacKey(entity);
+            }
+
+            if (keepPooledBuffer)
+                releaseCmdBuf = false;
+            else
+                rawCmdBuf = cmdBuf.trimmedCopy();
+        } finally {
+            if (releaseCmdBuf)
+                bufPool.release(cmdBuf);
         }
-        
-        // Write marshaled command params to the command buffer
-        cmdBuf.writeByteBuf(paramBuf.buffer());
-        
-        // Finally, set the command buffer size
-        cmdBuf.writeNumAtPos(cmdBuf.curPos(), 2);
-        
 
-        if (CpHash != null || AuditCommand)
+        PendingCommand cmd = new PendingCommand(cmdCode, resp, sessTag, rawCmdBuf, auditCpHash, inv.take());
+        if (keepPooledBuffer)
+            cmd.pooledCmdBuf = cmdBuf;
+        cmd.auditHash = auditHash;
+        cmd.authSessions = authSessions;
+        cmd.respHmacKeys = hmacKeys;
+        cmd.encryptSession = encryptSession;
+        cmd.encryptKey = encryptKey;
+        if (numAuthHandles == 0 && inHandles != null && inHandles.length > 0
+            && inHandles[0] instanceof AuthSession)
         {
-            if (cpHashData == null)
-                cpHashData = GetCpHashData(cmdCode, paramBuf.buffer());
-            if (CpHash != null)
-            {
-                CpHash.digest = Crypto.hash(CpHash.hashAlg, cpHashData);
-                clearInvocationState();
-                Sessions = null;
-                CpHash = null;
-                return;
-            }
-            AuditCpHash.digest = Crypto.hash(CommandAuditHash.hashAlg, cpHashData);
+            // A policy command updating the policy session state
+            cmd.policySession = (AuthSession)inHandles[0];
         }
+        return cmd;
+    } // prepareCommand()
 
+    /**
+     * Processes the TPM response to a command prepared by prepareCommand(): checks the response
+     * code against the expected ones and unmarshals the response parameters.
+     * @param cmd The command
+     * @param rawRespBuf The TPM response
+     */
+    void completeCommand(PendingCommand cmd, byte[] rawRespBuf)
+    {
+        completeCommand(cmd, new TpmBuffer(rawRespBuf));
+    }
 
+    /**
+     * Processes the TPM response to a command prepared by prepareCommand()
+     * @param cmd The command
+     * @param respBuf Input buffer containing exactly the TPM response (it may be modified)
+     */
+    void completeCommand(PendingCommand cmd, TpmBuffer respBuf)
+    {
+        TPM_CC cmdCode = cmd.cmdCode;
+        RespStructure resp = cmd.resp;
+        InvocationState inv = cmd.inv;
+        TPM_RC lastResponseCode;
 
-        byte[] rawCmdBuf = cmdBuf.trim();
         int nvRateRecoveryCount = 4;    
-        TpmBuffer respBuf = null;
         TPM_ST respTag = TPM_ST.NULL; 
         int respSize = 0;
         int rawResponseCode = 0;
 
         while (true)
         {
-            device.dispatchCommand(rawCmdBuf);
-            
-            byte[] rawRespBuf = device.getResponse();
-            respBuf = new TpmBuffer(rawRespBuf);
-            
             // get the standard header
             respTag = TPM_ST.fromTpm(respBuf);
             respSize = respBuf.readInt();
@@ -335,11 +694,18 @@ public abstract class TpmBase implements Closeable
             }
 
             lastResponseCode = TpmHelpers.fromRawResponse(rawResponseCode);
+            invocation().lastResponseCode = lastResponseCode;
             if (callbackObject != null)
-                callbackObject.commandCompleteCallback(cmdCode, lastResponseCode, rawCmdBuf, rawRespBuf);
+            {
+                callbackObject.commandCompleteCallback(cmdCode, lastResponseCode, cmd.cmdBytes(),
+                                                       Arrays.copyOf(respBuf.buffer(), respBuf.size()));
+            }
 
             if (lastResponseCode == TPM_RC.RETRY)
+            {
+                respBuf = transmit(cmd);
                 continue;
+            }
 
             if (lastResponseCode != TPM_RC.NV_RATE || ++nvRateRecoveryCount > 4)
                 break;
@@ -355,39 +721,34 @@ public abstract class TpmBase implements Closeable
         if (lastResponseCode != TPM_RC.SUCCESS)
         {
             // error - decode it
-            if (AllowErrors)
+            if (inv.AllowErrors)
                 return; // Any error is allowed
 
-            if (Helpers.isOneOf(lastResponseCode, ExpectedResponses))
+            if (Helpers.isOneOf(lastResponseCode, inv.ExpectedResponses))
                 return; // The given error is expected
 
-            if (_isSuccessExpected())
+            if (inv.isSuccessExpected())
             {
                 System.out.println("TPM ERROR: " + lastResponseCode);
                 throw new TpmException(lastResponseCode, rawResponseCode);
             }
 
-            String expected = ExpectedResponses.length > 1 ? Arrays.toString(ExpectedResponses)
-                                                           : ExpectedResponses[0].toString();
+            String expected = inv.ExpectedResponses.length > 1 ? Arrays.toString(inv.ExpectedResponses)
+                                                               : inv.ExpectedResponses[0].toString();
             throw new TpmException("Unexpected response {" + lastResponseCode + "} instead of {" + expected + "}",
                                    lastResponseCode);
         }
-        else if (ExpectedResponses != null)
+        else if (inv.ExpectedResponses != null)
         {
-            String expected = ExpectedResponses.length > 1 ? "s " + Arrays.toString(ExpectedResponses) + " were"
-                                                           : " " + ExpectedResponses.toString() + " was";
+            String expected = inv.ExpectedResponses.length > 1 ? "s " + Arrays.toString(inv.ExpectedResponses) + " were"
+                                                               : " " + inv.ExpectedResponses.toString() + " was";
             throw new TpmException("Error" + expected + " expected, " +
                                    "but the TPM command " + cmdCode + " succeeded"); 
         }
 
-        // Keep a copy of this before we clean out invocation state
-        boolean auditCommand = AuditCommand;
-
-        clearInvocationState();
-
         // A check for the session tag consistency across the command invocation
         // only makes sense when the command succeeds.
-        if (respTag.toInt() != sessTag)
+        if (respTag.toInt() != cmd.sessTag)
             throw new TpmException("Unexpected response tag " + respTag);
 
         if (resp == null)
@@ -399,7 +760,6 @@ public abstract class TpmBase implements Closeable
             resp.setHandle(TPM_HANDLE.fromTpm(respBuf));
         }
 
-        boolean rpReady = false;
         int     respParamsPos = 0,
                 respParamsSize = 0;
 
@@ -410,7 +770,7 @@ public abstract class TpmBase implements Closeable
         {
             respParamsSize = respBuf.readInt();
             respParamsPos = respBuf.curPos();
-            rpReady = processRespSessions(respBuf, cmdCode, respParamsPos, respParamsSize);
+            processRespSessions(cmd, respBuf, respParamsPos, respParamsSize);
         }
         else
         {
@@ -418,15 +778,20 @@ public abstract class TpmBase implements Closeable
             respParamsSize = respBuf.size() - respParamsPos;
         }
 
-        if (auditCommand)
+        if (cmd.auditHash != null)
         {
-            byte[] rpHash = getRpHash(CommandAuditHash.hashAlg, respBuf,
-                                      cmdCode, respParamsPos, respParamsSize, rpReady);
-            CommandAuditHash.extend(Helpers.concatenate(AuditCpHash.digest, rpHash));
+            // The TPM extends its audit digest with cpHash || rpHash
+            byte[] rpHash = getRpHash(cmd.auditHash.hashAlg, cmdCode,
+                                      respBuf.buffer(), respParamsPos, respParamsSize);
+            synchronized (this)
+            {
+                cmd.auditHash.extend(Helpers.concatenate(cmd.auditCpHash, rpHash));
+            }
         }
 
         // Now we can decrypt (if necessary) the first response parameter
-        doParmEncryption(resp, respBuf, respParamsPos, false);
+        if (cmd.encryptSession != null)
+            doParmEncryption(cmd.encryptSession, cmd.encryptKey, resp, respBuf, respParamsPos, false);
 
         // ... and unmarshall the whole response parameters area
         respBuf.curPos(respParamsPos);
@@ -438,41 +803,271 @@ public abstract class TpmBase implements Closeable
         // first element in the structure.
         updateRespHandle(cmdCode, resp);
 
-        Sessions = null;
+        if (cmd.policySession != null)
+            updatePolicySession(cmdCode, cmd.policySession);
+    } // completeCommand()
 
-    } finally {
-        clearInvocationState();
-    }} // DispatchCommand()
-    
-    void clearInvocationState()
+    /**
+     * Sends a command to the TPM device and receives the response. Device access is serialized,
+     * so that multiple threads can share the same Tpm object.
+     * @param cmdBuf Marshaled command
+     * @return Marshaled response
+     */
+    byte[] transmit(byte[] cmdBuf)
     {
-        AllowErrors = false;
-        ExpectedResponses = null;
-        AuditCommand = false;
+        TpmDevice dev = device;
+        synchronized (dev)
+        {
+            dev.dispatchCommand(cmdBuf);
+            return dev.getResponse();
+        }
+    }
+
+    /**
+     * Sends a command prepared by prepareCommand() to the TPM device and receives the response.
+     * A command left in its pooled buffer is sent directly from it, and the response is received
+     * into another pooled buffer, so that neither is copied or allocated on the way.
+     * @param cmd The command
+     * @return Input buffer containing the response
+     */
+    TpmBuffer transmit(PendingCommand cmd)
+    {
+        if (cmd.pooledCmdBuf == null)
+            return new TpmBuffer(transmit(cmd.cmdBuf));
+
+        // The buffer of a previous response to the command (e.g. TPM_RC_RETRY) is reused
+        if (cmd.pooledRespBuf == null)
+            cmd.pooledRespBuf = TpmBufferPool.forThread().acquire();
+        byte[] respArray = cmd.pooledRespBuf.buffer();
+        int respSize;
+        TpmDevice dev = device;
+        synchronized (dev)
+        {
+            dev.dispatchCommand(cmd.pooledCmdBuf.view());
+            respSize = dev.getResponse(ByteBuffer.wrap(respArray));
+        }
+        return new TpmBuffer(respArray, respSize);
     }
 
-    byte[] GetCpHashData(TPM_CC cmdCode, byte[] cmdParams)
+    /**
+     * Sends several commands to the TPM device and receives their responses. If the device
+     * supports pipelining, all commands are sent back-to-back before the first response is
+     * read, so that the batch costs a single round trip to a remote TPM.
+     * @param cmdBufs Marshaled commands
+     * @return Marshaled responses in the order of the commands
+     */
+    byte[][] transmit(byte[][] cmdBufs)
     {
-        return null;
+        byte[][] respBufs = new byte[cmdBufs.length][];
+        TpmDevice dev = device;
+        synchronized (dev)
+        {
+            if (!dev.supportsPipelining())
+            {
+                for (int i = 0; i < cmdBufs.length; ++i)
+                    respBufs[i] = transmit(cmdBufs[i]);
+                return respBufs;
+            }
+
+            for (byte[] cmdBuf : cmdBufs)
+                dev.dispatchCommand(cmdBuf);
+            for (int i = 0; i < cmdBufs.length; ++i)
+                respBufs[i] = dev.getResponse();
+        }
+        return respBufs;
     }
 
-    byte[] getRpHash(TPM_ALG_ID hashAlg, TpmBuffer respBuf, TPM_CC cmdCode,
-                     int respParamsPos, int respParamsSize, boolean rpReady)
+    /** @return Invocation state of the current thread */
+    InvocationState invocation()
     {
-        return null;
+        return invocation.get();
     }
 
-    void doParmEncryption(CmdStructure cmd, TpmBuffer paramBuf, int startPos, boolean request)
+    /**
+     * Computes the command parameters hash (cpHash) directly over the marshaled command
+     * parameters area of the command buffer, i.e. without copying it.
+     * @param hashAlg Hash algorithm to use
+     * @param cmdCode Command code
+     * @param handles Command handles (their names are included in the hash)
+     * @param cmdBuf Marshaled command buffer
+     * @param paramsPos Start position of the command parameters in cmdBuf
+     * @param paramsSize Size of the command parameters area
+     * @return cpHash value
+     */
+    static byte[] getCpHash(TPM_ALG_ID hashAlg, TPM_CC cmdCode, TPM_HANDLE[] handles,
+                            byte[] cmdBuf, int paramsPos, int paramsSize)
     {
+        Digest d = Crypto.getDigest(hashAlg);
+        byte[] cc = Helpers.hostToNet(cmdCode.toInt());
+        d.update(cc, 0, cc.length);
+        if (handles != null)
+        {
+            for (TPM_HANDLE h : handles)
+            {
+                byte[] name = h.getName();
+                d.update(name, 0, name.length);
+            }
+        }
+        d.update(cmdBuf, paramsPos, paramsSize);
+        byte[] res = new byte[d.getDigestSize()];
+        d.doFinal(res, 0);
+        return res;
     }
 
-    boolean processRespSessions(TpmBuffer b, TPM_CC cmdCode, int respParamsPos, int respParamsSize)
-    {    
-        return false;
+    /**
+     * Computes the response parameters hash (rpHash) directly over the response parameters
+     * area of the response buffer, i.e. without copying it.
+     * @param hashAlg Hash algorithm to use
+     * @param cmdCode Command code
+     * @param respBuf Marshaled response buffer
+     * @param paramsPos Start position of the response parameters in respBuf
+     * @param paramsSize Size of the response parameters area
+     * @return rpHash value
+     */
+    static byte[] getRpHash(TPM_ALG_ID hashAlg, TPM_CC cmdCode,
+                            byte[] respBuf, int paramsPos, int paramsSize)
+    {
+        Digest d = Crypto.getDigest(hashAlg);
+        // Only successful responses are hashed, so the response code is always 0
+        byte[] rcAndCc = Helpers.concatenate(new byte[4], Helpers.hostToNet(cmdCode.toInt()));
+        d.update(rcAndCc, 0, rcAndCc.length);
+        d.update(respBuf, paramsPos, paramsSize);
+        byte[] res = new byte[d.getDigestSize()];
+        d.doFinal(res, 0);
+        return res;
+    }
+
+    /**
+     * Encrypts the first command parameter, or decrypts the first response parameter, in place
+     * @param sess The session used for parameter encryption
+     * @param key Encryption key (HMAC key of the session)
+     * @param cmd The command or response structure
+     * @param paramBuf Marshaled command or response
+     * @param startPos Start position of the parameters area in paramBuf
+     * @param request Whether paramBuf is a command
+     */
+    static void doParmEncryption(AuthSession sess, byte[] key, CmdStructure cmd, TpmBuffer paramBuf,
+                                 int startPos, boolean request)
+    {
+        SessEncInfo encInfo = cmd.sessEncInfo();
+        if (encInfo.sizeLen == 0)
+        {
+            throw new TpmException("The first parameter of " + cmd.getClass().getSimpleName()
+                                   + " cannot be encrypted");
+        }
+        paramBuf.curPos(startPos);
+        int size = (int)paramBuf.readNum(encInfo.sizeLen) * encInfo.valLen;
+        if (request)
+            sess.cryptParameter(key, true, sess.NonceCaller, sess.NonceTpm, paramBuf.buffer(), paramBuf.curPos(), size);
+        else
+            sess.cryptParameter(key, false, sess.NonceTpm, sess.NonceCaller, paramBuf.buffer(), paramBuf.curPos(), size);
+    }
+
+    /**
+     * Processes the authorization area of a successful response: rolls the TPM nonces of the
+     * command's AuthSession objects and verifies their response HMACs.
+     * @param cmd The command
+     * @param respBuf The TPM response
+     * @param respParamsPos Start position of the response parameters
+     * @param respParamsSize Size of the response parameters area
+     */
+    void processRespSessions(PendingCommand cmd, TpmBuffer respBuf, int respParamsPos, int respParamsSize)
+    {
+        if (cmd.authSessions == null)
+            return;
+
+        respBuf.curPos(respParamsPos + respParamsSize);
+        TPM_ALG_ID rpHashAlg = null;
+        byte[] rpHash = null;
+        for (int i = 0; i < cmd.authSessions.length; ++i)
+        {
+            byte[] nonceTpm = respBuf.readSizedByteBuf();
+            int sessAttrs = respBuf.readByte() & 0xFF;
+            int hmacSize = respBuf.readShort();
+            int hmacPos = respBuf.curPos();
+            respBuf.curPos(hmacPos + hmacSize);
+
+            AuthSession sess = cmd.authSessions[i];
+            if (sess == null)
+                continue;
+            // A policy session without a key (unbound, unsalted, and not requiring the
+            // authorization value) has nothing to protect, and may come back without an HMAC
+            if (cmd.respHmacKeys[i] == null
+                || (hmacSize == 0 && cmd.respHmacKeys[i].length == 0 && sess.SessionType == TPM_SE.POLICY))
+            {
+                sess.NonceTpm = nonceTpm;
+                continue;
+            }
+            if (sess.HashAlg != rpHashAlg)
+            {
+                rpHashAlg = sess.HashAlg;
+                rpHash = getRpHash(rpHashAlg, cmd.cmdCode, respBuf.buffer(), respParamsPos, respParamsSize);
+            }
+            if (!sess.checkResponseHmac(cmd.respHmacKeys[i], rpHash, nonceTpm, sessAttrs,
+                                        respBuf.buffer(), hmacPos, hmacSize))
+            {
+                throw new TpmException("Invalid response HMAC of session " + i
+                                       + " in the response to " + cmd.cmdCode);
+            }
+        }
+    }
+
+    /**
+     * Tracks the changes of the way a policy session authorizes commands
+     * @param cc Command code of a successful command taking a policy session handle
+     * @param sess The policy session
+     */
+    static void updatePolicySession(TPM_CC cc, AuthSession sess)
+    {
+        if (cc == TPM_CC.PolicyAuthValue)
+            sess.PolicyAuthValue = true;
+        else if (cc == TPM_CC.PolicyPassword)
+            sess.PolicyPassword = true;
+        else if (cc == TPM_CC.PolicyRestart)
+            sess.PolicyAuthValue = sess.PolicyPassword = false;
     }
     
+    /**
+     * Associates the handle returned by a successfully executed command with the name
+     * of the TPM entity it references (when the response provides one), so that later
+     * commands do not have to recompute or query it.
+     * @param cc Command code
+     * @param resp Unmarshaled response structure
+     */
     void updateRespHandle(TPM_CC cc, RespStructure resp)
     {
+        if (cc.asEnum() == null)
+            return;
+
+        switch (cc.asEnum())
+        {
+            case Load:
+            {
+                LoadResponse r = (LoadResponse)resp;
+                r.handle.Name = r.name;
+                break;
+            }
+            case CreatePrimary:
+            {
+                CreatePrimaryResponse r = (CreatePrimaryResponse)resp;
+                r.handle.Name = r.name;
+                break;
+            }
+            case LoadExternal:
+            {
+                LoadExternalResponse r = (LoadExternalResponse)resp;
+                r.handle.Name = r.name;
+                break;
+            }
+            case CreateLoaded:
+            {
+                CreateLoadedResponse r = (CreateLoadedResponse)resp;
+                r.handle.Name = r.name;
+                break;
+            }
+            default:
+                break;
+        }
     }
 
     /**
@@ -499,28 +1094,137 @@ public abstract class TpmBase implements Closeable
     TpmDevice device;
     TpmCallbackInterface callbackObject;
     
-    TPM_RC lastResponseCode;
-    
-    TPMT_HA     CommandAuditHash;
-    TPMT_HA     AuditCpHash;
+    /** Tracked command audit digest, or null if the audit is not started */
+    volatile TPMT_HA CommandAuditHash;
+
+    /** Codes of the commands always audited */
+    volatile Set<Integer> AuditedCommands = Collections.emptySet();
 
     //
     // Per-invocation state
     //
 
-    /** Suppress exceptions in response to the next command failure */
-    boolean     AllowErrors = false;
-    boolean     AuditCommand = false;
-    
-    /** List of allowed response codes for the next command invocation.
-     * 
-     *  If it contains TPM_RC.SUCCESS value, it is always the first item of the list.
+    /**
+     * State of a TPM command invocation. It is set up by the modifier methods (_allowErrors(),
+     * _withSessions(), etc.) for the next command executed by the same thread, so that
+     * concurrent callers sharing a Tpm object do not see each other's modifiers.
      */
-    TPM_RC[]    ExpectedResponses;
+    static class InvocationState
+    {
+        /** Response code of the last command executed by this thread */
+        TPM_RC      lastResponseCode = TPM_RC.SUCCESS;
+
+        /** Suppress exceptions in response to the next command failure */
+        boolean     AllowErrors = false;
+
+        /** Extend the tracked audit digest with the next command */
+        boolean     AuditCommand = false;
 
-    TPM_HANDLE[] Sessions;
-    //TPM_RC ErrorToExpect;
+        /** List of allowed response codes for the next command invocation.
+         * 
+         *  If it contains TPM_RC.SUCCESS value, it is always the first item of the list.
+         */
+        TPM_RC[]    ExpectedResponses;
 
-    TPMT_HA     CpHash = null;
+        TPM_HANDLE[] Sessions;
 
+        TPMT_HA     CpHash = null;
+
+        boolean isSuccessExpected()
+        {
+            return ExpectedResponses == null || ExpectedResponses[0] == TPM_RC.SUCCESS;
+        }
+
+        /**
+         * Moves the modifiers into a new state object (used to pass them to another thread)
+         * @return New state object with the modifiers of this one
+         */
+        InvocationState take()
+        {
+            InvocationState res = new InvocationState();
+            res.AllowErrors = AllowErrors;
+            res.AuditCommand = AuditCommand;
+            res.ExpectedResponses = ExpectedResponses;
+            res.Sessions = Sessions;
+            res.CpHash = CpHash;
+            reset();
+            return res;
+        }
+
+        /** Clears the modifiers after they have been applied to a command */
+        void reset()
+        {
+            AllowErrors = false;
+            AuditCommand = false;
+            ExpectedResponses = null;
+            Sessions = null;
+            CpHash = null;
+        }
+    }
+
+    final ThreadLocal<InvocationState> invocation = ThreadLocal.withInitial(InvocationState::new);
+
+    /** A marshaled TPM command together with the state needed to process its response */
+    static class PendingCommand
+    {
+        final TPM_CC        cmdCode;
+        final RespStructure resp;
+        final int           sessTag;
+        final byte[]        auditCpHash;
+
+        /** Marshaled command, or null while it is only held by pooledCmdBuf */
+        byte[]              cmdBuf;
+
+        /** Pooled buffers holding the marshaled command and its response, when the command
+         *  is sent directly from the buffer it was marshaled to (null otherwise) */
+        TpmBuffer           pooledCmdBuf;
+        TpmBuffer           pooledRespBuf;
+
+        /** Modifiers applied to the command */
+        final InvocationState inv;
+
+        /** AuthSession objects used by the command (null for the other sessions) */
+        AuthSession[] authSessions;
+
+        /** Keys of the response HMACs (null for the sessions without HMAC) */
+        byte[][] respHmacKeys;
+
+        /** Tracked audit digest extended by the command, or null */
+        TPMT_HA auditHash;
+
+        /** Session encrypting the first response parameter, and its key */
+        AuthSession encryptSession;
+        byte[] encryptKey;
+
+        /** Policy session whose state is changed by the command (e.g. by TPM2_PolicyAuthValue) */
+        AuthSession policySession;
+
+        PendingCommand(TPM_CC cmdCode, RespStructure resp, int sessTag, byte[] cmdBuf,
+                       byte[] auditCpHash, InvocationState inv)
+        {
+            this.cmdCode = cmdCode;
+            this.resp = resp;
+            this.sessTag = sessTag;
+            this.cmdBuf = cmdBuf;
+            this.auditCpHash = auditCpHash;
+            this.inv = inv;
+        }
+
+        /** @return The marshaled command (copied out of its pooled buffer if necessary) */
+        byte[] cmdBytes()
+        {
+            if (cmdBuf == null)
+                cmdBuf = pooledCmdBuf.trimmedCopy();
+            return cmdBuf;
+        }
+
+        /** Returns the pooled buffers of the command to the pool of the current thread */
+        void releaseBuffers()
+        {
+            TpmBufferPool bufPool = TpmBufferPool.forThread();
+            bufPool.release(pooledCmdBuf);
+            bufPool.release(pooledRespBuf);
+            pooledCmdBuf = pooledRespBuf = null;
+        }
+    }
 }
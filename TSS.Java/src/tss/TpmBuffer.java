@@ -4,6 +4,8 @@ import java.lang.reflect.Array;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Stack;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 
 public class TpmBuffer
 {
@@ -25,9 +27,11 @@ public class TpmBuffer
     boolean outOfBounds;
     Stack<SizedStructInfo> sizedStructSizes;
 
-    void init(byte[] backingBuffer)
+    void init(byte[] backingBuffer) { init(ByteBuffer.wrap(backingBuffer)); }
+
+    void init(ByteBuffer backingBuffer)
     {
-        buf = ByteBuffer.wrap(backingBuffer);
+        buf = backingBuffer;
         sizedStructSizes = new Stack<SizedStructInfo>();
         outOfBounds = false;
     }
@@ -47,9 +51,24 @@ public class TpmBuffer
      */
     public TpmBuffer(byte[] buf) { init(buf); }
 
+    /** Constructs an input marshling buffer over the beginning of the given array (without
+     *  copying it). Its size() is the given size, while buffer() returns the whole array.
+     * @param buf A marshaled representation to initialize the new input buffer with
+     * @param size Size of the marshaled data at the beginning of the array
+     */
+    public TpmBuffer(byte[] buf, int size) { init(ByteBuffer.wrap(buf, 0, size).slice()); }
+
     public void clear() { buf.clear(); }
 
-    public void reset() { clear(); }
+    /** Prepares this buffer for reuse: rewinds it to the beginning and clears the
+     *  out-of-bounds status and the sized structures stack.
+     */
+    public void reset()
+    {
+        clear();
+        sizedStructSizes.clear();
+        outOfBounds = false;
+    }
 
     /** @return Reference to the backing byte buffer */
     public byte[] buffer() { return buf.array(); }
@@ -85,6 +104,23 @@ public class TpmBuffer
         return this.buf.array();
     }
 
+    /** @return A copy of the marshaled data (from the beginning of the buffer up to the
+     *          current position). Unlike trim() this buffer is left intact.
+     */
+    public byte[] trimmedCopy()
+    {
+        return Arrays.copyOf(buf.array(), curPos());
+    }
+
+    /** @return Length-bounded view of the marshaled data (from the beginning of the buffer
+     *          up to the current position) sharing the backing array, i.e. a non-copying
+     *          alternative to trim(). The view is only valid until this buffer is modified.
+     */
+    public ByteBuffer view()
+    {
+        return ByteBuffer.wrap(buf.array(), 0, curPos()).slice();
+    }
+
     public int getCurStuctRemainingSize()
     {
         SizedStructInfo ssi = sizedStructSizes.peek();
@@ -109,13 +145,13 @@ public class TpmBuffer
                 buf.put((byte) val);
                 return;
             case 2:
-                writeByteBuf(Helpers.hostToNet((short)val));
+                buf.putShort((short) val);
                 return;
             case 4:
-                writeByteBuf(Helpers.hostToNet((int)val));
+                buf.putInt((int) val);
                 return;
             case 8:
-                writeByteBuf(Helpers.hostToNet(val));
+                buf.putLong(val);
                 return;
         }
         assert (false);
@@ -175,7 +211,7 @@ public class TpmBuffer
     public void writeInt(int val) { writeNum(val, 4); }
 
     public <T extends TpmEnum<T>>
-    void writeInt(TpmEnum<T> val) { writeShort(val.toInt()); }
+    void writeInt(TpmEnum<T> val) { writeInt(val.toInt()); }
 
     /** Marshals the given 64-bit integer to this buffer.
      * @param val 64-bit integer value to marshal
@@ -214,6 +250,30 @@ public class TpmBuffer
         buf.put(data, 0, data.length);
     }
 
+    /** Marshalls the given fragment of a byte array with no length prefix.
+     * @param data   Byte array containing the fragment to marshal
+     * @param offset Start of the fragment
+     * @param length Length of the fragment
+     */
+    public void writeByteBuf(byte[] data, int offset, int length)
+    {
+        if (length == 0 || !checkLen(length))
+            return;
+        buf.put(data, offset, length);
+    }
+
+    /** Marshalls the remaining contents of the given byte buffer with no length prefix.
+     *  The position of the source buffer is not changed.
+     * @param data Byte buffer to marshal
+     */
+    public void writeByteBuf(ByteBuffer data)
+    {
+        int dataSize = data != null ? data.remaining() : 0;
+        if (dataSize == 0 || !checkLen(dataSize))
+            return;
+        buf.put(data.duplicate());
+    }
+
     /** Unmarshalls a byte buffer of the given size (no marshaled length prefix).
      * @param size Size of the byte buffer to unmarshal
      * @return Unmarshaled byte buffer
@@ -263,28 +323,36 @@ public class TpmBuffer
         return newObj;
     }
 
+    /** Unmarshals a new object constructed by the given factory (normally the constructor
+     *  reference of the object's type), without using reflection.
+     * @param factory Creates an empty object of the type to unmarshal
+     * @return Unmarshaled object
+     */
+    public <T extends TpmMarshaller>
+    T createObj(Supplier<T> factory)
+    {
+        T newObj = factory.get();
+        newObj.initFromTpm(this);
+        return newObj;
+    }
+
     public <T extends TpmMarshaller>
     void writeSizedObj(T obj)
     {
-        final int lenSize = 2;  // Length of the object size is always 2 bytes
+        // Length of the object size is always 2 bytes
         if (obj == null)
         {
             writeShort(0);
             return;
         }
-        if (!this.checkLen(lenSize))
-            return;
-
-        // Remember position to marshal the size of the data structure
-        int sizePos = curPos();
-        // Account for the reserved size area
-        curPos(sizePos + lenSize);
-        // Marshal the object
+        // The object size is known upfront, so that it is marshaled in one pass. If wireSize()
+        // does not agree with what toTpm() writes, the size is corrected afterwards.
+        int sizePos = curPos(),
+            size = obj.wireSize();
+        writeShort(size);
         obj.toTpm(this);
-        // Calc marshaled object len
-        int objSize = curPos() - (sizePos + lenSize);
-        // Marshal it in the appropriate position
-        writeNumAtPos(objSize, sizePos, lenSize);
+        if (isOk() && curPos() - sizePos - 2 != size)
+            writeNumAtPos(curPos() - sizePos - 2, sizePos, 2);
     }
 
     public <T extends TpmMarshaller>
@@ -301,6 +369,24 @@ public class TpmBuffer
         return newObj;
     }
 
+    /** Unmarshals a new object with a 2-byte size prefix, constructed by the given factory.
+     * @param factory Creates an empty object of the type to unmarshal
+     * @return Unmarshaled object or null if the marshaled size is 0
+     */
+    public <T extends TpmMarshaller>
+    T createSizedObj(Supplier<T> factory)
+    {
+        // Length of the object size is always 2 bytes
+        int size = readShort();
+        if (size == 0)
+            return null;
+
+        sizedStructSizes.push(new SizedStructInfo(curPos(), size));
+        T newObj = createObj(factory);
+        this.sizedStructSizes.pop();
+        return newObj;
+    }
+
     // Array element type is not TpmStructure as the method needs to handle not only 
     // TPM structures but also enums that are implemented as first class objects
     // (rather than value types) in Java.
@@ -337,4 +423,24 @@ public class TpmBuffer
         }
         return arr;
     }
+
+    /** Unmarshals an array of objects with a 4-byte length prefix without using reflection.
+     * @param factory Creates an empty array element object
+     * @param arrayFactory Creates an array of the given length
+     * @return Unmarshaled array
+     */
+    public <T extends TpmMarshaller>
+    T[] readObjArr(Supplier<T> factory, IntFunction<T[]> arrayFactory)
+    {
+        // Length of the array size is always 4 bytes
+        int numElems = readInt();
+        T[] arr = arrayFactory.apply(numElems);
+        for (int i=0; i < numElems; ++i)
+        {
+            if (!isOk())
+                break;
+            arr[i] = createObj(factory);
+        }
+        return arr;
+    }
 }
@@ -0,0 +1,67 @@
+package tss;
+
+import java.util.ArrayDeque;
+
+/**
+ * A pool of reusable output marshaling buffers.
+ * <P>
+ * Command dispatch and object serialization need a scratch buffer large enough for any
+ * TPM command (4096 bytes by default). Instead of allocating a fresh one each time, the
+ * TSS takes it from the pool of the current thread, and returns it once the marshaled
+ * data have been copied out or consumed.
+ * <P>
+ * A pool instance is not thread-safe. Use {@link #forThread()} to get the pool confined
+ * to the current thread.
+ */
+public class TpmBufferPool
+{
+    /** Capacity of the pooled buffers (in bytes) */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /** Maximal number of idle buffers retained by a pool */
+    public static final int DEFAULT_MAX_IDLE = 8;
+
+    static final ThreadLocal<TpmBufferPool> perThread = ThreadLocal.withInitial(TpmBufferPool::new);
+
+    final int capacity;
+    final int maxIdle;
+    final ArrayDeque<TpmBuffer> idle = new ArrayDeque<TpmBuffer>();
+
+    /** Creates a pool of buffers with the default capacity */
+    public TpmBufferPool() { this(DEFAULT_CAPACITY, DEFAULT_MAX_IDLE); }
+
+    /** Creates a pool of buffers with the given capacity
+     * @param capacity Capacity of the pooled buffers in bytes
+     * @param maxIdle  Maximal number of idle buffers retained by the pool
+     */
+    public TpmBufferPool(int capacity, int maxIdle)
+    {
+        this.capacity = capacity;
+        this.maxIdle = maxIdle;
+    }
+
+    /** @return The pool confined to the current thread */
+    public static TpmBufferPool forThread() { return perThread.get(); }
+
+    /** @return An empty output buffer. It should be returned to this pool with release()
+     *          when it is no longer used.
+     */
+    public TpmBuffer acquire()
+    {
+        TpmBuffer buf = idle.pollFirst();
+        return buf != null ? buf : new TpmBuffer(capacity);
+    }
+
+    /** Returns a buffer obtained via acquire() to the pool.
+     *  The buffer must not be used by the caller after this call.
+     *  @param buf The buffer to return. May be null.
+     */
+    public void release(TpmBuffer buf)
+    {
+        // A buffer whose backing array was replaced (e.g. by trim()) is not reused
+        if (buf == null || buf.size() != capacity || idle.size() >= maxIdle)
+            return;
+        buf.reset();
+        idle.addFirst(buf);
+    }
+}
@@ -1,6 +1,7 @@
 package tss;
 
 import java.io.Closeable;
+import java.nio.ByteBuffer;
 
 /**
  * Partially abstract base class for classes implementing communication 
@@ -80,8 +81,41 @@ public abstract class TpmDevice implements Closeable
     /** @return  TPM response buffer received from the TPM device */
     public abstract byte[] getResponse();
 
+    /** Sends the TPM command contained in the given buffer (from its position to its limit)
+     *  to the TPM. The default implementation copies it to a byte array.
+     *  @param cmdBuf  TPM command buffer
+     */
+    public void dispatchCommand(ByteBuffer cmdBuf)
+    {
+        byte[] cmd = new byte[cmdBuf.remaining()];
+        cmdBuf.get(cmd);
+        dispatchCommand(cmd);
+    }
+
+    /** Receives the TPM response into the given buffer (at its position)
+     *  @param respBuf  Buffer receiving the response
+     *  @return  Size of the response
+     */
+    public int getResponse(ByteBuffer respBuf)
+    {
+        byte[] resp = getResponse();
+        respBuf.put(resp);
+        return resp.length;
+    }
+
+    /** @return  Whether dispatchCommand(ByteBuffer) and getResponse(ByteBuffer) are implemented
+     *           without copying, so that the TSS sends its commands through them directly from
+     *           its pooled marshaling buffers
+     */
+    public boolean supportsByteBuffers() { return false; }
+
     /** @return  Whether the TPM response to the previously issued command is ready */
     public abstract boolean responseReady();
+
+    /** @return  Whether several commands can be dispatched before their responses are received.
+     *           If so, getResponse() returns the responses in the order the commands were sent.
+     */
+    public boolean supportsPipelining() { return false; }
     
     /** Powers on/off the TPM.
      * 
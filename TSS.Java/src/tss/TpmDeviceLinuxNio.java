@@ -0,0 +1,161 @@
+package tss;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * TPM device accessed through the Linux kernel driver (/dev/tpmrm0, or /dev/tpm0 if the kernel
+ * resource manager is not available) with a FileChannel.
+ * <P>
+ * Commands are written from, and responses read into, the caller's buffers (including direct
+ * buffers) with dispatchCommand(ByteBuffer) and getResponse(ByteBuffer), without intermediate
+ * copies or allocations. The byte array interface reads the responses into a reused direct
+ * buffer, and only allocates the returned array.
+ * <P>
+ * The kernel driver executes a command within the write() call of a blocking file, so the
+ * response is available as soon as dispatchCommand() returns, and responseReady() does not block.
+ */
+public class TpmDeviceLinuxNio extends TpmDevice
+{
+    /** Size of the command and response buffers of the kernel driver (TPM_BUFSIZE) */
+    public static final int MaxResponseSize = 4096;
+
+    final String[] devNames;
+    FileChannel channel;
+    String devName;
+
+    /** Whether the response to the last command has not been read yet */
+    boolean responsePending;
+
+    /** Reused buffer for the responses returned as byte arrays, or read in several parts */
+    ByteBuffer respBuf;
+
+    /** Connects to /dev/tpmrm0, or to /dev/tpm0 if the former is not available */
+    public TpmDeviceLinuxNio()
+    {
+        this("/dev/tpmrm0", "/dev/tpm0");
+    }
+
+    /**
+     * @param devNames TPM device files to try (in this order)
+     */
+    public TpmDeviceLinuxNio(String... devNames)
+    {
+        this.devNames = devNames;
+    }
+
+    @Override
+    public boolean connect()
+    {
+        if (channel != null)
+            return true;
+
+        StringBuilder errors = new StringBuilder();
+        for (String name : devNames)
+        {
+            try {
+                channel = FileChannel.open(Paths.get(name), StandardOpenOption.READ, StandardOpenOption.WRITE);
+                devName = name;
+                respBuf = ByteBuffer.allocateDirect(MaxResponseSize);
+                responsePending = false;
+                return true;
+            } catch (IOException | RuntimeException e) {
+                errors.append(errors.length() == 0 ? "" : " and ").append("Failed to open " + name + ": " + e);
+            }
+        }
+        System.err.println("TSS.Java: " + errors);
+        return false;
+    }
+
+    @Override
+    public void close()
+    {
+        if (channel != null)
+            try { channel.close(); } catch (IOException ioe) {}
+        channel = null;
+    }
+
+    @Override
+    public void dispatchCommand(byte[] command)
+    {
+        dispatchCommand(ByteBuffer.wrap(command));
+    }
+
+    @Override
+    public void dispatchCommand(ByteBuffer cmdBuf)
+    {
+        if (responsePending)
+            throw new TpmException("The response to the previous TPM command has not been read");
+        try {
+            // The driver only accepts a whole command in a single write
+            channel.write(cmdBuf);
+        } catch (IOException e) {
+            throw new TpmException("Failed to send TPM command to " + devName, e);
+        }
+        if (cmdBuf.hasRemaining())
+            throw new TpmException("Failed to send the whole TPM command to " + devName);
+        responsePending = true;
+    }
+
+    @Override
+    public byte[] getResponse()
+    {
+        respBuf.clear();
+        int respSize = readResponse(respBuf);
+        respBuf.flip();
+        byte[] resp = new byte[respSize];
+        respBuf.get(resp);
+        return resp;
+    }
+
+    @Override
+    public int getResponse(ByteBuffer dst)
+    {
+        // The driver returns the whole response in a single read, so that a buffer smaller
+        // than the largest possible response may only receive it through the internal buffer
+        if (dst.remaining() >= MaxResponseSize)
+            return readResponse(dst);
+
+        respBuf.clear();
+        int respSize = readResponse(respBuf);
+        if (respSize > dst.remaining())
+            throw new TpmException("TPM response of " + respSize + " bytes does not fit the buffer");
+        respBuf.flip();
+        dst.put(respBuf);
+        return respSize;
+    }
+
+    @Override
+    public boolean supportsByteBuffers() { return true; }
+
+    @Override
+    public boolean responseReady()
+    {
+        return responsePending;
+    }
+
+    /**
+     * Reads the response to the last command into the given buffer (at its position)
+     * @return Response size
+     */
+    int readResponse(ByteBuffer dst)
+    {
+        if (!responsePending)
+            throw new TpmException("No previous TPM command, or TPM command failed");
+        responsePending = false;
+
+        int start = dst.position(),
+            respSize;
+        try {
+            respSize = channel.read(dst);
+        } catch (IOException e) {
+            throw new TpmException("Failed to read TPM response from " + devName, e);
+        }
+        if (respSize < 10 || dst.getInt(start + 2) != respSize)
+            throw new TpmException("Bad TPM response from " + devName + " (" + respSize + " bytes read)");
+        return respSize;
+    }
+}
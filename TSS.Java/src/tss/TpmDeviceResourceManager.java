@@ -0,0 +1,477 @@
+package tss;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import tss.tpm.*;
+
+/**
+ * Resource manager sharing one TPM between several clients (similar to the Linux /dev/tpmrm0
+ * device, but usable on top of any TpmDevice, e.g. TpmDeviceTcp and the simulator).
+ * <P>
+ * Each client is a TpmDeviceResourceManager object: the first one is created over the TPM
+ * device, the others by newClient(). The transient objects created by a client are given
+ * virtual handles, and are only accessible to this client. When the TPM runs out of object or
+ * session slots, the least recently used objects and sessions (of any client) are context
+ * saved and flushed, and they are transparently loaded back when a command uses them again.
+ * Closing a client flushes all its objects and sessions. The TPM device is closed along with
+ * the last client.
+ * <P>
+ * The clients can be used from different threads; their commands are executed one at a time.
+ * Persistent handles, NV indices and other handle types are passed to the TPM unchanged.
+ * Session handles are not virtualized (their value does not change across context save/load),
+ * but a client can only use the sessions it started or loaded.
+ */
+public class TpmDeviceResourceManager extends TpmDevice
+{
+    /** First virtual transient object handle */
+    static final int VirtualHandleBase = 0x80FF0000;
+
+    static final int ST_NO_SESSIONS = 0x8001;
+    static final int ST_SESSIONS = 0x8002;
+
+    /** Size of a session in the authorization area with an empty nonce and HMAC */
+    static final int MinSessionSize = 9;
+
+    /** A transient object or a session of a client */
+    static class Entry
+    {
+        final TpmDeviceResourceManager owner;
+        final boolean isSession;
+
+        /** Handle seen by the client */
+        final int handle;
+
+        /** Handle of the object in the TPM while it is loaded */
+        int tpmHandle;
+
+        /** Context of the evicted object/session, or null if it is loaded */
+        TPMS_CONTEXT context;
+
+        long lastUsed;
+
+        Entry(TpmDeviceResourceManager owner, boolean isSession, int handle, int tpmHandle)
+        {
+            this.owner = owner;
+            this.isSession = isSession;
+            this.handle = handle;
+            this.tpmHandle = tpmHandle;
+        }
+
+        boolean isLoaded() { return context == null; }
+    }
+
+    /** State shared by all clients of a TPM */
+    static class Manager
+    {
+        final TpmDevice device;
+        final Tpm tpm = new Tpm();
+
+        /** Attributes of the commands implemented by the TPM, by command code */
+        HashMap<Integer, Integer> commands;
+
+        final ArrayList<Entry> entries = new ArrayList<Entry>();
+        int nextVirtualHandle = VirtualHandleBase;
+        long useCount;
+        int numClients;
+
+        Manager(TpmDevice device)
+        {
+            this.device = device;
+            tpm._setDevice(device);
+        }
+    }
+
+    final Manager rm;
+
+    /** Transient objects of this client by virtual handle */
+    final HashMap<Integer, Entry> objects = new HashMap<Integer, Entry>();
+
+    /** Sessions of this client by handle */
+    final HashMap<Integer, Entry> sessions = new HashMap<Integer, Entry>();
+
+    int locality;
+    byte[] response;
+    boolean closed;
+
+    /**
+     * Creates the first client of the given TPM device
+     * @param device TPM device to manage. It is connected by connect(), and closed when the
+     *        last client is closed. It should not be used directly while it is managed.
+     */
+    public TpmDeviceResourceManager(TpmDevice device)
+    {
+        this(new Manager(device));
+    }
+
+    TpmDeviceResourceManager(Manager rm)
+    {
+        this.rm = rm;
+        synchronized (rm) {
+            ++rm.numClients;
+        }
+    }
+
+    /** @return A new client sharing the TPM (and the object and session slots) with this one */
+    public TpmDeviceResourceManager newClient()
+    {
+        return new TpmDeviceResourceManager(rm);
+    }
+
+    @Override
+    public boolean connect()
+    {
+        synchronized (rm) {
+            return rm.numClients > 1 || rm.device.connect();
+        }
+    }
+
+    /** Flushes the objects and sessions of this client */
+    @Override
+    public void close()
+    {
+        synchronized (rm)
+        {
+            if (closed)
+                return;
+            closed = true;
+
+            for (Entry e : new ArrayList<Entry>(rm.entries))
+            {
+                if (e.owner != this)
+                    continue;
+                // Saved sessions still occupy a slot in the TPM, while saved objects don't
+                if (e.isSession || e.isLoaded())
+                {
+                    try {
+                        rm.tpm.FlushContext(TPM_HANDLE.from(e.tpmHandle));
+                    } catch (TpmException ex) {
+                        // The TPM may have been reset
+                    }
+                }
+                untrack(e);
+            }
+
+            if (--rm.numClients == 0)
+                rm.device.close();
+        }
+    }
+
+    @Override
+    public void dispatchCommand(byte[] commandBuffer)
+    {
+        synchronized (rm)
+        {
+            if (closed)
+                throw new TpmException("The resource manager client is closed");
+            try {
+                response = execute(commandBuffer.clone());
+            } catch (TpmException e) {
+                if (e.ResponseCode == null)
+                    throw e;
+                response = errorResponse(e.ResponseCode.toInt());
+            }
+        }
+    }
+
+    @Override
+    public byte[] getResponse()
+    {
+        if (response == null)
+            throw new TpmException("Cannot getResponse() without a prior dispatchCommand()");
+        byte[] resp = response;
+        response = null;
+        return resp;
+    }
+
+    @Override
+    public boolean responseReady()
+    {
+        // Commands are executed synchronously
+        return true;
+    }
+
+    @Override
+    public void setLocality(int locality)
+    {
+        this.locality = locality;
+    }
+
+    /** Executes a command on behalf of this client, translating its handles */
+    byte[] execute(byte[] cmd)
+    {
+        ByteBuffer buf = ByteBuffer.wrap(cmd);
+        if (cmd.length < 10)
+            return send(cmd);
+
+        int tag = buf.getShort(0) & 0xFFFF;
+        int cc = buf.getInt(6);
+        Integer attrs = commandAttributes(cc);
+        if (attrs == null)
+            return send(cmd);
+
+        if (cc == TPM_CC.FlushContext.toInt())
+            return flushContext(cmd);
+
+        int numHandles = (attrs & TPMA_CC.cHandles_BIT_MASK.toInt()) >>> TPMA_CC.cHandles_BIT_OFFSET.toInt();
+        if (cmd.length < 10 + 4 * numHandles)
+            return send(cmd);
+
+        // Objects and sessions used by the command: they must stay loaded while it executes
+        ArrayList<Entry> used = new ArrayList<Entry>();
+        Entry[] handleEntries = new Entry[numHandles];
+        for (int i = 0; i < numHandles; ++i)
+        {
+            int h = buf.getInt(10 + 4 * i);
+            if (!isManaged(h))
+                continue;
+            Entry e = lookup(h);
+            if (e == null)
+                return errorResponse(TPM_RC.HANDLE.toInt() + TPM_RC.H.toInt() + TPM_RC._1.toInt() * (i + 1));
+            handleEntries[i] = e;
+            used.add(e);
+        }
+
+        // Sessions of the authorization area, and whether they are flushed by the command
+        ArrayList<Entry> endedSessions = new ArrayList<Entry>();
+        if (tag == ST_SESSIONS)
+        {
+            // The authorization area is checked as the TPM would, so that a malformed command
+            // is answered with an error instead of being executed with the wrong handles
+            int pos = 10 + 4 * numHandles;
+            if (cmd.length < pos + 4)
+                return errorResponse(TPM_RC.COMMAND_SIZE.toInt());
+            int authSize = buf.getInt(pos);
+            pos += 4;
+            if (authSize < MinSessionSize || authSize > cmd.length - pos)
+                return errorResponse(TPM_RC.AUTHSIZE.toInt());
+            int end = pos + authSize;
+            for (int i = 0; pos < end; ++i)
+            {
+                if (i == 3 || end - pos < MinSessionSize)
+                    return errorResponse(TPM_RC.AUTHSIZE.toInt());
+                int h = buf.getInt(pos);
+                pos += 4;
+                pos += 2 + (buf.getShort(pos) & 0xFFFF);    // nonce
+                if (end - pos < 3)
+                    return errorResponse(TPM_RC.AUTHSIZE.toInt());
+                int sessAttrs = cmd[pos++];
+                pos += 2 + (buf.getShort(pos) & 0xFFFF);    // hmac
+                if (pos > end)
+                    return errorResponse(TPM_RC.AUTHSIZE.toInt());
+
+                if (!isSession(h))
+                    continue;
+                Entry e = sessions.get(h);
+                if (e == null)
+                    return errorResponse(TPM_RC.HANDLE.toInt() + TPM_RC.S.toInt() + TPM_RC._1.toInt() * (i + 1));
+                used.add(e);
+                if ((sessAttrs & TPMA_SESSION.continueSession.toInt()) == 0)
+                    endedSessions.add(e);
+            }
+        }
+
+        for (Entry e : used)
+        {
+            load(e, used);
+            e.lastUsed = ++rm.useCount;
+        }
+        for (int i = 0; i < numHandles; ++i)
+        {
+            if (handleEntries[i] != null)
+                buf.putInt(10 + 4 * i, handleEntries[i].tpmHandle);
+        }
+
+        byte[] resp;
+        while (true)
+        {
+            resp = send(cmd);
+            int rc = responseCode(resp);
+            if ((rc == TPM_RC.OBJECT_MEMORY.toInt() && evict(false, used))
+                || (rc == TPM_RC.SESSION_MEMORY.toInt() && evict(true, used)))
+                continue;
+            if (rc != TPM_RC.SUCCESS.toInt())
+                return resp;
+            break;
+        }
+
+        if ((attrs & TPMA_CC.flushed.toInt()) != 0)
+        {
+            for (Entry e : handleEntries)
+                if (e != null && !e.isSession)
+                    untrack(e);
+        }
+        for (Entry e : endedSessions)
+            untrack(e);
+
+        // A saved session context belongs to the client from now on
+        if (cc == TPM_CC.ContextSave.toInt() && handleEntries[0] != null && handleEntries[0].isSession)
+            untrack(handleEntries[0]);
+
+        if ((attrs & TPMA_CC.rHandle.toInt()) != 0 && resp.length >= 14)
+        {
+            ByteBuffer respBuf = ByteBuffer.wrap(resp);
+            int h = respBuf.getInt(10);
+            if (isTransient(h))
+            {
+                Entry e = track(new Entry(this, false, rm.nextVirtualHandle++, h));
+                respBuf.putInt(10, e.handle);
+            }
+            else if (isSession(h))
+                track(new Entry(this, true, h, h));
+        }
+        return resp;
+    }
+
+    /** FlushContext takes its handle as a parameter, and saved objects need not be loaded */
+    byte[] flushContext(byte[] cmd)
+    {
+        ByteBuffer buf = ByteBuffer.wrap(cmd);
+        if (cmd.length < 14)
+            return send(cmd);
+        int h = buf.getInt(10);
+        if (!isManaged(h))
+            return send(cmd);
+
+        Entry e = lookup(h);
+        if (e == null)
+            return errorResponse(TPM_RC.HANDLE.toInt() + TPM_RC.P.toInt() + TPM_RC._1.toInt());
+
+        byte[] resp;
+        if (e.isSession || e.isLoaded())
+        {
+            buf.putInt(10, e.tpmHandle);
+            resp = send(cmd);
+            if (responseCode(resp) != TPM_RC.SUCCESS.toInt())
+                return resp;
+        }
+        else
+            resp = errorResponse(TPM_RC.SUCCESS.toInt());
+        untrack(e);
+        return resp;
+    }
+
+    /** Loads the context of an evicted object or session, evicting others if needed */
+    void load(Entry e, ArrayList<Entry> used)
+    {
+        while (!e.isLoaded())
+        {
+            TPM_HANDLE h = rm.tpm._allowErrors().ContextLoad(e.context);
+            TPM_RC rc = rm.tpm._getLastResponseCode();
+            if (rc == TPM_RC.SUCCESS)
+            {
+                e.tpmHandle = h.handle;
+                e.context = null;
+            }
+            else if (!(rc == TPM_RC.OBJECT_MEMORY && evict(false, used))
+                     && !(rc == TPM_RC.SESSION_MEMORY && evict(true, used)))
+                throw new TpmException(rc);
+        }
+    }
+
+    /**
+     * Context saves the least recently used loaded object or session not used by the current
+     * command
+     * @return false if there is nothing to evict
+     */
+    boolean evict(boolean session, ArrayList<Entry> used)
+    {
+        Entry lru = null;
+        for (Entry e : rm.entries)
+        {
+            if (e.isSession == session && e.isLoaded() && !used.contains(e)
+                && (lru == null || e.lastUsed < lru.lastUsed))
+                lru = e;
+        }
+        if (lru == null)
+            return false;
+
+        TPM_HANDLE h = TPM_HANDLE.from(lru.tpmHandle);
+        lru.context = rm.tpm.ContextSave(h);
+        // Saving a session context removes it from the TPM memory
+        if (!session)
+            rm.tpm.FlushContext(h);
+        return true;
+    }
+
+    Entry track(Entry e)
+    {
+        e.lastUsed = ++rm.useCount;
+        rm.entries.add(e);
+        (e.isSession ? sessions : objects).put(e.handle, e);
+        return e;
+    }
+
+    void untrack(Entry e)
+    {
+        rm.entries.remove(e);
+        (e.isSession ? e.owner.sessions : e.owner.objects).remove(e.handle);
+    }
+
+    Entry lookup(int h)
+    {
+        return isSession(h) ? sessions.get(h) : objects.get(h);
+    }
+
+    byte[] send(byte[] cmd)
+    {
+        try {
+            rm.device.setLocality(locality);
+        } catch (UnsupportedOperationException e) {
+            // not all TpmDevice support setLocality
+        }
+        return rm.tpm.transmit(cmd);
+    }
+
+    /** @return Attributes of the given command, or null if the TPM does not implement it */
+    Integer commandAttributes(int cc)
+    {
+        if (rm.commands == null)
+        {
+            HashMap<Integer, Integer> commands = new HashMap<Integer, Integer>();
+            int cmdIndexMask = TPMA_CC.commandIndex_BIT_MASK.toInt() | TPMA_CC.V.toInt();
+            int next = TPM_CC.FIRST.toInt();
+            while (true)
+            {
+                GetCapabilityResponse caps = rm.tpm.GetCapability(TPM_CAP.COMMANDS, next, 256);
+                TPMA_CC[] cmdAttrs = ((TPML_CCA)caps.capabilityData).commandAttributes;
+                for (TPMA_CC a : cmdAttrs)
+                    commands.put(a.toInt() & cmdIndexMask, a.toInt());
+                if (caps.moreData == 0 || cmdAttrs.length == 0)
+                    break;
+                next = (cmdAttrs[cmdAttrs.length - 1].toInt() & cmdIndexMask) + 1;
+            }
+            rm.commands = commands;
+        }
+        return rm.commands.get(cc);
+    }
+
+    static boolean isTransient(int h)
+    {
+        return (h >>> 24) == TPM_HT.TRANSIENT.toInt();
+    }
+
+    static boolean isSession(int h)
+    {
+        int ht = h >>> 24;
+        return ht == TPM_HT.HMAC_SESSION.toInt() || ht == TPM_HT.POLICY_SESSION.toInt();
+    }
+
+    static boolean isManaged(int h)
+    {
+        return isTransient(h) || isSession(h);
+    }
+
+    static int responseCode(byte[] resp)
+    {
+        return resp.length < 10 ? TPM_RC.FAILURE.toInt() : ByteBuffer.wrap(resp).getInt(6);
+    }
+
+    static byte[] errorResponse(int rc)
+    {
+        ByteBuffer buf = ByteBuffer.allocate(10);
+        buf.putShort((short)ST_NO_SESSIONS).putInt(10).putInt(rc);
+        return buf.array();
+    }
+}
@@ -9,6 +9,7 @@ import java.net.Socket;
 public class TpmDeviceSSLTunnelClient extends TpmDevice
 {
     protected Socket CommandSocket = null;
+    TpmSocketIo io;
     String hostName;
     int port;
 
@@ -31,10 +32,26 @@ public class TpmDeviceSSLTunnelClient extends TpmDevice
     public boolean connect()
     {
         try {
-            SocketFactory socketFactory = SSLSocketFactory.getDefault();
-            CommandSocket = socketFactory.createSocket(hostName, port);
+            CommandSocket = createSocket(hostName, port);
+            io = new TpmSocketIo(CommandSocket);
+        } catch (Exception e) {
+            if (CommandSocket != null)
+                try { CommandSocket.close(); } catch (IOException ioe) {}
+            System.err.println("Failed to connect to the TPM at " + hostName + ":" + 
+                               port + ": " +  e.getMessage());
+            return false;
+        }
 
-            SSLSocket sslSocket = (SSLSocket) CommandSocket;
+        return true;
+    }
+
+    /** @return A TLS socket connected to the tunnel server */
+    static Socket createSocket(String hostName, int port) throws IOException
+    {
+        SocketFactory socketFactory = SSLSocketFactory.getDefault();
+        Socket socket = socketFactory.createSocket(hostName, port);
+        try {
+            SSLSocket sslSocket = (SSLSocket) socket;
             sslSocket.setEnabledCipherSuites(
                     new String[] { "TLS_DHE_DSS_WITH_AES_256_CBC_SHA256" });
             sslSocket.setEnabledProtocols(
@@ -43,23 +60,18 @@ public class TpmDeviceSSLTunnelClient extends TpmDevice
             SSLParameters sslParams = new SSLParameters();
             sslParams.setEndpointIdentificationAlgorithm("HTTPS");
             sslSocket.setSSLParameters(sslParams);
-
-        } catch (Exception e) {
-            if (CommandSocket != null)
-                try { CommandSocket.close(); } catch (IOException ioe) {}
-            System.err.println("Failed to connect to the TPM at " + hostName + ":" + 
-                               port + ": " +  e.getMessage());
-            return false;
+        } catch (RuntimeException e) {
+            socket.close();
+            throw e;
         }
-
-        return true;
+        return socket;
     }
 
     @Override
     public void close()
     {
         if (CommandSocket != null) {
-            try { CommandSocket.close(); } catch (IOException ioe) {}
+            io.close();
             CommandSocket = null;
         }
     }
@@ -67,14 +79,9 @@ public class TpmDeviceSSLTunnelClient extends TpmDevice
     @Override
     public void dispatchCommand(byte[] commandBuffer) 
     {
-        writeBuf(CommandSocket, new byte[] {(byte) currentLocality});
-        writeInt(CommandSocket, commandBuffer.length);
-        try {
-            CommandSocket.getOutputStream().write(commandBuffer);
-            responsePending = true;
-        } catch (IOException e) {
-            throw new TpmException("Error sending data to the TPM", e);
-        }
+        // The frame header and the command go out in a single write
+        io.putByte(currentLocality).putInt(commandBuffer.length).put(commandBuffer).send();
+        responsePending = true;
     }
     
     @Override
@@ -85,8 +92,7 @@ public class TpmDeviceSSLTunnelClient extends TpmDevice
             throw new TpmException("Cannot getResponse() without a prior dispatchCommand()");
         }
         responsePending = false;
-        byte[] outBuf = readEncapsulated(CommandSocket);
-        return outBuf;
+        return io.readEncapsulated();
     }
     
     @Override
@@ -96,13 +102,7 @@ public class TpmDeviceSSLTunnelClient extends TpmDevice
         {
             throw new TpmException("Cannot responseReady() without a prior dispatchCommand()");
         }
-        int available;
-        try {
-            available = CommandSocket.getInputStream().available();
-        } catch (IOException e) {
-            throw new TpmException("Error getting data from the TPM", e);
-        }
-        return (available>0);
+        return io.available() > 0;
     }
 
     @Override
@@ -110,60 +110,4 @@ public class TpmDeviceSSLTunnelClient extends TpmDevice
     {
         currentLocality = locality;
     }
-
-    private int readInt(Socket s) 
-    {
-        int val=-1;
-        try {
-            val = Helpers.netToHost(readBuf(s, 4));
-        } catch (Exception e) {
-            throw new TpmException("TPM IO error", e);
-        }
-        return val;
-    }
-
-    private void writeInt(Socket s, int val) 
-    {
-        writeBuf(s, Helpers.hostToNet(val));
-    }
-    
-    private void writeBuf(Socket s, byte[] buffer) 
-    {
-        try 
-        {
-            s.getOutputStream().write(buffer, 0, buffer.length);
-        } catch (IOException e) {
-            throw new TpmException("TPM IO error", e);
-        }
-    }
-    
-    private byte[] readBuf(Socket s, int numBytes) 
-    {
-        byte[] buf = new byte[numBytes];
-        int numRead = 0;
-        while(numRead<numBytes)
-        {
-            int sz;
-            try {
-                sz = s.getInputStream().read(buf, numRead, numBytes-numRead);
-            } catch (IOException e) {
-                throw new TpmException("TPM IO error", e);
-            }
-            numRead+=sz;
-        }
-        return buf;
-    }
-    
-    private void writeEncapsulated(Socket s, byte[] buf) 
-    {
-        writeBuf(s, Helpers.hostToNet(buf.length));
-        writeBuf(s, buf);
-    }
-
-    private byte[] readEncapsulated(Socket s) 
-    {
-        byte[] t = readBuf(s, 4);
-        int sz = Helpers.netToHost(t);
-        return readBuf(s, sz);
-    }
 }
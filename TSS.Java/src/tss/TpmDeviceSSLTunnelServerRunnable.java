@@ -3,17 +3,23 @@ package tss;
 import javax.net.ServerSocketFactory;
 import javax.net.ssl.SSLServerSocket;
 import javax.net.ssl.SSLServerSocketFactory;
+import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.ServerSocket;
 import java.net.Socket;
 
+/**
+ * Serves a single tunnel client at a time. A TpmTunnelMux client may carry several logical TPM
+ * clients over its connection (multiplexed tunnel protocol, see TpmTunnelProtocol). See
+ * TpmDeviceTunnelServer for a server handling concurrent clients.
+ */
 public class TpmDeviceSSLTunnelServerRunnable implements Runnable {
     private ServerSocket server;
     private TpmDevice tpmDevice;
-    boolean stopServer;
-    boolean stopSocket;
+    volatile boolean stopServer;
+    volatile boolean stopSocket;
 
     public TpmDeviceSSLTunnelServerRunnable(int port, TpmDevice tpmDevice) throws Exception {
 
@@ -47,6 +53,17 @@ public class TpmDeviceSSLTunnelServerRunnable implements Runnable {
                     while (!stopSocket) {
                         byte locality = in.readByte();
                         byte incoming[] = readEncapsulated(socket);
+
+                        int version = TpmTunnelProtocol.parseHello(incoming);
+                        if (version > 0) {
+                            // The client negotiates the multiplexed protocol (see TpmTunnelMux).
+                            // Its streams share this connection (and TLS session).
+                            byte hello[] = TpmTunnelProtocol.hello(Math.min(version, TpmTunnelProtocol.Version));
+                            out.write(Helpers.concatenate(Helpers.hostToNet(hello.length), hello));
+                            new TpmTunnelMuxSession(tpmDevice, new DataInputStream(new BufferedInputStream(in)), out).serve();
+                            break;
+                        }
+
                         try {
                             tpmDevice.setLocality(Byte.toUnsignedInt(locality));
                         } catch (UnsupportedOperationException e) {
@@ -54,8 +71,7 @@ public class TpmDeviceSSLTunnelServerRunnable implements Runnable {
                         }
                         tpmDevice.dispatchCommand(incoming);
 
-                        while(!tpmDevice.responseReady());
-
+                        // getResponse() blocks until the TPM has answered
                         byte outgoing[] = tpmDevice.getResponse();
                         writeInt(socket, outgoing.length);
                         out.write(outgoing);
@@ -6,12 +6,15 @@ public class TpmDeviceTcp extends TpmDevice
 {
     protected Socket CommandSocket = null;
     protected Socket SignalSocket = null;
+    TpmSocketIo cmdIo;
+    TpmSocketIo signalIo;
     String hostName;
     int port;
     boolean linuxTrm;
     boolean oldTrm = true;
     
-    boolean responsePending;
+    /** Number of dispatched commands whose responses have not been read yet */
+    int pendingResponses;
     int currentLocality;
     
     public TpmDeviceTcp(String hostName, int port, boolean linuxTrm)
@@ -37,8 +40,12 @@ public class TpmDeviceTcp extends TpmDevice
     {
         try {
             CommandSocket = new Socket(hostName, port);
+            cmdIo = new TpmSocketIo(CommandSocket);
             if (!linuxTrm)
+            {
                 SignalSocket = new Socket(hostName, port+1);
+                signalIo = new TpmSocketIo(SignalSocket);
+            }
         } catch (Exception e) {
             if (CommandSocket != null)
                 try { CommandSocket.close(); } catch (IOException ioe) {}
@@ -94,13 +101,13 @@ public class TpmDeviceTcp extends TpmDevice
     public void close()
     {
         if (CommandSocket != null) {
-            writeInt(CommandSocket, TcpTpmCommands.SessionEnd.Val);
-            try { CommandSocket.close(); } catch (IOException ioe) {}
+            cmdIo.putInt(TcpTpmCommands.SessionEnd.Val).send();
+            cmdIo.close();
             CommandSocket = null;
         }
         if (SignalSocket != null) {
-            writeInt(SignalSocket, TcpTpmCommands.SessionEnd.Val);
-            try { SignalSocket.close(); } catch (IOException ioe) {}
+            signalIo.putInt(TcpTpmCommands.SessionEnd.Val).send();
+            signalIo.close();
             SignalSocket = null;
         }
     }
@@ -108,53 +115,52 @@ public class TpmDeviceTcp extends TpmDevice
     @Override
     public void dispatchCommand(byte[] commandBuffer) 
     {
-        writeInt(CommandSocket, TcpTpmCommands.SendCommand.Val);
-        writeBuf(CommandSocket, new byte[] {(byte) currentLocality});
+        // The protocol header and the command go out in a single write
+        cmdIo.putInt(TcpTpmCommands.SendCommand.Val);
+        cmdIo.putByte(currentLocality);
         if (linuxTrm && oldTrm)
         {
             // Send 'debugMsgLevel'
-            writeBuf(CommandSocket, new byte[]{0});
+            cmdIo.putByte(0);
             // Send 'commandSent' status bit
-            writeBuf(CommandSocket, new byte[]{1});
+            cmdIo.putByte(1);
         }    
-        writeInt(CommandSocket, commandBuffer.length);
-        try {
-            CommandSocket.getOutputStream().write(commandBuffer);
-            responsePending = true;
-        } catch (IOException e) {
-            throw new TpmException("Error sending data to the TPM", e);
-        }
+        cmdIo.putInt(commandBuffer.length).put(commandBuffer).send();
+        ++pendingResponses;
     }
     
     @Override
     public byte[] getResponse()
     {
-        if(!responsePending)
+        if(pendingResponses == 0)
         {
             throw new TpmException("Cannot getResponse() without a prior dispatchCommand()");
         }
-        responsePending = false;
-        byte[] outBuf = readEncapsulated(CommandSocket);
-        readInt(CommandSocket);
+        --pendingResponses;
+        byte[] outBuf = cmdIo.readEncapsulated();
+        cmdIo.readInt();
         return outBuf;
     }
     
     @Override
     public boolean responseReady()
     {
-        if(!responsePending)
+        if(pendingResponses == 0)
         {
             throw new TpmException("Cannot responseReady() without a prior dispatchCommand()");
         }
-        int available;
-        try {
-            available = CommandSocket.getInputStream().available();
-        } catch (IOException e) {
-            throw new TpmException("Error getting data from the TPM", e);
-        }
-        return (available>0);
+        return cmdIo.available() > 0;
     }
     
+    /** Commands are processed in order by the simulator (and by the new user mode TRM), so that
+     *  several of them can be written to the socket before reading the responses.
+     */
+    @Override
+    public boolean supportsPipelining()
+    {
+        return !(linuxTrm && oldTrm);
+    }
+
     @Override
     public void powerCtl(boolean on)
     {
@@ -176,67 +182,10 @@ public class TpmDeviceTcp extends TpmDevice
     
     public void sendCmdAndGetAck(Socket s, TcpTpmCommands comm) 
     {
-        writeEncapsulated(s, Helpers.hostToNet(comm.getVal()));
-        getAck(s);
-    }
-    private void getAck(Socket s) 
-    {
-        readInt(s);
-    }
-    private int readInt(Socket s) 
-    {
-        int val=-1;
-        try {
-            val = Helpers.netToHost(readBuf(s, 4));
-        } catch (Exception e) {
-            throw new TpmException("TPM IO error", e);
-        }
-        return val;
-    }
-
-    private void writeInt(Socket s, int val) 
-    {
-        writeBuf(s, Helpers.hostToNet(val));
-    }
-    
-    private void writeBuf(Socket s, byte[] buffer) 
-    {
-        try 
-        {
-            s.getOutputStream().write(buffer, 0, buffer.length);
-        } catch (IOException e) {
-            throw new TpmException("TPM IO error", e);
-        }
-    }
-    
-    private byte[] readBuf(Socket s, int numBytes) 
-    {
-        byte[] buf = new byte[numBytes];
-        int numRead = 0;
-        while(numRead<numBytes)
-        {
-            int sz;
-            try {
-                sz = s.getInputStream().read(buf, numRead, numBytes-numRead);
-            } catch (IOException e) {
-                throw new TpmException("TPM IO error", e);
-            }
-            numRead+=sz;
-        }
-        return buf;
-    }
-    
-    private void writeEncapsulated(Socket s, byte[] buf) 
-    {
-        writeBuf(s, Helpers.hostToNet(buf.length));
-        writeBuf(s, buf);
-    }
-
-    private byte[] readEncapsulated(Socket s) 
-    {
-        byte[] t = readBuf(s, 4);
-        int sz = Helpers.netToHost(t);
-        return readBuf(s, sz);
+        TpmSocketIo io = s == CommandSocket ? cmdIo : signalIo;
+        // Size-prefixed command code
+        io.putInt(4).putInt(comm.getVal()).send();
+        io.readInt();
     }
     
     /**
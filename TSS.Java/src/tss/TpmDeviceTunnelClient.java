@@ -5,10 +5,12 @@ import java.net.Socket;
 public class TpmDeviceTunnelClient extends TpmDevice
 {
     protected Socket CommandSocket = null;
+    TpmSocketIo io;
     String hostName;
     int port;
 
-    boolean responsePending;
+    /** Number of dispatched commands whose responses have not been read yet */
+    int pendingResponses;
     int currentLocality;
 
     public TpmDeviceTunnelClient(String hostName, int port)
@@ -28,6 +30,7 @@ public class TpmDeviceTunnelClient extends TpmDevice
     {
         try {
             CommandSocket = new Socket(hostName, port);
+            io = new TpmSocketIo(CommandSocket);
         } catch (Exception e) {
             if (CommandSocket != null)
                 try { CommandSocket.close(); } catch (IOException ioe) {}
@@ -43,7 +46,7 @@ public class TpmDeviceTunnelClient extends TpmDevice
     public void close()
     {
         if (CommandSocket != null) {
-            try { CommandSocket.close(); } catch (IOException ioe) {}
+            io.close();
             CommandSocket = null;
         }
     }
@@ -51,103 +54,42 @@ public class TpmDeviceTunnelClient extends TpmDevice
     @Override
     public void dispatchCommand(byte[] commandBuffer) 
     {
-        writeBuf(CommandSocket, new byte[] {(byte) currentLocality});
-        writeInt(CommandSocket, commandBuffer.length);
-        try {
-            CommandSocket.getOutputStream().write(commandBuffer);
-            responsePending = true;
-        } catch (IOException e) {
-            throw new TpmException("Error sending data to the TPM", e);
-        }
+        // The frame header and the command go out in a single write
+        io.putByte(currentLocality).putInt(commandBuffer.length).put(commandBuffer).send();
+        ++pendingResponses;
     }
     
     @Override
     public byte[] getResponse()
     {
-        if(!responsePending)
+        if(pendingResponses == 0)
         {
             throw new TpmException("Cannot getResponse() without a prior dispatchCommand()");
         }
-        responsePending = false;
-        byte[] outBuf = readEncapsulated(CommandSocket);
-        return outBuf;
+        --pendingResponses;
+        return io.readEncapsulated();
     }
     
     @Override
     public boolean responseReady()
     {
-        if(!responsePending)
+        if(pendingResponses == 0)
         {
             throw new TpmException("Cannot responseReady() without a prior dispatchCommand()");
         }
-        int available;
-        try {
-            available = CommandSocket.getInputStream().available();
-        } catch (IOException e) {
-            throw new TpmException("Error getting data from the TPM", e);
-        }
-        return (available>0);
+        return io.available() > 0;
     }
 
+    /** The tunnel server executes commands in the order they are received */
     @Override
-    public void setLocality(int locality)  
-    {
-        currentLocality = locality;
-    }
-
-    private int readInt(Socket s) 
-    {
-        int val=-1;
-        try {
-            val = Helpers.netToHost(readBuf(s, 4));
-        } catch (Exception e) {
-            throw new TpmException("TPM IO error", e);
-        }
-        return val;
-    }
-
-    private void writeInt(Socket s, int val) 
-    {
-        writeBuf(s, Helpers.hostToNet(val));
-    }
-    
-    private void writeBuf(Socket s, byte[] buffer) 
-    {
-        try 
-        {
-            s.getOutputStream().write(buffer, 0, buffer.length);
-        } catch (IOException e) {
-            throw new TpmException("TPM IO error", e);
-        }
-    }
-    
-    private byte[] readBuf(Socket s, int numBytes) 
-    {
-        byte[] buf = new byte[numBytes];
-        int numRead = 0;
-        while(numRead<numBytes)
-        {
-            int sz;
-            try {
-                sz = s.getInputStream().read(buf, numRead, numBytes-numRead);
-            } catch (IOException e) {
-                throw new TpmException("TPM IO error", e);
-            }
-            numRead+=sz;
-        }
-        return buf;
-    }
-    
-    private void writeEncapsulated(Socket s, byte[] buf) 
+    public boolean supportsPipelining()
     {
-        writeBuf(s, Helpers.hostToNet(buf.length));
-        writeBuf(s, buf);
+        return true;
     }
 
-    private byte[] readEncapsulated(Socket s) 
+    @Override
+    public void setLocality(int locality)  
     {
-        byte[] t = readBuf(s, 4);
-        int sz = Helpers.netToHost(t);
-        return readBuf(s, sz);
+        currentLocality = locality;
     }
 }
@@ -0,0 +1,601 @@
+package tss;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+
+/**
+ * Exposes a TPM device over the network to any number of concurrent TpmDeviceTunnelClient
+ * (or, if created with an SSLContext, TpmDeviceSSLTunnelClient) connections, or to local
+ * TpmDeviceUnixSocket connections through a Unix domain socket.
+ * <P>
+ * All sockets are served by a single selector thread (the one calling run()), while the TPM
+ * commands are executed by a worker thread. Commands are taken from the connections in
+ * round-robin order, one at a time, so that a client pipelining many commands (or a slow
+ * client) does not hold up the others. The commands of each connection are executed and
+ * answered in the order they are received.
+ * <P>
+ * If the device is a TpmDeviceResourceManager, each connection is a separate client of it: the
+ * transient objects and sessions of a connection are not accessible to the others, and they
+ * are flushed when the connection is closed.
+ * <P>
+ * close() stops the server: the command being executed is completed, the connections are
+ * closed, and run() returns after closing the TPM device.
+ */
+public class TpmDeviceTunnelServer implements Runnable, Closeable
+{
+    /** Maximal size of a command accepted from a client */
+    public static final int MaxCommandSize = 0x10000;
+
+    /** Maximal number of received commands of a connection that wait for execution. Reading
+     *  from the connection is suspended while this many are queued. */
+    public static final int MaxQueuedCommands = 64;
+
+    static final int FrameHeaderSize = 5;
+    static final ByteBuffer Empty = ByteBuffer.allocate(0);
+
+    /** A command received from a client */
+    static class Command
+    {
+        final int locality;
+        final byte[] cmdBuf;
+
+        Command(int locality, byte[] cmdBuf)
+        {
+            this.locality = locality;
+            this.cmdBuf = cmdBuf;
+        }
+    }
+
+    /** State of a client connection */
+    static class Connection
+    {
+        final SocketChannel channel;
+        final SelectionKey key;
+        final SSLEngine engine;
+
+        /** Device executing the commands of this connection */
+        final TpmDevice device;
+
+        /** Received (and decrypted) bytes not yet parsed as commands */
+        ByteBuffer in = ByteBuffer.allocate(4096);
+
+        /** Response frames waiting to be sent (added by the worker thread) */
+        final ConcurrentLinkedQueue<ByteBuffer> out = new ConcurrentLinkedQueue<ByteBuffer>();
+
+        /** TLS records received but not yet decrypted, and encrypted but not yet sent */
+        ByteBuffer netIn, netOut;
+
+        /** Guarded by the schedule lock */
+        final ArrayDeque<Command> commands = new ArrayDeque<Command>();
+        boolean scheduled;
+
+        volatile boolean closed;
+
+        Connection(SocketChannel channel, SelectionKey key, SSLEngine engine, TpmDevice device)
+        {
+            this.channel = channel;
+            this.key = key;
+            this.engine = engine;
+            this.device = device;
+            if (engine != null)
+            {
+                int packetSize = engine.getSession().getPacketBufferSize();
+                netIn = ByteBuffer.allocate(packetSize);
+                netOut = ByteBuffer.allocate(packetSize);
+                netOut.flip();
+                in = ByteBuffer.allocate(Math.max(in.capacity(), engine.getSession().getApplicationBufferSize()));
+            }
+        }
+    }
+
+    final TpmDevice tpmDevice;
+    final TpmDeviceResourceManager resourceManager;
+    final SSLContext sslContext;
+    final Selector selector;
+    final ServerSocketChannel server;
+
+    /** Path of the Unix domain socket the server listens on (null for TCP) */
+    final String socketPath;
+    final ArrayList<Connection> connections = new ArrayList<Connection>();
+
+    /** Connections with queued commands, in the order they will be served */
+    final ArrayDeque<Connection> schedule = new ArrayDeque<Connection>();
+
+    /** Connections with new responses (or failed commands), handled by the selector thread */
+    final ConcurrentLinkedQueue<Connection> updated = new ConcurrentLinkedQueue<Connection>();
+
+    /** Resource manager clients of the closed connections, to be closed by the worker thread
+     *  (guarded by the schedule lock) */
+    final ArrayList<TpmDevice> released = new ArrayList<TpmDevice>();
+
+    volatile boolean closed;
+
+    /**
+     * Creates a server accepting unencrypted tunnel connections
+     * @param port TCP port to listen on (0 to pick a free port, see getPort())
+     * @param tpmDevice TPM device to expose. It is connected now and closed when the server stops.
+     * @throws IOException The port cannot be bound
+     */
+    public TpmDeviceTunnelServer(int port, TpmDevice tpmDevice) throws IOException
+    {
+        this(port, tpmDevice, null);
+    }
+
+    /**
+     * Creates a server accepting TLS tunnel connections. Clients must authenticate with a
+     * certificate trusted by the given context.
+     * @param port TCP port to listen on (0 to pick a free port, see getPort())
+     * @param tpmDevice TPM device to expose. It is connected now and closed when the server stops.
+     * @param sslContext TLS configuration (key and trust managers), or null for plain TCP
+     * @throws IOException The port cannot be bound
+     */
+    public TpmDeviceTunnelServer(int port, TpmDevice tpmDevice, SSLContext sslContext) throws IOException
+    {
+        this(listen(port), null, tpmDevice, sslContext);
+    }
+
+    /**
+     * Creates a server accepting unencrypted tunnel connections through a Unix domain socket
+     * (requires Java 16 or later)
+     * @param socketPath Path of the socket file. It must not exist, and it is deleted when
+     *        the server stops.
+     * @param tpmDevice TPM device to expose. It is connected now and closed when the server stops.
+     * @throws IOException The socket cannot be bound
+     */
+    public TpmDeviceTunnelServer(String socketPath, TpmDevice tpmDevice) throws IOException
+    {
+        this(UnixSockets.listen(socketPath), socketPath, tpmDevice, null);
+    }
+
+    TpmDeviceTunnelServer(ServerSocketChannel server, String socketPath, TpmDevice tpmDevice,
+                          SSLContext sslContext) throws IOException
+    {
+        this.server = server;
+        this.socketPath = socketPath;
+        this.tpmDevice = tpmDevice;
+        this.sslContext = sslContext;
+        resourceManager = tpmDevice instanceof TpmDeviceResourceManager
+                        ? (TpmDeviceResourceManager)tpmDevice : null;
+        if (!tpmDevice.connect())
+        {
+            closeServer();
+            throw new TpmException("Failed to connect to the TPM device");
+        }
+
+        selector = Selector.open();
+        try {
+            server.configureBlocking(false);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            closeServer();
+            selector.close();
+            throw e;
+        }
+    }
+
+    /** @return Server channel bound to the given TCP port */
+    static ServerSocketChannel listen(int port) throws IOException
+    {
+        ServerSocketChannel server = ServerSocketChannel.open();
+        try {
+            server.bind(new InetSocketAddress(port));
+        } catch (IOException e) {
+            server.close();
+            throw e;
+        }
+        return server;
+    }
+
+    /** @return The TCP port the server listens on (-1 for a Unix domain socket) */
+    public int getPort()
+    {
+        return socketPath != null ? -1 : server.socket().getLocalPort();
+    }
+
+    /** Serves the clients until close() is called.
+     *  @throws TpmException if the server socket or the selector failed (after the shutdown) */
+    @Override
+    public void run()
+    {
+        Thread worker = new Thread(this::executeCommands, "TPM tunnel server worker");
+        worker.setDaemon(true);
+        worker.start();
+
+        try {
+            while (!closed)
+            {
+                selector.select();
+
+                for (SelectionKey key : selector.selectedKeys())
+                {
+                    if (!key.isValid())
+                        continue;
+                    if (key.isAcceptable())
+                    {
+                        accept();
+                        continue;
+                    }
+                    Connection c = (Connection)key.attachment();
+                    try {
+                        if (key.isReadable() && receive(c) < 0)
+                        {
+                            closeConnection(c);
+                            continue;
+                        }
+                        transfer(c);
+                    } catch (IOException e) {
+                        closeConnection(c);
+                    }
+                }
+                selector.selectedKeys().clear();
+
+                for (Connection c; (c = updated.poll()) != null; )
+                {
+                    if (c.closed)
+                    {
+                        closeConnection(c);
+                        continue;
+                    }
+                    try {
+                        transfer(c);
+                    } catch (IOException e) {
+                        closeConnection(c);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // Thrown to the caller of run() once the connections and the device are closed
+            throw new TpmException("The TPM tunnel server failed", e);
+        } finally {
+            closed = true;
+            synchronized (schedule) {
+                schedule.notifyAll();
+            }
+            for (Connection c : new ArrayList<Connection>(connections))
+                closeConnection(c);
+            closeServer();
+            try { selector.close(); } catch (IOException e) {}
+
+            // Let the command being executed complete before closing the device
+            boolean interrupted = false;
+            while (worker.isAlive())
+            {
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            for (TpmDevice device : released)
+                device.close();
+            tpmDevice.close();
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Stops the server. Returns immediately; run() returns once the shutdown is complete. */
+    @Override
+    public void close()
+    {
+        closed = true;
+        selector.wakeup();
+    }
+
+    /** Closes the server socket (and deletes the Unix domain socket file) */
+    void closeServer()
+    {
+        try { server.close(); } catch (IOException e) {}
+        if (socketPath != null)
+            try { Files.deleteIfExists(Paths.get(socketPath)); } catch (IOException e) {}
+    }
+
+    void accept() throws IOException
+    {
+        SocketChannel channel = server.accept();
+        if (channel == null)
+            return;
+        channel.configureBlocking(false);
+        if (socketPath == null)
+            channel.socket().setTcpNoDelay(true);
+
+        SSLEngine engine = null;
+        if (sslContext != null)
+        {
+            engine = sslContext.createSSLEngine();
+            engine.setUseClientMode(false);
+            engine.setNeedClientAuth(true);
+            engine.beginHandshake();
+        }
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        Connection c = new Connection(channel, key, engine,
+                                      resourceManager != null ? resourceManager.newClient() : tpmDevice);
+        key.attach(c);
+        connections.add(c);
+    }
+
+    /** Reads the available data from the connection's socket */
+    int receive(Connection c) throws IOException
+    {
+        return c.channel.read(c.engine != null ? c.netIn : c.in);
+    }
+
+    /**
+     * Sends as much of the pending output as the socket takes, queues the complete commands
+     * received, and updates the events the connection waits for
+     */
+    void transfer(Connection c) throws IOException
+    {
+        if (c.engine != null)
+            transferTls(c);
+        else
+        {
+            for (ByteBuffer buf; (buf = c.out.peek()) != null; c.out.poll())
+            {
+                c.channel.write(buf);
+                if (buf.hasRemaining())
+                    break;
+            }
+        }
+
+        if (c.closed)
+            return;
+        boolean canQueue = parseCommands(c);
+
+        boolean outputPending = !c.out.isEmpty() || (c.engine != null && c.netOut.hasRemaining());
+        c.key.interestOps((canQueue ? SelectionKey.OP_READ : 0)
+                        | (outputPending ? SelectionKey.OP_WRITE : 0));
+    }
+
+    /** Drives the TLS engine: handshake, decryption of the received records and encryption
+     *  of the pending responses */
+    void transferTls(Connection c) throws IOException
+    {
+        SSLEngine engine = c.engine;
+        while (true)
+        {
+            if (c.netOut.hasRemaining())
+            {
+                c.channel.write(c.netOut);
+                if (c.netOut.hasRemaining())
+                    return;
+            }
+
+            HandshakeStatus hs = engine.getHandshakeStatus();
+            if (hs == HandshakeStatus.NEED_TASK)
+            {
+                for (Runnable task; (task = engine.getDelegatedTask()) != null; )
+                    task.run();
+                continue;
+            }
+
+            boolean handshaking = hs != HandshakeStatus.NOT_HANDSHAKING && hs != HandshakeStatus.FINISHED;
+            if (hs == HandshakeStatus.NEED_WRAP || (!handshaking && !c.out.isEmpty()))
+            {
+                ByteBuffer src = handshaking ? Empty : c.out.peek();
+                c.netOut.clear();
+                SSLEngineResult r = engine.wrap(src, c.netOut);
+                c.netOut.flip();
+                if (r.getStatus() == SSLEngineResult.Status.BUFFER_OVERFLOW)
+                {
+                    c.netOut = ByteBuffer.allocate(engine.getSession().getPacketBufferSize());
+                    c.netOut.flip();
+                }
+                else if (r.getStatus() == SSLEngineResult.Status.CLOSED)
+                {
+                    closeConnection(c);
+                    return;
+                }
+                else if (!handshaking && !src.hasRemaining())
+                    c.out.poll();
+                continue;
+            }
+
+            c.netIn.flip();
+            SSLEngineResult r = engine.unwrap(c.netIn, c.in);
+            c.netIn.compact();
+            switch (r.getStatus())
+            {
+                case BUFFER_UNDERFLOW:
+                    // An incomplete record
+                    int packetSize = engine.getSession().getPacketBufferSize();
+                    if (c.netIn.capacity() < packetSize)
+                        c.netIn = grow(c.netIn, packetSize);
+                    return;
+                case BUFFER_OVERFLOW:
+                    c.in = grow(c.in, c.in.position() + engine.getSession().getApplicationBufferSize());
+                    continue;
+                case CLOSED:
+                    closeConnection(c);
+                    return;
+                default:
+                    if (r.bytesConsumed() == 0 && r.bytesProduced() == 0
+                        && engine.getHandshakeStatus() == hs)
+                        return;
+            }
+        }
+    }
+
+    /**
+     * Queues the complete commands received from the connection
+     * @return false if the connection has MaxQueuedCommands queued and should not be read
+     */
+    boolean parseCommands(Connection c) throws IOException
+    {
+        ByteBuffer in = c.in;
+        in.flip();
+        try {
+            while (in.remaining() >= FrameHeaderSize)
+            {
+                int pos = in.position();
+                int cmdSize = in.getInt(pos + 1);
+                if (cmdSize < 0 || cmdSize > MaxCommandSize)
+                    throw new IOException("Invalid command size " + cmdSize);
+                if (in.remaining() < FrameHeaderSize + cmdSize)
+                {
+                    if (in.capacity() < FrameHeaderSize + cmdSize)
+                    {
+                        in.compact();
+                        c.in = in = grow(in, FrameHeaderSize + cmdSize);
+                        in.flip();
+                    }
+                    break;
+                }
+
+                synchronized (schedule)
+                {
+                    if (c.commands.size() >= MaxQueuedCommands)
+                        return false;
+
+                    int locality = Byte.toUnsignedInt(in.get());
+                    in.getInt();
+                    byte[] cmdBuf = new byte[cmdSize];
+                    in.get(cmdBuf);
+
+                    c.commands.add(new Command(locality, cmdBuf));
+                    if (!c.scheduled)
+                    {
+                        c.scheduled = true;
+                        schedule.add(c);
+                        schedule.notify();
+                    }
+                }
+            }
+            return true;
+        } finally {
+            in.compact();
+        }
+    }
+
+    /** Executes the queued commands of all connections (runs on the worker thread) */
+    void executeCommands()
+    {
+        while (true)
+        {
+            Connection c;
+            Command cmd;
+            ArrayList<TpmDevice> toClose;
+            synchronized (schedule)
+            {
+                while (schedule.isEmpty() && released.isEmpty() && !closed)
+                {
+                    try {
+                        schedule.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (closed)
+                    return;
+
+                toClose = new ArrayList<TpmDevice>(released);
+                released.clear();
+            }
+
+            // Flush the objects and sessions of the disconnected clients
+            for (TpmDevice device : toClose)
+            {
+                try {
+                    device.close();
+                } catch (RuntimeException e) {
+                    // Nobody is left to be notified, and the other clients are not affected
+                }
+            }
+
+            synchronized (schedule)
+            {
+                if (schedule.isEmpty())
+                    continue;
+
+                // Serve the connections round-robin, one command at a time
+                c = schedule.poll();
+                cmd = c.commands.poll();
+                if (c.commands.isEmpty())
+                    c.scheduled = false;
+                else
+                    schedule.add(c);
+            }
+
+            byte[] resp;
+            try {
+                try {
+                    c.device.setLocality(cmd.locality);
+                } catch (UnsupportedOperationException e) {
+                    // not all TpmDevice support setLocality
+                }
+                c.device.dispatchCommand(cmd.cmdBuf);
+                resp = c.device.getResponse();
+            } catch (RuntimeException e) {
+                // The client cannot be answered. Only its connection is closed, so that the
+                // worker keeps serving the other ones.
+                c.closed = true;
+                updated.add(c);
+                selector.wakeup();
+                continue;
+            }
+
+            if (c.closed)
+                continue;
+            ByteBuffer frame = ByteBuffer.allocate(4 + resp.length);
+            frame.putInt(resp.length).put(resp);
+            frame.flip();
+            c.out.add(frame);
+            updated.add(c);
+            selector.wakeup();
+        }
+    }
+
+    void closeConnection(Connection c)
+    {
+        c.closed = true;
+        synchronized (schedule)
+        {
+            c.commands.clear();
+            schedule.remove(c);
+            c.scheduled = false;
+            if (c.device != tpmDevice && !released.contains(c.device))
+            {
+                released.add(c.device);
+                schedule.notify();
+            }
+        }
+        connections.remove(c);
+        c.key.cancel();
+
+        if (c.engine != null && c.channel.isOpen())
+        {
+            // Best effort close_notify
+            try {
+                c.engine.closeOutbound();
+                c.netOut.clear();
+                c.engine.wrap(Empty, c.netOut);
+                c.netOut.flip();
+                c.channel.write(c.netOut);
+            } catch (IOException e) {}
+        }
+        try { c.channel.close(); } catch (IOException e) {}
+    }
+
+    static ByteBuffer grow(ByteBuffer buf, int minCapacity)
+    {
+        ByteBuffer newBuf = ByteBuffer.allocate(Math.max(minCapacity, buf.capacity() * 2));
+        buf.flip();
+        return newBuf.put(buf);
+    }
+}
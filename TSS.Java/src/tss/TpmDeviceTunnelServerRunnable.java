@@ -3,12 +3,25 @@ package tss;
 import java.io.*;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 
+/**
+ * Serves a single tunnel client at a time, over TCP or a Unix domain socket (see
+ * TpmDeviceUnixSocket). A TpmTunnelMux client may carry several logical TPM clients over its
+ * connection (multiplexed tunnel protocol, see TpmTunnelProtocol). See TpmDeviceTunnelServer
+ * for a server handling concurrent clients.
+ */
 public class TpmDeviceTunnelServerRunnable implements Runnable {
     private ServerSocket server;
+    private ServerSocketChannel unixServer;
+    private String socketPath;
     private TpmDevice tpmDevice;
-    boolean stopServer;
-    boolean stopSocket;
+    volatile boolean stopServer;
+    volatile boolean stopSocket;
 
     public TpmDeviceTunnelServerRunnable(int port, TpmDevice tpmDevice) throws Exception {
         server = new ServerSocket(port);
@@ -19,19 +32,66 @@ public class TpmDeviceTunnelServerRunnable implements Runnable {
         stopServer = false;
     }
 
+    /**
+     * Creates a server listening on a Unix domain socket (requires Java 16 or later)
+     * @param socketPath Path of the socket file. It must not exist, and it is deleted when
+     *        the server stops.
+     * @param tpmDevice TPM device to expose
+     */
+    public TpmDeviceTunnelServerRunnable(String socketPath, TpmDevice tpmDevice) throws Exception {
+        unixServer = UnixSockets.listen(socketPath);
+        this.socketPath = socketPath;
+        this.tpmDevice = tpmDevice;
+        if (!tpmDevice.connect())
+        {
+            unixServer.close();
+            Files.deleteIfExists(Paths.get(socketPath));
+            throw new Exception("TpmDeviceTunnelServerRunnable constructor error");
+        }
+        stopSocket = true;
+        stopServer = false;
+    }
+
     public void run() {
         try {
             while (!stopServer) {
-                Socket socket = server.accept();
+                Closeable socket;
+                InputStream socketIn;
+                OutputStream socketOut;
+                if (unixServer != null) {
+                    SocketChannel channel = unixServer.accept();
+                    socket = channel;
+                    socketIn = Channels.newInputStream(channel);
+                    socketOut = Channels.newOutputStream(channel);
+                }
+                else {
+                    Socket tcpSocket = server.accept();
+                    socket = tcpSocket;
+                    socketIn = tcpSocket.getInputStream();
+                    socketOut = tcpSocket.getOutputStream();
+                }
                 stopSocket = false;
 
                 try (
-                    OutputStream out = socket.getOutputStream();
-                    DataInputStream in = new DataInputStream(socket.getInputStream());
+                    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socketOut));
+                    DataInputStream in = new DataInputStream(new BufferedInputStream(socketIn));
                 ) {
                     while (!stopSocket) {
                         byte locality = in.readByte();
-                        byte incoming[] = readEncapsulated(socket);
+                        byte incoming[] = new byte[in.readInt()];
+                        in.readFully(incoming);
+
+                        int version = TpmTunnelProtocol.parseHello(incoming);
+                        if (version > 0) {
+                            // The client negotiates the multiplexed protocol (see TpmTunnelMux)
+                            byte hello[] = TpmTunnelProtocol.hello(Math.min(version, TpmTunnelProtocol.Version));
+                            out.writeInt(hello.length);
+                            out.write(hello);
+                            out.flush();
+                            new TpmTunnelMuxSession(tpmDevice, in, out).serve();
+                            break;
+                        }
+
                         try {
                             tpmDevice.setLocality(Byte.toUnsignedInt(locality));
                         } catch (UnsupportedOperationException e) {
@@ -39,11 +99,15 @@ public class TpmDeviceTunnelServerRunnable implements Runnable {
                         }
                         tpmDevice.dispatchCommand(incoming);
 
-                        while(!tpmDevice.responseReady());
-
+                        // getResponse() blocks until the TPM has answered
                         byte outgoing[] = tpmDevice.getResponse();
-                        writeInt(socket, outgoing.length);
+                        out.writeInt(outgoing.length);
                         out.write(outgoing);
+
+                        // Pipelined commands are executed back-to-back, and their responses
+                        // are sent together once no more commands are waiting
+                        if (in.available() == 0)
+                            out.flush();
                     }
                 }
                 socket.close();
@@ -51,6 +115,13 @@ public class TpmDeviceTunnelServerRunnable implements Runnable {
             tpmDevice.close();
         } catch (IOException e) {
             e.printStackTrace();
+        } finally {
+            if (socketPath != null) {
+                try {
+                    unixServer.close();
+                    Files.deleteIfExists(Paths.get(socketPath));
+                } catch (IOException e) {}
+            }
         }
     }
 
@@ -61,60 +132,4 @@ public class TpmDeviceTunnelServerRunnable implements Runnable {
     public void closeServer() {
         stopServer = true;
     }
-
-    private int readInt(Socket s)
-    {
-        int val=-1;
-        try {
-            val = Helpers.netToHost(readBuf(s, 4));
-        } catch (Exception e) {
-            throw new TpmException("TPM IO error", e);
-        }
-        return val;
-    }
-
-    private void writeInt(Socket s, int val)
-    {
-        writeBuf(s, Helpers.hostToNet(val));
-    }
-
-    private void writeBuf(Socket s, byte[] buffer)
-    {
-        try
-        {
-            s.getOutputStream().write(buffer, 0, buffer.length);
-        } catch (IOException e) {
-            throw new TpmException("TPM IO error", e);
-        }
-    }
-
-    private byte[] readBuf(Socket s, int numBytes)
-    {
-        byte[] buf = new byte[numBytes];
-        int numRead = 0;
-        while(numRead<numBytes)
-        {
-            int sz;
-            try {
-                sz = s.getInputStream().read(buf, numRead, numBytes-numRead);
-            } catch (IOException e) {
-                throw new TpmException("TPM IO error", e);
-            }
-            numRead+=sz;
-        }
-        return buf;
-    }
-
-    private void writeEncapsulated(Socket s, byte[] buf)
-    {
-        writeBuf(s, Helpers.hostToNet(buf.length));
-        writeBuf(s, buf);
-    }
-
-    private byte[] readEncapsulated(Socket s)
-    {
-        byte[] t = readBuf(s, 4);
-        int sz = Helpers.netToHost(t);
-        return readBuf(s, sz);
-    }
-}
+}
\ No newline at end of file
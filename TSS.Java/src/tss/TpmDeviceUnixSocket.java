@@ -0,0 +1,208 @@
+package tss;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * TPM device reached through a Unix domain socket, for a TPM simulator or a tunnel server
+ * (TpmDeviceTunnelServer, TpmDeviceTunnelServerRunnable) running on the same host. Compared
+ * to loopback TCP, it saves the TCP/IP stack processing of each command and response.
+ * <P>
+ * The device speaks either the tunnel framing of TpmDeviceTunnelClient, or the command port
+ * framing of the TPM simulator (as TpmDeviceTcp). Platform signals (power, physical presence)
+ * are not available through the socket.
+ * <P>
+ * Each command is sent with its frame header in a single gathering write, and the responses
+ * are read through a reused buffer. Requires Java 16 or later (connect() fails on earlier
+ * versions).
+ */
+public class TpmDeviceUnixSocket extends TpmDevice
+{
+    static final int SendCommand = TpmDeviceTcp.TcpTpmCommands.SendCommand.getVal();
+    static final int SessionEnd = TpmDeviceTcp.TcpTpmCommands.SessionEnd.getVal();
+
+    final String socketPath;
+    final boolean simulator;
+    SocketChannel channel;
+
+    /** Number of dispatched commands whose responses have not been read yet */
+    int pendingResponses;
+    int currentLocality;
+
+    /** Frame header of the command being sent */
+    final ByteBuffer header = ByteBuffer.allocate(9);
+    final ByteBuffer[] frame = new ByteBuffer[2];
+
+    /** Received bytes not parsed yet (between position and limit) */
+    ByteBuffer in = ByteBuffer.allocate(4096);
+
+    /**
+     * Creates a device using the tunnel framing (as TpmDeviceTunnelClient)
+     * @param socketPath Path of the tunnel server socket
+     */
+    public TpmDeviceUnixSocket(String socketPath)
+    {
+        this(socketPath, false);
+    }
+
+    /**
+     * @param socketPath Path of the server socket
+     * @param simulator Whether the server is a TPM simulator (command port framing), or
+     *        a tunnel server
+     */
+    public TpmDeviceUnixSocket(String socketPath, boolean simulator)
+    {
+        this.socketPath = socketPath;
+        this.simulator = simulator;
+        in.flip();
+    }
+
+    @Override
+    public boolean connect()
+    {
+        if (channel != null)
+            return true;
+        try {
+            channel = UnixSockets.connect(socketPath);
+        } catch (Exception e) {
+            System.err.println("Failed to connect to the TPM at " + socketPath + ": " + e.getMessage());
+            return false;
+        }
+        in.clear();
+        in.flip();
+        pendingResponses = 0;
+        return true;
+    }
+
+    @Override
+    public void close()
+    {
+        if (channel == null)
+            return;
+        if (simulator)
+        {
+            try {
+                header.clear();
+                header.putInt(SessionEnd);
+                header.flip();
+                channel.write(header);
+            } catch (IOException e) {}
+        }
+        try { channel.close(); } catch (IOException ioe) {}
+        channel = null;
+    }
+
+    @Override
+    public void dispatchCommand(byte[] commandBuffer)
+    {
+        dispatchCommand(ByteBuffer.wrap(commandBuffer));
+    }
+
+    @Override
+    public void dispatchCommand(ByteBuffer cmdBuf)
+    {
+        header.clear();
+        if (simulator)
+            header.putInt(SendCommand);
+        header.put((byte)currentLocality);
+        header.putInt(cmdBuf.remaining());
+        header.flip();
+        frame[0] = header;
+        frame[1] = cmdBuf;
+        try {
+            while (header.hasRemaining() || cmdBuf.hasRemaining())
+                channel.write(frame);
+        } catch (IOException e) {
+            throw new TpmException("Error sending data to the TPM", e);
+        } finally {
+            frame[1] = null;
+        }
+        ++pendingResponses;
+    }
+
+    @Override
+    public byte[] getResponse()
+    {
+        if (pendingResponses == 0)
+            throw new TpmException("Cannot getResponse() without a prior dispatchCommand()");
+        --pendingResponses;
+
+        int respSize = readInt();
+        byte[] resp = new byte[respSize];
+        for (int pos = 0; pos < respSize; )
+        {
+            if (!in.hasRemaining())
+                receive();
+            int len = Math.min(in.remaining(), respSize - pos);
+            in.get(resp, pos, len);
+            pos += len;
+        }
+        if (simulator)
+            readInt();  // acknowledgment
+        return resp;
+    }
+
+    @Override
+    public boolean responseReady()
+    {
+        if (pendingResponses == 0)
+            throw new TpmException("Cannot responseReady() without a prior dispatchCommand()");
+        if (in.hasRemaining())
+            return true;
+
+        // Poll the socket without blocking
+        try {
+            synchronized (channel.blockingLock())
+            {
+                channel.configureBlocking(false);
+                try {
+                    in.compact();
+                    int n = channel.read(in);
+                    in.flip();
+                    if (n < 0)
+                        throw new TpmException("Connection to the TPM closed");
+                } finally {
+                    channel.configureBlocking(true);
+                }
+            }
+        } catch (IOException e) {
+            throw new TpmException("Error getting data from the TPM", e);
+        }
+        return in.hasRemaining();
+    }
+
+    /** Commands are executed in the order they are received by both kinds of servers */
+    @Override
+    public boolean supportsPipelining()
+    {
+        return true;
+    }
+
+    @Override
+    public void setLocality(int locality)
+    {
+        currentLocality = locality;
+    }
+
+    int readInt()
+    {
+        while (in.remaining() < 4)
+            receive();
+        return in.getInt();
+    }
+
+    /** Reads the available data (at least one byte) from the socket */
+    void receive()
+    {
+        try {
+            in.compact();
+            int n = channel.read(in);
+            in.flip();
+            if (n < 0)
+                throw new TpmException("Connection to the TPM closed");
+        } catch (IOException e) {
+            throw new TpmException("TPM IO error", e);
+        }
+    }
+}
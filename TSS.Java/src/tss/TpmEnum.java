@@ -2,7 +2,8 @@ package tss;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.util.TreeMap;
+import java.util.*;
+import java.util.function.IntFunction;
 
 public abstract class TpmEnum<T extends TpmEnum<T>> implements TpmMarshaller
 {
@@ -11,13 +12,108 @@ public abstract class TpmEnum<T extends TpmEnum<T>> implements TpmMarshaller
     protected  String   Name;
     
     /** @return The size of the enumeration value used to marshal it to the TPM representation */
-    protected abstract int wireSize();
+    @Override
+    public abstract int wireSize();
     
-    /** Map used for conversion from an int value to the corresponding TpmEnum derived type */
-    @SuppressWarnings("serial")
-    protected static class ValueMap<T extends TpmEnum<T>> extends TreeMap<Integer, T>
+    /** Map used for conversion from an int value to the corresponding TpmEnum derived type.
+     *  It is an open addressing hash table keyed by primitive int values, so that lookups
+     *  on the unmarshaling path neither box the value nor walk a tree.
+     */
+    protected static class ValueMap<T extends TpmEnum<T>>
     {
+        int[] keys = new int[16];
+        Object[] vals = new Object[16];     // null marks an empty slot
+        int size;
+
+        /** Marshaled size of the enum values */
+        int wireSize;
+
+        /** Sorted by value. Built on demand and reset on modification. */
+        List<T> sorted;
+
         public ValueMap() {}
+
+        static int slot(int key, int mask)
+        {
+            int h = key * 0x9E3779B9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        /** @return The enum member with the given value, or null if there is none */
+        @SuppressWarnings("unchecked")
+        public T get(int key)
+        {
+            int mask = keys.length - 1;
+            for (int i = slot(key, mask); vals[i] != null; i = (i + 1) & mask)
+            {
+                if (keys[i] == key)
+                    return (T)vals[i];
+            }
+            return null;
+        }
+
+        public boolean containsKey(int key) { return get(key) != null; }
+
+        /** Associates the given enum member with the given value. A member previously
+         *  associated with the same value is replaced.
+         */
+        public void put(int key, T val)
+        {
+            if (2 * (size + 1) > keys.length)
+                rehash(keys.length * 2);
+            int mask = keys.length - 1;
+            int i = slot(key, mask);
+            for (; vals[i] != null; i = (i + 1) & mask)
+            {
+                if (keys[i] == key)
+                    break;
+            }
+            if (vals[i] == null)
+                ++size;
+            if (wireSize == 0)
+                wireSize = val.wireSize();
+            keys[i] = key;
+            vals[i] = val;
+            sorted = null;
+        }
+
+        void rehash(int capacity)
+        {
+            int[] oldKeys = keys;
+            Object[] oldVals = vals;
+            keys = new int[capacity];
+            vals = new Object[capacity];
+            int mask = capacity - 1;
+            for (int j = 0; j < oldKeys.length; ++j)
+            {
+                if (oldVals[j] == null)
+                    continue;
+                int i = slot(oldKeys[j], mask);
+                while (vals[i] != null)
+                    i = (i + 1) & mask;
+                keys[i] = oldKeys[j];
+                vals[i] = oldVals[j];
+            }
+        }
+
+        public int size() { return size; }
+
+        /** @return All enum members in the ascending (signed) order of their values */
+        @SuppressWarnings("unchecked")
+        public Collection<T> values()
+        {
+            List<T> res = sorted;
+            if (res == null)
+            {
+                res = new ArrayList<T>(size);
+                for (Object v : vals)
+                    if (v != null)
+                        res.add((T)v);
+                res.sort((a, b) -> Integer.compare(a.Value, b.Value));
+                sorted = res = Collections.unmodifiableList(res);
+            }
+            return res;
+        }
     }
     
     @SuppressWarnings("unchecked")
@@ -37,9 +133,9 @@ public abstract class TpmEnum<T extends TpmEnum<T>> implements TpmMarshaller
     protected TpmEnum (int value, ValueMap<T> values)
     {
         Value = value;
-        if (values.containsKey(value))
+        T v = values.get(value);
+        if (v != null)
         {
-            T v = values.get(value);
             Name = v.Name;
             NameAsEnum = v.NameAsEnum;
         }
@@ -47,11 +143,34 @@ public abstract class TpmEnum<T extends TpmEnum<T>> implements TpmMarshaller
             Name = Integer.toHexString(value);
     }
     
+    /** @return The enum member with the given value, or a new instance constructed by the
+     *          given constructor reference if this value has no named member
+     */
+    protected static <T extends TpmEnum<T>>
+    T fromInt (int value, ValueMap<T> values, IntFunction<T> ctor)
+    {
+        T member = values.get(value);
+        return member != null ? member : ctor.apply(value);
+    }
+
+    protected static <T extends TpmEnum<T>>
+    T fromTpm(byte[] buf, ValueMap<T> values, IntFunction<T> ctor)
+    {
+        return fromInt(Helpers.netToHost(buf), values, ctor);
+    }
+
+    protected static <T extends TpmEnum<T>>
+    T fromTpm(TpmBuffer buf, ValueMap<T> values, IntFunction<T> ctor)
+    {
+        return fromInt((int)buf.readNum(values.wireSize), values, ctor);
+    }
+
     protected static <T extends TpmEnum<T>>
     T fromInt (int value, ValueMap<T> values, Class<T> cls)
     {
-        if (values.containsKey(value))
-            return (T)values.get(value);
+        T member = values.get(value);
+        if (member != null)
+            return member;
         Constructor<T> ctor = null;
         try {
             ctor = cls.getConstructor(int.class);
@@ -76,7 +195,7 @@ public abstract class TpmEnum<T extends TpmEnum<T>> implements TpmMarshaller
     protected static <T extends TpmEnum<T>>
     T fromTpm(TpmBuffer buf, ValueMap<T> values, Class<T> cls)
     {
-        int value = (int)buf.readNum(values.firstEntry().getValue().wireSize());
+        int value = (int)buf.readNum(values.wireSize);
         return fromInt(value, values, cls);
     }
     
@@ -74,7 +74,7 @@ public class TpmFactory
         {
             // First, try to connect to the kernel mode TRM (TPM resource manager) or system TPM
             try {
-                device = new TpmDeviceLinux();
+                device = new TpmDeviceLinuxNio();
             } catch (Exception e) {
                 // Now try to connect to the user mode TRM (TPM resource manager) 
                 device = new TpmDeviceTcp("localhost", 2323, true);
@@ -89,5 +89,18 @@ public class TpmFactory
         tpm._setDevice(device);
         return tpm;
     }
+
+    /**
+     * Creates a pool of connections to the Linux kernel TPM resource manager (/dev/tpmrm0),
+     * each with its own isolated context, so that concurrent threads do not serialize on a
+     * single Tpm object.
+     * 
+     * @param maxSize Maximal number of open connections
+     * @return The new pool (connections are opened as needed)
+     */
+    public static TpmPool platformTpmPool(int maxSize)
+    {
+        return new TpmPool(maxSize);
+    }
     
 }
@@ -0,0 +1,214 @@
+package tss;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+
+import tss.tpm.*;
+
+/**
+ * Keeps frequently used keys loaded in the TPM, so that a key can be "loaded" for every
+ * operation without the cost of TPM2_Load (which decrypts the key with its parent) and
+ * TPM2_FlushContext each time.
+ * <P>
+ * Keys are identified by their Name. The cache keeps at most getCapacity() keys loaded; when
+ * it is full, the least recently used key is context saved and flushed, and it is restored
+ * with TPM2_ContextLoad (much cheaper than TPM2_Load) when it is needed again. The capacity is
+ * the number of free transient object slots reported by the TPM (TPM_PT.HR_TRANSIENT_AVAIL)
+ * when the cache is created, less the slots reserved for the other objects of the application.
+ * <P>
+ * The handle returned by load() is valid until the next call to the cache, which may evict the
+ * key. The methods of a cache can be called from different threads, but then a key must be
+ * loaded with acquire() instead: it is pinned, i.e. not evicted, until the matching release().
+ */
+public class TpmKeyCache implements Closeable
+{
+    /** A key known to the cache */
+    static class Entry
+    {
+        /** Handle of the key while it is loaded, or null */
+        TPM_HANDLE handle;
+
+        /** Context of the evicted key, or null */
+        TPMS_CONTEXT context;
+
+        /** Number of acquire() calls not matched by release() yet */
+        int pins;
+    }
+
+    final Tpm tpm;
+    final int capacity;
+    int numLoaded;
+
+    /** Known keys by Name, least recently used first */
+    final LinkedHashMap<ByteBuffer, Entry> keys = new LinkedHashMap<ByteBuffer, Entry>(16, 0.75f, true);
+
+    /**
+     * Creates a key cache leaving one transient object slot available to the application
+     * @param tpm TPM to load the keys to
+     */
+    public TpmKeyCache(Tpm tpm)
+    {
+        this(tpm, 1);
+    }
+
+    /**
+     * Creates a key cache
+     * @param tpm TPM to load the keys to
+     * @param reservedSlots Number of currently free transient object slots that the cache
+     *        should leave to the application (e.g. for the parent of the keys)
+     */
+    public TpmKeyCache(Tpm tpm, int reservedSlots)
+    {
+        this.tpm = tpm;
+        int available = TpmHelpers.getTpmProperty(tpm, TPM_PT.HR_TRANSIENT_AVAIL);
+        capacity = Math.max(1, available - reservedSlots);
+    }
+
+    /** @return Maximal number of keys kept loaded in the TPM */
+    public int getCapacity()
+    {
+        return capacity;
+    }
+
+    /**
+     * Makes the given key available in the TPM: returns its handle if it is loaded, reloads
+     * its context if it was evicted, or loads it with TPM2_Load otherwise
+     * @param parentHandle Parent of the key (only used if the key has to be loaded from scratch)
+     * @param inPrivate The private portion of the key
+     * @param inPublic The public portion of the key
+     * @return Handle of the loaded key. Its Name is set, but not its AuthValue.
+     */
+    public synchronized TPM_HANDLE load(TPM_HANDLE parentHandle, TPM2B_PRIVATE inPrivate, TPMT_PUBLIC inPublic)
+    {
+        ByteBuffer name = ByteBuffer.wrap(inPublic.getName());
+        Entry e = keys.get(name);
+        if (e == null)
+        {
+            e = new Entry();
+            keys.put(name, e);
+        }
+        else if (e.handle != null)
+            return e.handle;
+
+        while (true)
+        {
+            if (numLoaded >= capacity && !evict(e))
+            {
+                keys.remove(name);
+                throw new TpmException("No transient object slot available for the key cache");
+            }
+
+            if (e.context != null)
+            {
+                TPM_HANDLE h = tpm._allowErrors().ContextLoad(e.context);
+                TPM_RC rc = tpm._getLastResponseCode();
+                if (rc == TPM_RC.OBJECT_MEMORY && evict(e))
+                    continue;
+                // A context that cannot be loaded any more (e.g. after a TPM reset) is replaced
+                // by a fresh copy of the key
+                e.context = null;
+                if (rc == TPM_RC.SUCCESS)
+                {
+                    h.Name = name.array().clone();
+                    e.handle = h;
+                    break;
+                }
+            }
+
+            TPM_HANDLE h = tpm._allowErrors().Load(parentHandle, inPrivate, inPublic);
+            TPM_RC rc = tpm._getLastResponseCode();
+            if (rc == TPM_RC.SUCCESS)
+            {
+                e.handle = h;
+                break;
+            }
+            if (rc != TPM_RC.OBJECT_MEMORY || !evict(e))
+            {
+                keys.remove(name);
+                throw new TpmException(rc);
+            }
+        }
+        ++numLoaded;
+        return e.handle;
+    }
+
+    /**
+     * Makes the given key available in the TPM (as load()), and pins it: it is not evicted until
+     * release() is called for it (as many times as it was acquired). Keys that are used while
+     * other threads use the cache must be acquired this way.
+     * @param parentHandle Parent of the key (only used if the key has to be loaded from scratch)
+     * @param inPrivate The private portion of the key
+     * @param inPublic The public portion of the key
+     * @return Handle of the loaded key. Its Name is set, but not its AuthValue.
+     */
+    public synchronized TPM_HANDLE acquire(TPM_HANDLE parentHandle, TPM2B_PRIVATE inPrivate, TPMT_PUBLIC inPublic)
+    {
+        TPM_HANDLE h = load(parentHandle, inPrivate, inPublic);
+        ++keys.get(ByteBuffer.wrap(inPublic.getName())).pins;
+        return h;
+    }
+
+    /**
+     * Unpins a key pinned by acquire(). Its handle must not be used after this call.
+     * @param inPublic The public portion of the key
+     */
+    public synchronized void release(TPMT_PUBLIC inPublic)
+    {
+        Entry e = keys.get(ByteBuffer.wrap(inPublic.getName()));
+        if (e == null || e.pins == 0)
+            throw new TpmException("The key is not acquired");
+        --e.pins;
+    }
+
+    /**
+     * Removes the given key from the cache (and flushes it from the TPM)
+     * @param inPublic The public portion of the key
+     */
+    public synchronized void remove(TPMT_PUBLIC inPublic)
+    {
+        ByteBuffer name = ByteBuffer.wrap(inPublic.getName());
+        Entry e = keys.get(name);
+        if (e != null && e.pins > 0)
+            throw new TpmException("The key is in use (acquired and not released)");
+        keys.remove(name);
+        if (e != null && e.handle != null)
+        {
+            tpm.FlushContext(e.handle);
+            --numLoaded;
+        }
+    }
+
+    /** Flushes all the cached keys from the TPM */
+    @Override
+    public synchronized void close()
+    {
+        for (Entry e : keys.values())
+        {
+            if (e.handle != null)
+                tpm.FlushContext(e.handle);
+        }
+        keys.clear();
+        numLoaded = 0;
+    }
+
+    /**
+     * Context saves and flushes the least recently used loaded key other than the given one
+     * and the pinned ones
+     * @return false if there is no key to evict
+     */
+    boolean evict(Entry keep)
+    {
+        for (Entry e : keys.values())
+        {
+            if (e == keep || e.handle == null || e.pins > 0)
+                continue;
+            e.context = tpm.ContextSave(e.handle);
+            tpm.FlushContext(e.handle);
+            e.handle = null;
+            --numLoaded;
+            return true;
+        }
+        return false;
+    }
+}
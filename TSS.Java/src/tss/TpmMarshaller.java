@@ -11,4 +11,20 @@ public interface TpmMarshaller
      * @param buf An input byte buffer
      */
     public void initFromTpm(TpmBuffer buf);
+
+    /** @return Size of the TPM representation of this object in bytes.
+     *  The default implementation marshals the object into a scratch buffer. Generated TPM
+     *  data structures override it with an exact computation that does not marshal anything.
+     */
+    public default int wireSize()
+    {
+        TpmBufferPool pool = TpmBufferPool.forThread();
+        TpmBuffer buf = pool.acquire();
+        try {
+            toTpm(buf);
+            return buf.curPos();
+        } finally {
+            pool.release(buf);
+        }
+    }
 }
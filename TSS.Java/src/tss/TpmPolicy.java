@@ -0,0 +1,207 @@
+package tss;
+
+import java.util.ArrayList;
+
+import tss.tpm.*;
+
+/**
+ * A policy made of a chain of policy assertions (TPM2_PolicyCommandCode, TPM2_PolicyPCR,
+ * TPM2_PolicySecret and TPM2_PolicyOR).
+ * <P>
+ * The policy digest is computed in software, the same way the TPM updates the digest of a
+ * policy session, so that no trial session is needed to obtain the authPolicy of an object.
+ * The same policy object is then used to execute the assertions on a real policy session
+ * (see also PolicySessionPool).
+ */
+public class TpmPolicy
+{
+    /** A policy assertion */
+    static abstract class Assertion
+    {
+        /**
+         * @param hashAlg Policy hash algorithm
+         * @param digest Policy digest before the assertion
+         * @return Policy digest after the assertion
+         */
+        abstract byte[] update(TPM_ALG_ID hashAlg, byte[] digest);
+
+        /**
+         * Executes the assertion on a policy session
+         * @param digest Policy digest of the session before the assertion
+         */
+        abstract void execute(Tpm tpm, AuthSession sess, byte[] digest);
+    }
+
+    final ArrayList<Assertion> assertions = new ArrayList<Assertion>();
+
+    /**
+     * Appends TPM2_PolicyCommandCode() to the policy
+     * @param cc The only command the policy authorizes
+     * @return this policy
+     */
+    public TpmPolicy commandCode(final TPM_CC cc)
+    {
+        assertions.add(new Assertion() {
+            @Override
+            byte[] update(TPM_ALG_ID hashAlg, byte[] digest)
+            {
+                return policyUpdate(hashAlg, digest, TPM_CC.PolicyCommandCode, Helpers.hostToNet(cc.toInt()));
+            }
+
+            @Override
+            void execute(Tpm tpm, AuthSession sess, byte[] digest)
+            {
+                tpm.PolicyCommandCode(sess, cc);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Appends TPM2_PolicyPCR() to the policy
+     * @param pcrs Selection of the PCRs
+     * @param pcrValues Expected values of the selected PCRs (in the order of the selection)
+     * @return this policy
+     */
+    public TpmPolicy pcr(final TPMS_PCR_SELECTION[] pcrs, final byte[]... pcrValues)
+    {
+        final byte[] pcrSelection = new TPML_PCR_SELECTION(pcrs).toBytes();
+        assertions.add(new Assertion() {
+            @Override
+            byte[] update(TPM_ALG_ID hashAlg, byte[] digest)
+            {
+                return policyUpdate(hashAlg, digest, TPM_CC.PolicyPCR, pcrSelection, pcrDigest(hashAlg));
+            }
+
+            @Override
+            void execute(Tpm tpm, AuthSession sess, byte[] digest)
+            {
+                tpm.PolicyPCR(sess, pcrDigest(sess.HashAlg), pcrs);
+            }
+
+            byte[] pcrDigest(TPM_ALG_ID hashAlg)
+            {
+                return Crypto.hash(hashAlg, Helpers.concatenate(pcrValues));
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Appends TPM2_PolicySecret() to the policy
+     * @param authObject Entity whose authorization value is required (its AuthValue is used
+     *        when the policy is executed)
+     * @param policyRef Policy qualifier (may be empty)
+     * @return this policy
+     */
+    public TpmPolicy secret(final TPM_HANDLE authObject, final byte[] policyRef)
+    {
+        assertions.add(new Assertion() {
+            @Override
+            byte[] update(TPM_ALG_ID hashAlg, byte[] digest)
+            {
+                byte[] res = policyUpdate(hashAlg, digest, TPM_CC.PolicySecret, authObject.getName());
+                return Crypto.hash(hashAlg, Helpers.concatenate(res, policyRef));
+            }
+
+            @Override
+            void execute(Tpm tpm, AuthSession sess, byte[] digest)
+            {
+                tpm.PolicySecret(authObject, sess, new byte[0], new byte[0], policyRef, 0);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Appends TPM2_PolicyOR() of the given branches to the policy. Each branch continues the
+     * policy built so far, and the policy is satisfied by any of them.
+     * @param selected Index of the branch executed on the policy sessions
+     * @param branches Up to 8 alternative policies
+     * @return this policy
+     */
+    public TpmPolicy or(final int selected, final TpmPolicy... branches)
+    {
+        if (branches.length < 2 || branches.length > 8)
+            throw new TpmException("PolicyOR requires from 2 to 8 branches");
+        if (selected < 0 || selected >= branches.length)
+            throw new TpmException("Invalid PolicyOR branch index " + selected);
+
+        assertions.add(new Assertion() {
+            @Override
+            byte[] update(TPM_ALG_ID hashAlg, byte[] digest)
+            {
+                return policyUpdate(hashAlg, new byte[digest.length], TPM_CC.PolicyOR,
+                                    Helpers.concatenate(branchDigests(hashAlg, digest)));
+            }
+
+            @Override
+            void execute(Tpm tpm, AuthSession sess, byte[] digest)
+            {
+                branches[selected].execute(tpm, sess, digest);
+                byte[][] digests = branchDigests(sess.HashAlg, digest);
+                TPM2B_DIGEST[] hashList = new TPM2B_DIGEST[digests.length];
+                for (int i = 0; i < digests.length; ++i)
+                    hashList[i] = new TPM2B_DIGEST(digests[i]);
+                tpm.PolicyOR(sess, hashList);
+            }
+
+            byte[][] branchDigests(TPM_ALG_ID hashAlg, byte[] digest)
+            {
+                byte[][] digests = new byte[branches.length][];
+                for (int i = 0; i < branches.length; ++i)
+                    digests[i] = branches[i].getPolicyDigest(hashAlg, digest);
+                return digests;
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Computes the policy digest (e.g. for the authPolicy of an object)
+     * @param hashAlg Policy hash algorithm
+     * @return Digest of the policy session after the policy is executed on it
+     */
+    public byte[] getPolicyDigest(TPM_ALG_ID hashAlg)
+    {
+        return getPolicyDigest(hashAlg, new byte[Crypto.digestSize(hashAlg)]);
+    }
+
+    byte[] getPolicyDigest(TPM_ALG_ID hashAlg, byte[] digest)
+    {
+        for (Assertion a : assertions)
+            digest = a.update(hashAlg, digest);
+        return digest;
+    }
+
+    /**
+     * Executes the policy assertions on a freshly started or restarted policy session
+     * @param tpm The TPM
+     * @param sess Policy session
+     */
+    public void execute(Tpm tpm, AuthSession sess)
+    {
+        execute(tpm, sess, new byte[Crypto.digestSize(sess.HashAlg)]);
+    }
+
+    void execute(Tpm tpm, AuthSession sess, byte[] digest)
+    {
+        for (Assertion a : assertions)
+        {
+            a.execute(tpm, sess, digest);
+            digest = a.update(sess.HashAlg, digest);
+        }
+    }
+
+    /**
+     * Policy digest update as done by the TPM: H(digest || cc || args...)
+     * @return The updated digest
+     */
+    static byte[] policyUpdate(TPM_ALG_ID hashAlg, byte[] digest, TPM_CC cc, byte[]... args)
+    {
+        byte[] data = Helpers.concatenate(digest, Helpers.hostToNet(cc.toInt()));
+        for (byte[] arg : args)
+            data = Helpers.concatenate(data, arg);
+        return Crypto.hash(hashAlg, data);
+    }
+}
@@ -0,0 +1,236 @@
+package tss;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of Tpm objects, each with its own connection to the TPM.
+ * <P>
+ * The Linux kernel resource manager (/dev/tpmrm0) gives each open file its own isolated
+ * context, so that threads using different connections only queue inside the kernel,
+ * instead of serializing on a single Tpm object in the application.
+ * <P>
+ * Connections are opened as needed, up to the pool size. A connection idle for longer than
+ * the health check interval is probed with TPM2_GetRandom(1) before being handed out, and
+ * replaced with a new one if the probe fails. The methods of a pool can be called from
+ * different threads.
+ */
+public class TpmPool implements Closeable
+{
+    /** Default interval (ms) after which an idle connection is probed before it is reused */
+    public static final long DefaultHealthCheckInterval = 10000;
+
+    /** A pooled connection */
+    static class Entry
+    {
+        final Tpm tpm;
+
+        /** System.nanoTime() of the last use */
+        long lastUsed;
+
+        Entry(Tpm tpm)
+        {
+            this.tpm = tpm;
+            lastUsed = System.nanoTime();
+        }
+    }
+
+    final Supplier<TpmDevice> deviceFactory;
+    final int maxSize;
+    long healthCheckInterval = DefaultHealthCheckInterval;
+
+    final ArrayDeque<Entry> idle = new ArrayDeque<Entry>();
+    final IdentityHashMap<Tpm, Entry> inUse = new IdentityHashMap<Tpm, Entry>();
+    int size;
+    boolean closed;
+
+    /**
+     * Creates a pool of connections to the Linux kernel resource manager (/dev/tpmrm0)
+     * @param maxSize Maximal number of open connections
+     */
+    public TpmPool(int maxSize)
+    {
+        this(maxSize, () -> new TpmDeviceLinuxNio("/dev/tpmrm0"));
+    }
+
+    /**
+     * Creates a pool of connections to TPM devices created by the given factory
+     * @param maxSize Maximal number of open connections
+     * @param deviceFactory Creates a new (not yet connected) TPM device. The devices must be
+     *        independent from each other, e.g. separate connections to a resource manager.
+     */
+    public TpmPool(int maxSize, Supplier<TpmDevice> deviceFactory)
+    {
+        this.maxSize = maxSize;
+        this.deviceFactory = deviceFactory;
+    }
+
+    /**
+     * @param intervalMillis Time after which an idle connection is probed before it is reused
+     *        (0 to probe on every acquire())
+     */
+    public void setHealthCheckInterval(long intervalMillis)
+    {
+        healthCheckInterval = intervalMillis;
+    }
+
+    /** @return Number of currently open connections */
+    public synchronized int size()
+    {
+        return size;
+    }
+
+    /**
+     * Takes a Tpm object from the pool, waiting for one to be released if all the connections
+     * are in use
+     * @param timeoutMillis Maximal time to wait
+     * @return A Tpm object, to be returned to the pool with release() or invalidate()
+     */
+    public Tpm acquire(long timeoutMillis)
+    {
+        Entry e = take(timeoutMillis);
+        try {
+            if (e == null)
+                e = new Entry(connect());
+            else if (System.nanoTime() - e.lastUsed >= TimeUnit.MILLISECONDS.toNanos(healthCheckInterval)
+                     && !isHealthy(e.tpm))
+            {
+                closeTpm(e.tpm);
+                e = new Entry(connect());
+            }
+        } catch (RuntimeException ex) {
+            synchronized (this)
+            {
+                --size;
+                notifyAll();
+            }
+            throw ex;
+        }
+        synchronized (this)
+        {
+            inUse.put(e.tpm, e);
+        }
+        return e.tpm;
+    }
+
+    /**
+     * Returns a Tpm object obtained from acquire() to the pool
+     * @param tpm The Tpm object
+     */
+    public void release(Tpm tpm)
+    {
+        synchronized (this)
+        {
+            Entry e = inUse.remove(tpm);
+            if (e == null)
+                throw new TpmException("The Tpm object does not belong to the pool");
+            if (!closed)
+            {
+                e.lastUsed = System.nanoTime();
+                idle.push(e);
+                notifyAll();
+                return;
+            }
+            --size;
+        }
+        closeTpm(tpm);
+    }
+
+    /**
+     * Closes the connection of a Tpm object obtained from acquire() instead of returning it
+     * to the pool (e.g. after a communication error). A new connection replaces it when needed.
+     * @param tpm The Tpm object
+     */
+    public void invalidate(Tpm tpm)
+    {
+        synchronized (this)
+        {
+            if (inUse.remove(tpm) == null)
+                throw new TpmException("The Tpm object does not belong to the pool");
+            --size;
+            notifyAll();
+        }
+        closeTpm(tpm);
+    }
+
+    /** Closes the idle connections. The connections in use are closed when they are released. */
+    @Override
+    public void close()
+    {
+        Entry[] entries;
+        synchronized (this)
+        {
+            closed = true;
+            entries = idle.toArray(new Entry[0]);
+            size -= entries.length;
+            idle.clear();
+            notifyAll();
+        }
+        for (Entry e : entries)
+            closeTpm(e.tpm);
+    }
+
+    /**
+     * Takes an idle connection (most recently used first), or reserves a slot for a new one
+     * @return An idle connection, or null if a new connection has to be opened
+     */
+    synchronized Entry take(long timeoutMillis)
+    {
+        // The monotonic clock is not affected by changes of the system time
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (idle.isEmpty() && size >= maxSize && !closed)
+        {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0)
+                throw new TpmException("Timed out waiting for a TPM connection");
+            try {
+                // Rounded up, as wait(0) would wait forever
+                wait(TimeUnit.NANOSECONDS.toMillis(remaining - 1) + 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TpmException("Interrupted while waiting for a TPM connection");
+            }
+        }
+        if (closed)
+            throw new TpmException("The TPM pool is closed");
+        if (!idle.isEmpty())
+            return idle.pop();
+        ++size;
+        return null;
+    }
+
+    /** @return A Tpm object with a new connection */
+    Tpm connect()
+    {
+        TpmDevice device = deviceFactory.get();
+        if (!device.connect())
+        {
+            device.close();
+            throw new TpmException("Failed to connect to the TPM");
+        }
+        Tpm tpm = new Tpm();
+        tpm._setDevice(device);
+        return tpm;
+    }
+
+    /** @return Whether the TPM answers a cheap command through the given connection */
+    static boolean isHealthy(Tpm tpm)
+    {
+        try {
+            tpm._allowErrors().GetRandom(1);
+            return tpm._lastCommandSucceeded();
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    static void closeTpm(Tpm tpm)
+    {
+        try {
+            tpm.close();
+        } catch (Exception e) {}
+    }
+}
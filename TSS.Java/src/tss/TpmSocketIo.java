@@ -0,0 +1,115 @@
+package tss;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.Arrays;
+
+/**
+ * Socket I/O of the TCP based TPM devices. A frame (e.g. a command with its protocol header)
+ * is gathered in a reused buffer and sent with a single write, and TCP_NODELAY is set, so that
+ * each frame goes out immediately in as few packets as possible instead of being held back by
+ * the Nagle algorithm. Incoming data is read through a buffered stream.
+ */
+class TpmSocketIo
+{
+    final Socket socket;
+    final DataInputStream in;
+    final OutputStream out;
+
+    /** Frame being gathered */
+    byte[] frame = new byte[4096];
+    int frameSize;
+
+    TpmSocketIo(Socket socket) throws IOException
+    {
+        this.socket = socket;
+        socket.setTcpNoDelay(true);
+        in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        out = socket.getOutputStream();
+    }
+
+    /** Appends a byte to the frame */
+    TpmSocketIo putByte(int val)
+    {
+        reserve(1);
+        frame[frameSize++] = (byte)val;
+        return this;
+    }
+
+    /** Appends a big-endian 32-bit integer to the frame */
+    TpmSocketIo putInt(int val)
+    {
+        reserve(4);
+        frame[frameSize++] = (byte)(val >>> 24);
+        frame[frameSize++] = (byte)(val >>> 16);
+        frame[frameSize++] = (byte)(val >>> 8);
+        frame[frameSize++] = (byte)val;
+        return this;
+    }
+
+    /** Appends a byte array to the frame */
+    TpmSocketIo put(byte[] buf)
+    {
+        reserve(buf.length);
+        System.arraycopy(buf, 0, frame, frameSize, buf.length);
+        frameSize += buf.length;
+        return this;
+    }
+
+    /** Sends the gathered frame with a single write, and starts a new one */
+    void send()
+    {
+        try {
+            out.write(frame, 0, frameSize);
+        } catch (IOException e) {
+            throw new TpmException("TPM IO error", e);
+        } finally {
+            frameSize = 0;
+        }
+    }
+
+    int readInt()
+    {
+        try {
+            return in.readInt();
+        } catch (IOException e) {
+            throw new TpmException("TPM IO error", e);
+        }
+    }
+
+    /** @return Data prefixed with its 32-bit size */
+    byte[] readEncapsulated()
+    {
+        try {
+            byte[] buf = new byte[in.readInt()];
+            in.readFully(buf);
+            return buf;
+        } catch (IOException e) {
+            throw new TpmException("TPM IO error", e);
+        }
+    }
+
+    /** @return Number of bytes that can be read without blocking */
+    int available()
+    {
+        try {
+            return in.available();
+        } catch (IOException e) {
+            throw new TpmException("Error getting data from the TPM", e);
+        }
+    }
+
+    void close()
+    {
+        try { socket.close(); } catch (IOException ioe) {}
+    }
+
+    void reserve(int size)
+    {
+        if (frameSize + size > frame.length)
+            frame = Arrays.copyOf(frame, Math.max(frame.length * 2, frameSize + size));
+    }
+}
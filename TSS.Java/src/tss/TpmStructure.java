@@ -1,6 +1,8 @@
 
 package tss;
 
+import java.util.Arrays;
+
 // import tss.tpm.*;
 
 public class TpmStructure implements TpmMarshaller {
@@ -26,9 +28,12 @@ public class TpmStructure implements TpmMarshaller {
     /** @return TPM binary representation of this object. */
     public byte[] toBytes()
     {
-        TpmBuffer buf = new TpmBuffer();
+        int size = wireSize();
+        TpmBuffer buf = new TpmBuffer(size);
         toTpm(buf);
-        return buf.trim();
+        if (buf.isOk() && buf.curPos() == size)
+            return buf.buffer();
+        return toBytesGrowing(false);
     }
 
     /** Initializes this object from a TPM binary representation in the given byte buffer
@@ -44,9 +49,67 @@ public class TpmStructure implements TpmMarshaller {
     /** @return 2B size-prefixed TPM binary representation of this object. */
     byte[] asTpm2B()
     {
-        TpmBuffer buf = new TpmBuffer();
+        int size = 2 + wireSize();
+        TpmBuffer buf = new TpmBuffer(size);
         buf.writeSizedObj(this);
-        return buf.trim();
+        if (buf.isOk() && buf.curPos() == size)
+            return buf.buffer();
+        return toBytesGrowing(true);
+    }
+
+    /** Size limit of toBytesGrowing() */
+    static final int MaxMarshaledSize = 1 << 24;
+
+    /** Marshals this object when its wireSize() does not agree with what toTpm() writes
+     *  (e.g. a hand-written override), doubling the buffer until the object fits.
+     * @param sized Whether to prepend the 2-byte size
+     * @return TPM binary representation of this object
+     */
+    byte[] toBytesGrowing(boolean sized)
+    {
+        for (int capacity = 4096; capacity <= MaxMarshaledSize; capacity *= 2)
+        {
+            TpmBuffer buf = new TpmBuffer(capacity);
+            if (sized)
+                buf.writeSizedObj(this);
+            else
+                toTpm(buf);
+            if (buf.isOk())
+                return buf.trim();
+        }
+        throw new TpmException("The marshaled " + getClass().getSimpleName() + " exceeds " + MaxMarshaledSize + " bytes");
+    }
+
+    /** @return Size of the 2B size-prefixed TPM representation of the given object */
+    protected static int sizedObjWireSize(TpmMarshaller obj)
+    {
+        return 2 + (obj != null ? obj.wireSize() : 0);
+    }
+
+    /** @return Size of the TPM representation of the given byte array without size prefix */
+    protected static int byteBufWireSize(byte[] data)
+    {
+        return data != null ? data.length : 0;
+    }
+
+    /** @return Size of the TPM representation of the given byte array with a size prefix
+     *  @param sizeLen Length of the size prefix in bytes
+     */
+    protected static int sizedByteBufWireSize(byte[] data, int sizeLen)
+    {
+        return sizeLen + (data != null ? data.length : 0);
+    }
+
+    /** @return Size of the TPM representation of the given array of objects (including
+     *          its 4-byte length prefix)
+     */
+    protected static int objArrWireSize(TpmMarshaller[] arr)
+    {
+        int size = 4;
+        if (arr != null)
+            for (TpmMarshaller obj : arr)
+                size += obj.wireSize();
+        return size;
     }
 
     @Override
@@ -68,6 +131,6 @@ public class TpmStructure implements TpmMarshaller {
     @Override
     public int hashCode()
     {
-        return toBytes().hashCode();
+        return Arrays.hashCode(toBytes());
     }
 }
@@ -0,0 +1,434 @@
+package tss;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A connection to a tunnel server shared by several logical TPM clients.
+ * <P>
+ * Each stream opened with openStream() is a TpmDevice of its own (e.g. for a separate Tpm
+ * object), with its own resource manager context if the server runs a TpmDeviceResourceManager.
+ * The commands of all the streams travel over the same connection (in particular, a single TLS
+ * session for an SSL tunnel) using the multiplexed tunnel protocol (see TpmTunnelProtocol), and
+ * each response is routed to the stream that sent the command by its request ID.
+ * <P>
+ * A command not executed by the server yet can be cancelled with Stream.cancel(), or when its
+ * response does not arrive within the stream's timeout.
+ * <P>
+ * If the server does not support the multiplexed protocol, the connection falls back to the
+ * legacy tunnel framing, which only carries a single stream (see isMultiplexed()).
+ */
+public class TpmTunnelMux implements Closeable
+{
+    /** A command waiting for its response */
+    static class Request
+    {
+        final int id;
+        byte[] resp;
+        boolean done;
+
+        Request(int id)
+        {
+            this.id = id;
+        }
+
+        synchronized void complete(byte[] resp)
+        {
+            this.resp = resp;
+            done = true;
+            notifyAll();
+        }
+    }
+
+    /** A logical TPM client sharing the connection */
+    public class Stream extends TpmDevice
+    {
+        final int id;
+        int currentLocality;
+        long timeout;
+        boolean closed;
+
+        /** Commands sent by this stream, in order, whose responses have not been read yet */
+        final ArrayDeque<Request> outstanding = new ArrayDeque<Request>();
+
+        Stream(int id)
+        {
+            this.id = id;
+        }
+
+        /**
+         * Sets the maximal time to wait for the response to a command. If it elapses,
+         * getResponse() throws and the command is cancelled (if the server has not started
+         * executing it yet, otherwise its response is dropped).
+         * @param timeoutMillis Timeout in milliseconds (0 to wait indefinitely)
+         */
+        public void setTimeout(long timeoutMillis)
+        {
+            timeout = timeoutMillis;
+        }
+
+        /**
+         * Cancels the commands of this stream that the server has not started executing yet.
+         * They are answered with TPM_RC_CANCELED. With the legacy framing, this has no effect.
+         * Can be called from any thread.
+         */
+        public void cancel()
+        {
+            Request[] reqs;
+            synchronized (this)
+            {
+                reqs = outstanding.toArray(new Request[0]);
+            }
+            for (Request req : reqs)
+                sendCancel(this, req);
+        }
+
+        /** The stream is connected when it is opened */
+        @Override
+        public boolean connect()
+        {
+            return !closed;
+        }
+
+        @Override
+        public void close()
+        {
+            if (closed)
+                return;
+            closed = true;
+            closeStream(this);
+        }
+
+        @Override
+        public void dispatchCommand(byte[] cmdBuf)
+        {
+            if (closed)
+                throw new TpmException("The TPM tunnel stream is closed");
+            Request req = sendCommand(this, cmdBuf);
+            synchronized (this)
+            {
+                outstanding.add(req);
+            }
+        }
+
+        @Override
+        public byte[] getResponse()
+        {
+            Request req;
+            synchronized (this)
+            {
+                req = outstanding.peek();
+            }
+            if (req == null)
+                throw new TpmException("Cannot getResponse() without a prior dispatchCommand()");
+            try {
+                return awaitResponse(this, req, timeout);
+            } finally {
+                synchronized (this)
+                {
+                    outstanding.poll();
+                }
+            }
+        }
+
+        @Override
+        public boolean responseReady()
+        {
+            Request req;
+            synchronized (this)
+            {
+                req = outstanding.peek();
+            }
+            if (req == null)
+                throw new TpmException("Cannot responseReady() without a prior dispatchCommand()");
+            synchronized (req)
+            {
+                return req.done || failure != null;
+            }
+        }
+
+        /** The commands of a stream are executed in the order they are sent */
+        @Override
+        public boolean supportsPipelining()
+        {
+            return true;
+        }
+
+        @Override
+        public void setLocality(int locality)
+        {
+            currentLocality = locality;
+        }
+    }
+
+    final String hostName;
+    final int port;
+    final boolean ssl;
+
+    TpmSocketIo io;
+    boolean multiplexed;
+    Thread receiver;
+
+    /** Commands waiting for their responses, by request ID (guarded by this object) */
+    final HashMap<Integer, Request> pending = new HashMap<Integer, Request>();
+
+    /** With the legacy framing: commands waiting for their responses, in the order they were
+     *  sent (guarded by this object) */
+    final ArrayDeque<Request> legacyPending = new ArrayDeque<Request>();
+
+    int nextStreamId = 1;
+    int nextRequestId = 1;
+    int openStreams;
+
+    /** Set when the connection is lost */
+    volatile TpmException failure;
+
+    /**
+     * @param hostName Tunnel server host
+     * @param port Tunnel server port
+     * @param ssl Whether to connect to a TLS tunnel server (as TpmDeviceSSLTunnelClient)
+     */
+    public TpmTunnelMux(String hostName, int port, boolean ssl)
+    {
+        this.hostName = hostName;
+        this.port = port;
+        this.ssl = ssl;
+    }
+
+    /**
+     * Connects to the server and negotiates the multiplexed protocol
+     * @return Whether the connection was established
+     */
+    public boolean connect()
+    {
+        if (io != null)
+            return true;
+        try {
+            io = new TpmSocketIo(openSocket());
+            byte[] hello = TpmTunnelProtocol.hello(TpmTunnelProtocol.Version);
+            io.putByte(0).putInt(hello.length).put(hello).send();
+            try {
+                multiplexed = TpmTunnelProtocol.parseHello(io.readEncapsulated()) > 0;
+            } catch (TpmException e) {
+                // The server dropped the connection instead of answering the hello
+                io.close();
+                io = new TpmSocketIo(openSocket());
+                multiplexed = false;
+            }
+        } catch (Exception e) {
+            if (io != null)
+                io.close();
+            io = null;
+            System.err.println("Failed to connect to the TPM at " + hostName + ":" +
+                               port + ": " +  e.getMessage());
+            return false;
+        }
+
+        failure = null;
+        receiver = new Thread(this::receiveResponses, "TPM tunnel receiver");
+        receiver.setDaemon(true);
+        receiver.start();
+        return true;
+    }
+
+    /** @return Whether the server supports the multiplexed protocol. If not, only one stream
+     *          can be open at a time. */
+    public boolean isMultiplexed()
+    {
+        return multiplexed;
+    }
+
+    /**
+     * Opens a new logical TPM client on the connection
+     * @return TPM device of the stream (already connected)
+     */
+    public synchronized Stream openStream()
+    {
+        if (io == null)
+            throw new TpmException("The TPM tunnel is not connected");
+        if (!multiplexed && openStreams > 0)
+            throw new TpmException("The tunnel server does not support multiple streams");
+        ++openStreams;
+        return new Stream(nextStreamId++);
+    }
+
+    /** Closes the connection. The pending commands of all the streams fail. */
+    @Override
+    public void close()
+    {
+        if (io == null)
+            return;
+        io.close();
+        io = null;
+        try {
+            receiver.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    Socket openSocket() throws IOException
+    {
+        return ssl ? TpmDeviceSSLTunnelClient.createSocket(hostName, port)
+                   : new Socket(hostName, port);
+    }
+
+    Request sendCommand(Stream stream, byte[] cmdBuf)
+    {
+        TpmSocketIo io = checkConnection();
+        synchronized (io)
+        {
+            Request req;
+            synchronized (this)
+            {
+                req = new Request(nextRequestId++);
+                if (multiplexed)
+                    pending.put(req.id, req);
+                else
+                    legacyPending.add(req);
+            }
+            if (multiplexed)
+            {
+                io.putByte(TpmTunnelProtocol.Command).putInt(stream.id).putInt(req.id)
+                  .putInt(cmdBuf.length + 1).putByte(stream.currentLocality);
+            }
+            else
+                io.putByte(stream.currentLocality).putInt(cmdBuf.length);
+            io.put(cmdBuf).send();
+            return req;
+        }
+    }
+
+    void sendCancel(Stream stream, Request req)
+    {
+        if (!multiplexed)
+            return;
+        TpmSocketIo io = checkConnection();
+        synchronized (io)
+        {
+            io.putByte(TpmTunnelProtocol.Cancel).putInt(stream.id).putInt(req.id).putInt(0).send();
+        }
+    }
+
+    void closeStream(Stream stream)
+    {
+        synchronized (this)
+        {
+            --openStreams;
+        }
+        TpmSocketIo io = this.io;
+        if (!multiplexed || io == null || failure != null)
+            return;
+        synchronized (io)
+        {
+            io.putByte(TpmTunnelProtocol.CloseStream).putInt(stream.id).putInt(0).putInt(0).send();
+        }
+    }
+
+    byte[] awaitResponse(Stream stream, Request req, long timeout)
+    {
+        // The monotonic clock is not affected by changes of the system time
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        synchronized (req)
+        {
+            while (!req.done)
+            {
+                if (failure != null)
+                    throw failure;
+                long remaining = timeout == 0 ? 0 : deadline - System.nanoTime();
+                if (timeout != 0 && remaining <= 0)
+                    break;
+                try {
+                    // Rounded up, as wait(0) waits without a limit
+                    req.wait(timeout == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(remaining - 1) + 1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new TpmException("Interrupted while waiting for the TPM response");
+                }
+            }
+            if (req.done)
+                return req.resp;
+        }
+
+        // Timed out: a late response is dropped (with the legacy framing, it is still matched
+        // to this request to keep the order)
+        synchronized (this)
+        {
+            pending.remove(req.id);
+        }
+        sendCancel(stream, req);
+        throw new TpmException("Timed out waiting for the TPM response");
+    }
+
+    /** Routes the received responses to the requests (runs on the receiver thread) */
+    void receiveResponses()
+    {
+        TpmSocketIo io = this.io;
+        try {
+            while (true)
+            {
+                Request req;
+                byte[] resp;
+                if (multiplexed)
+                {
+                    int type = io.in.readUnsignedByte();
+                    io.in.readInt();    // stream ID
+                    int id = io.in.readInt();
+                    int size = io.in.readInt();
+                    if (type != TpmTunnelProtocol.Response || size < 0 || size > TpmTunnelProtocol.MaxPayloadSize)
+                        throw new TpmException("Bad frame from the TPM tunnel server");
+                    resp = new byte[size];
+                    io.in.readFully(resp);
+                    synchronized (this)
+                    {
+                        req = pending.remove(id);
+                    }
+                }
+                else
+                {
+                    resp = io.readEncapsulated();
+                    synchronized (this)
+                    {
+                        req = legacyPending.poll();
+                    }
+                }
+                if (req != null)
+                    req.complete(resp);
+            }
+        } catch (IOException | TpmException e) {
+            failure = e instanceof TpmException ? (TpmException)e
+                                                : new TpmException("Connection to the TPM tunnel lost", e);
+            io.close();
+            ArrayList<Request> reqs;
+            synchronized (this)
+            {
+                reqs = new ArrayList<Request>(pending.values());
+                reqs.addAll(legacyPending);
+                pending.clear();
+                legacyPending.clear();
+            }
+            for (Request req : reqs)
+            {
+                synchronized (req)
+                {
+                    req.notifyAll();
+                }
+            }
+        }
+    }
+
+    TpmSocketIo checkConnection()
+    {
+        TpmSocketIo io = this.io;
+        if (failure != null)
+            throw failure;
+        if (io == null)
+            throw new TpmException("The TPM tunnel is not connected");
+        return io;
+    }
+}
@@ -0,0 +1,241 @@
+package tss;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+
+import tss.tpm.*;
+
+/**
+ * Server side of a connection using the multiplexed tunnel protocol (see TpmTunnelProtocol).
+ * <P>
+ * The frames are read by the thread calling serve(), and the commands are executed in the
+ * order they are received by a separate thread, so that a command can be cancelled while it
+ * waits for the ones before it. The commands of different streams are not executed concurrently,
+ * so that only the cancellation responses are sent out of order. If the TPM device is a
+ * TpmDeviceResourceManager, each stream is a separate client of it.
+ * <P>
+ * A command on which the TPM device fails with an exception is answered with TPM_RC_FAILURE,
+ * and the resource manager context of its stream is released. The other streams keep being
+ * served.
+ */
+class TpmTunnelMuxSession
+{
+    /** A command, or the closing of a stream (cmdBuf == null) */
+    static class Request
+    {
+        final int stream;
+        final int id;
+        final int locality;
+        final byte[] cmdBuf;
+
+        Request(int stream, int id, int locality, byte[] cmdBuf)
+        {
+            this.stream = stream;
+            this.id = id;
+            this.locality = locality;
+            this.cmdBuf = cmdBuf;
+        }
+    }
+
+    final TpmDevice tpmDevice;
+    final TpmDeviceResourceManager resourceManager;
+    final DataInputStream in;
+    final OutputStream out;
+
+    /** Requests waiting for execution (guarded by itself) */
+    final ArrayDeque<Request> queue = new ArrayDeque<Request>();
+    boolean closed;
+
+    /** Devices of the open streams (only used by the executing thread) */
+    final HashMap<Integer, TpmDevice> streams = new HashMap<Integer, TpmDevice>();
+
+    /**
+     * @param tpmDevice TPM device executing the commands
+     * @param in Connection input, positioned after the hello
+     * @param out Connection output
+     */
+    TpmTunnelMuxSession(TpmDevice tpmDevice, DataInputStream in, OutputStream out)
+    {
+        this.tpmDevice = tpmDevice;
+        this.in = in;
+        this.out = out;
+        resourceManager = tpmDevice instanceof TpmDeviceResourceManager
+                        ? (TpmDeviceResourceManager)tpmDevice : null;
+    }
+
+    /** Serves the connection until the client closes it */
+    void serve() throws IOException
+    {
+        Thread executor = new Thread(this::executeRequests, "TPM tunnel executor");
+        executor.setDaemon(true);
+        executor.start();
+        try {
+            while (true)
+            {
+                int type;
+                try {
+                    type = in.readUnsignedByte();
+                } catch (EOFException e) {
+                    return;
+                }
+                int stream = in.readInt(),
+                    id = in.readInt(),
+                    size = in.readInt();
+                if (size < 0 || size > TpmTunnelProtocol.MaxPayloadSize)
+                    throw new IOException("Bad tunnel frame size " + size);
+                byte[] payload = new byte[size];
+                in.readFully(payload);
+
+                if (type == TpmTunnelProtocol.Command && size > 0)
+                    enqueue(new Request(stream, id, payload[0] & 0xFF, Arrays.copyOfRange(payload, 1, size)));
+                else if (type == TpmTunnelProtocol.Cancel)
+                {
+                    if (cancel(stream, id))
+                        send(stream, id, TpmTunnelProtocol.errorResponse(TPM_RC.CANCELED));
+                }
+                else if (type == TpmTunnelProtocol.CloseStream)
+                    enqueue(new Request(stream, 0, 0, null));
+                else
+                    throw new IOException("Bad tunnel frame type " + type);
+            }
+        } finally {
+            synchronized (queue)
+            {
+                closed = true;
+                queue.notifyAll();
+            }
+            boolean interrupted = false;
+            while (executor.isAlive())
+            {
+                try {
+                    executor.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+    }
+
+    void enqueue(Request req)
+    {
+        synchronized (queue)
+        {
+            queue.add(req);
+            queue.notifyAll();
+        }
+    }
+
+    /** @return Whether the command was still waiting for execution (and is now dropped) */
+    boolean cancel(int stream, int id)
+    {
+        synchronized (queue)
+        {
+            for (Iterator<Request> it = queue.iterator(); it.hasNext(); )
+            {
+                Request req = it.next();
+                if (req.stream == stream && req.id == id && req.cmdBuf != null)
+                {
+                    it.remove();
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Sends a response frame with a single write */
+    void send(int stream, int id, byte[] resp) throws IOException
+    {
+        TpmBuffer frame = new TpmBuffer(TpmTunnelProtocol.FrameHeaderSize + resp.length);
+        frame.writeByte((byte)TpmTunnelProtocol.Response);
+        frame.writeInt(stream);
+        frame.writeInt(id);
+        frame.writeInt(resp.length);
+        frame.writeByteBuf(resp);
+        synchronized (out)
+        {
+            out.write(frame.buffer(), 0, frame.curPos());
+            out.flush();
+        }
+    }
+
+    void executeRequests()
+    {
+        try {
+            while (true)
+            {
+                Request req;
+                synchronized (queue)
+                {
+                    while (queue.isEmpty() && !closed)
+                    {
+                        try {
+                            queue.wait();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                    if (closed)
+                        return;
+                    req = queue.poll();
+                }
+
+                if (req.cmdBuf == null)
+                {
+                    closeStream(streams.remove(req.stream));
+                    continue;
+                }
+
+                byte[] resp;
+                try {
+                    TpmDevice device = streams.get(req.stream);
+                    if (device == null)
+                    {
+                        device = resourceManager != null ? resourceManager.newClient() : tpmDevice;
+                        streams.put(req.stream, device);
+                    }
+                    try {
+                        device.setLocality(req.locality);
+                    } catch (UnsupportedOperationException e) {
+                        // not all TpmDevice support setLocality
+                    }
+                    device.dispatchCommand(req.cmdBuf);
+                    resp = device.getResponse();
+                } catch (RuntimeException e) {
+                    // The state of the stream context is unknown. The next command of the
+                    // stream gets a new one.
+                    closeStream(streams.remove(req.stream));
+                    resp = TpmTunnelProtocol.errorResponse(TPM_RC.FAILURE);
+                }
+                send(req.stream, req.id, resp);
+            }
+        } catch (IOException | RuntimeException e) {
+            // The client cannot be answered anymore. Closing the connection makes serve() return.
+            try { out.close(); } catch (IOException ioe) {}
+        } finally {
+            // Flush the objects and sessions of the streams
+            for (TpmDevice device : streams.values())
+                closeStream(device);
+            streams.clear();
+        }
+    }
+
+    void closeStream(TpmDevice device)
+    {
+        if (device == null || device == tpmDevice)
+            return;
+        try {
+            device.close();
+        } catch (RuntimeException e) {
+            // The stream is gone, and the other streams are not affected
+        }
+    }
+}
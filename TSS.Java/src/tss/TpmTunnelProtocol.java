@@ -0,0 +1,95 @@
+package tss;
+
+import tss.tpm.*;
+
+/**
+ * Multiplexed tunnel protocol (version 1), spoken by TpmTunnelMux and the tunnel server
+ * runnables.
+ * <P>
+ * The legacy tunnel framing (a locality byte and a size-prefixed command, answered with a
+ * size-prefixed response) carries a single conversation per connection. To negotiate the
+ * multiplexed protocol, the client sends a hello in a legacy frame: a pseudo TPM command with
+ * the tag HelloTag and the command code HelloCode, followed by the highest protocol version the
+ * client supports. A server supporting the protocol answers with a legacy response frame
+ * containing the same tag and code, and the version to use, after which both sides switch to
+ * multiplexed frames. A legacy server forwards the hello to the TPM, which rejects it with
+ * TPM_RC_BAD_TAG, and the client keeps using the legacy framing.
+ * <P>
+ * A multiplexed frame is made of a type byte, a stream ID (a logical client, with its own
+ * resource manager context on the server), a request ID, and a size-prefixed payload:
+ * <UL>
+ * <LI>Command (client): the locality byte and the TPM command</LI>
+ * <LI>Cancel (client, empty): cancels a command not executed yet. The server answers it
+ *     with a TPM_RC_CANCELED response.</LI>
+ * <LI>CloseStream (client, empty): releases the server resources of the stream</LI>
+ * <LI>Response (server): the TPM response to the command with the request ID (TPM_RC_FAILURE
+ *     if the TPM device of the server failed to execute it)</LI>
+ * </UL>
+ * Responses are matched to the commands by the request ID. The server executes the commands of
+ * all the streams one at a time, in the order they are received, and answers them in that order.
+ * Only a cancelled command is answered ahead of the commands received before it.
+ */
+class TpmTunnelProtocol
+{
+    /** Highest protocol version implemented */
+    static final int Version = 1;
+
+    static final int HelloTag = 0x4D55;
+    static final int HelloCode = 0x4D555831;
+    static final int HelloSize = 14;
+
+    /** Frame types */
+    static final int Command = 1,
+                     Cancel = 2,
+                     CloseStream = 3,
+                     Response = 0x81;
+
+    /** Size of the type, stream ID, request ID and payload size fields */
+    static final int FrameHeaderSize = 13;
+
+    /** Maximal size of a command or response payload */
+    static final int MaxPayloadSize = 0x10001;
+
+    /**
+     * @param version Highest protocol version supported by the client (hello), or version
+     *        selected by the server (hello response)
+     * @return Hello message
+     */
+    static byte[] hello(int version)
+    {
+        TpmBuffer buf = new TpmBuffer(HelloSize);
+        buf.writeShort(HelloTag);
+        buf.writeInt(HelloSize);
+        buf.writeInt(HelloCode);
+        buf.writeInt(version);
+        return buf.trim();
+    }
+
+    /**
+     * @param msg A command received in a legacy frame, or a response to the hello
+     * @return Protocol version in the hello message, or 0 if msg is not a hello message
+     */
+    static int parseHello(byte[] msg)
+    {
+        if (msg.length != HelloSize)
+            return 0;
+        TpmBuffer buf = new TpmBuffer(msg);
+        if (buf.readShort() != HelloTag || buf.readInt() != HelloSize || buf.readInt() != HelloCode)
+            return 0;
+        return Math.max(buf.readInt(), 0);
+    }
+
+    /**
+     * @param rc Response code
+     * @return Response to a command not executed by the TPM (e.g. TPM_RC_CANCELED for a
+     *         cancelled command)
+     */
+    static byte[] errorResponse(TPM_RC rc)
+    {
+        TpmBuffer buf = new TpmBuffer(10);
+        buf.writeShort(TPM_ST.NO_SESSIONS.toInt());
+        buf.writeInt(10);
+        buf.writeInt(rc.toInt());
+        return buf.trim();
+    }
+}
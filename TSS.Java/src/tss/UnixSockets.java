@@ -0,0 +1,46 @@
+package tss;
+
+import java.io.IOException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Unix domain (AF_UNIX) socket channels.
+ * <P>
+ * They require Java 16 (UnixDomainSocketAddress). The TSS.Java jar is a multi-release jar:
+ * this version is used by Java 8 to 15, where Unix domain sockets are not supported, while
+ * Java 16 and later load the one built from java16/tss/UnixSockets.java.
+ */
+class UnixSockets
+{
+    /** @return Whether Unix domain sockets are supported by this Java runtime */
+    static boolean isSupported()
+    {
+        return false;
+    }
+
+    /**
+     * Connects to a Unix domain socket
+     * @param path Path of the socket file
+     * @return Connected (blocking) channel
+     */
+    static SocketChannel connect(String path) throws IOException
+    {
+        throw unsupported();
+    }
+
+    /**
+     * Creates a Unix domain socket listening for connections
+     * @param path Path of the socket file (must not exist)
+     * @return Bound (blocking) server channel
+     */
+    static ServerSocketChannel listen(String path) throws IOException
+    {
+        throw unsupported();
+    }
+
+    static UnsupportedOperationException unsupported()
+    {
+        return new UnsupportedOperationException("Unix domain sockets require Java 16 or later");
+    }
+}
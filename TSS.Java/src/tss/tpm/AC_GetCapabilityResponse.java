@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -33,9 +33,13 @@ public class AC_GetCapabilityResponse extends RespStructure
     public void initFromTpm(TpmBuffer buf)
     {
         moreData = buf.readByte();
-        capabilitiesData = buf.readObjArr(TPMS_AC_OUTPUT.class);
+        capabilitiesData = buf.readObjArr(TPMS_AC_OUTPUT::new, TPMS_AC_OUTPUT[]::new);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 1 + objArrWireSize(capabilitiesData); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -47,7 +51,7 @@ public class AC_GetCapabilityResponse extends RespStructure
      */
     public static AC_GetCapabilityResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(AC_GetCapabilityResponse.class);
+        return new TpmBuffer(byteBuf).createObj(AC_GetCapabilityResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -62,7 +66,7 @@ public class AC_GetCapabilityResponse extends RespStructure
      */
     public static AC_GetCapabilityResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(AC_GetCapabilityResponse.class);
+        return buf.createObj(AC_GetCapabilityResponse::new);
     }
 
     @Override
@@ -80,6 +84,24 @@ public class AC_GetCapabilityResponse extends RespStructure
         _p.add(d, "byte", "moreData", moreData);
         _p.add(d, "TPMS_AC_OUTPUT[]", "capabilitiesData", capabilitiesData);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        AC_GetCapabilityResponse that = (AC_GetCapabilityResponse)obj;
+        return moreData == that.moreData
+            && Arrays.equals(capabilitiesData, that.capabilitiesData);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Byte.hashCode(moreData);
+        _hash = 31 * _hash + Arrays.hashCode(capabilitiesData);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -25,6 +25,10 @@ public class AC_SendResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { acDataOut = TPMS_AC_OUTPUT.fromTpm(buf); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return acDataOut.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -36,7 +40,7 @@ public class AC_SendResponse extends RespStructure
      */
     public static AC_SendResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(AC_SendResponse.class);
+        return new TpmBuffer(byteBuf).createObj(AC_SendResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -51,7 +55,7 @@ public class AC_SendResponse extends RespStructure
      */
     public static AC_SendResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(AC_SendResponse.class);
+        return buf.createObj(AC_SendResponse::new);
     }
 
     @Override
@@ -68,6 +72,21 @@ public class AC_SendResponse extends RespStructure
     {
         _p.add(d, "TPMS_AC_OUTPUT", "acDataOut", acDataOut);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        AC_SendResponse that = (AC_SendResponse)obj;
+        return Objects.equals(acDataOut, that.acDataOut);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(acDataOut);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -28,6 +28,10 @@ public class ActivateCredentialResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { certInfo = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(certInfo, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -39,7 +43,7 @@ public class ActivateCredentialResponse extends RespStructure
      */
     public static ActivateCredentialResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(ActivateCredentialResponse.class);
+        return new TpmBuffer(byteBuf).createObj(ActivateCredentialResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -54,7 +58,7 @@ public class ActivateCredentialResponse extends RespStructure
      */
     public static ActivateCredentialResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(ActivateCredentialResponse.class);
+        return buf.createObj(ActivateCredentialResponse::new);
     }
 
     @Override
@@ -72,6 +76,21 @@ public class ActivateCredentialResponse extends RespStructure
         _p.add(d, "byte[]", "certInfo", certInfo);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ActivateCredentialResponse that = (ActivateCredentialResponse)obj;
+        return Arrays.equals(certInfo, that.certInfo);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(certInfo);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -42,12 +42,16 @@ public class CertifyCreationResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        certifyInfo = buf.createSizedObj(TPMS_ATTEST.class);
+        certifyInfo = buf.createSizedObj(TPMS_ATTEST::new);
         TPM_ALG_ID signatureSigAlg = TPM_ALG_ID.fromTpm(buf);
-        signature = UnionFactory.create("TPMU_SIGNATURE", signatureSigAlg);
+        signature = UnionFactory.createTPMU_SIGNATURE(signatureSigAlg);
         signature.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedObjWireSize(certifyInfo) + signature.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -59,7 +63,7 @@ public class CertifyCreationResponse extends RespStructure
      */
     public static CertifyCreationResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(CertifyCreationResponse.class);
+        return new TpmBuffer(byteBuf).createObj(CertifyCreationResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -74,7 +78,7 @@ public class CertifyCreationResponse extends RespStructure
      */
     public static CertifyCreationResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(CertifyCreationResponse.class);
+        return buf.createObj(CertifyCreationResponse::new);
     }
 
     @Override
@@ -93,6 +97,24 @@ public class CertifyCreationResponse extends RespStructure
         _p.add(d, "TPMU_SIGNATURE", "signature", signature);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        CertifyCreationResponse that = (CertifyCreationResponse)obj;
+        return Objects.equals(certifyInfo, that.certifyInfo)
+            && Objects.equals(signature, that.signature);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(certifyInfo);
+        _hash = 31 * _hash + Objects.hashCode(signature);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
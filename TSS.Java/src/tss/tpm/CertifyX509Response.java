@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -53,10 +53,14 @@ public class CertifyX509Response extends RespStructure
         addedToCertificate = buf.readSizedByteBuf();
         tbsDigest = buf.readSizedByteBuf();
         TPM_ALG_ID signatureSigAlg = TPM_ALG_ID.fromTpm(buf);
-        signature = UnionFactory.create("TPMU_SIGNATURE", signatureSigAlg);
+        signature = UnionFactory.createTPMU_SIGNATURE(signatureSigAlg);
         signature.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedByteBufWireSize(addedToCertificate, 2) + sizedByteBufWireSize(tbsDigest, 2) + signature.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -68,7 +72,7 @@ public class CertifyX509Response extends RespStructure
      */
     public static CertifyX509Response fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(CertifyX509Response.class);
+        return new TpmBuffer(byteBuf).createObj(CertifyX509Response::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -83,7 +87,7 @@ public class CertifyX509Response extends RespStructure
      */
     public static CertifyX509Response fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(CertifyX509Response.class);
+        return buf.createObj(CertifyX509Response::new);
     }
 
     @Override
@@ -103,6 +107,26 @@ public class CertifyX509Response extends RespStructure
         _p.add(d, "TPMU_SIGNATURE", "signature", signature);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        CertifyX509Response that = (CertifyX509Response)obj;
+        return Arrays.equals(addedToCertificate, that.addedToCertificate)
+            && Arrays.equals(tbsDigest, that.tbsDigest)
+            && Objects.equals(signature, that.signature);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(addedToCertificate);
+        _hash = 31 * _hash + Arrays.hashCode(tbsDigest);
+        _hash = 31 * _hash + Objects.hashCode(signature);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -50,6 +50,10 @@ public class CommandHeader extends TpmStructure
         CommandCode = TPM_CC.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 4 + Tag.wireSize() + CommandCode.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -61,7 +65,7 @@ public class CommandHeader extends TpmStructure
      */
     public static CommandHeader fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(CommandHeader.class);
+        return new TpmBuffer(byteBuf).createObj(CommandHeader::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -76,7 +80,7 @@ public class CommandHeader extends TpmStructure
      */
     public static CommandHeader fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(CommandHeader.class);
+        return buf.createObj(CommandHeader::new);
     }
 
     @Override
@@ -95,6 +99,26 @@ public class CommandHeader extends TpmStructure
         _p.add(d, "int", "CommandSize", CommandSize);
         _p.add(d, "TPM_CC", "CommandCode", CommandCode);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        CommandHeader that = (CommandHeader)obj;
+        return Objects.equals(Tag, that.Tag)
+            && CommandSize == that.CommandSize
+            && Objects.equals(CommandCode, that.CommandCode);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(Tag);
+        _hash = 31 * _hash + Integer.hashCode(CommandSize);
+        _hash = 31 * _hash + Objects.hashCode(CommandCode);
+        return _hash;
+    }
 }
 
 //<<<
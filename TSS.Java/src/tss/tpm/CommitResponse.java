@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -42,12 +42,16 @@ public class CommitResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        K = buf.createSizedObj(TPMS_ECC_POINT.class);
-        L = buf.createSizedObj(TPMS_ECC_POINT.class);
-        E = buf.createSizedObj(TPMS_ECC_POINT.class);
+        K = buf.createSizedObj(TPMS_ECC_POINT::new);
+        L = buf.createSizedObj(TPMS_ECC_POINT::new);
+        E = buf.createSizedObj(TPMS_ECC_POINT::new);
         counter = buf.readShort();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedObjWireSize(K) + sizedObjWireSize(L) + sizedObjWireSize(E); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -59,7 +63,7 @@ public class CommitResponse extends RespStructure
      */
     public static CommitResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(CommitResponse.class);
+        return new TpmBuffer(byteBuf).createObj(CommitResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -74,7 +78,7 @@ public class CommitResponse extends RespStructure
      */
     public static CommitResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(CommitResponse.class);
+        return buf.createObj(CommitResponse::new);
     }
 
     @Override
@@ -95,6 +99,28 @@ public class CommitResponse extends RespStructure
         _p.add(d, "int", "counter", counter);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        CommitResponse that = (CommitResponse)obj;
+        return Objects.equals(K, that.K)
+            && Objects.equals(L, that.L)
+            && Objects.equals(E, that.E)
+            && counter == that.counter;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(K);
+        _hash = 31 * _hash + Objects.hashCode(L);
+        _hash = 31 * _hash + Objects.hashCode(E);
+        _hash = 31 * _hash + Integer.hashCode(counter);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -24,6 +24,10 @@ public class ContextSaveResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { context = TPMS_CONTEXT.fromTpm(buf); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return context.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -35,7 +39,7 @@ public class ContextSaveResponse extends RespStructure
      */
     public static ContextSaveResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(ContextSaveResponse.class);
+        return new TpmBuffer(byteBuf).createObj(ContextSaveResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -50,7 +54,7 @@ public class ContextSaveResponse extends RespStructure
      */
     public static ContextSaveResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(ContextSaveResponse.class);
+        return buf.createObj(ContextSaveResponse::new);
     }
 
     @Override
@@ -67,6 +71,21 @@ public class ContextSaveResponse extends RespStructure
     {
         _p.add(d, "TPMS_CONTEXT", "context", context);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ContextSaveResponse that = (ContextSaveResponse)obj;
+        return Objects.equals(context, that.context);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(context);
+    }
 }
 
 //<<<
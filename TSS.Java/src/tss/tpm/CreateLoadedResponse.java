@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -43,10 +43,14 @@ public class CreateLoadedResponse extends RespStructure
     public void initFromTpm(TpmBuffer buf)
     {
         outPrivate = TPM2B_PRIVATE.fromTpm(buf);
-        outPublic = buf.createSizedObj(TPMT_PUBLIC.class);
+        outPublic = buf.createSizedObj(TPMT_PUBLIC::new);
         name = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return outPrivate.wireSize() + sizedObjWireSize(outPublic) + sizedByteBufWireSize(name, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -58,7 +62,7 @@ public class CreateLoadedResponse extends RespStructure
      */
     public static CreateLoadedResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(CreateLoadedResponse.class);
+        return new TpmBuffer(byteBuf).createObj(CreateLoadedResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -73,7 +77,7 @@ public class CreateLoadedResponse extends RespStructure
      */
     public static CreateLoadedResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(CreateLoadedResponse.class);
+        return buf.createObj(CreateLoadedResponse::new);
     }
 
     @Override
@@ -94,6 +98,28 @@ public class CreateLoadedResponse extends RespStructure
         _p.add(d, "byte[]", "name", name);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        CreateLoadedResponse that = (CreateLoadedResponse)obj;
+        return Objects.equals(handle, that.handle)
+            && Objects.equals(outPrivate, that.outPrivate)
+            && Objects.equals(outPublic, that.outPublic)
+            && Arrays.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(handle);
+        _hash = 31 * _hash + Objects.hashCode(outPrivate);
+        _hash = 31 * _hash + Objects.hashCode(outPublic);
+        _hash = 31 * _hash + Arrays.hashCode(name);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -52,13 +52,17 @@ public class CreatePrimaryResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        outPublic = buf.createSizedObj(TPMT_PUBLIC.class);
-        creationData = buf.createSizedObj(TPMS_CREATION_DATA.class);
+        outPublic = buf.createSizedObj(TPMT_PUBLIC::new);
+        creationData = buf.createSizedObj(TPMS_CREATION_DATA::new);
         creationHash = buf.readSizedByteBuf();
         creationTicket = TPMT_TK_CREATION.fromTpm(buf);
         name = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(outPublic) + sizedObjWireSize(creationData) + sizedByteBufWireSize(creationHash, 2) + creationTicket.wireSize() + sizedByteBufWireSize(name, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -70,7 +74,7 @@ public class CreatePrimaryResponse extends RespStructure
      */
     public static CreatePrimaryResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(CreatePrimaryResponse.class);
+        return new TpmBuffer(byteBuf).createObj(CreatePrimaryResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -85,7 +89,7 @@ public class CreatePrimaryResponse extends RespStructure
      */
     public static CreatePrimaryResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(CreatePrimaryResponse.class);
+        return buf.createObj(CreatePrimaryResponse::new);
     }
 
     @Override
@@ -108,6 +112,32 @@ public class CreatePrimaryResponse extends RespStructure
         _p.add(d, "byte[]", "name", name);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        CreatePrimaryResponse that = (CreatePrimaryResponse)obj;
+        return Objects.equals(handle, that.handle)
+            && Objects.equals(outPublic, that.outPublic)
+            && Objects.equals(creationData, that.creationData)
+            && Arrays.equals(creationHash, that.creationHash)
+            && Objects.equals(creationTicket, that.creationTicket)
+            && Arrays.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(handle);
+        _hash = 31 * _hash + Objects.hashCode(outPublic);
+        _hash = 31 * _hash + Objects.hashCode(creationData);
+        _hash = 31 * _hash + Arrays.hashCode(creationHash);
+        _hash = 31 * _hash + Objects.hashCode(creationTicket);
+        _hash = 31 * _hash + Arrays.hashCode(name);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
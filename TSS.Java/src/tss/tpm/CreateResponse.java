@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -52,12 +52,16 @@ public class CreateResponse extends RespStructure
     public void initFromTpm(TpmBuffer buf)
     {
         outPrivate = TPM2B_PRIVATE.fromTpm(buf);
-        outPublic = buf.createSizedObj(TPMT_PUBLIC.class);
-        creationData = buf.createSizedObj(TPMS_CREATION_DATA.class);
+        outPublic = buf.createSizedObj(TPMT_PUBLIC::new);
+        creationData = buf.createSizedObj(TPMS_CREATION_DATA::new);
         creationHash = buf.readSizedByteBuf();
         creationTicket = TPMT_TK_CREATION.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return outPrivate.wireSize() + sizedObjWireSize(outPublic) + sizedObjWireSize(creationData) + sizedByteBufWireSize(creationHash, 2) + creationTicket.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -69,7 +73,7 @@ public class CreateResponse extends RespStructure
      */
     public static CreateResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(CreateResponse.class);
+        return new TpmBuffer(byteBuf).createObj(CreateResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -84,7 +88,7 @@ public class CreateResponse extends RespStructure
      */
     public static CreateResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(CreateResponse.class);
+        return buf.createObj(CreateResponse::new);
     }
 
     @Override
@@ -105,6 +109,30 @@ public class CreateResponse extends RespStructure
         _p.add(d, "byte[]", "creationHash", creationHash);
         _p.add(d, "TPMT_TK_CREATION", "creationTicket", creationTicket);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        CreateResponse that = (CreateResponse)obj;
+        return Objects.equals(outPrivate, that.outPrivate)
+            && Objects.equals(outPublic, that.outPublic)
+            && Objects.equals(creationData, that.creationData)
+            && Arrays.equals(creationHash, that.creationHash)
+            && Objects.equals(creationTicket, that.creationTicket);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(outPrivate);
+        _hash = 31 * _hash + Objects.hashCode(outPublic);
+        _hash = 31 * _hash + Objects.hashCode(creationData);
+        _hash = 31 * _hash + Arrays.hashCode(creationHash);
+        _hash = 31 * _hash + Objects.hashCode(creationTicket);
+        return _hash;
+    }
 }
 
 //<<<
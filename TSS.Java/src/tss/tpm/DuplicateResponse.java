@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -45,6 +45,10 @@ public class DuplicateResponse extends RespStructure
         outSymSeed = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(encryptionKeyOut, 2) + duplicate.wireSize() + sizedByteBufWireSize(outSymSeed, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -56,7 +60,7 @@ public class DuplicateResponse extends RespStructure
      */
     public static DuplicateResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(DuplicateResponse.class);
+        return new TpmBuffer(byteBuf).createObj(DuplicateResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -71,7 +75,7 @@ public class DuplicateResponse extends RespStructure
      */
     public static DuplicateResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(DuplicateResponse.class);
+        return buf.createObj(DuplicateResponse::new);
     }
 
     @Override
@@ -91,6 +95,26 @@ public class DuplicateResponse extends RespStructure
         _p.add(d, "byte[]", "outSymSeed", outSymSeed);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        DuplicateResponse that = (DuplicateResponse)obj;
+        return Arrays.equals(encryptionKeyOut, that.encryptionKeyOut)
+            && Objects.equals(duplicate, that.duplicate)
+            && Arrays.equals(outSymSeed, that.outSymSeed);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(encryptionKeyOut);
+        _hash = 31 * _hash + Objects.hashCode(duplicate);
+        _hash = 31 * _hash + Arrays.hashCode(outSymSeed);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -23,6 +23,10 @@ public class ECC_DecryptResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { plainText = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(plainText, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -34,7 +38,7 @@ public class ECC_DecryptResponse extends RespStructure
      */
     public static ECC_DecryptResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(ECC_DecryptResponse.class);
+        return new TpmBuffer(byteBuf).createObj(ECC_DecryptResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -49,7 +53,7 @@ public class ECC_DecryptResponse extends RespStructure
      */
     public static ECC_DecryptResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(ECC_DecryptResponse.class);
+        return buf.createObj(ECC_DecryptResponse::new);
     }
 
     @Override
@@ -67,6 +71,21 @@ public class ECC_DecryptResponse extends RespStructure
         _p.add(d, "byte[]", "plainText", plainText);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ECC_DecryptResponse that = (ECC_DecryptResponse)obj;
+        return Arrays.equals(plainText, that.plainText);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(plainText);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -34,11 +34,15 @@ public class ECC_EncryptResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        C1 = buf.createSizedObj(TPMS_ECC_POINT.class);
+        C1 = buf.createSizedObj(TPMS_ECC_POINT::new);
         C2 = buf.readSizedByteBuf();
         C3 = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(C1) + sizedByteBufWireSize(C2, 2) + sizedByteBufWireSize(C3, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -50,7 +54,7 @@ public class ECC_EncryptResponse extends RespStructure
      */
     public static ECC_EncryptResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(ECC_EncryptResponse.class);
+        return new TpmBuffer(byteBuf).createObj(ECC_EncryptResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -65,7 +69,7 @@ public class ECC_EncryptResponse extends RespStructure
      */
     public static ECC_EncryptResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(ECC_EncryptResponse.class);
+        return buf.createObj(ECC_EncryptResponse::new);
     }
 
     @Override
@@ -85,6 +89,26 @@ public class ECC_EncryptResponse extends RespStructure
         _p.add(d, "byte[]", "C3", C3);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ECC_EncryptResponse that = (ECC_EncryptResponse)obj;
+        return Objects.equals(C1, that.C1)
+            && Arrays.equals(C2, that.C2)
+            && Arrays.equals(C3, that.C3);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(C1);
+        _hash = 31 * _hash + Arrays.hashCode(C2);
+        _hash = 31 * _hash + Arrays.hashCode(C3);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
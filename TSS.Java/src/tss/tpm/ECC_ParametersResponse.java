@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -23,6 +23,10 @@ public class ECC_ParametersResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { parameters = TPMS_ALGORITHM_DETAIL_ECC.fromTpm(buf); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return parameters.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -34,7 +38,7 @@ public class ECC_ParametersResponse extends RespStructure
      */
     public static ECC_ParametersResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(ECC_ParametersResponse.class);
+        return new TpmBuffer(byteBuf).createObj(ECC_ParametersResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -49,7 +53,7 @@ public class ECC_ParametersResponse extends RespStructure
      */
     public static ECC_ParametersResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(ECC_ParametersResponse.class);
+        return buf.createObj(ECC_ParametersResponse::new);
     }
 
     @Override
@@ -66,6 +70,21 @@ public class ECC_ParametersResponse extends RespStructure
     {
         _p.add(d, "TPMS_ALGORITHM_DETAIL_ECC", "parameters", parameters);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ECC_ParametersResponse that = (ECC_ParametersResponse)obj;
+        return Objects.equals(parameters, that.parameters);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(parameters);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -33,10 +33,14 @@ public class ECDH_KeyGenResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        zPoint = buf.createSizedObj(TPMS_ECC_POINT.class);
-        pubPoint = buf.createSizedObj(TPMS_ECC_POINT.class);
+        zPoint = buf.createSizedObj(TPMS_ECC_POINT::new);
+        pubPoint = buf.createSizedObj(TPMS_ECC_POINT::new);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(zPoint) + sizedObjWireSize(pubPoint); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -48,7 +52,7 @@ public class ECDH_KeyGenResponse extends RespStructure
      */
     public static ECDH_KeyGenResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(ECDH_KeyGenResponse.class);
+        return new TpmBuffer(byteBuf).createObj(ECDH_KeyGenResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -63,7 +67,7 @@ public class ECDH_KeyGenResponse extends RespStructure
      */
     public static ECDH_KeyGenResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(ECDH_KeyGenResponse.class);
+        return buf.createObj(ECDH_KeyGenResponse::new);
     }
 
     @Override
@@ -82,6 +86,24 @@ public class ECDH_KeyGenResponse extends RespStructure
         _p.add(d, "TPMS_ECC_POINT", "pubPoint", pubPoint);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ECDH_KeyGenResponse that = (ECDH_KeyGenResponse)obj;
+        return Objects.equals(zPoint, that.zPoint)
+            && Objects.equals(pubPoint, that.pubPoint);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(zPoint);
+        _hash = 31 * _hash + Objects.hashCode(pubPoint);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
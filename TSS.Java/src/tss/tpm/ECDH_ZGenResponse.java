@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -25,7 +25,11 @@ public class ECDH_ZGenResponse extends RespStructure
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { outPoint = buf.createSizedObj(TPMS_ECC_POINT.class); }
+    public void initFromTpm(TpmBuffer buf) { outPoint = buf.createSizedObj(TPMS_ECC_POINT::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(outPoint); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -38,7 +42,7 @@ public class ECDH_ZGenResponse extends RespStructure
      */
     public static ECDH_ZGenResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(ECDH_ZGenResponse.class);
+        return new TpmBuffer(byteBuf).createObj(ECDH_ZGenResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -53,7 +57,7 @@ public class ECDH_ZGenResponse extends RespStructure
      */
     public static ECDH_ZGenResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(ECDH_ZGenResponse.class);
+        return buf.createObj(ECDH_ZGenResponse::new);
     }
 
     @Override
@@ -71,6 +75,21 @@ public class ECDH_ZGenResponse extends RespStructure
         _p.add(d, "TPMS_ECC_POINT", "outPoint", outPoint);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ECDH_ZGenResponse that = (ECDH_ZGenResponse)obj;
+        return Objects.equals(outPoint, that.outPoint);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(outPoint);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
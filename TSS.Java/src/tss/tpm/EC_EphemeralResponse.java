@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -30,10 +30,14 @@ public class EC_EphemeralResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        Q = buf.createSizedObj(TPMS_ECC_POINT.class);
+        Q = buf.createSizedObj(TPMS_ECC_POINT::new);
         counter = buf.readShort();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedObjWireSize(Q); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -45,7 +49,7 @@ public class EC_EphemeralResponse extends RespStructure
      */
     public static EC_EphemeralResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(EC_EphemeralResponse.class);
+        return new TpmBuffer(byteBuf).createObj(EC_EphemeralResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -60,7 +64,7 @@ public class EC_EphemeralResponse extends RespStructure
      */
     public static EC_EphemeralResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(EC_EphemeralResponse.class);
+        return buf.createObj(EC_EphemeralResponse::new);
     }
 
     @Override
@@ -79,6 +83,24 @@ public class EC_EphemeralResponse extends RespStructure
         _p.add(d, "int", "counter", counter);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        EC_EphemeralResponse that = (EC_EphemeralResponse)obj;
+        return Objects.equals(Q, that.Q)
+            && counter == that.counter;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(Q);
+        _hash = 31 * _hash + Integer.hashCode(counter);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -36,6 +36,10 @@ public class EncryptDecrypt2Response extends RespStructure
         ivOut = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(outData, 2) + sizedByteBufWireSize(ivOut, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -47,7 +51,7 @@ public class EncryptDecrypt2Response extends RespStructure
      */
     public static EncryptDecrypt2Response fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(EncryptDecrypt2Response.class);
+        return new TpmBuffer(byteBuf).createObj(EncryptDecrypt2Response::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -62,7 +66,7 @@ public class EncryptDecrypt2Response extends RespStructure
      */
     public static EncryptDecrypt2Response fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(EncryptDecrypt2Response.class);
+        return buf.createObj(EncryptDecrypt2Response::new);
     }
 
     @Override
@@ -81,6 +85,24 @@ public class EncryptDecrypt2Response extends RespStructure
         _p.add(d, "byte[]", "ivOut", ivOut);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        EncryptDecrypt2Response that = (EncryptDecrypt2Response)obj;
+        return Arrays.equals(outData, that.outData)
+            && Arrays.equals(ivOut, that.ivOut);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(outData);
+        _hash = 31 * _hash + Arrays.hashCode(ivOut);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
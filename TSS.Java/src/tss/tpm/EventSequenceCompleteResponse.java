@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -26,7 +26,11 @@ public class EventSequenceCompleteResponse extends RespStructure
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { results = buf.readObjArr(TPMT_HA.class); }
+    public void initFromTpm(TpmBuffer buf) { results = buf.readObjArr(TPMT_HA::new, TPMT_HA[]::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(results); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -39,7 +43,7 @@ public class EventSequenceCompleteResponse extends RespStructure
      */
     public static EventSequenceCompleteResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(EventSequenceCompleteResponse.class);
+        return new TpmBuffer(byteBuf).createObj(EventSequenceCompleteResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -54,7 +58,7 @@ public class EventSequenceCompleteResponse extends RespStructure
      */
     public static EventSequenceCompleteResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(EventSequenceCompleteResponse.class);
+        return buf.createObj(EventSequenceCompleteResponse::new);
     }
 
     @Override
@@ -72,6 +76,21 @@ public class EventSequenceCompleteResponse extends RespStructure
         _p.add(d, "TPMT_HA[]", "results", results);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        EventSequenceCompleteResponse that = (EventSequenceCompleteResponse)obj;
+        return Arrays.equals(results, that.results);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(results);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(4, 66); }
 }
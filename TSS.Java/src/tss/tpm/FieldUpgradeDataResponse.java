@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -40,6 +40,10 @@ public class FieldUpgradeDataResponse extends RespStructure
         firstDigest = TPMT_HA.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return nextDigest.wireSize() + firstDigest.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -51,7 +55,7 @@ public class FieldUpgradeDataResponse extends RespStructure
      */
     public static FieldUpgradeDataResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(FieldUpgradeDataResponse.class);
+        return new TpmBuffer(byteBuf).createObj(FieldUpgradeDataResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -66,7 +70,7 @@ public class FieldUpgradeDataResponse extends RespStructure
      */
     public static FieldUpgradeDataResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(FieldUpgradeDataResponse.class);
+        return buf.createObj(FieldUpgradeDataResponse::new);
     }
 
     @Override
@@ -84,6 +88,24 @@ public class FieldUpgradeDataResponse extends RespStructure
         _p.add(d, "TPMT_HA", "nextDigest", nextDigest);
         _p.add(d, "TPMT_HA", "firstDigest", firstDigest);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        FieldUpgradeDataResponse that = (FieldUpgradeDataResponse)obj;
+        return Objects.equals(nextDigest, that.nextDigest)
+            && Objects.equals(firstDigest, that.firstDigest);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(nextDigest);
+        _hash = 31 * _hash + Objects.hashCode(firstDigest);
+        return _hash;
+    }
 }
 
 //<<<
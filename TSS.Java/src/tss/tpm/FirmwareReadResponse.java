@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -23,6 +23,10 @@ public class FirmwareReadResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { fuData = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(fuData, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -34,7 +38,7 @@ public class FirmwareReadResponse extends RespStructure
      */
     public static FirmwareReadResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(FirmwareReadResponse.class);
+        return new TpmBuffer(byteBuf).createObj(FirmwareReadResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -49,7 +53,7 @@ public class FirmwareReadResponse extends RespStructure
      */
     public static FirmwareReadResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(FirmwareReadResponse.class);
+        return buf.createObj(FirmwareReadResponse::new);
     }
 
     @Override
@@ -67,6 +71,21 @@ public class FirmwareReadResponse extends RespStructure
         _p.add(d, "byte[]", "fuData", fuData);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        FirmwareReadResponse that = (FirmwareReadResponse)obj;
+        return Arrays.equals(fuData, that.fuData);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(fuData);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -40,10 +40,14 @@ public class GetCapabilityResponse extends RespStructure
     {
         moreData = buf.readByte();
         TPM_CAP capabilityDataCapability = TPM_CAP.fromTpm(buf);
-        capabilityData = UnionFactory.create("TPMU_CAPABILITIES", capabilityDataCapability);
+        capabilityData = UnionFactory.createTPMU_CAPABILITIES(capabilityDataCapability);
         capabilityData.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 5 + capabilityData.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -55,7 +59,7 @@ public class GetCapabilityResponse extends RespStructure
      */
     public static GetCapabilityResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(GetCapabilityResponse.class);
+        return new TpmBuffer(byteBuf).createObj(GetCapabilityResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -70,7 +74,7 @@ public class GetCapabilityResponse extends RespStructure
      */
     public static GetCapabilityResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(GetCapabilityResponse.class);
+        return buf.createObj(GetCapabilityResponse::new);
     }
 
     @Override
@@ -88,6 +92,24 @@ public class GetCapabilityResponse extends RespStructure
         _p.add(d, "byte", "moreData", moreData);
         _p.add(d, "TPMU_CAPABILITIES", "capabilityData", capabilityData);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        GetCapabilityResponse that = (GetCapabilityResponse)obj;
+        return moreData == that.moreData
+            && Objects.equals(capabilityData, that.capabilityData);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Byte.hashCode(moreData);
+        _hash = 31 * _hash + Objects.hashCode(capabilityData);
+        return _hash;
+    }
 }
 
 //<<<
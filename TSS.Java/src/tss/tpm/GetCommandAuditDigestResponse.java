@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -41,12 +41,16 @@ public class GetCommandAuditDigestResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        auditInfo = buf.createSizedObj(TPMS_ATTEST.class);
+        auditInfo = buf.createSizedObj(TPMS_ATTEST::new);
         TPM_ALG_ID signatureSigAlg = TPM_ALG_ID.fromTpm(buf);
-        signature = UnionFactory.create("TPMU_SIGNATURE", signatureSigAlg);
+        signature = UnionFactory.createTPMU_SIGNATURE(signatureSigAlg);
         signature.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedObjWireSize(auditInfo) + signature.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -58,7 +62,7 @@ public class GetCommandAuditDigestResponse extends RespStructure
      */
     public static GetCommandAuditDigestResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(GetCommandAuditDigestResponse.class);
+        return new TpmBuffer(byteBuf).createObj(GetCommandAuditDigestResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -73,7 +77,7 @@ public class GetCommandAuditDigestResponse extends RespStructure
      */
     public static GetCommandAuditDigestResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(GetCommandAuditDigestResponse.class);
+        return buf.createObj(GetCommandAuditDigestResponse::new);
     }
 
     @Override
@@ -92,6 +96,24 @@ public class GetCommandAuditDigestResponse extends RespStructure
         _p.add(d, "TPMU_SIGNATURE", "signature", signature);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        GetCommandAuditDigestResponse that = (GetCommandAuditDigestResponse)obj;
+        return Objects.equals(auditInfo, that.auditInfo)
+            && Objects.equals(signature, that.signature);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(auditInfo);
+        _hash = 31 * _hash + Objects.hashCode(signature);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -23,6 +23,10 @@ public class GetRandomResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { randomBytes = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(randomBytes, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -34,7 +38,7 @@ public class GetRandomResponse extends RespStructure
      */
     public static GetRandomResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(GetRandomResponse.class);
+        return new TpmBuffer(byteBuf).createObj(GetRandomResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -49,7 +53,7 @@ public class GetRandomResponse extends RespStructure
      */
     public static GetRandomResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(GetRandomResponse.class);
+        return buf.createObj(GetRandomResponse::new);
     }
 
     @Override
@@ -67,6 +71,21 @@ public class GetRandomResponse extends RespStructure
         _p.add(d, "byte[]", "randomBytes", randomBytes);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        GetRandomResponse that = (GetRandomResponse)obj;
+        return Arrays.equals(randomBytes, that.randomBytes);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(randomBytes);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
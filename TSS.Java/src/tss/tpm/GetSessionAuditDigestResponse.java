@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -38,12 +38,16 @@ public class GetSessionAuditDigestResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        auditInfo = buf.createSizedObj(TPMS_ATTEST.class);
+        auditInfo = buf.createSizedObj(TPMS_ATTEST::new);
         TPM_ALG_ID signatureSigAlg = TPM_ALG_ID.fromTpm(buf);
-        signature = UnionFactory.create("TPMU_SIGNATURE", signatureSigAlg);
+        signature = UnionFactory.createTPMU_SIGNATURE(signatureSigAlg);
         signature.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedObjWireSize(auditInfo) + signature.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -55,7 +59,7 @@ public class GetSessionAuditDigestResponse extends RespStructure
      */
     public static GetSessionAuditDigestResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(GetSessionAuditDigestResponse.class);
+        return new TpmBuffer(byteBuf).createObj(GetSessionAuditDigestResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -70,7 +74,7 @@ public class GetSessionAuditDigestResponse extends RespStructure
      */
     public static GetSessionAuditDigestResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(GetSessionAuditDigestResponse.class);
+        return buf.createObj(GetSessionAuditDigestResponse::new);
     }
 
     @Override
@@ -89,6 +93,24 @@ public class GetSessionAuditDigestResponse extends RespStructure
         _p.add(d, "TPMU_SIGNATURE", "signature", signature);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        GetSessionAuditDigestResponse that = (GetSessionAuditDigestResponse)obj;
+        return Objects.equals(auditInfo, that.auditInfo)
+            && Objects.equals(signature, that.signature);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(auditInfo);
+        _hash = 31 * _hash + Objects.hashCode(signature);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -36,6 +36,10 @@ public class GetTestResultResponse extends RespStructure
         testResult = TPM_RC.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(outData, 2) + testResult.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -47,7 +51,7 @@ public class GetTestResultResponse extends RespStructure
      */
     public static GetTestResultResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(GetTestResultResponse.class);
+        return new TpmBuffer(byteBuf).createObj(GetTestResultResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -62,7 +66,7 @@ public class GetTestResultResponse extends RespStructure
      */
     public static GetTestResultResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(GetTestResultResponse.class);
+        return buf.createObj(GetTestResultResponse::new);
     }
 
     @Override
@@ -81,6 +85,24 @@ public class GetTestResultResponse extends RespStructure
         _p.add(d, "TPM_RC", "testResult", testResult);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        GetTestResultResponse that = (GetTestResultResponse)obj;
+        return Arrays.equals(outData, that.outData)
+            && Objects.equals(testResult, that.testResult);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(outData);
+        _hash = 31 * _hash + Objects.hashCode(testResult);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
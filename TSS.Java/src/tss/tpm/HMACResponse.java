@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -23,6 +23,10 @@ public class HMACResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { outHMAC = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(outHMAC, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -34,7 +38,7 @@ public class HMACResponse extends RespStructure
      */
     public static HMACResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(HMACResponse.class);
+        return new TpmBuffer(byteBuf).createObj(HMACResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -49,7 +53,7 @@ public class HMACResponse extends RespStructure
      */
     public static HMACResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(HMACResponse.class);
+        return buf.createObj(HMACResponse::new);
     }
 
     @Override
@@ -67,6 +71,21 @@ public class HMACResponse extends RespStructure
         _p.add(d, "byte[]", "outHMAC", outHMAC);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        HMACResponse that = (HMACResponse)obj;
+        return Arrays.equals(outHMAC, that.outHMAC);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(outHMAC);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
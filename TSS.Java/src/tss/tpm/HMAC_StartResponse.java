@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -29,7 +29,7 @@ public class HMAC_StartResponse extends RespStructure
      */
     public static HMAC_StartResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(HMAC_StartResponse.class);
+        return new TpmBuffer(byteBuf).createObj(HMAC_StartResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -44,7 +44,7 @@ public class HMAC_StartResponse extends RespStructure
      */
     public static HMAC_StartResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(HMAC_StartResponse.class);
+        return buf.createObj(HMAC_StartResponse::new);
     }
 
     @Override
@@ -62,6 +62,21 @@ public class HMAC_StartResponse extends RespStructure
         _p.add(d, "TPM_HANDLE", "handle", handle);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        HMAC_StartResponse that = (HMAC_StartResponse)obj;
+        return Objects.equals(handle, that.handle);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(handle);
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -37,6 +37,10 @@ public class HashResponse extends RespStructure
         validation = TPMT_TK_HASHCHECK.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(outHash, 2) + validation.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -48,7 +52,7 @@ public class HashResponse extends RespStructure
      */
     public static HashResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(HashResponse.class);
+        return new TpmBuffer(byteBuf).createObj(HashResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -63,7 +67,7 @@ public class HashResponse extends RespStructure
      */
     public static HashResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(HashResponse.class);
+        return buf.createObj(HashResponse::new);
     }
 
     @Override
@@ -82,6 +86,24 @@ public class HashResponse extends RespStructure
         _p.add(d, "TPMT_TK_HASHCHECK", "validation", validation);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        HashResponse that = (HashResponse)obj;
+        return Arrays.equals(outHash, that.outHash)
+            && Objects.equals(validation, that.validation);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(outHash);
+        _hash = 31 * _hash + Objects.hashCode(validation);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -30,7 +30,7 @@ public class HashSequenceStartResponse extends RespStructure
      */
     public static HashSequenceStartResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(HashSequenceStartResponse.class);
+        return new TpmBuffer(byteBuf).createObj(HashSequenceStartResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -45,7 +45,7 @@ public class HashSequenceStartResponse extends RespStructure
      */
     public static HashSequenceStartResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(HashSequenceStartResponse.class);
+        return buf.createObj(HashSequenceStartResponse::new);
     }
 
     @Override
@@ -63,6 +63,21 @@ public class HashSequenceStartResponse extends RespStructure
         _p.add(d, "TPM_HANDLE", "handle", handle);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        HashSequenceStartResponse that = (HashSequenceStartResponse)obj;
+        return Objects.equals(handle, that.handle);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(handle);
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -221,16 +221,16 @@ public final class Implementation extends TpmEnum<Implementation>
 
     public Implementation () { super(0, _ValueMap); }
     public Implementation (int value) { super(value, _ValueMap); }
-    public static Implementation fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, Implementation.class); }
-    public static Implementation fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, Implementation.class); }
-    public static Implementation fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, Implementation.class); }
+    public static Implementation fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, Implementation::new); }
+    public static Implementation fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, Implementation::new); }
+    public static Implementation fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, Implementation::new); }
     public Implementation._N asEnum() { return (Implementation._N)NameAsEnum; }
     public static Collection<Implementation> values() { return _ValueMap.values(); }
     private Implementation (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private Implementation (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
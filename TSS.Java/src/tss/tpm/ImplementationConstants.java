@@ -71,16 +71,16 @@ public final class ImplementationConstants extends TpmEnum<ImplementationConstan
 
     public ImplementationConstants () { super(0, _ValueMap); }
     public ImplementationConstants (int value) { super(value, _ValueMap); }
-    public static ImplementationConstants fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, ImplementationConstants.class); }
-    public static ImplementationConstants fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, ImplementationConstants.class); }
-    public static ImplementationConstants fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, ImplementationConstants.class); }
+    public static ImplementationConstants fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, ImplementationConstants::new); }
+    public static ImplementationConstants fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, ImplementationConstants::new); }
+    public static ImplementationConstants fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, ImplementationConstants::new); }
     public ImplementationConstants._N asEnum() { return (ImplementationConstants._N)NameAsEnum; }
     public static Collection<ImplementationConstants> values() { return _ValueMap.values(); }
     private ImplementationConstants (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private ImplementationConstants (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -27,6 +27,10 @@ public class ImportResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { outPrivate = TPM2B_PRIVATE.fromTpm(buf); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return outPrivate.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -38,7 +42,7 @@ public class ImportResponse extends RespStructure
      */
     public static ImportResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(ImportResponse.class);
+        return new TpmBuffer(byteBuf).createObj(ImportResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -53,7 +57,7 @@ public class ImportResponse extends RespStructure
      */
     public static ImportResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(ImportResponse.class);
+        return buf.createObj(ImportResponse::new);
     }
 
     @Override
@@ -70,6 +74,21 @@ public class ImportResponse extends RespStructure
     {
         _p.add(d, "TPM2B_PRIVATE", "outPrivate", outPrivate);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ImportResponse that = (ImportResponse)obj;
+        return Objects.equals(outPrivate, that.outPrivate);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(outPrivate);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -21,7 +21,11 @@ public class IncrementalSelfTestResponse extends RespStructure
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { toDoList = buf.readObjArr(TPM_ALG_ID.class); }
+    public void initFromTpm(TpmBuffer buf) { toDoList = buf.readObjArr(TPM_ALG_ID::new, TPM_ALG_ID[]::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(toDoList); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -34,7 +38,7 @@ public class IncrementalSelfTestResponse extends RespStructure
      */
     public static IncrementalSelfTestResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(IncrementalSelfTestResponse.class);
+        return new TpmBuffer(byteBuf).createObj(IncrementalSelfTestResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -49,7 +53,7 @@ public class IncrementalSelfTestResponse extends RespStructure
      */
     public static IncrementalSelfTestResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(IncrementalSelfTestResponse.class);
+        return buf.createObj(IncrementalSelfTestResponse::new);
     }
 
     @Override
@@ -67,6 +71,21 @@ public class IncrementalSelfTestResponse extends RespStructure
         _p.add(d, "TPM_ALG_ID[]", "toDoList", toDoList);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        IncrementalSelfTestResponse that = (IncrementalSelfTestResponse)obj;
+        return Arrays.equals(toDoList, that.toDoList);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(toDoList);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(4, 2); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -28,6 +28,10 @@ public class LoadExternalResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { name = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(name, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -39,7 +43,7 @@ public class LoadExternalResponse extends RespStructure
      */
     public static LoadExternalResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(LoadExternalResponse.class);
+        return new TpmBuffer(byteBuf).createObj(LoadExternalResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -54,7 +58,7 @@ public class LoadExternalResponse extends RespStructure
      */
     public static LoadExternalResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(LoadExternalResponse.class);
+        return buf.createObj(LoadExternalResponse::new);
     }
 
     @Override
@@ -73,6 +77,24 @@ public class LoadExternalResponse extends RespStructure
         _p.add(d, "byte[]", "name", name);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        LoadExternalResponse that = (LoadExternalResponse)obj;
+        return Objects.equals(handle, that.handle)
+            && Arrays.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(handle);
+        _hash = 31 * _hash + Arrays.hashCode(name);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -29,6 +29,10 @@ public class LoadResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { name = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(name, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -40,7 +44,7 @@ public class LoadResponse extends RespStructure
      */
     public static LoadResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(LoadResponse.class);
+        return new TpmBuffer(byteBuf).createObj(LoadResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -55,7 +59,7 @@ public class LoadResponse extends RespStructure
      */
     public static LoadResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(LoadResponse.class);
+        return buf.createObj(LoadResponse::new);
     }
 
     @Override
@@ -74,6 +78,24 @@ public class LoadResponse extends RespStructure
         _p.add(d, "byte[]", "name", name);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        LoadResponse that = (LoadResponse)obj;
+        return Objects.equals(handle, that.handle)
+            && Arrays.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(handle);
+        _hash = 31 * _hash + Arrays.hashCode(name);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
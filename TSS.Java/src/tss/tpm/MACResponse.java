@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -25,6 +25,10 @@ public class MACResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { outMAC = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(outMAC, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -36,7 +40,7 @@ public class MACResponse extends RespStructure
      */
     public static MACResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(MACResponse.class);
+        return new TpmBuffer(byteBuf).createObj(MACResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -51,7 +55,7 @@ public class MACResponse extends RespStructure
      */
     public static MACResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(MACResponse.class);
+        return buf.createObj(MACResponse::new);
     }
 
     @Override
@@ -69,6 +73,21 @@ public class MACResponse extends RespStructure
         _p.add(d, "byte[]", "outMAC", outMAC);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        MACResponse that = (MACResponse)obj;
+        return Arrays.equals(outMAC, that.outMAC);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(outMAC);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -32,10 +32,14 @@ public class MakeCredentialResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        credentialBlob = buf.createSizedObj(TPMS_ID_OBJECT.class);
+        credentialBlob = buf.createSizedObj(TPMS_ID_OBJECT::new);
         secret = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(credentialBlob) + sizedByteBufWireSize(secret, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -47,7 +51,7 @@ public class MakeCredentialResponse extends RespStructure
      */
     public static MakeCredentialResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(MakeCredentialResponse.class);
+        return new TpmBuffer(byteBuf).createObj(MakeCredentialResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -62,7 +66,7 @@ public class MakeCredentialResponse extends RespStructure
      */
     public static MakeCredentialResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(MakeCredentialResponse.class);
+        return buf.createObj(MakeCredentialResponse::new);
     }
 
     @Override
@@ -81,6 +85,24 @@ public class MakeCredentialResponse extends RespStructure
         _p.add(d, "byte[]", "secret", secret);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        MakeCredentialResponse that = (MakeCredentialResponse)obj;
+        return Objects.equals(credentialBlob, that.credentialBlob)
+            && Arrays.equals(secret, that.secret);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(credentialBlob);
+        _hash = 31 * _hash + Arrays.hashCode(secret);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -32,10 +32,14 @@ public class NV_ReadPublicResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        nvPublic = buf.createSizedObj(TPMS_NV_PUBLIC.class);
+        nvPublic = buf.createSizedObj(TPMS_NV_PUBLIC::new);
         nvName = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(nvPublic) + sizedByteBufWireSize(nvName, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -47,7 +51,7 @@ public class NV_ReadPublicResponse extends RespStructure
      */
     public static NV_ReadPublicResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(NV_ReadPublicResponse.class);
+        return new TpmBuffer(byteBuf).createObj(NV_ReadPublicResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -62,7 +66,7 @@ public class NV_ReadPublicResponse extends RespStructure
      */
     public static NV_ReadPublicResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(NV_ReadPublicResponse.class);
+        return buf.createObj(NV_ReadPublicResponse::new);
     }
 
     @Override
@@ -81,6 +85,24 @@ public class NV_ReadPublicResponse extends RespStructure
         _p.add(d, "byte[]", "nvName", nvName);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        NV_ReadPublicResponse that = (NV_ReadPublicResponse)obj;
+        return Objects.equals(nvPublic, that.nvPublic)
+            && Arrays.equals(nvName, that.nvName);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(nvPublic);
+        _hash = 31 * _hash + Arrays.hashCode(nvName);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
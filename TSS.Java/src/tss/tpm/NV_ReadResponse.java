@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -23,6 +23,10 @@ public class NV_ReadResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { data = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(data, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -34,7 +38,7 @@ public class NV_ReadResponse extends RespStructure
      */
     public static NV_ReadResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(NV_ReadResponse.class);
+        return new TpmBuffer(byteBuf).createObj(NV_ReadResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -49,7 +53,7 @@ public class NV_ReadResponse extends RespStructure
      */
     public static NV_ReadResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(NV_ReadResponse.class);
+        return buf.createObj(NV_ReadResponse::new);
     }
 
     @Override
@@ -67,6 +71,21 @@ public class NV_ReadResponse extends RespStructure
         _p.add(d, "byte[]", "data", data);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        NV_ReadResponse that = (NV_ReadResponse)obj;
+        return Arrays.equals(data, that.data);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(data);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -23,6 +23,10 @@ public class ObjectChangeAuthResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { outPrivate = TPM2B_PRIVATE.fromTpm(buf); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return outPrivate.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -34,7 +38,7 @@ public class ObjectChangeAuthResponse extends RespStructure
      */
     public static ObjectChangeAuthResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(ObjectChangeAuthResponse.class);
+        return new TpmBuffer(byteBuf).createObj(ObjectChangeAuthResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -49,7 +53,7 @@ public class ObjectChangeAuthResponse extends RespStructure
      */
     public static ObjectChangeAuthResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(ObjectChangeAuthResponse.class);
+        return buf.createObj(ObjectChangeAuthResponse::new);
     }
 
     @Override
@@ -66,6 +70,21 @@ public class ObjectChangeAuthResponse extends RespStructure
     {
         _p.add(d, "TPM2B_PRIVATE", "outPrivate", outPrivate);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ObjectChangeAuthResponse that = (ObjectChangeAuthResponse)obj;
+        return Objects.equals(outPrivate, that.outPrivate);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(outPrivate);
+    }
 }
 
 //<<<
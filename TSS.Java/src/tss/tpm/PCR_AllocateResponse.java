@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -46,6 +46,10 @@ public class PCR_AllocateResponse extends RespStructure
         sizeAvailable = buf.readInt();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 13; }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -57,7 +61,7 @@ public class PCR_AllocateResponse extends RespStructure
      */
     public static PCR_AllocateResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(PCR_AllocateResponse.class);
+        return new TpmBuffer(byteBuf).createObj(PCR_AllocateResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -72,7 +76,7 @@ public class PCR_AllocateResponse extends RespStructure
      */
     public static PCR_AllocateResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(PCR_AllocateResponse.class);
+        return buf.createObj(PCR_AllocateResponse::new);
     }
 
     @Override
@@ -92,6 +96,28 @@ public class PCR_AllocateResponse extends RespStructure
         _p.add(d, "int", "sizeNeeded", sizeNeeded);
         _p.add(d, "int", "sizeAvailable", sizeAvailable);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        PCR_AllocateResponse that = (PCR_AllocateResponse)obj;
+        return allocationSuccess == that.allocationSuccess
+            && maxPCR == that.maxPCR
+            && sizeNeeded == that.sizeNeeded
+            && sizeAvailable == that.sizeAvailable;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Byte.hashCode(allocationSuccess);
+        _hash = 31 * _hash + Integer.hashCode(maxPCR);
+        _hash = 31 * _hash + Integer.hashCode(sizeNeeded);
+        _hash = 31 * _hash + Integer.hashCode(sizeAvailable);
+        return _hash;
+    }
 }
 
 //<<<
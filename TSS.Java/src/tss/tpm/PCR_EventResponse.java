@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -20,7 +20,11 @@ public class PCR_EventResponse extends RespStructure
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { digests = buf.readObjArr(TPMT_HA.class); }
+    public void initFromTpm(TpmBuffer buf) { digests = buf.readObjArr(TPMT_HA::new, TPMT_HA[]::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(digests); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -33,7 +37,7 @@ public class PCR_EventResponse extends RespStructure
      */
     public static PCR_EventResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(PCR_EventResponse.class);
+        return new TpmBuffer(byteBuf).createObj(PCR_EventResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -48,7 +52,7 @@ public class PCR_EventResponse extends RespStructure
      */
     public static PCR_EventResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(PCR_EventResponse.class);
+        return buf.createObj(PCR_EventResponse::new);
     }
 
     @Override
@@ -66,6 +70,21 @@ public class PCR_EventResponse extends RespStructure
         _p.add(d, "TPMT_HA[]", "digests", digests);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        PCR_EventResponse that = (PCR_EventResponse)obj;
+        return Arrays.equals(digests, that.digests);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(digests);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(4, 66); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -35,10 +35,14 @@ public class PCR_ReadResponse extends RespStructure
     public void initFromTpm(TpmBuffer buf)
     {
         pcrUpdateCounter = buf.readInt();
-        pcrSelectionOut = buf.readObjArr(TPMS_PCR_SELECTION.class);
-        pcrValues = buf.readObjArr(TPM2B_DIGEST.class);
+        pcrSelectionOut = buf.readObjArr(TPMS_PCR_SELECTION::new, TPMS_PCR_SELECTION[]::new);
+        pcrValues = buf.readObjArr(TPM2B_DIGEST::new, TPM2B_DIGEST[]::new);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 4 + objArrWireSize(pcrSelectionOut) + objArrWireSize(pcrValues); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -50,7 +54,7 @@ public class PCR_ReadResponse extends RespStructure
      */
     public static PCR_ReadResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(PCR_ReadResponse.class);
+        return new TpmBuffer(byteBuf).createObj(PCR_ReadResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -65,7 +69,7 @@ public class PCR_ReadResponse extends RespStructure
      */
     public static PCR_ReadResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(PCR_ReadResponse.class);
+        return buf.createObj(PCR_ReadResponse::new);
     }
 
     @Override
@@ -84,6 +88,26 @@ public class PCR_ReadResponse extends RespStructure
         _p.add(d, "TPMS_PCR_SELECTION[]", "pcrSelectionOut", pcrSelectionOut);
         _p.add(d, "TPM2B_DIGEST[]", "pcrValues", pcrValues);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        PCR_ReadResponse that = (PCR_ReadResponse)obj;
+        return pcrUpdateCounter == that.pcrUpdateCounter
+            && Arrays.equals(pcrSelectionOut, that.pcrSelectionOut)
+            && Arrays.equals(pcrValues, that.pcrValues);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Integer.hashCode(pcrUpdateCounter);
+        _hash = 31 * _hash + Arrays.hashCode(pcrSelectionOut);
+        _hash = 31 * _hash + Arrays.hashCode(pcrValues);
+        return _hash;
+    }
 }
 
 //<<<
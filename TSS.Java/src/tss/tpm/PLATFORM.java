@@ -35,16 +35,16 @@ public final class PLATFORM extends TpmEnum<PLATFORM>
 
     public PLATFORM () { super(0, _ValueMap); }
     public PLATFORM (int value) { super(value, _ValueMap); }
-    public static PLATFORM fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, PLATFORM.class); }
-    public static PLATFORM fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, PLATFORM.class); }
-    public static PLATFORM fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, PLATFORM.class); }
+    public static PLATFORM fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, PLATFORM::new); }
+    public static PLATFORM fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, PLATFORM::new); }
+    public static PLATFORM fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, PLATFORM::new); }
     public PLATFORM._N asEnum() { return (PLATFORM._N)NameAsEnum; }
     public static Collection<PLATFORM> values() { return _ValueMap.values(); }
     private PLATFORM (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private PLATFORM (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
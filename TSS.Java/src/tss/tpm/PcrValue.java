@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -43,6 +43,10 @@ public class PcrValue extends TpmStructure
         value = TPMT_HA.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 4 + value.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -54,7 +58,7 @@ public class PcrValue extends TpmStructure
      */
     public static PcrValue fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(PcrValue.class);
+        return new TpmBuffer(byteBuf).createObj(PcrValue::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -69,7 +73,7 @@ public class PcrValue extends TpmStructure
      */
     public static PcrValue fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(PcrValue.class);
+        return buf.createObj(PcrValue::new);
     }
 
     @Override
@@ -87,6 +91,24 @@ public class PcrValue extends TpmStructure
         _p.add(d, "int", "index", index);
         _p.add(d, "TPMT_HA", "value", value);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        PcrValue that = (PcrValue)obj;
+        return index == that.index
+            && Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Integer.hashCode(index);
+        _hash = 31 * _hash + Objects.hashCode(value);
+        return _hash;
+    }
 }
 
 //<<<
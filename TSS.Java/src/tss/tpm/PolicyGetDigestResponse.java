@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -25,6 +25,10 @@ public class PolicyGetDigestResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { policyDigest = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(policyDigest, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -36,7 +40,7 @@ public class PolicyGetDigestResponse extends RespStructure
      */
     public static PolicyGetDigestResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(PolicyGetDigestResponse.class);
+        return new TpmBuffer(byteBuf).createObj(PolicyGetDigestResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -51,7 +55,7 @@ public class PolicyGetDigestResponse extends RespStructure
      */
     public static PolicyGetDigestResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(PolicyGetDigestResponse.class);
+        return buf.createObj(PolicyGetDigestResponse::new);
     }
 
     @Override
@@ -69,6 +73,21 @@ public class PolicyGetDigestResponse extends RespStructure
         _p.add(d, "byte[]", "policyDigest", policyDigest);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        PolicyGetDigestResponse that = (PolicyGetDigestResponse)obj;
+        return Arrays.equals(policyDigest, that.policyDigest);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(policyDigest);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -40,6 +40,10 @@ public class PolicySecretResponse extends RespStructure
         policyTicket = TPMT_TK_AUTH.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(timeout, 2) + policyTicket.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -51,7 +55,7 @@ public class PolicySecretResponse extends RespStructure
      */
     public static PolicySecretResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(PolicySecretResponse.class);
+        return new TpmBuffer(byteBuf).createObj(PolicySecretResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -66,7 +70,7 @@ public class PolicySecretResponse extends RespStructure
      */
     public static PolicySecretResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(PolicySecretResponse.class);
+        return buf.createObj(PolicySecretResponse::new);
     }
 
     @Override
@@ -85,6 +89,24 @@ public class PolicySecretResponse extends RespStructure
         _p.add(d, "TPMT_TK_AUTH", "policyTicket", policyTicket);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        PolicySecretResponse that = (PolicySecretResponse)obj;
+        return Arrays.equals(timeout, that.timeout)
+            && Objects.equals(policyTicket, that.policyTicket);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(timeout);
+        _hash = 31 * _hash + Objects.hashCode(policyTicket);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -40,6 +40,10 @@ public class PolicySignedResponse extends RespStructure
         policyTicket = TPMT_TK_AUTH.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(timeout, 2) + policyTicket.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -51,7 +55,7 @@ public class PolicySignedResponse extends RespStructure
      */
     public static PolicySignedResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(PolicySignedResponse.class);
+        return new TpmBuffer(byteBuf).createObj(PolicySignedResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -66,7 +70,7 @@ public class PolicySignedResponse extends RespStructure
      */
     public static PolicySignedResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(PolicySignedResponse.class);
+        return buf.createObj(PolicySignedResponse::new);
     }
 
     @Override
@@ -85,6 +89,24 @@ public class PolicySignedResponse extends RespStructure
         _p.add(d, "TPMT_TK_AUTH", "policyTicket", policyTicket);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        PolicySignedResponse that = (PolicySignedResponse)obj;
+        return Arrays.equals(timeout, that.timeout)
+            && Objects.equals(policyTicket, that.policyTicket);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(timeout);
+        _hash = 31 * _hash + Objects.hashCode(policyTicket);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -38,12 +38,16 @@ public class QuoteResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        quoted = buf.createSizedObj(TPMS_ATTEST.class);
+        quoted = buf.createSizedObj(TPMS_ATTEST::new);
         TPM_ALG_ID signatureSigAlg = TPM_ALG_ID.fromTpm(buf);
-        signature = UnionFactory.create("TPMU_SIGNATURE", signatureSigAlg);
+        signature = UnionFactory.createTPMU_SIGNATURE(signatureSigAlg);
         signature.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedObjWireSize(quoted) + signature.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -55,7 +59,7 @@ public class QuoteResponse extends RespStructure
      */
     public static QuoteResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(QuoteResponse.class);
+        return new TpmBuffer(byteBuf).createObj(QuoteResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -70,7 +74,7 @@ public class QuoteResponse extends RespStructure
      */
     public static QuoteResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(QuoteResponse.class);
+        return buf.createObj(QuoteResponse::new);
     }
 
     @Override
@@ -89,6 +93,24 @@ public class QuoteResponse extends RespStructure
         _p.add(d, "TPMU_SIGNATURE", "signature", signature);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        QuoteResponse that = (QuoteResponse)obj;
+        return Objects.equals(quoted, that.quoted)
+            && Objects.equals(signature, that.signature);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(quoted);
+        _hash = 31 * _hash + Objects.hashCode(signature);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -25,6 +25,10 @@ public class RSA_DecryptResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { message = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(message, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -36,7 +40,7 @@ public class RSA_DecryptResponse extends RespStructure
      */
     public static RSA_DecryptResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(RSA_DecryptResponse.class);
+        return new TpmBuffer(byteBuf).createObj(RSA_DecryptResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -51,7 +55,7 @@ public class RSA_DecryptResponse extends RespStructure
      */
     public static RSA_DecryptResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(RSA_DecryptResponse.class);
+        return buf.createObj(RSA_DecryptResponse::new);
     }
 
     @Override
@@ -69,6 +73,21 @@ public class RSA_DecryptResponse extends RespStructure
         _p.add(d, "byte[]", "message", message);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        RSA_DecryptResponse that = (RSA_DecryptResponse)obj;
+        return Arrays.equals(message, that.message);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(message);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -27,6 +27,10 @@ public class RSA_EncryptResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { outData = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(outData, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -38,7 +42,7 @@ public class RSA_EncryptResponse extends RespStructure
      */
     public static RSA_EncryptResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(RSA_EncryptResponse.class);
+        return new TpmBuffer(byteBuf).createObj(RSA_EncryptResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -53,7 +57,7 @@ public class RSA_EncryptResponse extends RespStructure
      */
     public static RSA_EncryptResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(RSA_EncryptResponse.class);
+        return buf.createObj(RSA_EncryptResponse::new);
     }
 
     @Override
@@ -71,6 +75,21 @@ public class RSA_EncryptResponse extends RespStructure
         _p.add(d, "byte[]", "outData", outData);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        RSA_EncryptResponse that = (RSA_EncryptResponse)obj;
+        return Arrays.equals(outData, that.outData);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(outData);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
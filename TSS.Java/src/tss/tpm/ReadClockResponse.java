@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -24,6 +24,10 @@ public class ReadClockResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { currentTime = TPMS_TIME_INFO.fromTpm(buf); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return currentTime.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -35,7 +39,7 @@ public class ReadClockResponse extends RespStructure
      */
     public static ReadClockResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(ReadClockResponse.class);
+        return new TpmBuffer(byteBuf).createObj(ReadClockResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -50,7 +54,7 @@ public class ReadClockResponse extends RespStructure
      */
     public static ReadClockResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(ReadClockResponse.class);
+        return buf.createObj(ReadClockResponse::new);
     }
 
     @Override
@@ -67,6 +71,21 @@ public class ReadClockResponse extends RespStructure
     {
         _p.add(d, "TPMS_TIME_INFO", "currentTime", currentTime);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ReadClockResponse that = (ReadClockResponse)obj;
+        return Objects.equals(currentTime, that.currentTime);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(currentTime);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -34,11 +34,15 @@ public class ReadPublicResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        outPublic = buf.createSizedObj(TPMT_PUBLIC.class);
+        outPublic = buf.createSizedObj(TPMT_PUBLIC::new);
         name = buf.readSizedByteBuf();
         qualifiedName = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(outPublic) + sizedByteBufWireSize(name, 2) + sizedByteBufWireSize(qualifiedName, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -50,7 +54,7 @@ public class ReadPublicResponse extends RespStructure
      */
     public static ReadPublicResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(ReadPublicResponse.class);
+        return new TpmBuffer(byteBuf).createObj(ReadPublicResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -65,7 +69,7 @@ public class ReadPublicResponse extends RespStructure
      */
     public static ReadPublicResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(ReadPublicResponse.class);
+        return buf.createObj(ReadPublicResponse::new);
     }
 
     @Override
@@ -85,6 +89,26 @@ public class ReadPublicResponse extends RespStructure
         _p.add(d, "byte[]", "qualifiedName", qualifiedName);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ReadPublicResponse that = (ReadPublicResponse)obj;
+        return Objects.equals(outPublic, that.outPublic)
+            && Arrays.equals(name, that.name)
+            && Arrays.equals(qualifiedName, that.qualifiedName);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(outPublic);
+        _hash = 31 * _hash + Arrays.hashCode(name);
+        _hash = 31 * _hash + Arrays.hashCode(qualifiedName);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -40,6 +40,10 @@ public class RewrapResponse extends RespStructure
         outSymSeed = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return outDuplicate.wireSize() + sizedByteBufWireSize(outSymSeed, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -51,7 +55,7 @@ public class RewrapResponse extends RespStructure
      */
     public static RewrapResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(RewrapResponse.class);
+        return new TpmBuffer(byteBuf).createObj(RewrapResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -66,7 +70,7 @@ public class RewrapResponse extends RespStructure
      */
     public static RewrapResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(RewrapResponse.class);
+        return buf.createObj(RewrapResponse::new);
     }
 
     @Override
@@ -84,6 +88,24 @@ public class RewrapResponse extends RespStructure
         _p.add(d, "TPM2B_PRIVATE", "outDuplicate", outDuplicate);
         _p.add(d, "byte[]", "outSymSeed", outSymSeed);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        RewrapResponse that = (RewrapResponse)obj;
+        return Objects.equals(outDuplicate, that.outDuplicate)
+            && Arrays.equals(outSymSeed, that.outSymSeed);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(outDuplicate);
+        _hash = 31 * _hash + Arrays.hashCode(outSymSeed);
+        return _hash;
+    }
 }
 
 //<<<
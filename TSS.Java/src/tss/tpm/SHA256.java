@@ -32,16 +32,16 @@ public final class SHA256 extends TpmEnum<SHA256>
 
     public SHA256 () { super(0, _ValueMap); }
     public SHA256 (int value) { super(value, _ValueMap); }
-    public static SHA256 fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, SHA256.class); }
-    public static SHA256 fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA256.class); }
-    public static SHA256 fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA256.class); }
+    public static SHA256 fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, SHA256::new); }
+    public static SHA256 fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA256::new); }
+    public static SHA256 fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA256::new); }
     public SHA256._N asEnum() { return (SHA256._N)NameAsEnum; }
     public static Collection<SHA256> values() { return _ValueMap.values(); }
     private SHA256 (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private SHA256 (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
@@ -32,16 +32,16 @@ public final class SHA384 extends TpmEnum<SHA384>
 
     public SHA384 () { super(0, _ValueMap); }
     public SHA384 (int value) { super(value, _ValueMap); }
-    public static SHA384 fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, SHA384.class); }
-    public static SHA384 fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA384.class); }
-    public static SHA384 fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA384.class); }
+    public static SHA384 fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, SHA384::new); }
+    public static SHA384 fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA384::new); }
+    public static SHA384 fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA384::new); }
     public SHA384._N asEnum() { return (SHA384._N)NameAsEnum; }
     public static Collection<SHA384> values() { return _ValueMap.values(); }
     private SHA384 (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private SHA384 (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
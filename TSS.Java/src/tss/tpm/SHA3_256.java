@@ -32,16 +32,16 @@ public final class SHA3_256 extends TpmEnum<SHA3_256>
 
     public SHA3_256 () { super(0, _ValueMap); }
     public SHA3_256 (int value) { super(value, _ValueMap); }
-    public static SHA3_256 fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, SHA3_256.class); }
-    public static SHA3_256 fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA3_256.class); }
-    public static SHA3_256 fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA3_256.class); }
+    public static SHA3_256 fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, SHA3_256::new); }
+    public static SHA3_256 fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA3_256::new); }
+    public static SHA3_256 fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA3_256::new); }
     public SHA3_256._N asEnum() { return (SHA3_256._N)NameAsEnum; }
     public static Collection<SHA3_256> values() { return _ValueMap.values(); }
     private SHA3_256 (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private SHA3_256 (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
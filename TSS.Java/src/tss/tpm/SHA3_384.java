@@ -32,16 +32,16 @@ public final class SHA3_384 extends TpmEnum<SHA3_384>
 
     public SHA3_384 () { super(0, _ValueMap); }
     public SHA3_384 (int value) { super(value, _ValueMap); }
-    public static SHA3_384 fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, SHA3_384.class); }
-    public static SHA3_384 fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA3_384.class); }
-    public static SHA3_384 fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA3_384.class); }
+    public static SHA3_384 fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, SHA3_384::new); }
+    public static SHA3_384 fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA3_384::new); }
+    public static SHA3_384 fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA3_384::new); }
     public SHA3_384._N asEnum() { return (SHA3_384._N)NameAsEnum; }
     public static Collection<SHA3_384> values() { return _ValueMap.values(); }
     private SHA3_384 (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private SHA3_384 (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
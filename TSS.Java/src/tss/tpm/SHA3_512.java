@@ -32,16 +32,16 @@ public final class SHA3_512 extends TpmEnum<SHA3_512>
 
     public SHA3_512 () { super(0, _ValueMap); }
     public SHA3_512 (int value) { super(value, _ValueMap); }
-    public static SHA3_512 fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, SHA3_512.class); }
-    public static SHA3_512 fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA3_512.class); }
-    public static SHA3_512 fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA3_512.class); }
+    public static SHA3_512 fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, SHA3_512::new); }
+    public static SHA3_512 fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA3_512::new); }
+    public static SHA3_512 fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA3_512::new); }
     public SHA3_512._N asEnum() { return (SHA3_512._N)NameAsEnum; }
     public static Collection<SHA3_512> values() { return _ValueMap.values(); }
     private SHA3_512 (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private SHA3_512 (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
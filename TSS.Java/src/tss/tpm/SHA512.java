@@ -32,16 +32,16 @@ public final class SHA512 extends TpmEnum<SHA512>
 
     public SHA512 () { super(0, _ValueMap); }
     public SHA512 (int value) { super(value, _ValueMap); }
-    public static SHA512 fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, SHA512.class); }
-    public static SHA512 fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA512.class); }
-    public static SHA512 fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA512.class); }
+    public static SHA512 fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, SHA512::new); }
+    public static SHA512 fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA512::new); }
+    public static SHA512 fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, SHA512::new); }
     public SHA512._N asEnum() { return (SHA512._N)NameAsEnum; }
     public static Collection<SHA512> values() { return _ValueMap.values(); }
     private SHA512 (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private SHA512 (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
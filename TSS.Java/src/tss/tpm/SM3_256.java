@@ -32,16 +32,16 @@ public final class SM3_256 extends TpmEnum<SM3_256>
 
     public SM3_256 () { super(0, _ValueMap); }
     public SM3_256 (int value) { super(value, _ValueMap); }
-    public static SM3_256 fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, SM3_256.class); }
-    public static SM3_256 fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, SM3_256.class); }
-    public static SM3_256 fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, SM3_256.class); }
+    public static SM3_256 fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, SM3_256::new); }
+    public static SM3_256 fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, SM3_256::new); }
+    public static SM3_256 fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, SM3_256::new); }
     public SM3_256._N asEnum() { return (SM3_256._N)NameAsEnum; }
     public static Collection<SM3_256> values() { return _ValueMap.values(); }
     private SM3_256 (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private SM3_256 (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -39,6 +39,10 @@ public class SequenceCompleteResponse extends RespStructure
         validation = TPMT_TK_HASHCHECK.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(result, 2) + validation.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -50,7 +54,7 @@ public class SequenceCompleteResponse extends RespStructure
      */
     public static SequenceCompleteResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(SequenceCompleteResponse.class);
+        return new TpmBuffer(byteBuf).createObj(SequenceCompleteResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -65,7 +69,7 @@ public class SequenceCompleteResponse extends RespStructure
      */
     public static SequenceCompleteResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(SequenceCompleteResponse.class);
+        return buf.createObj(SequenceCompleteResponse::new);
     }
 
     @Override
@@ -84,6 +88,24 @@ public class SequenceCompleteResponse extends RespStructure
         _p.add(d, "TPMT_TK_HASHCHECK", "validation", validation);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        SequenceCompleteResponse that = (SequenceCompleteResponse)obj;
+        return Arrays.equals(result, that.result)
+            && Objects.equals(validation, that.validation);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(result);
+        _hash = 31 * _hash + Objects.hashCode(validation);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -57,6 +57,10 @@ public class SessionIn extends TpmStructure
         auth = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return handle.wireSize() + sizedByteBufWireSize(nonceCaller, 2) + attributes.wireSize() + sizedByteBufWireSize(auth, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -68,7 +72,7 @@ public class SessionIn extends TpmStructure
      */
     public static SessionIn fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(SessionIn.class);
+        return new TpmBuffer(byteBuf).createObj(SessionIn::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -83,7 +87,7 @@ public class SessionIn extends TpmStructure
      */
     public static SessionIn fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(SessionIn.class);
+        return buf.createObj(SessionIn::new);
     }
 
     @Override
@@ -103,6 +107,28 @@ public class SessionIn extends TpmStructure
         _p.add(d, "TPMA_SESSION", "attributes", attributes);
         _p.add(d, "byte[]", "auth", auth);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        SessionIn that = (SessionIn)obj;
+        return Objects.equals(handle, that.handle)
+            && Arrays.equals(nonceCaller, that.nonceCaller)
+            && Objects.equals(attributes, that.attributes)
+            && Arrays.equals(auth, that.auth);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(handle);
+        _hash = 31 * _hash + Arrays.hashCode(nonceCaller);
+        _hash = 31 * _hash + Objects.hashCode(attributes);
+        _hash = 31 * _hash + Arrays.hashCode(auth);
+        return _hash;
+    }
 }
 
 //<<<
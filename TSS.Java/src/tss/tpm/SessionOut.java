@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -50,6 +50,10 @@ public class SessionOut extends TpmStructure
         auth = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(nonceTpm, 2) + attributes.wireSize() + sizedByteBufWireSize(auth, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -61,7 +65,7 @@ public class SessionOut extends TpmStructure
      */
     public static SessionOut fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(SessionOut.class);
+        return new TpmBuffer(byteBuf).createObj(SessionOut::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -76,7 +80,7 @@ public class SessionOut extends TpmStructure
      */
     public static SessionOut fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(SessionOut.class);
+        return buf.createObj(SessionOut::new);
     }
 
     @Override
@@ -95,6 +99,26 @@ public class SessionOut extends TpmStructure
         _p.add(d, "TPMA_SESSION", "attributes", attributes);
         _p.add(d, "byte[]", "auth", auth);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        SessionOut that = (SessionOut)obj;
+        return Arrays.equals(nonceTpm, that.nonceTpm)
+            && Objects.equals(attributes, that.attributes)
+            && Arrays.equals(auth, that.auth);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(nonceTpm);
+        _hash = 31 * _hash + Objects.hashCode(attributes);
+        _hash = 31 * _hash + Arrays.hashCode(auth);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -38,10 +38,18 @@ public class SignResponse extends RespStructure
     public void initFromTpm(TpmBuffer buf)
     {
         TPM_ALG_ID signatureSigAlg = TPM_ALG_ID.fromTpm(buf);
-        signature = UnionFactory.create("TPMU_SIGNATURE", signatureSigAlg);
+        signature = UnionFactory.createTPMU_SIGNATURE(signatureSigAlg);
         signature.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize()
+    {
+        if (signature == null) return 0;
+        return 2 + signature.wireSize();
+    }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -53,7 +61,7 @@ public class SignResponse extends RespStructure
      */
     public static SignResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(SignResponse.class);
+        return new TpmBuffer(byteBuf).createObj(SignResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -68,7 +76,7 @@ public class SignResponse extends RespStructure
      */
     public static SignResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(SignResponse.class);
+        return buf.createObj(SignResponse::new);
     }
 
     @Override
@@ -85,6 +93,21 @@ public class SignResponse extends RespStructure
     {
         _p.add(d, "TPMU_SIGNATURE", "signature", signature);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        SignResponse that = (SignResponse)obj;
+        return Objects.equals(signature, that.signature);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(signature);
+    }
 }
 
 //<<<
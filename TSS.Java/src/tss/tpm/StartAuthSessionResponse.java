@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -29,6 +29,10 @@ public class StartAuthSessionResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { nonceTPM = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(nonceTPM, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -40,7 +44,7 @@ public class StartAuthSessionResponse extends RespStructure
      */
     public static StartAuthSessionResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(StartAuthSessionResponse.class);
+        return new TpmBuffer(byteBuf).createObj(StartAuthSessionResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -55,7 +59,7 @@ public class StartAuthSessionResponse extends RespStructure
      */
     public static StartAuthSessionResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(StartAuthSessionResponse.class);
+        return buf.createObj(StartAuthSessionResponse::new);
     }
 
     @Override
@@ -74,6 +78,24 @@ public class StartAuthSessionResponse extends RespStructure
         _p.add(d, "byte[]", "nonceTPM", nonceTPM);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        StartAuthSessionResponse that = (StartAuthSessionResponse)obj;
+        return Objects.equals(handle, that.handle)
+            && Arrays.equals(nonceTPM, that.nonceTPM);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(handle);
+        _hash = 31 * _hash + Arrays.hashCode(nonceTPM);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -26,7 +26,11 @@ public class TPM2B_ATTEST extends TpmStructure
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { attestationData = buf.createSizedObj(TPMS_ATTEST.class); }
+    public void initFromTpm(TpmBuffer buf) { attestationData = buf.createSizedObj(TPMS_ATTEST::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(attestationData); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -39,7 +43,7 @@ public class TPM2B_ATTEST extends TpmStructure
      */
     public static TPM2B_ATTEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2B_ATTEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2B_ATTEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -54,7 +58,7 @@ public class TPM2B_ATTEST extends TpmStructure
      */
     public static TPM2B_ATTEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2B_ATTEST.class);
+        return buf.createObj(TPM2B_ATTEST::new);
     }
 
     @Override
@@ -71,6 +75,21 @@ public class TPM2B_ATTEST extends TpmStructure
     {
         _p.add(d, "TPMS_ATTEST", "attestationData", attestationData);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2B_ATTEST that = (TPM2B_ATTEST)obj;
+        return Objects.equals(attestationData, that.attestationData);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(attestationData);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -28,6 +28,10 @@ public class TPM2B_CONTEXT_SENSITIVE extends TpmStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { buffer = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(buffer, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -39,7 +43,7 @@ public class TPM2B_CONTEXT_SENSITIVE extends TpmStructure
      */
     public static TPM2B_CONTEXT_SENSITIVE fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2B_CONTEXT_SENSITIVE.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2B_CONTEXT_SENSITIVE::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -54,7 +58,7 @@ public class TPM2B_CONTEXT_SENSITIVE extends TpmStructure
      */
     public static TPM2B_CONTEXT_SENSITIVE fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2B_CONTEXT_SENSITIVE.class);
+        return buf.createObj(TPM2B_CONTEXT_SENSITIVE::new);
     }
 
     @Override
@@ -71,6 +75,21 @@ public class TPM2B_CONTEXT_SENSITIVE extends TpmStructure
     {
         _p.add(d, "byte[]", "buffer", buffer);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2B_CONTEXT_SENSITIVE that = (TPM2B_CONTEXT_SENSITIVE)obj;
+        return Arrays.equals(buffer, that.buffer);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(buffer);
+    }
 }
 
 //<<<
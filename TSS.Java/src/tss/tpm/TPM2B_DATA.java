@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -27,6 +27,10 @@ public class TPM2B_DATA extends TpmStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { buffer = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(buffer, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -38,7 +42,7 @@ public class TPM2B_DATA extends TpmStructure
      */
     public static TPM2B_DATA fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2B_DATA.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2B_DATA::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -53,7 +57,7 @@ public class TPM2B_DATA extends TpmStructure
      */
     public static TPM2B_DATA fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2B_DATA.class);
+        return buf.createObj(TPM2B_DATA::new);
     }
 
     @Override
@@ -70,6 +74,21 @@ public class TPM2B_DATA extends TpmStructure
     {
         _p.add(d, "byte[]", "buffer", buffer);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2B_DATA that = (TPM2B_DATA)obj;
+        return Arrays.equals(buffer, that.buffer);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(buffer);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -26,7 +26,11 @@ public class TPM2B_DERIVE extends TpmStructure
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { buffer = buf.createSizedObj(TPMS_DERIVE.class); }
+    public void initFromTpm(TpmBuffer buf) { buffer = buf.createSizedObj(TPMS_DERIVE::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(buffer); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -39,7 +43,7 @@ public class TPM2B_DERIVE extends TpmStructure
      */
     public static TPM2B_DERIVE fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2B_DERIVE.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2B_DERIVE::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -54,7 +58,7 @@ public class TPM2B_DERIVE extends TpmStructure
      */
     public static TPM2B_DERIVE fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2B_DERIVE.class);
+        return buf.createObj(TPM2B_DERIVE::new);
     }
 
     @Override
@@ -71,6 +75,21 @@ public class TPM2B_DERIVE extends TpmStructure
     {
         _p.add(d, "TPMS_DERIVE", "buffer", buffer);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2B_DERIVE that = (TPM2B_DERIVE)obj;
+        return Objects.equals(buffer, that.buffer);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(buffer);
+    }
 }
 
 //<<<
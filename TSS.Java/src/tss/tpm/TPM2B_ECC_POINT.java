@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -26,7 +26,11 @@ public class TPM2B_ECC_POINT extends TpmStructure
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { point = buf.createSizedObj(TPMS_ECC_POINT.class); }
+    public void initFromTpm(TpmBuffer buf) { point = buf.createSizedObj(TPMS_ECC_POINT::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(point); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -39,7 +43,7 @@ public class TPM2B_ECC_POINT extends TpmStructure
      */
     public static TPM2B_ECC_POINT fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2B_ECC_POINT.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2B_ECC_POINT::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -54,7 +58,7 @@ public class TPM2B_ECC_POINT extends TpmStructure
      */
     public static TPM2B_ECC_POINT fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2B_ECC_POINT.class);
+        return buf.createObj(TPM2B_ECC_POINT::new);
     }
 
     @Override
@@ -71,6 +75,21 @@ public class TPM2B_ECC_POINT extends TpmStructure
     {
         _p.add(d, "TPMS_ECC_POINT", "point", point);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2B_ECC_POINT that = (TPM2B_ECC_POINT)obj;
+        return Objects.equals(point, that.point);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(point);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -26,6 +26,10 @@ public class TPM2B_ENCRYPTED_SECRET extends TpmStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { secret = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(secret, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -37,7 +41,7 @@ public class TPM2B_ENCRYPTED_SECRET extends TpmStructure
      */
     public static TPM2B_ENCRYPTED_SECRET fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2B_ENCRYPTED_SECRET.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2B_ENCRYPTED_SECRET::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -52,7 +56,7 @@ public class TPM2B_ENCRYPTED_SECRET extends TpmStructure
      */
     public static TPM2B_ENCRYPTED_SECRET fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2B_ENCRYPTED_SECRET.class);
+        return buf.createObj(TPM2B_ENCRYPTED_SECRET::new);
     }
 
     @Override
@@ -69,6 +73,21 @@ public class TPM2B_ENCRYPTED_SECRET extends TpmStructure
     {
         _p.add(d, "byte[]", "secret", secret);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2B_ENCRYPTED_SECRET that = (TPM2B_ENCRYPTED_SECRET)obj;
+        return Arrays.equals(secret, that.secret);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(secret);
+    }
 }
 
 //<<<
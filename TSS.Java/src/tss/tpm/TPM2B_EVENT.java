@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -26,6 +26,10 @@ public class TPM2B_EVENT extends TpmStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { buffer = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(buffer, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -37,7 +41,7 @@ public class TPM2B_EVENT extends TpmStructure
      */
     public static TPM2B_EVENT fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2B_EVENT.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2B_EVENT::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -52,7 +56,7 @@ public class TPM2B_EVENT extends TpmStructure
      */
     public static TPM2B_EVENT fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2B_EVENT.class);
+        return buf.createObj(TPM2B_EVENT::new);
     }
 
     @Override
@@ -69,6 +73,21 @@ public class TPM2B_EVENT extends TpmStructure
     {
         _p.add(d, "byte[]", "buffer", buffer);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2B_EVENT that = (TPM2B_EVENT)obj;
+        return Arrays.equals(buffer, that.buffer);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(buffer);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -29,6 +29,10 @@ public class TPM2B_IV extends TpmStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { buffer = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(buffer, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -40,7 +44,7 @@ public class TPM2B_IV extends TpmStructure
      */
     public static TPM2B_IV fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2B_IV.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2B_IV::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -55,7 +59,7 @@ public class TPM2B_IV extends TpmStructure
      */
     public static TPM2B_IV fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2B_IV.class);
+        return buf.createObj(TPM2B_IV::new);
     }
 
     @Override
@@ -72,6 +76,21 @@ public class TPM2B_IV extends TpmStructure
     {
         _p.add(d, "byte[]", "buffer", buffer);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2B_IV that = (TPM2B_IV)obj;
+        return Arrays.equals(buffer, that.buffer);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(buffer);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -31,6 +31,10 @@ public class TPM2B_LABEL extends TpmStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { buffer = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(buffer, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -42,7 +46,7 @@ public class TPM2B_LABEL extends TpmStructure
      */
     public static TPM2B_LABEL fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2B_LABEL.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2B_LABEL::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -57,7 +61,7 @@ public class TPM2B_LABEL extends TpmStructure
      */
     public static TPM2B_LABEL fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2B_LABEL.class);
+        return buf.createObj(TPM2B_LABEL::new);
     }
 
     @Override
@@ -74,6 +78,21 @@ public class TPM2B_LABEL extends TpmStructure
     {
         _p.add(d, "byte[]", "buffer", buffer);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2B_LABEL that = (TPM2B_LABEL)obj;
+        return Arrays.equals(buffer, that.buffer);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(buffer);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -24,7 +24,11 @@ public class TPM2B_NV_PUBLIC extends TpmStructure
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { nvPublic = buf.createSizedObj(TPMS_NV_PUBLIC.class); }
+    public void initFromTpm(TpmBuffer buf) { nvPublic = buf.createSizedObj(TPMS_NV_PUBLIC::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(nvPublic); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -37,7 +41,7 @@ public class TPM2B_NV_PUBLIC extends TpmStructure
      */
     public static TPM2B_NV_PUBLIC fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2B_NV_PUBLIC.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2B_NV_PUBLIC::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -52,7 +56,7 @@ public class TPM2B_NV_PUBLIC extends TpmStructure
      */
     public static TPM2B_NV_PUBLIC fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2B_NV_PUBLIC.class);
+        return buf.createObj(TPM2B_NV_PUBLIC::new);
     }
 
     @Override
@@ -69,6 +73,21 @@ public class TPM2B_NV_PUBLIC extends TpmStructure
     {
         _p.add(d, "TPMS_NV_PUBLIC", "nvPublic", nvPublic);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2B_NV_PUBLIC that = (TPM2B_NV_PUBLIC)obj;
+        return Objects.equals(nvPublic, that.nvPublic);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(nvPublic);
+    }
 }
 
 //<<<
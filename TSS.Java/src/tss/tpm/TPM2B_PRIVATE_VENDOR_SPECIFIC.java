@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -34,6 +34,10 @@ public class TPM2B_PRIVATE_VENDOR_SPECIFIC extends TpmStructure implements TPMU_
     @Override
     public void initFromTpm(TpmBuffer buf) { buffer = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(buffer, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -45,7 +49,7 @@ public class TPM2B_PRIVATE_VENDOR_SPECIFIC extends TpmStructure implements TPMU_
      */
     public static TPM2B_PRIVATE_VENDOR_SPECIFIC fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2B_PRIVATE_VENDOR_SPECIFIC.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2B_PRIVATE_VENDOR_SPECIFIC::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -60,7 +64,7 @@ public class TPM2B_PRIVATE_VENDOR_SPECIFIC extends TpmStructure implements TPMU_
      */
     public static TPM2B_PRIVATE_VENDOR_SPECIFIC fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2B_PRIVATE_VENDOR_SPECIFIC.class);
+        return buf.createObj(TPM2B_PRIVATE_VENDOR_SPECIFIC::new);
     }
 
     @Override
@@ -77,6 +81,21 @@ public class TPM2B_PRIVATE_VENDOR_SPECIFIC extends TpmStructure implements TPMU_
     {
         _p.add(d, "byte[]", "buffer", buffer);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2B_PRIVATE_VENDOR_SPECIFIC that = (TPM2B_PRIVATE_VENDOR_SPECIFIC)obj;
+        return Arrays.equals(buffer, that.buffer);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(buffer);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -26,7 +26,11 @@ public class TPM2B_SENSITIVE extends TpmStructure
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { sensitiveArea = buf.createSizedObj(TPMT_SENSITIVE.class); }
+    public void initFromTpm(TpmBuffer buf) { sensitiveArea = buf.createSizedObj(TPMT_SENSITIVE::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(sensitiveArea); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -39,7 +43,7 @@ public class TPM2B_SENSITIVE extends TpmStructure
      */
     public static TPM2B_SENSITIVE fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2B_SENSITIVE.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2B_SENSITIVE::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -54,7 +58,7 @@ public class TPM2B_SENSITIVE extends TpmStructure
      */
     public static TPM2B_SENSITIVE fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2B_SENSITIVE.class);
+        return buf.createObj(TPM2B_SENSITIVE::new);
     }
 
     @Override
@@ -71,6 +75,21 @@ public class TPM2B_SENSITIVE extends TpmStructure
     {
         _p.add(d, "TPMT_SENSITIVE", "sensitiveArea", sensitiveArea);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2B_SENSITIVE that = (TPM2B_SENSITIVE)obj;
+        return Objects.equals(sensitiveArea, that.sensitiveArea);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(sensitiveArea);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -42,6 +42,10 @@ public class TPM2_ACT_SetTimeout_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { startTimeout = buf.readInt(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 4; }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -53,7 +57,7 @@ public class TPM2_ACT_SetTimeout_REQUEST extends ReqStructure
      */
     public static TPM2_ACT_SetTimeout_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_ACT_SetTimeout_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_ACT_SetTimeout_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -68,7 +72,7 @@ public class TPM2_ACT_SetTimeout_REQUEST extends ReqStructure
      */
     public static TPM2_ACT_SetTimeout_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_ACT_SetTimeout_REQUEST.class);
+        return buf.createObj(TPM2_ACT_SetTimeout_REQUEST::new);
     }
 
     @Override
@@ -87,6 +91,24 @@ public class TPM2_ACT_SetTimeout_REQUEST extends ReqStructure
         _p.add(d, "int", "startTimeout", startTimeout);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_ACT_SetTimeout_REQUEST that = (TPM2_ACT_SetTimeout_REQUEST)obj;
+        return Objects.equals(actHandle, that.actHandle)
+            && startTimeout == that.startTimeout;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(actHandle);
+        _hash = 31 * _hash + Integer.hashCode(startTimeout);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
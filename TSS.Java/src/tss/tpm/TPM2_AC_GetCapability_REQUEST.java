@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -53,6 +53,10 @@ public class TPM2_AC_GetCapability_REQUEST extends ReqStructure
         count = buf.readInt();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 4 + capability.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -64,7 +68,7 @@ public class TPM2_AC_GetCapability_REQUEST extends ReqStructure
      */
     public static TPM2_AC_GetCapability_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_AC_GetCapability_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_AC_GetCapability_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -79,7 +83,7 @@ public class TPM2_AC_GetCapability_REQUEST extends ReqStructure
      */
     public static TPM2_AC_GetCapability_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_AC_GetCapability_REQUEST.class);
+        return buf.createObj(TPM2_AC_GetCapability_REQUEST::new);
     }
 
     @Override
@@ -99,6 +103,26 @@ public class TPM2_AC_GetCapability_REQUEST extends ReqStructure
         _p.add(d, "int", "count", count);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_AC_GetCapability_REQUEST that = (TPM2_AC_GetCapability_REQUEST)obj;
+        return Objects.equals(ac, that.ac)
+            && Objects.equals(capability, that.capability)
+            && count == that.count;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(ac);
+        _hash = 31 * _hash + Objects.hashCode(capability);
+        _hash = 31 * _hash + Integer.hashCode(count);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
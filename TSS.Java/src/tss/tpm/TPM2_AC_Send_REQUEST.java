@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -65,6 +65,10 @@ public class TPM2_AC_Send_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { acDataIn = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(acDataIn, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -76,7 +80,7 @@ public class TPM2_AC_Send_REQUEST extends ReqStructure
      */
     public static TPM2_AC_Send_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_AC_Send_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_AC_Send_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -91,7 +95,7 @@ public class TPM2_AC_Send_REQUEST extends ReqStructure
      */
     public static TPM2_AC_Send_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_AC_Send_REQUEST.class);
+        return buf.createObj(TPM2_AC_Send_REQUEST::new);
     }
 
     @Override
@@ -112,6 +116,28 @@ public class TPM2_AC_Send_REQUEST extends ReqStructure
         _p.add(d, "byte[]", "acDataIn", acDataIn);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_AC_Send_REQUEST that = (TPM2_AC_Send_REQUEST)obj;
+        return Objects.equals(sendObject, that.sendObject)
+            && Objects.equals(authHandle, that.authHandle)
+            && Objects.equals(ac, that.ac)
+            && Arrays.equals(acDataIn, that.acDataIn);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(sendObject);
+        _hash = 31 * _hash + Objects.hashCode(authHandle);
+        _hash = 31 * _hash + Objects.hashCode(ac);
+        _hash = 31 * _hash + Arrays.hashCode(acDataIn);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 3; }
 
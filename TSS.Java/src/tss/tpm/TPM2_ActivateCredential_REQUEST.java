@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -65,10 +65,14 @@ public class TPM2_ActivateCredential_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        credentialBlob = buf.createSizedObj(TPMS_ID_OBJECT.class);
+        credentialBlob = buf.createSizedObj(TPMS_ID_OBJECT::new);
         secret = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(credentialBlob) + sizedByteBufWireSize(secret, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -80,7 +84,7 @@ public class TPM2_ActivateCredential_REQUEST extends ReqStructure
      */
     public static TPM2_ActivateCredential_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_ActivateCredential_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_ActivateCredential_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -95,7 +99,7 @@ public class TPM2_ActivateCredential_REQUEST extends ReqStructure
      */
     public static TPM2_ActivateCredential_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_ActivateCredential_REQUEST.class);
+        return buf.createObj(TPM2_ActivateCredential_REQUEST::new);
     }
 
     @Override
@@ -116,6 +120,28 @@ public class TPM2_ActivateCredential_REQUEST extends ReqStructure
         _p.add(d, "byte[]", "secret", secret);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_ActivateCredential_REQUEST that = (TPM2_ActivateCredential_REQUEST)obj;
+        return Objects.equals(activateHandle, that.activateHandle)
+            && Objects.equals(keyHandle, that.keyHandle)
+            && Objects.equals(credentialBlob, that.credentialBlob)
+            && Arrays.equals(secret, that.secret);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(activateHandle);
+        _hash = 31 * _hash + Objects.hashCode(keyHandle);
+        _hash = 31 * _hash + Objects.hashCode(credentialBlob);
+        _hash = 31 * _hash + Arrays.hashCode(secret);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 2; }
 
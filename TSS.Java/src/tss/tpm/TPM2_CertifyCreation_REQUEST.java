@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -91,11 +91,15 @@ public class TPM2_CertifyCreation_REQUEST extends ReqStructure
         qualifyingData = buf.readSizedByteBuf();
         creationHash = buf.readSizedByteBuf();
         TPM_ALG_ID inSchemeScheme = TPM_ALG_ID.fromTpm(buf);
-        inScheme = UnionFactory.create("TPMU_SIG_SCHEME", inSchemeScheme);
+        inScheme = UnionFactory.createTPMU_SIG_SCHEME(inSchemeScheme);
         inScheme.initFromTpm(buf);
         creationTicket = TPMT_TK_CREATION.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedByteBufWireSize(qualifyingData, 2) + sizedByteBufWireSize(creationHash, 2) + inScheme.wireSize() + creationTicket.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -107,7 +111,7 @@ public class TPM2_CertifyCreation_REQUEST extends ReqStructure
      */
     public static TPM2_CertifyCreation_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_CertifyCreation_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_CertifyCreation_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -122,7 +126,7 @@ public class TPM2_CertifyCreation_REQUEST extends ReqStructure
      */
     public static TPM2_CertifyCreation_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_CertifyCreation_REQUEST.class);
+        return buf.createObj(TPM2_CertifyCreation_REQUEST::new);
     }
 
     @Override
@@ -145,6 +149,32 @@ public class TPM2_CertifyCreation_REQUEST extends ReqStructure
         _p.add(d, "TPMT_TK_CREATION", "creationTicket", creationTicket);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_CertifyCreation_REQUEST that = (TPM2_CertifyCreation_REQUEST)obj;
+        return Objects.equals(signHandle, that.signHandle)
+            && Objects.equals(objectHandle, that.objectHandle)
+            && Arrays.equals(qualifyingData, that.qualifyingData)
+            && Arrays.equals(creationHash, that.creationHash)
+            && Objects.equals(inScheme, that.inScheme)
+            && Objects.equals(creationTicket, that.creationTicket);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(signHandle);
+        _hash = 31 * _hash + Objects.hashCode(objectHandle);
+        _hash = 31 * _hash + Arrays.hashCode(qualifyingData);
+        _hash = 31 * _hash + Arrays.hashCode(creationHash);
+        _hash = 31 * _hash + Objects.hashCode(inScheme);
+        _hash = 31 * _hash + Objects.hashCode(creationTicket);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 2; }
 
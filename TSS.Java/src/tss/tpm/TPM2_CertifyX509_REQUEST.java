@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -88,11 +88,15 @@ public class TPM2_CertifyX509_REQUEST extends ReqStructure
     {
         reserved = buf.readSizedByteBuf();
         TPM_ALG_ID inSchemeScheme = TPM_ALG_ID.fromTpm(buf);
-        inScheme = UnionFactory.create("TPMU_SIG_SCHEME", inSchemeScheme);
+        inScheme = UnionFactory.createTPMU_SIG_SCHEME(inSchemeScheme);
         inScheme.initFromTpm(buf);
         partialCertificate = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedByteBufWireSize(reserved, 2) + inScheme.wireSize() + sizedByteBufWireSize(partialCertificate, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -104,7 +108,7 @@ public class TPM2_CertifyX509_REQUEST extends ReqStructure
      */
     public static TPM2_CertifyX509_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_CertifyX509_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_CertifyX509_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -119,7 +123,7 @@ public class TPM2_CertifyX509_REQUEST extends ReqStructure
      */
     public static TPM2_CertifyX509_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_CertifyX509_REQUEST.class);
+        return buf.createObj(TPM2_CertifyX509_REQUEST::new);
     }
 
     @Override
@@ -141,6 +145,30 @@ public class TPM2_CertifyX509_REQUEST extends ReqStructure
         _p.add(d, "byte[]", "partialCertificate", partialCertificate);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_CertifyX509_REQUEST that = (TPM2_CertifyX509_REQUEST)obj;
+        return Objects.equals(objectHandle, that.objectHandle)
+            && Objects.equals(signHandle, that.signHandle)
+            && Arrays.equals(reserved, that.reserved)
+            && Objects.equals(inScheme, that.inScheme)
+            && Arrays.equals(partialCertificate, that.partialCertificate);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(objectHandle);
+        _hash = 31 * _hash + Objects.hashCode(signHandle);
+        _hash = 31 * _hash + Arrays.hashCode(reserved);
+        _hash = 31 * _hash + Objects.hashCode(inScheme);
+        _hash = 31 * _hash + Arrays.hashCode(partialCertificate);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 2; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -37,7 +37,7 @@ public class TPM2_ChangePPS_REQUEST extends ReqStructure
      */
     public static TPM2_ChangePPS_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_ChangePPS_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_ChangePPS_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -52,7 +52,7 @@ public class TPM2_ChangePPS_REQUEST extends ReqStructure
      */
     public static TPM2_ChangePPS_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_ChangePPS_REQUEST.class);
+        return buf.createObj(TPM2_ChangePPS_REQUEST::new);
     }
 
     @Override
@@ -70,6 +70,21 @@ public class TPM2_ChangePPS_REQUEST extends ReqStructure
         _p.add(d, "TPM_HANDLE", "authHandle", authHandle);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_ChangePPS_REQUEST that = (TPM2_ChangePPS_REQUEST)obj;
+        return Objects.equals(authHandle, that.authHandle);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(authHandle);
+    }
+
     @Override
     public int numHandles() { return 1; }
 
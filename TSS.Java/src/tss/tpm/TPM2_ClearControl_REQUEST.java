@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -41,6 +41,10 @@ public class TPM2_ClearControl_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { disable = buf.readByte(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 1; }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -52,7 +56,7 @@ public class TPM2_ClearControl_REQUEST extends ReqStructure
      */
     public static TPM2_ClearControl_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_ClearControl_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_ClearControl_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -67,7 +71,7 @@ public class TPM2_ClearControl_REQUEST extends ReqStructure
      */
     public static TPM2_ClearControl_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_ClearControl_REQUEST.class);
+        return buf.createObj(TPM2_ClearControl_REQUEST::new);
     }
 
     @Override
@@ -86,6 +90,24 @@ public class TPM2_ClearControl_REQUEST extends ReqStructure
         _p.add(d, "byte", "disable", disable);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_ClearControl_REQUEST that = (TPM2_ClearControl_REQUEST)obj;
+        return Objects.equals(auth, that.auth)
+            && disable == that.disable;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(auth);
+        _hash = 31 * _hash + Byte.hashCode(disable);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -44,6 +44,10 @@ public class TPM2_ClockSet_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { newTime = buf.readInt64(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 8; }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -55,7 +59,7 @@ public class TPM2_ClockSet_REQUEST extends ReqStructure
      */
     public static TPM2_ClockSet_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_ClockSet_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_ClockSet_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -70,7 +74,7 @@ public class TPM2_ClockSet_REQUEST extends ReqStructure
      */
     public static TPM2_ClockSet_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_ClockSet_REQUEST.class);
+        return buf.createObj(TPM2_ClockSet_REQUEST::new);
     }
 
     @Override
@@ -89,6 +93,24 @@ public class TPM2_ClockSet_REQUEST extends ReqStructure
         _p.add(d, "long", "newTime", newTime);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_ClockSet_REQUEST that = (TPM2_ClockSet_REQUEST)obj;
+        return Objects.equals(auth, that.auth)
+            && newTime == that.newTime;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(auth);
+        _hash = 31 * _hash + Long.hashCode(newTime);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
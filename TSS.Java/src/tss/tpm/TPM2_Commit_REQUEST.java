@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -59,11 +59,15 @@ public class TPM2_Commit_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        P1 = buf.createSizedObj(TPMS_ECC_POINT.class);
+        P1 = buf.createSizedObj(TPMS_ECC_POINT::new);
         s2 = buf.readSizedByteBuf();
         y2 = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(P1) + sizedByteBufWireSize(s2, 2) + sizedByteBufWireSize(y2, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -75,7 +79,7 @@ public class TPM2_Commit_REQUEST extends ReqStructure
      */
     public static TPM2_Commit_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_Commit_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_Commit_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -90,7 +94,7 @@ public class TPM2_Commit_REQUEST extends ReqStructure
      */
     public static TPM2_Commit_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_Commit_REQUEST.class);
+        return buf.createObj(TPM2_Commit_REQUEST::new);
     }
 
     @Override
@@ -111,6 +115,28 @@ public class TPM2_Commit_REQUEST extends ReqStructure
         _p.add(d, "byte[]", "y2", y2);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_Commit_REQUEST that = (TPM2_Commit_REQUEST)obj;
+        return Objects.equals(signHandle, that.signHandle)
+            && Objects.equals(P1, that.P1)
+            && Arrays.equals(s2, that.s2)
+            && Arrays.equals(y2, that.y2);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(signHandle);
+        _hash = 31 * _hash + Objects.hashCode(P1);
+        _hash = 31 * _hash + Arrays.hashCode(s2);
+        _hash = 31 * _hash + Arrays.hashCode(y2);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -56,10 +56,14 @@ public class TPM2_CreateLoaded_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        inSensitive = buf.createSizedObj(TPMS_SENSITIVE_CREATE.class);
+        inSensitive = buf.createSizedObj(TPMS_SENSITIVE_CREATE::new);
         inPublic = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(inSensitive) + sizedByteBufWireSize(inPublic, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -71,7 +75,7 @@ public class TPM2_CreateLoaded_REQUEST extends ReqStructure
      */
     public static TPM2_CreateLoaded_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_CreateLoaded_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_CreateLoaded_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -86,7 +90,7 @@ public class TPM2_CreateLoaded_REQUEST extends ReqStructure
      */
     public static TPM2_CreateLoaded_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_CreateLoaded_REQUEST.class);
+        return buf.createObj(TPM2_CreateLoaded_REQUEST::new);
     }
 
     @Override
@@ -106,6 +110,26 @@ public class TPM2_CreateLoaded_REQUEST extends ReqStructure
         _p.add(d, "byte[]", "inPublic", inPublic);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_CreateLoaded_REQUEST that = (TPM2_CreateLoaded_REQUEST)obj;
+        return Objects.equals(parentHandle, that.parentHandle)
+            && Objects.equals(inSensitive, that.inSensitive)
+            && Arrays.equals(inPublic, that.inPublic);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(parentHandle);
+        _hash = 31 * _hash + Objects.hashCode(inSensitive);
+        _hash = 31 * _hash + Arrays.hashCode(inPublic);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -70,12 +70,16 @@ public class TPM2_CreatePrimary_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        inSensitive = buf.createSizedObj(TPMS_SENSITIVE_CREATE.class);
-        inPublic = buf.createSizedObj(TPMT_PUBLIC.class);
+        inSensitive = buf.createSizedObj(TPMS_SENSITIVE_CREATE::new);
+        inPublic = buf.createSizedObj(TPMT_PUBLIC::new);
         outsideInfo = buf.readSizedByteBuf();
-        creationPCR = buf.readObjArr(TPMS_PCR_SELECTION.class);
+        creationPCR = buf.readObjArr(TPMS_PCR_SELECTION::new, TPMS_PCR_SELECTION[]::new);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(inSensitive) + sizedObjWireSize(inPublic) + sizedByteBufWireSize(outsideInfo, 2) + objArrWireSize(creationPCR); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -87,7 +91,7 @@ public class TPM2_CreatePrimary_REQUEST extends ReqStructure
      */
     public static TPM2_CreatePrimary_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_CreatePrimary_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_CreatePrimary_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -102,7 +106,7 @@ public class TPM2_CreatePrimary_REQUEST extends ReqStructure
      */
     public static TPM2_CreatePrimary_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_CreatePrimary_REQUEST.class);
+        return buf.createObj(TPM2_CreatePrimary_REQUEST::new);
     }
 
     @Override
@@ -124,6 +128,30 @@ public class TPM2_CreatePrimary_REQUEST extends ReqStructure
         _p.add(d, "TPMS_PCR_SELECTION[]", "creationPCR", creationPCR);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_CreatePrimary_REQUEST that = (TPM2_CreatePrimary_REQUEST)obj;
+        return Objects.equals(primaryHandle, that.primaryHandle)
+            && Objects.equals(inSensitive, that.inSensitive)
+            && Objects.equals(inPublic, that.inPublic)
+            && Arrays.equals(outsideInfo, that.outsideInfo)
+            && Arrays.equals(creationPCR, that.creationPCR);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(primaryHandle);
+        _hash = 31 * _hash + Objects.hashCode(inSensitive);
+        _hash = 31 * _hash + Objects.hashCode(inPublic);
+        _hash = 31 * _hash + Arrays.hashCode(outsideInfo);
+        _hash = 31 * _hash + Arrays.hashCode(creationPCR);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -72,12 +72,16 @@ public class TPM2_Create_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        inSensitive = buf.createSizedObj(TPMS_SENSITIVE_CREATE.class);
-        inPublic = buf.createSizedObj(TPMT_PUBLIC.class);
+        inSensitive = buf.createSizedObj(TPMS_SENSITIVE_CREATE::new);
+        inPublic = buf.createSizedObj(TPMT_PUBLIC::new);
         outsideInfo = buf.readSizedByteBuf();
-        creationPCR = buf.readObjArr(TPMS_PCR_SELECTION.class);
+        creationPCR = buf.readObjArr(TPMS_PCR_SELECTION::new, TPMS_PCR_SELECTION[]::new);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(inSensitive) + sizedObjWireSize(inPublic) + sizedByteBufWireSize(outsideInfo, 2) + objArrWireSize(creationPCR); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -89,7 +93,7 @@ public class TPM2_Create_REQUEST extends ReqStructure
      */
     public static TPM2_Create_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_Create_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_Create_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -104,7 +108,7 @@ public class TPM2_Create_REQUEST extends ReqStructure
      */
     public static TPM2_Create_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_Create_REQUEST.class);
+        return buf.createObj(TPM2_Create_REQUEST::new);
     }
 
     @Override
@@ -126,6 +130,30 @@ public class TPM2_Create_REQUEST extends ReqStructure
         _p.add(d, "TPMS_PCR_SELECTION[]", "creationPCR", creationPCR);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_Create_REQUEST that = (TPM2_Create_REQUEST)obj;
+        return Objects.equals(parentHandle, that.parentHandle)
+            && Objects.equals(inSensitive, that.inSensitive)
+            && Objects.equals(inPublic, that.inPublic)
+            && Arrays.equals(outsideInfo, that.outsideInfo)
+            && Arrays.equals(creationPCR, that.creationPCR);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(parentHandle);
+        _hash = 31 * _hash + Objects.hashCode(inSensitive);
+        _hash = 31 * _hash + Objects.hashCode(inPublic);
+        _hash = 31 * _hash + Arrays.hashCode(outsideInfo);
+        _hash = 31 * _hash + Arrays.hashCode(creationPCR);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
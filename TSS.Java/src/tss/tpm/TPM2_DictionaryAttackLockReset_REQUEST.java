@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -38,7 +38,7 @@ public class TPM2_DictionaryAttackLockReset_REQUEST extends ReqStructure
      */
     public static TPM2_DictionaryAttackLockReset_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_DictionaryAttackLockReset_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_DictionaryAttackLockReset_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -53,7 +53,7 @@ public class TPM2_DictionaryAttackLockReset_REQUEST extends ReqStructure
      */
     public static TPM2_DictionaryAttackLockReset_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_DictionaryAttackLockReset_REQUEST.class);
+        return buf.createObj(TPM2_DictionaryAttackLockReset_REQUEST::new);
     }
 
     @Override
@@ -71,6 +71,21 @@ public class TPM2_DictionaryAttackLockReset_REQUEST extends ReqStructure
         _p.add(d, "TPM_HANDLE", "lockHandle", lockHandle);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_DictionaryAttackLockReset_REQUEST that = (TPM2_DictionaryAttackLockReset_REQUEST)obj;
+        return Objects.equals(lockHandle, that.lockHandle);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(lockHandle);
+    }
+
     @Override
     public int numHandles() { return 1; }
 
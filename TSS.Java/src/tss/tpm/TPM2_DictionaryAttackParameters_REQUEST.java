@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -68,6 +68,10 @@ public class TPM2_DictionaryAttackParameters_REQUEST extends ReqStructure
         lockoutRecovery = buf.readInt();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 12; }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -79,7 +83,7 @@ public class TPM2_DictionaryAttackParameters_REQUEST extends ReqStructure
      */
     public static TPM2_DictionaryAttackParameters_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_DictionaryAttackParameters_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_DictionaryAttackParameters_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -94,7 +98,7 @@ public class TPM2_DictionaryAttackParameters_REQUEST extends ReqStructure
      */
     public static TPM2_DictionaryAttackParameters_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_DictionaryAttackParameters_REQUEST.class);
+        return buf.createObj(TPM2_DictionaryAttackParameters_REQUEST::new);
     }
 
     @Override
@@ -115,6 +119,28 @@ public class TPM2_DictionaryAttackParameters_REQUEST extends ReqStructure
         _p.add(d, "int", "lockoutRecovery", lockoutRecovery);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_DictionaryAttackParameters_REQUEST that = (TPM2_DictionaryAttackParameters_REQUEST)obj;
+        return Objects.equals(lockHandle, that.lockHandle)
+            && newMaxTries == that.newMaxTries
+            && newRecoveryTime == that.newRecoveryTime
+            && lockoutRecovery == that.lockoutRecovery;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(lockHandle);
+        _hash = 31 * _hash + Integer.hashCode(newMaxTries);
+        _hash = 31 * _hash + Integer.hashCode(newRecoveryTime);
+        _hash = 31 * _hash + Integer.hashCode(lockoutRecovery);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -76,6 +76,10 @@ public class TPM2_Duplicate_REQUEST extends ReqStructure
         symmetricAlg = TPMT_SYM_DEF_OBJECT.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(encryptionKeyIn, 2) + symmetricAlg.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -87,7 +91,7 @@ public class TPM2_Duplicate_REQUEST extends ReqStructure
      */
     public static TPM2_Duplicate_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_Duplicate_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_Duplicate_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -102,7 +106,7 @@ public class TPM2_Duplicate_REQUEST extends ReqStructure
      */
     public static TPM2_Duplicate_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_Duplicate_REQUEST.class);
+        return buf.createObj(TPM2_Duplicate_REQUEST::new);
     }
 
     @Override
@@ -123,6 +127,28 @@ public class TPM2_Duplicate_REQUEST extends ReqStructure
         _p.add(d, "TPMT_SYM_DEF_OBJECT", "symmetricAlg", symmetricAlg);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_Duplicate_REQUEST that = (TPM2_Duplicate_REQUEST)obj;
+        return Objects.equals(objectHandle, that.objectHandle)
+            && Objects.equals(newParentHandle, that.newParentHandle)
+            && Arrays.equals(encryptionKeyIn, that.encryptionKeyIn)
+            && Objects.equals(symmetricAlg, that.symmetricAlg);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(objectHandle);
+        _hash = 31 * _hash + Objects.hashCode(newParentHandle);
+        _hash = 31 * _hash + Arrays.hashCode(encryptionKeyIn);
+        _hash = 31 * _hash + Objects.hashCode(symmetricAlg);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 2; }
 
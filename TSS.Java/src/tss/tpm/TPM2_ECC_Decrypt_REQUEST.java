@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -70,14 +70,18 @@ public class TPM2_ECC_Decrypt_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        C1 = buf.createSizedObj(TPMS_ECC_POINT.class);
+        C1 = buf.createSizedObj(TPMS_ECC_POINT::new);
         C2 = buf.readSizedByteBuf();
         C3 = buf.readSizedByteBuf();
         TPM_ALG_ID inSchemeScheme = TPM_ALG_ID.fromTpm(buf);
-        inScheme = UnionFactory.create("TPMU_KDF_SCHEME", inSchemeScheme);
+        inScheme = UnionFactory.createTPMU_KDF_SCHEME(inSchemeScheme);
         inScheme.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedObjWireSize(C1) + sizedByteBufWireSize(C2, 2) + sizedByteBufWireSize(C3, 2) + inScheme.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -89,7 +93,7 @@ public class TPM2_ECC_Decrypt_REQUEST extends ReqStructure
      */
     public static TPM2_ECC_Decrypt_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_ECC_Decrypt_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_ECC_Decrypt_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -104,7 +108,7 @@ public class TPM2_ECC_Decrypt_REQUEST extends ReqStructure
      */
     public static TPM2_ECC_Decrypt_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_ECC_Decrypt_REQUEST.class);
+        return buf.createObj(TPM2_ECC_Decrypt_REQUEST::new);
     }
 
     @Override
@@ -126,6 +130,30 @@ public class TPM2_ECC_Decrypt_REQUEST extends ReqStructure
         _p.add(d, "TPMU_KDF_SCHEME", "inScheme", inScheme);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_ECC_Decrypt_REQUEST that = (TPM2_ECC_Decrypt_REQUEST)obj;
+        return Objects.equals(keyHandle, that.keyHandle)
+            && Objects.equals(C1, that.C1)
+            && Arrays.equals(C2, that.C2)
+            && Arrays.equals(C3, that.C3)
+            && Objects.equals(inScheme, that.inScheme);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(keyHandle);
+        _hash = 31 * _hash + Objects.hashCode(C1);
+        _hash = 31 * _hash + Arrays.hashCode(C2);
+        _hash = 31 * _hash + Arrays.hashCode(C3);
+        _hash = 31 * _hash + Objects.hashCode(inScheme);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
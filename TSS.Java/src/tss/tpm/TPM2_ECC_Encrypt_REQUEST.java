@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -58,10 +58,14 @@ public class TPM2_ECC_Encrypt_REQUEST extends ReqStructure
     {
         plainText = buf.readSizedByteBuf();
         TPM_ALG_ID inSchemeScheme = TPM_ALG_ID.fromTpm(buf);
-        inScheme = UnionFactory.create("TPMU_KDF_SCHEME", inSchemeScheme);
+        inScheme = UnionFactory.createTPMU_KDF_SCHEME(inSchemeScheme);
         inScheme.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedByteBufWireSize(plainText, 2) + inScheme.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -73,7 +77,7 @@ public class TPM2_ECC_Encrypt_REQUEST extends ReqStructure
      */
     public static TPM2_ECC_Encrypt_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_ECC_Encrypt_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_ECC_Encrypt_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -88,7 +92,7 @@ public class TPM2_ECC_Encrypt_REQUEST extends ReqStructure
      */
     public static TPM2_ECC_Encrypt_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_ECC_Encrypt_REQUEST.class);
+        return buf.createObj(TPM2_ECC_Encrypt_REQUEST::new);
     }
 
     @Override
@@ -108,6 +112,26 @@ public class TPM2_ECC_Encrypt_REQUEST extends ReqStructure
         _p.add(d, "TPMU_KDF_SCHEME", "inScheme", inScheme);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_ECC_Encrypt_REQUEST that = (TPM2_ECC_Encrypt_REQUEST)obj;
+        return Objects.equals(keyHandle, that.keyHandle)
+            && Arrays.equals(plainText, that.plainText)
+            && Objects.equals(inScheme, that.inScheme);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(keyHandle);
+        _hash = 31 * _hash + Arrays.hashCode(plainText);
+        _hash = 31 * _hash + Objects.hashCode(inScheme);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -26,6 +26,10 @@ public class TPM2_ECC_Parameters_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { curveID = TPM_ECC_CURVE.fromTpm(buf); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return curveID.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -37,7 +41,7 @@ public class TPM2_ECC_Parameters_REQUEST extends ReqStructure
      */
     public static TPM2_ECC_Parameters_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_ECC_Parameters_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_ECC_Parameters_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -52,7 +56,7 @@ public class TPM2_ECC_Parameters_REQUEST extends ReqStructure
      */
     public static TPM2_ECC_Parameters_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_ECC_Parameters_REQUEST.class);
+        return buf.createObj(TPM2_ECC_Parameters_REQUEST::new);
     }
 
     @Override
@@ -69,6 +73,21 @@ public class TPM2_ECC_Parameters_REQUEST extends ReqStructure
     {
         _p.add(d, "TPM_ECC_CURVE", "curveID", curveID);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_ECC_Parameters_REQUEST that = (TPM2_ECC_Parameters_REQUEST)obj;
+        return Objects.equals(curveID, that.curveID);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(curveID);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -36,7 +36,7 @@ public class TPM2_ECDH_KeyGen_REQUEST extends ReqStructure
      */
     public static TPM2_ECDH_KeyGen_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_ECDH_KeyGen_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_ECDH_KeyGen_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -51,7 +51,7 @@ public class TPM2_ECDH_KeyGen_REQUEST extends ReqStructure
      */
     public static TPM2_ECDH_KeyGen_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_ECDH_KeyGen_REQUEST.class);
+        return buf.createObj(TPM2_ECDH_KeyGen_REQUEST::new);
     }
 
     @Override
@@ -69,6 +69,21 @@ public class TPM2_ECDH_KeyGen_REQUEST extends ReqStructure
         _p.add(d, "TPM_HANDLE", "keyHandle", keyHandle);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_ECDH_KeyGen_REQUEST that = (TPM2_ECDH_KeyGen_REQUEST)obj;
+        return Objects.equals(keyHandle, that.keyHandle);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(keyHandle);
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -42,7 +42,11 @@ public class TPM2_ECDH_ZGen_REQUEST extends ReqStructure
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { inPoint = buf.createSizedObj(TPMS_ECC_POINT.class); }
+    public void initFromTpm(TpmBuffer buf) { inPoint = buf.createSizedObj(TPMS_ECC_POINT::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(inPoint); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -55,7 +59,7 @@ public class TPM2_ECDH_ZGen_REQUEST extends ReqStructure
      */
     public static TPM2_ECDH_ZGen_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_ECDH_ZGen_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_ECDH_ZGen_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -70,7 +74,7 @@ public class TPM2_ECDH_ZGen_REQUEST extends ReqStructure
      */
     public static TPM2_ECDH_ZGen_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_ECDH_ZGen_REQUEST.class);
+        return buf.createObj(TPM2_ECDH_ZGen_REQUEST::new);
     }
 
     @Override
@@ -89,6 +93,24 @@ public class TPM2_ECDH_ZGen_REQUEST extends ReqStructure
         _p.add(d, "TPMS_ECC_POINT", "inPoint", inPoint);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_ECDH_ZGen_REQUEST that = (TPM2_ECDH_ZGen_REQUEST)obj;
+        return Objects.equals(keyHandle, that.keyHandle)
+            && Objects.equals(inPoint, that.inPoint);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(keyHandle);
+        _hash = 31 * _hash + Objects.hashCode(inPoint);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
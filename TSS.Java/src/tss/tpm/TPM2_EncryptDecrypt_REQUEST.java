@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -76,6 +76,10 @@ public class TPM2_EncryptDecrypt_REQUEST extends ReqStructure
         inData = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 1 + mode.wireSize() + sizedByteBufWireSize(ivIn, 2) + sizedByteBufWireSize(inData, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -87,7 +91,7 @@ public class TPM2_EncryptDecrypt_REQUEST extends ReqStructure
      */
     public static TPM2_EncryptDecrypt_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_EncryptDecrypt_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_EncryptDecrypt_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -102,7 +106,7 @@ public class TPM2_EncryptDecrypt_REQUEST extends ReqStructure
      */
     public static TPM2_EncryptDecrypt_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_EncryptDecrypt_REQUEST.class);
+        return buf.createObj(TPM2_EncryptDecrypt_REQUEST::new);
     }
 
     @Override
@@ -124,6 +128,30 @@ public class TPM2_EncryptDecrypt_REQUEST extends ReqStructure
         _p.add(d, "byte[]", "inData", inData);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_EncryptDecrypt_REQUEST that = (TPM2_EncryptDecrypt_REQUEST)obj;
+        return Objects.equals(keyHandle, that.keyHandle)
+            && decrypt == that.decrypt
+            && Objects.equals(mode, that.mode)
+            && Arrays.equals(ivIn, that.ivIn)
+            && Arrays.equals(inData, that.inData);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(keyHandle);
+        _hash = 31 * _hash + Byte.hashCode(decrypt);
+        _hash = 31 * _hash + Objects.hashCode(mode);
+        _hash = 31 * _hash + Arrays.hashCode(ivIn);
+        _hash = 31 * _hash + Arrays.hashCode(inData);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -62,6 +62,10 @@ public class TPM2_EvictControl_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { persistentHandle = TPM_HANDLE.fromTpm(buf); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return persistentHandle.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -73,7 +77,7 @@ public class TPM2_EvictControl_REQUEST extends ReqStructure
      */
     public static TPM2_EvictControl_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_EvictControl_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_EvictControl_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -88,7 +92,7 @@ public class TPM2_EvictControl_REQUEST extends ReqStructure
      */
     public static TPM2_EvictControl_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_EvictControl_REQUEST.class);
+        return buf.createObj(TPM2_EvictControl_REQUEST::new);
     }
 
     @Override
@@ -108,6 +112,26 @@ public class TPM2_EvictControl_REQUEST extends ReqStructure
         _p.add(d, "TPM_HANDLE", "persistentHandle", persistentHandle);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_EvictControl_REQUEST that = (TPM2_EvictControl_REQUEST)obj;
+        return Objects.equals(auth, that.auth)
+            && Objects.equals(objectHandle, that.objectHandle)
+            && Objects.equals(persistentHandle, that.persistentHandle);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(auth);
+        _hash = 31 * _hash + Objects.hashCode(objectHandle);
+        _hash = 31 * _hash + Objects.hashCode(persistentHandle);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 2; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -30,6 +30,10 @@ public class TPM2_FieldUpgradeData_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { fuData = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(fuData, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -41,7 +45,7 @@ public class TPM2_FieldUpgradeData_REQUEST extends ReqStructure
      */
     public static TPM2_FieldUpgradeData_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_FieldUpgradeData_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_FieldUpgradeData_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -56,7 +60,7 @@ public class TPM2_FieldUpgradeData_REQUEST extends ReqStructure
      */
     public static TPM2_FieldUpgradeData_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_FieldUpgradeData_REQUEST.class);
+        return buf.createObj(TPM2_FieldUpgradeData_REQUEST::new);
     }
 
     @Override
@@ -74,6 +78,21 @@ public class TPM2_FieldUpgradeData_REQUEST extends ReqStructure
         _p.add(d, "byte[]", "fuData", fuData);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_FieldUpgradeData_REQUEST that = (TPM2_FieldUpgradeData_REQUEST)obj;
+        return Arrays.equals(fuData, that.fuData);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(fuData);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -79,10 +79,14 @@ public class TPM2_FieldUpgradeStart_REQUEST extends ReqStructure
     {
         fuDigest = buf.readSizedByteBuf();
         TPM_ALG_ID manifestSignatureSigAlg = TPM_ALG_ID.fromTpm(buf);
-        manifestSignature = UnionFactory.create("TPMU_SIGNATURE", manifestSignatureSigAlg);
+        manifestSignature = UnionFactory.createTPMU_SIGNATURE(manifestSignatureSigAlg);
         manifestSignature.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedByteBufWireSize(fuDigest, 2) + manifestSignature.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -94,7 +98,7 @@ public class TPM2_FieldUpgradeStart_REQUEST extends ReqStructure
      */
     public static TPM2_FieldUpgradeStart_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_FieldUpgradeStart_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_FieldUpgradeStart_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -109,7 +113,7 @@ public class TPM2_FieldUpgradeStart_REQUEST extends ReqStructure
      */
     public static TPM2_FieldUpgradeStart_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_FieldUpgradeStart_REQUEST.class);
+        return buf.createObj(TPM2_FieldUpgradeStart_REQUEST::new);
     }
 
     @Override
@@ -130,6 +134,28 @@ public class TPM2_FieldUpgradeStart_REQUEST extends ReqStructure
         _p.add(d, "TPMU_SIGNATURE", "manifestSignature", manifestSignature);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_FieldUpgradeStart_REQUEST that = (TPM2_FieldUpgradeStart_REQUEST)obj;
+        return Objects.equals(authorization, that.authorization)
+            && Objects.equals(keyHandle, that.keyHandle)
+            && Arrays.equals(fuDigest, that.fuDigest)
+            && Objects.equals(manifestSignature, that.manifestSignature);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(authorization);
+        _hash = 31 * _hash + Objects.hashCode(keyHandle);
+        _hash = 31 * _hash + Arrays.hashCode(fuDigest);
+        _hash = 31 * _hash + Objects.hashCode(manifestSignature);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 2; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -30,6 +30,10 @@ public class TPM2_FirmwareRead_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { sequenceNumber = buf.readInt(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 4; }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -41,7 +45,7 @@ public class TPM2_FirmwareRead_REQUEST extends ReqStructure
      */
     public static TPM2_FirmwareRead_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_FirmwareRead_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_FirmwareRead_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -56,7 +60,7 @@ public class TPM2_FirmwareRead_REQUEST extends ReqStructure
      */
     public static TPM2_FirmwareRead_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_FirmwareRead_REQUEST.class);
+        return buf.createObj(TPM2_FirmwareRead_REQUEST::new);
     }
 
     @Override
@@ -73,6 +77,21 @@ public class TPM2_FirmwareRead_REQUEST extends ReqStructure
     {
         _p.add(d, "int", "sequenceNumber", sequenceNumber);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_FirmwareRead_REQUEST that = (TPM2_FirmwareRead_REQUEST)obj;
+        return sequenceNumber == that.sequenceNumber;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Integer.hashCode(sequenceNumber);
+    }
 }
 
 //<<<
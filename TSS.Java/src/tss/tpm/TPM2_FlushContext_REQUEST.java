@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -32,6 +32,10 @@ public class TPM2_FlushContext_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { flushHandle = TPM_HANDLE.fromTpm(buf); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return flushHandle.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -43,7 +47,7 @@ public class TPM2_FlushContext_REQUEST extends ReqStructure
      */
     public static TPM2_FlushContext_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_FlushContext_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_FlushContext_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -58,7 +62,7 @@ public class TPM2_FlushContext_REQUEST extends ReqStructure
      */
     public static TPM2_FlushContext_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_FlushContext_REQUEST.class);
+        return buf.createObj(TPM2_FlushContext_REQUEST::new);
     }
 
     @Override
@@ -75,6 +79,21 @@ public class TPM2_FlushContext_REQUEST extends ReqStructure
     {
         _p.add(d, "TPM_HANDLE", "flushHandle", flushHandle);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_FlushContext_REQUEST that = (TPM2_FlushContext_REQUEST)obj;
+        return Objects.equals(flushHandle, that.flushHandle);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(flushHandle);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -50,6 +50,10 @@ public class TPM2_GetCapability_REQUEST extends ReqStructure
         propertyCount = buf.readInt();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 8 + capability.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -61,7 +65,7 @@ public class TPM2_GetCapability_REQUEST extends ReqStructure
      */
     public static TPM2_GetCapability_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_GetCapability_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_GetCapability_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -76,7 +80,7 @@ public class TPM2_GetCapability_REQUEST extends ReqStructure
      */
     public static TPM2_GetCapability_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_GetCapability_REQUEST.class);
+        return buf.createObj(TPM2_GetCapability_REQUEST::new);
     }
 
     @Override
@@ -95,6 +99,26 @@ public class TPM2_GetCapability_REQUEST extends ReqStructure
         _p.add(d, "int", "property", property);
         _p.add(d, "int", "propertyCount", propertyCount);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_GetCapability_REQUEST that = (TPM2_GetCapability_REQUEST)obj;
+        return Objects.equals(capability, that.capability)
+            && property == that.property
+            && propertyCount == that.propertyCount;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(capability);
+        _hash = 31 * _hash + Integer.hashCode(property);
+        _hash = 31 * _hash + Integer.hashCode(propertyCount);
+        return _hash;
+    }
 }
 
 //<<<
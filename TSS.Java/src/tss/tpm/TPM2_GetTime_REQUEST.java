@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -76,10 +76,14 @@ public class TPM2_GetTime_REQUEST extends ReqStructure
     {
         qualifyingData = buf.readSizedByteBuf();
         TPM_ALG_ID inSchemeScheme = TPM_ALG_ID.fromTpm(buf);
-        inScheme = UnionFactory.create("TPMU_SIG_SCHEME", inSchemeScheme);
+        inScheme = UnionFactory.createTPMU_SIG_SCHEME(inSchemeScheme);
         inScheme.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedByteBufWireSize(qualifyingData, 2) + inScheme.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -91,7 +95,7 @@ public class TPM2_GetTime_REQUEST extends ReqStructure
      */
     public static TPM2_GetTime_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_GetTime_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_GetTime_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -106,7 +110,7 @@ public class TPM2_GetTime_REQUEST extends ReqStructure
      */
     public static TPM2_GetTime_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_GetTime_REQUEST.class);
+        return buf.createObj(TPM2_GetTime_REQUEST::new);
     }
 
     @Override
@@ -127,6 +131,28 @@ public class TPM2_GetTime_REQUEST extends ReqStructure
         _p.add(d, "TPMU_SIG_SCHEME", "inScheme", inScheme);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_GetTime_REQUEST that = (TPM2_GetTime_REQUEST)obj;
+        return Objects.equals(privacyAdminHandle, that.privacyAdminHandle)
+            && Objects.equals(signHandle, that.signHandle)
+            && Arrays.equals(qualifyingData, that.qualifyingData)
+            && Objects.equals(inScheme, that.inScheme);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(privacyAdminHandle);
+        _hash = 31 * _hash + Objects.hashCode(signHandle);
+        _hash = 31 * _hash + Arrays.hashCode(qualifyingData);
+        _hash = 31 * _hash + Objects.hashCode(inScheme);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 2; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -60,6 +60,10 @@ public class TPM2_HMAC_Start_REQUEST extends ReqStructure
         hashAlg = TPM_ALG_ID.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(auth, 2) + hashAlg.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -71,7 +75,7 @@ public class TPM2_HMAC_Start_REQUEST extends ReqStructure
      */
     public static TPM2_HMAC_Start_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_HMAC_Start_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_HMAC_Start_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -86,7 +90,7 @@ public class TPM2_HMAC_Start_REQUEST extends ReqStructure
      */
     public static TPM2_HMAC_Start_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_HMAC_Start_REQUEST.class);
+        return buf.createObj(TPM2_HMAC_Start_REQUEST::new);
     }
 
     @Override
@@ -106,6 +110,26 @@ public class TPM2_HMAC_Start_REQUEST extends ReqStructure
         _p.add(d, "TPM_ALG_ID", "hashAlg", hashAlg);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_HMAC_Start_REQUEST that = (TPM2_HMAC_Start_REQUEST)obj;
+        return Objects.equals(handle, that.handle)
+            && Arrays.equals(auth, that.auth)
+            && Objects.equals(hashAlg, that.hashAlg);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(handle);
+        _hash = 31 * _hash + Arrays.hashCode(auth);
+        _hash = 31 * _hash + Objects.hashCode(hashAlg);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -50,6 +50,10 @@ public class TPM2_HashSequenceStart_REQUEST extends ReqStructure
         hashAlg = TPM_ALG_ID.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(auth, 2) + hashAlg.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -61,7 +65,7 @@ public class TPM2_HashSequenceStart_REQUEST extends ReqStructure
      */
     public static TPM2_HashSequenceStart_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_HashSequenceStart_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_HashSequenceStart_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -76,7 +80,7 @@ public class TPM2_HashSequenceStart_REQUEST extends ReqStructure
      */
     public static TPM2_HashSequenceStart_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_HashSequenceStart_REQUEST.class);
+        return buf.createObj(TPM2_HashSequenceStart_REQUEST::new);
     }
 
     @Override
@@ -95,6 +99,24 @@ public class TPM2_HashSequenceStart_REQUEST extends ReqStructure
         _p.add(d, "TPM_ALG_ID", "hashAlg", hashAlg);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_HashSequenceStart_REQUEST that = (TPM2_HashSequenceStart_REQUEST)obj;
+        return Arrays.equals(auth, that.auth)
+            && Objects.equals(hashAlg, that.hashAlg);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(auth);
+        _hash = 31 * _hash + Objects.hashCode(hashAlg);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -54,6 +54,10 @@ public class TPM2_Hash_REQUEST extends ReqStructure
         hierarchy = TPM_HANDLE.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(data, 2) + hashAlg.wireSize() + hierarchy.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -65,7 +69,7 @@ public class TPM2_Hash_REQUEST extends ReqStructure
      */
     public static TPM2_Hash_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_Hash_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_Hash_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -80,7 +84,7 @@ public class TPM2_Hash_REQUEST extends ReqStructure
      */
     public static TPM2_Hash_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_Hash_REQUEST.class);
+        return buf.createObj(TPM2_Hash_REQUEST::new);
     }
 
     @Override
@@ -100,6 +104,26 @@ public class TPM2_Hash_REQUEST extends ReqStructure
         _p.add(d, "TPM_HANDLE", "hierarchy", hierarchy);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_Hash_REQUEST that = (TPM2_Hash_REQUEST)obj;
+        return Arrays.equals(data, that.data)
+            && Objects.equals(hashAlg, that.hashAlg)
+            && Objects.equals(hierarchy, that.hierarchy);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(data);
+        _hash = 31 * _hash + Objects.hashCode(hashAlg);
+        _hash = 31 * _hash + Objects.hashCode(hierarchy);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
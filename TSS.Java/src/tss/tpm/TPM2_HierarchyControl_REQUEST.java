@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -63,6 +63,10 @@ public class TPM2_HierarchyControl_REQUEST extends ReqStructure
         state = buf.readByte();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 1 + enable.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -74,7 +78,7 @@ public class TPM2_HierarchyControl_REQUEST extends ReqStructure
      */
     public static TPM2_HierarchyControl_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_HierarchyControl_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_HierarchyControl_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -89,7 +93,7 @@ public class TPM2_HierarchyControl_REQUEST extends ReqStructure
      */
     public static TPM2_HierarchyControl_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_HierarchyControl_REQUEST.class);
+        return buf.createObj(TPM2_HierarchyControl_REQUEST::new);
     }
 
     @Override
@@ -109,6 +113,26 @@ public class TPM2_HierarchyControl_REQUEST extends ReqStructure
         _p.add(d, "byte", "state", state);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_HierarchyControl_REQUEST that = (TPM2_HierarchyControl_REQUEST)obj;
+        return Objects.equals(authHandle, that.authHandle)
+            && Objects.equals(enable, that.enable)
+            && state == that.state;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(authHandle);
+        _hash = 31 * _hash + Objects.hashCode(enable);
+        _hash = 31 * _hash + Byte.hashCode(state);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -94,12 +94,16 @@ public class TPM2_Import_REQUEST extends ReqStructure
     public void initFromTpm(TpmBuffer buf)
     {
         encryptionKey = buf.readSizedByteBuf();
-        objectPublic = buf.createSizedObj(TPMT_PUBLIC.class);
+        objectPublic = buf.createSizedObj(TPMT_PUBLIC::new);
         duplicate = TPM2B_PRIVATE.fromTpm(buf);
         inSymSeed = buf.readSizedByteBuf();
         symmetricAlg = TPMT_SYM_DEF_OBJECT.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(encryptionKey, 2) + sizedObjWireSize(objectPublic) + duplicate.wireSize() + sizedByteBufWireSize(inSymSeed, 2) + symmetricAlg.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -111,7 +115,7 @@ public class TPM2_Import_REQUEST extends ReqStructure
      */
     public static TPM2_Import_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_Import_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_Import_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -126,7 +130,7 @@ public class TPM2_Import_REQUEST extends ReqStructure
      */
     public static TPM2_Import_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_Import_REQUEST.class);
+        return buf.createObj(TPM2_Import_REQUEST::new);
     }
 
     @Override
@@ -149,6 +153,32 @@ public class TPM2_Import_REQUEST extends ReqStructure
         _p.add(d, "TPMT_SYM_DEF_OBJECT", "symmetricAlg", symmetricAlg);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_Import_REQUEST that = (TPM2_Import_REQUEST)obj;
+        return Objects.equals(parentHandle, that.parentHandle)
+            && Arrays.equals(encryptionKey, that.encryptionKey)
+            && Objects.equals(objectPublic, that.objectPublic)
+            && Objects.equals(duplicate, that.duplicate)
+            && Arrays.equals(inSymSeed, that.inSymSeed)
+            && Objects.equals(symmetricAlg, that.symmetricAlg);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(parentHandle);
+        _hash = 31 * _hash + Arrays.hashCode(encryptionKey);
+        _hash = 31 * _hash + Objects.hashCode(objectPublic);
+        _hash = 31 * _hash + Objects.hashCode(duplicate);
+        _hash = 31 * _hash + Arrays.hashCode(inSymSeed);
+        _hash = 31 * _hash + Objects.hashCode(symmetricAlg);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
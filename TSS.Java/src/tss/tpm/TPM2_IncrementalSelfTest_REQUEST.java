@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -24,7 +24,11 @@ public class TPM2_IncrementalSelfTest_REQUEST extends ReqStructure
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { toTest = buf.readObjArr(TPM_ALG_ID.class); }
+    public void initFromTpm(TpmBuffer buf) { toTest = buf.readObjArr(TPM_ALG_ID::new, TPM_ALG_ID[]::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(toTest); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -37,7 +41,7 @@ public class TPM2_IncrementalSelfTest_REQUEST extends ReqStructure
      */
     public static TPM2_IncrementalSelfTest_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_IncrementalSelfTest_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_IncrementalSelfTest_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -52,7 +56,7 @@ public class TPM2_IncrementalSelfTest_REQUEST extends ReqStructure
      */
     public static TPM2_IncrementalSelfTest_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_IncrementalSelfTest_REQUEST.class);
+        return buf.createObj(TPM2_IncrementalSelfTest_REQUEST::new);
     }
 
     @Override
@@ -70,6 +74,21 @@ public class TPM2_IncrementalSelfTest_REQUEST extends ReqStructure
         _p.add(d, "TPM_ALG_ID[]", "toTest", toTest);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_IncrementalSelfTest_REQUEST that = (TPM2_IncrementalSelfTest_REQUEST)obj;
+        return Arrays.equals(toTest, that.toTest);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(toTest);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(4, 2); }
 }
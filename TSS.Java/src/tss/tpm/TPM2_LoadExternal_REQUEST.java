@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -47,11 +47,15 @@ public class TPM2_LoadExternal_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        inPrivate = buf.createSizedObj(TPMT_SENSITIVE.class);
-        inPublic = buf.createSizedObj(TPMT_PUBLIC.class);
+        inPrivate = buf.createSizedObj(TPMT_SENSITIVE::new);
+        inPublic = buf.createSizedObj(TPMT_PUBLIC::new);
         hierarchy = TPM_HANDLE.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(inPrivate) + sizedObjWireSize(inPublic) + hierarchy.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -63,7 +67,7 @@ public class TPM2_LoadExternal_REQUEST extends ReqStructure
      */
     public static TPM2_LoadExternal_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_LoadExternal_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_LoadExternal_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -78,7 +82,7 @@ public class TPM2_LoadExternal_REQUEST extends ReqStructure
      */
     public static TPM2_LoadExternal_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_LoadExternal_REQUEST.class);
+        return buf.createObj(TPM2_LoadExternal_REQUEST::new);
     }
 
     @Override
@@ -98,6 +102,26 @@ public class TPM2_LoadExternal_REQUEST extends ReqStructure
         _p.add(d, "TPM_HANDLE", "hierarchy", hierarchy);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_LoadExternal_REQUEST that = (TPM2_LoadExternal_REQUEST)obj;
+        return Objects.equals(inPrivate, that.inPrivate)
+            && Objects.equals(inPublic, that.inPublic)
+            && Objects.equals(hierarchy, that.hierarchy);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(inPrivate);
+        _hash = 31 * _hash + Objects.hashCode(inPublic);
+        _hash = 31 * _hash + Objects.hashCode(hierarchy);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -53,9 +53,13 @@ public class TPM2_Load_REQUEST extends ReqStructure
     public void initFromTpm(TpmBuffer buf)
     {
         inPrivate = TPM2B_PRIVATE.fromTpm(buf);
-        inPublic = buf.createSizedObj(TPMT_PUBLIC.class);
+        inPublic = buf.createSizedObj(TPMT_PUBLIC::new);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return inPrivate.wireSize() + sizedObjWireSize(inPublic); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -67,7 +71,7 @@ public class TPM2_Load_REQUEST extends ReqStructure
      */
     public static TPM2_Load_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_Load_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_Load_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -82,7 +86,7 @@ public class TPM2_Load_REQUEST extends ReqStructure
      */
     public static TPM2_Load_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_Load_REQUEST.class);
+        return buf.createObj(TPM2_Load_REQUEST::new);
     }
 
     @Override
@@ -102,6 +106,26 @@ public class TPM2_Load_REQUEST extends ReqStructure
         _p.add(d, "TPMT_PUBLIC", "inPublic", inPublic);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_Load_REQUEST that = (TPM2_Load_REQUEST)obj;
+        return Objects.equals(parentHandle, that.parentHandle)
+            && Objects.equals(inPrivate, that.inPrivate)
+            && Objects.equals(inPublic, that.inPublic);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(parentHandle);
+        _hash = 31 * _hash + Objects.hashCode(inPrivate);
+        _hash = 31 * _hash + Objects.hashCode(inPublic);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -59,6 +59,10 @@ public class TPM2_MAC_REQUEST extends ReqStructure
         inScheme = TPM_ALG_ID.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(buffer, 2) + inScheme.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -70,7 +74,7 @@ public class TPM2_MAC_REQUEST extends ReqStructure
      */
     public static TPM2_MAC_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_MAC_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_MAC_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -85,7 +89,7 @@ public class TPM2_MAC_REQUEST extends ReqStructure
      */
     public static TPM2_MAC_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_MAC_REQUEST.class);
+        return buf.createObj(TPM2_MAC_REQUEST::new);
     }
 
     @Override
@@ -105,6 +109,26 @@ public class TPM2_MAC_REQUEST extends ReqStructure
         _p.add(d, "TPM_ALG_ID", "inScheme", inScheme);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_MAC_REQUEST that = (TPM2_MAC_REQUEST)obj;
+        return Objects.equals(handle, that.handle)
+            && Arrays.equals(buffer, that.buffer)
+            && Objects.equals(inScheme, that.inScheme);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(handle);
+        _hash = 31 * _hash + Arrays.hashCode(buffer);
+        _hash = 31 * _hash + Objects.hashCode(inScheme);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -54,6 +54,10 @@ public class TPM2_MakeCredential_REQUEST extends ReqStructure
         objectName = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(credential, 2) + sizedByteBufWireSize(objectName, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -65,7 +69,7 @@ public class TPM2_MakeCredential_REQUEST extends ReqStructure
      */
     public static TPM2_MakeCredential_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_MakeCredential_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_MakeCredential_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -80,7 +84,7 @@ public class TPM2_MakeCredential_REQUEST extends ReqStructure
      */
     public static TPM2_MakeCredential_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_MakeCredential_REQUEST.class);
+        return buf.createObj(TPM2_MakeCredential_REQUEST::new);
     }
 
     @Override
@@ -100,6 +104,26 @@ public class TPM2_MakeCredential_REQUEST extends ReqStructure
         _p.add(d, "byte[]", "objectName", objectName);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_MakeCredential_REQUEST that = (TPM2_MakeCredential_REQUEST)obj;
+        return Objects.equals(handle, that.handle)
+            && Arrays.equals(credential, that.credential)
+            && Arrays.equals(objectName, that.objectName);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(handle);
+        _hash = 31 * _hash + Arrays.hashCode(credential);
+        _hash = 31 * _hash + Arrays.hashCode(objectName);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
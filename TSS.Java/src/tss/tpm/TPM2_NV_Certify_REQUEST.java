@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -102,12 +102,16 @@ public class TPM2_NV_Certify_REQUEST extends ReqStructure
     {
         qualifyingData = buf.readSizedByteBuf();
         TPM_ALG_ID inSchemeScheme = TPM_ALG_ID.fromTpm(buf);
-        inScheme = UnionFactory.create("TPMU_SIG_SCHEME", inSchemeScheme);
+        inScheme = UnionFactory.createTPMU_SIG_SCHEME(inSchemeScheme);
         inScheme.initFromTpm(buf);
         size = buf.readShort();
         offset = buf.readShort();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 6 + sizedByteBufWireSize(qualifyingData, 2) + inScheme.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -119,7 +123,7 @@ public class TPM2_NV_Certify_REQUEST extends ReqStructure
      */
     public static TPM2_NV_Certify_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_NV_Certify_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_NV_Certify_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -134,7 +138,7 @@ public class TPM2_NV_Certify_REQUEST extends ReqStructure
      */
     public static TPM2_NV_Certify_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_NV_Certify_REQUEST.class);
+        return buf.createObj(TPM2_NV_Certify_REQUEST::new);
     }
 
     @Override
@@ -158,6 +162,34 @@ public class TPM2_NV_Certify_REQUEST extends ReqStructure
         _p.add(d, "int", "offset", offset);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_NV_Certify_REQUEST that = (TPM2_NV_Certify_REQUEST)obj;
+        return Objects.equals(signHandle, that.signHandle)
+            && Objects.equals(authHandle, that.authHandle)
+            && Objects.equals(nvIndex, that.nvIndex)
+            && Arrays.equals(qualifyingData, that.qualifyingData)
+            && Objects.equals(inScheme, that.inScheme)
+            && size == that.size
+            && offset == that.offset;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(signHandle);
+        _hash = 31 * _hash + Objects.hashCode(authHandle);
+        _hash = 31 * _hash + Objects.hashCode(nvIndex);
+        _hash = 31 * _hash + Arrays.hashCode(qualifyingData);
+        _hash = 31 * _hash + Objects.hashCode(inScheme);
+        _hash = 31 * _hash + Integer.hashCode(size);
+        _hash = 31 * _hash + Integer.hashCode(offset);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 3; }
 
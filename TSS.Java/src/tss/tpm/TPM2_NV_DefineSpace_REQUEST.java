@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -53,9 +53,13 @@ public class TPM2_NV_DefineSpace_REQUEST extends ReqStructure
     public void initFromTpm(TpmBuffer buf)
     {
         auth = buf.readSizedByteBuf();
-        publicInfo = buf.createSizedObj(TPMS_NV_PUBLIC.class);
+        publicInfo = buf.createSizedObj(TPMS_NV_PUBLIC::new);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(auth, 2) + sizedObjWireSize(publicInfo); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -67,7 +71,7 @@ public class TPM2_NV_DefineSpace_REQUEST extends ReqStructure
      */
     public static TPM2_NV_DefineSpace_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_NV_DefineSpace_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_NV_DefineSpace_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -82,7 +86,7 @@ public class TPM2_NV_DefineSpace_REQUEST extends ReqStructure
      */
     public static TPM2_NV_DefineSpace_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_NV_DefineSpace_REQUEST.class);
+        return buf.createObj(TPM2_NV_DefineSpace_REQUEST::new);
     }
 
     @Override
@@ -102,6 +106,26 @@ public class TPM2_NV_DefineSpace_REQUEST extends ReqStructure
         _p.add(d, "TPMS_NV_PUBLIC", "publicInfo", publicInfo);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_NV_DefineSpace_REQUEST that = (TPM2_NV_DefineSpace_REQUEST)obj;
+        return Objects.equals(authHandle, that.authHandle)
+            && Arrays.equals(auth, that.auth)
+            && Objects.equals(publicInfo, that.publicInfo);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(authHandle);
+        _hash = 31 * _hash + Arrays.hashCode(auth);
+        _hash = 31 * _hash + Objects.hashCode(publicInfo);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -54,6 +54,10 @@ public class TPM2_NV_Extend_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { data = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(data, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -65,7 +69,7 @@ public class TPM2_NV_Extend_REQUEST extends ReqStructure
      */
     public static TPM2_NV_Extend_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_NV_Extend_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_NV_Extend_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -80,7 +84,7 @@ public class TPM2_NV_Extend_REQUEST extends ReqStructure
      */
     public static TPM2_NV_Extend_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_NV_Extend_REQUEST.class);
+        return buf.createObj(TPM2_NV_Extend_REQUEST::new);
     }
 
     @Override
@@ -100,6 +104,26 @@ public class TPM2_NV_Extend_REQUEST extends ReqStructure
         _p.add(d, "byte[]", "data", data);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_NV_Extend_REQUEST that = (TPM2_NV_Extend_REQUEST)obj;
+        return Objects.equals(authHandle, that.authHandle)
+            && Objects.equals(nvIndex, that.nvIndex)
+            && Arrays.equals(data, that.data);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(authHandle);
+        _hash = 31 * _hash + Objects.hashCode(nvIndex);
+        _hash = 31 * _hash + Arrays.hashCode(data);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 2; }
 
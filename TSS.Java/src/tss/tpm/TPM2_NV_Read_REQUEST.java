@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -68,6 +68,10 @@ public class TPM2_NV_Read_REQUEST extends ReqStructure
         offset = buf.readShort();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 4; }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -79,7 +83,7 @@ public class TPM2_NV_Read_REQUEST extends ReqStructure
      */
     public static TPM2_NV_Read_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_NV_Read_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_NV_Read_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -94,7 +98,7 @@ public class TPM2_NV_Read_REQUEST extends ReqStructure
      */
     public static TPM2_NV_Read_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_NV_Read_REQUEST.class);
+        return buf.createObj(TPM2_NV_Read_REQUEST::new);
     }
 
     @Override
@@ -115,6 +119,28 @@ public class TPM2_NV_Read_REQUEST extends ReqStructure
         _p.add(d, "int", "offset", offset);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_NV_Read_REQUEST that = (TPM2_NV_Read_REQUEST)obj;
+        return Objects.equals(authHandle, that.authHandle)
+            && Objects.equals(nvIndex, that.nvIndex)
+            && size == that.size
+            && offset == that.offset;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(authHandle);
+        _hash = 31 * _hash + Objects.hashCode(nvIndex);
+        _hash = 31 * _hash + Integer.hashCode(size);
+        _hash = 31 * _hash + Integer.hashCode(offset);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 2; }
 
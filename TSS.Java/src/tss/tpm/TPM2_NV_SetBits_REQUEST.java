@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -55,6 +55,10 @@ public class TPM2_NV_SetBits_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { bits = buf.readInt64(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 8; }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -66,7 +70,7 @@ public class TPM2_NV_SetBits_REQUEST extends ReqStructure
      */
     public static TPM2_NV_SetBits_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_NV_SetBits_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_NV_SetBits_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -81,7 +85,7 @@ public class TPM2_NV_SetBits_REQUEST extends ReqStructure
      */
     public static TPM2_NV_SetBits_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_NV_SetBits_REQUEST.class);
+        return buf.createObj(TPM2_NV_SetBits_REQUEST::new);
     }
 
     @Override
@@ -101,6 +105,26 @@ public class TPM2_NV_SetBits_REQUEST extends ReqStructure
         _p.add(d, "long", "bits", bits);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_NV_SetBits_REQUEST that = (TPM2_NV_SetBits_REQUEST)obj;
+        return Objects.equals(authHandle, that.authHandle)
+            && Objects.equals(nvIndex, that.nvIndex)
+            && bits == that.bits;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(authHandle);
+        _hash = 31 * _hash + Objects.hashCode(nvIndex);
+        _hash = 31 * _hash + Long.hashCode(bits);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 2; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -67,6 +67,10 @@ public class TPM2_NV_Write_REQUEST extends ReqStructure
         offset = buf.readShort();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedByteBufWireSize(data, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -78,7 +82,7 @@ public class TPM2_NV_Write_REQUEST extends ReqStructure
      */
     public static TPM2_NV_Write_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_NV_Write_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_NV_Write_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -93,7 +97,7 @@ public class TPM2_NV_Write_REQUEST extends ReqStructure
      */
     public static TPM2_NV_Write_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_NV_Write_REQUEST.class);
+        return buf.createObj(TPM2_NV_Write_REQUEST::new);
     }
 
     @Override
@@ -114,6 +118,28 @@ public class TPM2_NV_Write_REQUEST extends ReqStructure
         _p.add(d, "int", "offset", offset);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_NV_Write_REQUEST that = (TPM2_NV_Write_REQUEST)obj;
+        return Objects.equals(authHandle, that.authHandle)
+            && Objects.equals(nvIndex, that.nvIndex)
+            && Arrays.equals(data, that.data)
+            && offset == that.offset;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(authHandle);
+        _hash = 31 * _hash + Objects.hashCode(nvIndex);
+        _hash = 31 * _hash + Arrays.hashCode(data);
+        _hash = 31 * _hash + Integer.hashCode(offset);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 2; }
 
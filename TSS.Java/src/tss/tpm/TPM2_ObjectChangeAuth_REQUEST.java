@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -52,6 +52,10 @@ public class TPM2_ObjectChangeAuth_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { newAuth = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(newAuth, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -63,7 +67,7 @@ public class TPM2_ObjectChangeAuth_REQUEST extends ReqStructure
      */
     public static TPM2_ObjectChangeAuth_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_ObjectChangeAuth_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_ObjectChangeAuth_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -78,7 +82,7 @@ public class TPM2_ObjectChangeAuth_REQUEST extends ReqStructure
      */
     public static TPM2_ObjectChangeAuth_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_ObjectChangeAuth_REQUEST.class);
+        return buf.createObj(TPM2_ObjectChangeAuth_REQUEST::new);
     }
 
     @Override
@@ -98,6 +102,26 @@ public class TPM2_ObjectChangeAuth_REQUEST extends ReqStructure
         _p.add(d, "byte[]", "newAuth", newAuth);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_ObjectChangeAuth_REQUEST that = (TPM2_ObjectChangeAuth_REQUEST)obj;
+        return Objects.equals(objectHandle, that.objectHandle)
+            && Objects.equals(parentHandle, that.parentHandle)
+            && Arrays.equals(newAuth, that.newAuth);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(objectHandle);
+        _hash = 31 * _hash + Objects.hashCode(parentHandle);
+        _hash = 31 * _hash + Arrays.hashCode(newAuth);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 2; }
 
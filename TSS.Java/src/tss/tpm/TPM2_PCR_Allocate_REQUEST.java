@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -40,7 +40,11 @@ public class TPM2_PCR_Allocate_REQUEST extends ReqStructure
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { pcrAllocation = buf.readObjArr(TPMS_PCR_SELECTION.class); }
+    public void initFromTpm(TpmBuffer buf) { pcrAllocation = buf.readObjArr(TPMS_PCR_SELECTION::new, TPMS_PCR_SELECTION[]::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(pcrAllocation); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -53,7 +57,7 @@ public class TPM2_PCR_Allocate_REQUEST extends ReqStructure
      */
     public static TPM2_PCR_Allocate_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PCR_Allocate_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PCR_Allocate_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -68,7 +72,7 @@ public class TPM2_PCR_Allocate_REQUEST extends ReqStructure
      */
     public static TPM2_PCR_Allocate_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PCR_Allocate_REQUEST.class);
+        return buf.createObj(TPM2_PCR_Allocate_REQUEST::new);
     }
 
     @Override
@@ -87,6 +91,24 @@ public class TPM2_PCR_Allocate_REQUEST extends ReqStructure
         _p.add(d, "TPMS_PCR_SELECTION[]", "pcrAllocation", pcrAllocation);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PCR_Allocate_REQUEST that = (TPM2_PCR_Allocate_REQUEST)obj;
+        return Objects.equals(authHandle, that.authHandle)
+            && Arrays.equals(pcrAllocation, that.pcrAllocation);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(authHandle);
+        _hash = 31 * _hash + Arrays.hashCode(pcrAllocation);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
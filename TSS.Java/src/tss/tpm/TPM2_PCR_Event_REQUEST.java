@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -40,6 +40,10 @@ public class TPM2_PCR_Event_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { eventData = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(eventData, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -51,7 +55,7 @@ public class TPM2_PCR_Event_REQUEST extends ReqStructure
      */
     public static TPM2_PCR_Event_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PCR_Event_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PCR_Event_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -66,7 +70,7 @@ public class TPM2_PCR_Event_REQUEST extends ReqStructure
      */
     public static TPM2_PCR_Event_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PCR_Event_REQUEST.class);
+        return buf.createObj(TPM2_PCR_Event_REQUEST::new);
     }
 
     @Override
@@ -85,6 +89,24 @@ public class TPM2_PCR_Event_REQUEST extends ReqStructure
         _p.add(d, "byte[]", "eventData", eventData);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PCR_Event_REQUEST that = (TPM2_PCR_Event_REQUEST)obj;
+        return Objects.equals(pcrHandle, that.pcrHandle)
+            && Arrays.equals(eventData, that.eventData);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(pcrHandle);
+        _hash = 31 * _hash + Arrays.hashCode(eventData);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -42,7 +42,11 @@ public class TPM2_PCR_Extend_REQUEST extends ReqStructure
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { digests = buf.readObjArr(TPMT_HA.class); }
+    public void initFromTpm(TpmBuffer buf) { digests = buf.readObjArr(TPMT_HA::new, TPMT_HA[]::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(digests); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -55,7 +59,7 @@ public class TPM2_PCR_Extend_REQUEST extends ReqStructure
      */
     public static TPM2_PCR_Extend_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PCR_Extend_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PCR_Extend_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -70,7 +74,7 @@ public class TPM2_PCR_Extend_REQUEST extends ReqStructure
      */
     public static TPM2_PCR_Extend_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PCR_Extend_REQUEST.class);
+        return buf.createObj(TPM2_PCR_Extend_REQUEST::new);
     }
 
     @Override
@@ -89,6 +93,24 @@ public class TPM2_PCR_Extend_REQUEST extends ReqStructure
         _p.add(d, "TPMT_HA[]", "digests", digests);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PCR_Extend_REQUEST that = (TPM2_PCR_Extend_REQUEST)obj;
+        return Objects.equals(pcrHandle, that.pcrHandle)
+            && Arrays.equals(digests, that.digests);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(pcrHandle);
+        _hash = 31 * _hash + Arrays.hashCode(digests);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
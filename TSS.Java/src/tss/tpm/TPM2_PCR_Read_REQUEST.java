@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -24,7 +24,11 @@ public class TPM2_PCR_Read_REQUEST extends ReqStructure
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { pcrSelectionIn = buf.readObjArr(TPMS_PCR_SELECTION.class); }
+    public void initFromTpm(TpmBuffer buf) { pcrSelectionIn = buf.readObjArr(TPMS_PCR_SELECTION::new, TPMS_PCR_SELECTION[]::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(pcrSelectionIn); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -37,7 +41,7 @@ public class TPM2_PCR_Read_REQUEST extends ReqStructure
      */
     public static TPM2_PCR_Read_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PCR_Read_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PCR_Read_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -52,7 +56,7 @@ public class TPM2_PCR_Read_REQUEST extends ReqStructure
      */
     public static TPM2_PCR_Read_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PCR_Read_REQUEST.class);
+        return buf.createObj(TPM2_PCR_Read_REQUEST::new);
     }
 
     @Override
@@ -70,6 +74,21 @@ public class TPM2_PCR_Read_REQUEST extends ReqStructure
         _p.add(d, "TPMS_PCR_SELECTION[]", "pcrSelectionIn", pcrSelectionIn);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PCR_Read_REQUEST that = (TPM2_PCR_Read_REQUEST)obj;
+        return Arrays.equals(pcrSelectionIn, that.pcrSelectionIn);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(pcrSelectionIn);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(4, 3); }
 }
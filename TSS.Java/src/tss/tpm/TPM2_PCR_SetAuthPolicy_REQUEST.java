@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -67,6 +67,10 @@ public class TPM2_PCR_SetAuthPolicy_REQUEST extends ReqStructure
         pcrNum = TPM_HANDLE.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(authPolicy, 2) + hashAlg.wireSize() + pcrNum.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -78,7 +82,7 @@ public class TPM2_PCR_SetAuthPolicy_REQUEST extends ReqStructure
      */
     public static TPM2_PCR_SetAuthPolicy_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PCR_SetAuthPolicy_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PCR_SetAuthPolicy_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -93,7 +97,7 @@ public class TPM2_PCR_SetAuthPolicy_REQUEST extends ReqStructure
      */
     public static TPM2_PCR_SetAuthPolicy_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PCR_SetAuthPolicy_REQUEST.class);
+        return buf.createObj(TPM2_PCR_SetAuthPolicy_REQUEST::new);
     }
 
     @Override
@@ -114,6 +118,28 @@ public class TPM2_PCR_SetAuthPolicy_REQUEST extends ReqStructure
         _p.add(d, "TPM_HANDLE", "pcrNum", pcrNum);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PCR_SetAuthPolicy_REQUEST that = (TPM2_PCR_SetAuthPolicy_REQUEST)obj;
+        return Objects.equals(authHandle, that.authHandle)
+            && Arrays.equals(authPolicy, that.authPolicy)
+            && Objects.equals(hashAlg, that.hashAlg)
+            && Objects.equals(pcrNum, that.pcrNum);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(authHandle);
+        _hash = 31 * _hash + Arrays.hashCode(authPolicy);
+        _hash = 31 * _hash + Objects.hashCode(hashAlg);
+        _hash = 31 * _hash + Objects.hashCode(pcrNum);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
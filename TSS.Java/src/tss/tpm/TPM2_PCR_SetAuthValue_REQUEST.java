@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -40,6 +40,10 @@ public class TPM2_PCR_SetAuthValue_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { auth = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(auth, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -51,7 +55,7 @@ public class TPM2_PCR_SetAuthValue_REQUEST extends ReqStructure
      */
     public static TPM2_PCR_SetAuthValue_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PCR_SetAuthValue_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PCR_SetAuthValue_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -66,7 +70,7 @@ public class TPM2_PCR_SetAuthValue_REQUEST extends ReqStructure
      */
     public static TPM2_PCR_SetAuthValue_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PCR_SetAuthValue_REQUEST.class);
+        return buf.createObj(TPM2_PCR_SetAuthValue_REQUEST::new);
     }
 
     @Override
@@ -85,6 +89,24 @@ public class TPM2_PCR_SetAuthValue_REQUEST extends ReqStructure
         _p.add(d, "byte[]", "auth", auth);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PCR_SetAuthValue_REQUEST that = (TPM2_PCR_SetAuthValue_REQUEST)obj;
+        return Objects.equals(pcrHandle, that.pcrHandle)
+            && Arrays.equals(auth, that.auth);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(pcrHandle);
+        _hash = 31 * _hash + Arrays.hashCode(auth);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
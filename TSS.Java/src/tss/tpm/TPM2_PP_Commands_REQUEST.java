@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -53,10 +53,14 @@ public class TPM2_PP_Commands_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        setList = buf.readObjArr(TPM_CC.class);
-        clearList = buf.readObjArr(TPM_CC.class);
+        setList = buf.readObjArr(TPM_CC::new, TPM_CC[]::new);
+        clearList = buf.readObjArr(TPM_CC::new, TPM_CC[]::new);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(setList) + objArrWireSize(clearList); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -68,7 +72,7 @@ public class TPM2_PP_Commands_REQUEST extends ReqStructure
      */
     public static TPM2_PP_Commands_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PP_Commands_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PP_Commands_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -83,7 +87,7 @@ public class TPM2_PP_Commands_REQUEST extends ReqStructure
      */
     public static TPM2_PP_Commands_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PP_Commands_REQUEST.class);
+        return buf.createObj(TPM2_PP_Commands_REQUEST::new);
     }
 
     @Override
@@ -103,6 +107,26 @@ public class TPM2_PP_Commands_REQUEST extends ReqStructure
         _p.add(d, "TPM_CC[]", "clearList", clearList);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PP_Commands_REQUEST that = (TPM2_PP_Commands_REQUEST)obj;
+        return Objects.equals(auth, that.auth)
+            && Arrays.equals(setList, that.setList)
+            && Arrays.equals(clearList, that.clearList);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(auth);
+        _hash = 31 * _hash + Arrays.hashCode(setList);
+        _hash = 31 * _hash + Arrays.hashCode(clearList);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
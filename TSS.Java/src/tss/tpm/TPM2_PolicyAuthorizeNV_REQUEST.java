@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -63,7 +63,7 @@ public class TPM2_PolicyAuthorizeNV_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyAuthorizeNV_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyAuthorizeNV_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyAuthorizeNV_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -78,7 +78,7 @@ public class TPM2_PolicyAuthorizeNV_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyAuthorizeNV_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PolicyAuthorizeNV_REQUEST.class);
+        return buf.createObj(TPM2_PolicyAuthorizeNV_REQUEST::new);
     }
 
     @Override
@@ -98,6 +98,26 @@ public class TPM2_PolicyAuthorizeNV_REQUEST extends ReqStructure
         _p.add(d, "TPM_HANDLE", "policySession", policySession);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PolicyAuthorizeNV_REQUEST that = (TPM2_PolicyAuthorizeNV_REQUEST)obj;
+        return Objects.equals(authHandle, that.authHandle)
+            && Objects.equals(nvIndex, that.nvIndex)
+            && Objects.equals(policySession, that.policySession);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(authHandle);
+        _hash = 31 * _hash + Objects.hashCode(nvIndex);
+        _hash = 31 * _hash + Objects.hashCode(policySession);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 3; }
 
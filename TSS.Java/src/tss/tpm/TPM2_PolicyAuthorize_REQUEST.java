@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -69,6 +69,10 @@ public class TPM2_PolicyAuthorize_REQUEST extends ReqStructure
         checkTicket = TPMT_TK_VERIFIED.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(approvedPolicy, 2) + sizedByteBufWireSize(policyRef, 2) + sizedByteBufWireSize(keySign, 2) + checkTicket.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -80,7 +84,7 @@ public class TPM2_PolicyAuthorize_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyAuthorize_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyAuthorize_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyAuthorize_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -95,7 +99,7 @@ public class TPM2_PolicyAuthorize_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyAuthorize_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PolicyAuthorize_REQUEST.class);
+        return buf.createObj(TPM2_PolicyAuthorize_REQUEST::new);
     }
 
     @Override
@@ -117,6 +121,30 @@ public class TPM2_PolicyAuthorize_REQUEST extends ReqStructure
         _p.add(d, "TPMT_TK_VERIFIED", "checkTicket", checkTicket);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PolicyAuthorize_REQUEST that = (TPM2_PolicyAuthorize_REQUEST)obj;
+        return Objects.equals(policySession, that.policySession)
+            && Arrays.equals(approvedPolicy, that.approvedPolicy)
+            && Arrays.equals(policyRef, that.policyRef)
+            && Arrays.equals(keySign, that.keySign)
+            && Objects.equals(checkTicket, that.checkTicket);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(policySession);
+        _hash = 31 * _hash + Arrays.hashCode(approvedPolicy);
+        _hash = 31 * _hash + Arrays.hashCode(policyRef);
+        _hash = 31 * _hash + Arrays.hashCode(keySign);
+        _hash = 31 * _hash + Objects.hashCode(checkTicket);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
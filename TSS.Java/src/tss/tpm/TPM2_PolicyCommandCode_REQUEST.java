@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -38,6 +38,10 @@ public class TPM2_PolicyCommandCode_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { code = TPM_CC.fromTpm(buf); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return code.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -49,7 +53,7 @@ public class TPM2_PolicyCommandCode_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyCommandCode_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyCommandCode_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyCommandCode_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -64,7 +68,7 @@ public class TPM2_PolicyCommandCode_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyCommandCode_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PolicyCommandCode_REQUEST.class);
+        return buf.createObj(TPM2_PolicyCommandCode_REQUEST::new);
     }
 
     @Override
@@ -83,6 +87,24 @@ public class TPM2_PolicyCommandCode_REQUEST extends ReqStructure
         _p.add(d, "TPM_CC", "code", code);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PolicyCommandCode_REQUEST that = (TPM2_PolicyCommandCode_REQUEST)obj;
+        return Objects.equals(policySession, that.policySession)
+            && Objects.equals(code, that.code);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(policySession);
+        _hash = 31 * _hash + Objects.hashCode(code);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -38,6 +38,10 @@ public class TPM2_PolicyCpHash_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { cpHashA = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(cpHashA, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -49,7 +53,7 @@ public class TPM2_PolicyCpHash_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyCpHash_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyCpHash_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyCpHash_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -64,7 +68,7 @@ public class TPM2_PolicyCpHash_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyCpHash_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PolicyCpHash_REQUEST.class);
+        return buf.createObj(TPM2_PolicyCpHash_REQUEST::new);
     }
 
     @Override
@@ -83,6 +87,24 @@ public class TPM2_PolicyCpHash_REQUEST extends ReqStructure
         _p.add(d, "byte[]", "cpHashA", cpHashA);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PolicyCpHash_REQUEST that = (TPM2_PolicyCpHash_REQUEST)obj;
+        return Objects.equals(policySession, that.policySession)
+            && Arrays.equals(cpHashA, that.cpHashA);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(policySession);
+        _hash = 31 * _hash + Arrays.hashCode(cpHashA);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -61,6 +61,10 @@ public class TPM2_PolicyDuplicationSelect_REQUEST extends ReqStructure
         includeObject = buf.readByte();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 1 + sizedByteBufWireSize(objectName, 2) + sizedByteBufWireSize(newParentName, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -72,7 +76,7 @@ public class TPM2_PolicyDuplicationSelect_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyDuplicationSelect_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyDuplicationSelect_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyDuplicationSelect_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -87,7 +91,7 @@ public class TPM2_PolicyDuplicationSelect_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyDuplicationSelect_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PolicyDuplicationSelect_REQUEST.class);
+        return buf.createObj(TPM2_PolicyDuplicationSelect_REQUEST::new);
     }
 
     @Override
@@ -108,6 +112,28 @@ public class TPM2_PolicyDuplicationSelect_REQUEST extends ReqStructure
         _p.add(d, "byte", "includeObject", includeObject);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PolicyDuplicationSelect_REQUEST that = (TPM2_PolicyDuplicationSelect_REQUEST)obj;
+        return Objects.equals(policySession, that.policySession)
+            && Arrays.equals(objectName, that.objectName)
+            && Arrays.equals(newParentName, that.newParentName)
+            && includeObject == that.includeObject;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(policySession);
+        _hash = 31 * _hash + Arrays.hashCode(objectName);
+        _hash = 31 * _hash + Arrays.hashCode(newParentName);
+        _hash = 31 * _hash + Byte.hashCode(includeObject);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -38,6 +38,10 @@ public class TPM2_PolicyLocality_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { locality = TPMA_LOCALITY.fromTpm(buf); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return locality.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -49,7 +53,7 @@ public class TPM2_PolicyLocality_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyLocality_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyLocality_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyLocality_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -64,7 +68,7 @@ public class TPM2_PolicyLocality_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyLocality_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PolicyLocality_REQUEST.class);
+        return buf.createObj(TPM2_PolicyLocality_REQUEST::new);
     }
 
     @Override
@@ -83,6 +87,24 @@ public class TPM2_PolicyLocality_REQUEST extends ReqStructure
         _p.add(d, "TPMA_LOCALITY", "locality", locality);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PolicyLocality_REQUEST that = (TPM2_PolicyLocality_REQUEST)obj;
+        return Objects.equals(policySession, that.policySession)
+            && Objects.equals(locality, that.locality);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(policySession);
+        _hash = 31 * _hash + Objects.hashCode(locality);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
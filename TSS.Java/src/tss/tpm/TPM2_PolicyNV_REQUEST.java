@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -84,6 +84,10 @@ public class TPM2_PolicyNV_REQUEST extends ReqStructure
         operation = TPM_EO.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedByteBufWireSize(operandB, 2) + operation.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -95,7 +99,7 @@ public class TPM2_PolicyNV_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyNV_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyNV_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyNV_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -110,7 +114,7 @@ public class TPM2_PolicyNV_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyNV_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PolicyNV_REQUEST.class);
+        return buf.createObj(TPM2_PolicyNV_REQUEST::new);
     }
 
     @Override
@@ -133,6 +137,32 @@ public class TPM2_PolicyNV_REQUEST extends ReqStructure
         _p.add(d, "TPM_EO", "operation", operation);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PolicyNV_REQUEST that = (TPM2_PolicyNV_REQUEST)obj;
+        return Objects.equals(authHandle, that.authHandle)
+            && Objects.equals(nvIndex, that.nvIndex)
+            && Objects.equals(policySession, that.policySession)
+            && Arrays.equals(operandB, that.operandB)
+            && offset == that.offset
+            && Objects.equals(operation, that.operation);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(authHandle);
+        _hash = 31 * _hash + Objects.hashCode(nvIndex);
+        _hash = 31 * _hash + Objects.hashCode(policySession);
+        _hash = 31 * _hash + Arrays.hashCode(operandB);
+        _hash = 31 * _hash + Integer.hashCode(offset);
+        _hash = 31 * _hash + Objects.hashCode(operation);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 3; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -40,7 +40,11 @@ public class TPM2_PolicyOR_REQUEST extends ReqStructure
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { pHashList = buf.readObjArr(TPM2B_DIGEST.class); }
+    public void initFromTpm(TpmBuffer buf) { pHashList = buf.readObjArr(TPM2B_DIGEST::new, TPM2B_DIGEST[]::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(pHashList); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -53,7 +57,7 @@ public class TPM2_PolicyOR_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyOR_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyOR_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyOR_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -68,7 +72,7 @@ public class TPM2_PolicyOR_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyOR_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PolicyOR_REQUEST.class);
+        return buf.createObj(TPM2_PolicyOR_REQUEST::new);
     }
 
     @Override
@@ -87,6 +91,24 @@ public class TPM2_PolicyOR_REQUEST extends ReqStructure
         _p.add(d, "TPM2B_DIGEST[]", "pHashList", pHashList);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PolicyOR_REQUEST that = (TPM2_PolicyOR_REQUEST)obj;
+        return Objects.equals(policySession, that.policySession)
+            && Arrays.equals(pHashList, that.pHashList);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(policySession);
+        _hash = 31 * _hash + Arrays.hashCode(pHashList);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -55,9 +55,13 @@ public class TPM2_PolicyPCR_REQUEST extends ReqStructure
     public void initFromTpm(TpmBuffer buf)
     {
         pcrDigest = buf.readSizedByteBuf();
-        pcrs = buf.readObjArr(TPMS_PCR_SELECTION.class);
+        pcrs = buf.readObjArr(TPMS_PCR_SELECTION::new, TPMS_PCR_SELECTION[]::new);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(pcrDigest, 2) + objArrWireSize(pcrs); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -69,7 +73,7 @@ public class TPM2_PolicyPCR_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyPCR_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyPCR_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyPCR_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -84,7 +88,7 @@ public class TPM2_PolicyPCR_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyPCR_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PolicyPCR_REQUEST.class);
+        return buf.createObj(TPM2_PolicyPCR_REQUEST::new);
     }
 
     @Override
@@ -104,6 +108,26 @@ public class TPM2_PolicyPCR_REQUEST extends ReqStructure
         _p.add(d, "TPMS_PCR_SELECTION[]", "pcrs", pcrs);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PolicyPCR_REQUEST that = (TPM2_PolicyPCR_REQUEST)obj;
+        return Objects.equals(policySession, that.policySession)
+            && Arrays.equals(pcrDigest, that.pcrDigest)
+            && Arrays.equals(pcrs, that.pcrs);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(policySession);
+        _hash = 31 * _hash + Arrays.hashCode(pcrDigest);
+        _hash = 31 * _hash + Arrays.hashCode(pcrs);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -35,7 +35,7 @@ public class TPM2_PolicyRestart_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyRestart_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyRestart_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyRestart_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -50,7 +50,7 @@ public class TPM2_PolicyRestart_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyRestart_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PolicyRestart_REQUEST.class);
+        return buf.createObj(TPM2_PolicyRestart_REQUEST::new);
     }
 
     @Override
@@ -68,6 +68,21 @@ public class TPM2_PolicyRestart_REQUEST extends ReqStructure
         _p.add(d, "TPM_HANDLE", "sessionHandle", sessionHandle);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PolicyRestart_REQUEST that = (TPM2_PolicyRestart_REQUEST)obj;
+        return Objects.equals(sessionHandle, that.sessionHandle);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(sessionHandle);
+    }
+
     @Override
     public int numHandles() { return 1; }
 
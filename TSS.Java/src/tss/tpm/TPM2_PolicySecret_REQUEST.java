@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -101,6 +101,10 @@ public class TPM2_PolicySecret_REQUEST extends ReqStructure
         expiration = buf.readInt();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 4 + sizedByteBufWireSize(nonceTPM, 2) + sizedByteBufWireSize(cpHashA, 2) + sizedByteBufWireSize(policyRef, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -112,7 +116,7 @@ public class TPM2_PolicySecret_REQUEST extends ReqStructure
      */
     public static TPM2_PolicySecret_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PolicySecret_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PolicySecret_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -127,7 +131,7 @@ public class TPM2_PolicySecret_REQUEST extends ReqStructure
      */
     public static TPM2_PolicySecret_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PolicySecret_REQUEST.class);
+        return buf.createObj(TPM2_PolicySecret_REQUEST::new);
     }
 
     @Override
@@ -150,6 +154,32 @@ public class TPM2_PolicySecret_REQUEST extends ReqStructure
         _p.add(d, "int", "expiration", expiration);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PolicySecret_REQUEST that = (TPM2_PolicySecret_REQUEST)obj;
+        return Objects.equals(authHandle, that.authHandle)
+            && Objects.equals(policySession, that.policySession)
+            && Arrays.equals(nonceTPM, that.nonceTPM)
+            && Arrays.equals(cpHashA, that.cpHashA)
+            && Arrays.equals(policyRef, that.policyRef)
+            && expiration == that.expiration;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(authHandle);
+        _hash = 31 * _hash + Objects.hashCode(policySession);
+        _hash = 31 * _hash + Arrays.hashCode(nonceTPM);
+        _hash = 31 * _hash + Arrays.hashCode(cpHashA);
+        _hash = 31 * _hash + Arrays.hashCode(policyRef);
+        _hash = 31 * _hash + Integer.hashCode(expiration);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 2; }
 
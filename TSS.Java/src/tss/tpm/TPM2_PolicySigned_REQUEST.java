@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -113,10 +113,14 @@ public class TPM2_PolicySigned_REQUEST extends ReqStructure
         policyRef = buf.readSizedByteBuf();
         expiration = buf.readInt();
         TPM_ALG_ID authSigAlg = TPM_ALG_ID.fromTpm(buf);
-        auth = UnionFactory.create("TPMU_SIGNATURE", authSigAlg);
+        auth = UnionFactory.createTPMU_SIGNATURE(authSigAlg);
         auth.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 6 + sizedByteBufWireSize(nonceTPM, 2) + sizedByteBufWireSize(cpHashA, 2) + sizedByteBufWireSize(policyRef, 2) + auth.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -128,7 +132,7 @@ public class TPM2_PolicySigned_REQUEST extends ReqStructure
      */
     public static TPM2_PolicySigned_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PolicySigned_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PolicySigned_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -143,7 +147,7 @@ public class TPM2_PolicySigned_REQUEST extends ReqStructure
      */
     public static TPM2_PolicySigned_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PolicySigned_REQUEST.class);
+        return buf.createObj(TPM2_PolicySigned_REQUEST::new);
     }
 
     @Override
@@ -167,6 +171,34 @@ public class TPM2_PolicySigned_REQUEST extends ReqStructure
         _p.add(d, "TPMU_SIGNATURE", "auth", auth);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PolicySigned_REQUEST that = (TPM2_PolicySigned_REQUEST)obj;
+        return Objects.equals(authObject, that.authObject)
+            && Objects.equals(policySession, that.policySession)
+            && Arrays.equals(nonceTPM, that.nonceTPM)
+            && Arrays.equals(cpHashA, that.cpHashA)
+            && Arrays.equals(policyRef, that.policyRef)
+            && expiration == that.expiration
+            && Objects.equals(auth, that.auth);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(authObject);
+        _hash = 31 * _hash + Objects.hashCode(policySession);
+        _hash = 31 * _hash + Arrays.hashCode(nonceTPM);
+        _hash = 31 * _hash + Arrays.hashCode(cpHashA);
+        _hash = 31 * _hash + Arrays.hashCode(policyRef);
+        _hash = 31 * _hash + Integer.hashCode(expiration);
+        _hash = 31 * _hash + Objects.hashCode(auth);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 2; }
 
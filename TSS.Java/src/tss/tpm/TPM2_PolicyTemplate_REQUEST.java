@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -41,6 +41,10 @@ public class TPM2_PolicyTemplate_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { templateHash = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(templateHash, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -52,7 +56,7 @@ public class TPM2_PolicyTemplate_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyTemplate_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyTemplate_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyTemplate_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -67,7 +71,7 @@ public class TPM2_PolicyTemplate_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyTemplate_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PolicyTemplate_REQUEST.class);
+        return buf.createObj(TPM2_PolicyTemplate_REQUEST::new);
     }
 
     @Override
@@ -86,6 +90,24 @@ public class TPM2_PolicyTemplate_REQUEST extends ReqStructure
         _p.add(d, "byte[]", "templateHash", templateHash);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PolicyTemplate_REQUEST that = (TPM2_PolicyTemplate_REQUEST)obj;
+        return Objects.equals(policySession, that.policySession)
+            && Arrays.equals(templateHash, that.templateHash);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(policySession);
+        _hash = 31 * _hash + Arrays.hashCode(templateHash);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
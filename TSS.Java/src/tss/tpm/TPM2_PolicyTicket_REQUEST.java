@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -85,6 +85,10 @@ public class TPM2_PolicyTicket_REQUEST extends ReqStructure
         ticket = TPMT_TK_AUTH.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(timeout, 2) + sizedByteBufWireSize(cpHashA, 2) + sizedByteBufWireSize(policyRef, 2) + sizedByteBufWireSize(authName, 2) + ticket.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -96,7 +100,7 @@ public class TPM2_PolicyTicket_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyTicket_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyTicket_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_PolicyTicket_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -111,7 +115,7 @@ public class TPM2_PolicyTicket_REQUEST extends ReqStructure
      */
     public static TPM2_PolicyTicket_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_PolicyTicket_REQUEST.class);
+        return buf.createObj(TPM2_PolicyTicket_REQUEST::new);
     }
 
     @Override
@@ -134,6 +138,32 @@ public class TPM2_PolicyTicket_REQUEST extends ReqStructure
         _p.add(d, "TPMT_TK_AUTH", "ticket", ticket);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_PolicyTicket_REQUEST that = (TPM2_PolicyTicket_REQUEST)obj;
+        return Objects.equals(policySession, that.policySession)
+            && Arrays.equals(timeout, that.timeout)
+            && Arrays.equals(cpHashA, that.cpHashA)
+            && Arrays.equals(policyRef, that.policyRef)
+            && Arrays.equals(authName, that.authName)
+            && Objects.equals(ticket, that.ticket);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(policySession);
+        _hash = 31 * _hash + Arrays.hashCode(timeout);
+        _hash = 31 * _hash + Arrays.hashCode(cpHashA);
+        _hash = 31 * _hash + Arrays.hashCode(policyRef);
+        _hash = 31 * _hash + Arrays.hashCode(authName);
+        _hash = 31 * _hash + Objects.hashCode(ticket);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -70,6 +70,10 @@ public class TPM2_Policy_AC_SendSelect_REQUEST extends ReqStructure
         includeObject = buf.readByte();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 1 + sizedByteBufWireSize(objectName, 2) + sizedByteBufWireSize(authHandleName, 2) + sizedByteBufWireSize(acName, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -81,7 +85,7 @@ public class TPM2_Policy_AC_SendSelect_REQUEST extends ReqStructure
      */
     public static TPM2_Policy_AC_SendSelect_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_Policy_AC_SendSelect_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_Policy_AC_SendSelect_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -96,7 +100,7 @@ public class TPM2_Policy_AC_SendSelect_REQUEST extends ReqStructure
      */
     public static TPM2_Policy_AC_SendSelect_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_Policy_AC_SendSelect_REQUEST.class);
+        return buf.createObj(TPM2_Policy_AC_SendSelect_REQUEST::new);
     }
 
     @Override
@@ -118,6 +122,30 @@ public class TPM2_Policy_AC_SendSelect_REQUEST extends ReqStructure
         _p.add(d, "byte", "includeObject", includeObject);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_Policy_AC_SendSelect_REQUEST that = (TPM2_Policy_AC_SendSelect_REQUEST)obj;
+        return Objects.equals(policySession, that.policySession)
+            && Arrays.equals(objectName, that.objectName)
+            && Arrays.equals(authHandleName, that.authHandleName)
+            && Arrays.equals(acName, that.acName)
+            && includeObject == that.includeObject;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(policySession);
+        _hash = 31 * _hash + Arrays.hashCode(objectName);
+        _hash = 31 * _hash + Arrays.hashCode(authHandleName);
+        _hash = 31 * _hash + Arrays.hashCode(acName);
+        _hash = 31 * _hash + Byte.hashCode(includeObject);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -68,11 +68,15 @@ public class TPM2_Quote_REQUEST extends ReqStructure
     {
         qualifyingData = buf.readSizedByteBuf();
         TPM_ALG_ID inSchemeScheme = TPM_ALG_ID.fromTpm(buf);
-        inScheme = UnionFactory.create("TPMU_SIG_SCHEME", inSchemeScheme);
+        inScheme = UnionFactory.createTPMU_SIG_SCHEME(inSchemeScheme);
         inScheme.initFromTpm(buf);
-        PCRselect = buf.readObjArr(TPMS_PCR_SELECTION.class);
+        PCRselect = buf.readObjArr(TPMS_PCR_SELECTION::new, TPMS_PCR_SELECTION[]::new);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedByteBufWireSize(qualifyingData, 2) + inScheme.wireSize() + objArrWireSize(PCRselect); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -84,7 +88,7 @@ public class TPM2_Quote_REQUEST extends ReqStructure
      */
     public static TPM2_Quote_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_Quote_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_Quote_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -99,7 +103,7 @@ public class TPM2_Quote_REQUEST extends ReqStructure
      */
     public static TPM2_Quote_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_Quote_REQUEST.class);
+        return buf.createObj(TPM2_Quote_REQUEST::new);
     }
 
     @Override
@@ -120,6 +124,28 @@ public class TPM2_Quote_REQUEST extends ReqStructure
         _p.add(d, "TPMS_PCR_SELECTION[]", "PCRselect", PCRselect);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_Quote_REQUEST that = (TPM2_Quote_REQUEST)obj;
+        return Objects.equals(signHandle, that.signHandle)
+            && Arrays.equals(qualifyingData, that.qualifyingData)
+            && Objects.equals(inScheme, that.inScheme)
+            && Arrays.equals(PCRselect, that.PCRselect);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(signHandle);
+        _hash = 31 * _hash + Arrays.hashCode(qualifyingData);
+        _hash = 31 * _hash + Objects.hashCode(inScheme);
+        _hash = 31 * _hash + Arrays.hashCode(PCRselect);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -75,11 +75,15 @@ public class TPM2_RSA_Decrypt_REQUEST extends ReqStructure
     {
         cipherText = buf.readSizedByteBuf();
         TPM_ALG_ID inSchemeScheme = TPM_ALG_ID.fromTpm(buf);
-        inScheme = UnionFactory.create("TPMU_ASYM_SCHEME", inSchemeScheme);
+        inScheme = UnionFactory.createTPMU_ASYM_SCHEME(inSchemeScheme);
         inScheme.initFromTpm(buf);
         label = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedByteBufWireSize(cipherText, 2) + inScheme.wireSize() + sizedByteBufWireSize(label, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -91,7 +95,7 @@ public class TPM2_RSA_Decrypt_REQUEST extends ReqStructure
      */
     public static TPM2_RSA_Decrypt_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_RSA_Decrypt_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_RSA_Decrypt_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -106,7 +110,7 @@ public class TPM2_RSA_Decrypt_REQUEST extends ReqStructure
      */
     public static TPM2_RSA_Decrypt_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_RSA_Decrypt_REQUEST.class);
+        return buf.createObj(TPM2_RSA_Decrypt_REQUEST::new);
     }
 
     @Override
@@ -127,6 +131,28 @@ public class TPM2_RSA_Decrypt_REQUEST extends ReqStructure
         _p.add(d, "byte[]", "label", label);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_RSA_Decrypt_REQUEST that = (TPM2_RSA_Decrypt_REQUEST)obj;
+        return Objects.equals(keyHandle, that.keyHandle)
+            && Arrays.equals(cipherText, that.cipherText)
+            && Objects.equals(inScheme, that.inScheme)
+            && Arrays.equals(label, that.label);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(keyHandle);
+        _hash = 31 * _hash + Arrays.hashCode(cipherText);
+        _hash = 31 * _hash + Objects.hashCode(inScheme);
+        _hash = 31 * _hash + Arrays.hashCode(label);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
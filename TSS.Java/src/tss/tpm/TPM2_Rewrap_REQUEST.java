@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -81,6 +81,10 @@ public class TPM2_Rewrap_REQUEST extends ReqStructure
         inSymSeed = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return inDuplicate.wireSize() + sizedByteBufWireSize(name, 2) + sizedByteBufWireSize(inSymSeed, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -92,7 +96,7 @@ public class TPM2_Rewrap_REQUEST extends ReqStructure
      */
     public static TPM2_Rewrap_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_Rewrap_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_Rewrap_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -107,7 +111,7 @@ public class TPM2_Rewrap_REQUEST extends ReqStructure
      */
     public static TPM2_Rewrap_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_Rewrap_REQUEST.class);
+        return buf.createObj(TPM2_Rewrap_REQUEST::new);
     }
 
     @Override
@@ -129,6 +133,30 @@ public class TPM2_Rewrap_REQUEST extends ReqStructure
         _p.add(d, "byte[]", "inSymSeed", inSymSeed);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_Rewrap_REQUEST that = (TPM2_Rewrap_REQUEST)obj;
+        return Objects.equals(oldParent, that.oldParent)
+            && Objects.equals(newParent, that.newParent)
+            && Objects.equals(inDuplicate, that.inDuplicate)
+            && Arrays.equals(name, that.name)
+            && Arrays.equals(inSymSeed, that.inSymSeed);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(oldParent);
+        _hash = 31 * _hash + Objects.hashCode(newParent);
+        _hash = 31 * _hash + Objects.hashCode(inDuplicate);
+        _hash = 31 * _hash + Arrays.hashCode(name);
+        _hash = 31 * _hash + Arrays.hashCode(inSymSeed);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 2; }
 
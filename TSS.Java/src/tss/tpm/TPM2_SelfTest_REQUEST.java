@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -33,6 +33,10 @@ public class TPM2_SelfTest_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { fullTest = buf.readByte(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 1; }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -44,7 +48,7 @@ public class TPM2_SelfTest_REQUEST extends ReqStructure
      */
     public static TPM2_SelfTest_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_SelfTest_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_SelfTest_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -59,7 +63,7 @@ public class TPM2_SelfTest_REQUEST extends ReqStructure
      */
     public static TPM2_SelfTest_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_SelfTest_REQUEST.class);
+        return buf.createObj(TPM2_SelfTest_REQUEST::new);
     }
 
     @Override
@@ -76,6 +80,21 @@ public class TPM2_SelfTest_REQUEST extends ReqStructure
     {
         _p.add(d, "byte", "fullTest", fullTest);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_SelfTest_REQUEST that = (TPM2_SelfTest_REQUEST)obj;
+        return fullTest == that.fullTest;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Byte.hashCode(fullTest);
+    }
 }
 
 //<<<
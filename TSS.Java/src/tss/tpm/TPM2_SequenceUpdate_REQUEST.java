@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -42,6 +42,10 @@ public class TPM2_SequenceUpdate_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { buffer = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(buffer, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -53,7 +57,7 @@ public class TPM2_SequenceUpdate_REQUEST extends ReqStructure
      */
     public static TPM2_SequenceUpdate_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_SequenceUpdate_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_SequenceUpdate_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -68,7 +72,7 @@ public class TPM2_SequenceUpdate_REQUEST extends ReqStructure
      */
     public static TPM2_SequenceUpdate_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_SequenceUpdate_REQUEST.class);
+        return buf.createObj(TPM2_SequenceUpdate_REQUEST::new);
     }
 
     @Override
@@ -87,6 +91,24 @@ public class TPM2_SequenceUpdate_REQUEST extends ReqStructure
         _p.add(d, "byte[]", "buffer", buffer);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_SequenceUpdate_REQUEST that = (TPM2_SequenceUpdate_REQUEST)obj;
+        return Objects.equals(sequenceHandle, that.sequenceHandle)
+            && Arrays.equals(buffer, that.buffer);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(sequenceHandle);
+        _hash = 31 * _hash + Arrays.hashCode(buffer);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -64,10 +64,14 @@ public class TPM2_SetCommandCodeAuditStatus_REQUEST extends ReqStructure
     public void initFromTpm(TpmBuffer buf)
     {
         auditAlg = TPM_ALG_ID.fromTpm(buf);
-        setList = buf.readObjArr(TPM_CC.class);
-        clearList = buf.readObjArr(TPM_CC.class);
+        setList = buf.readObjArr(TPM_CC::new, TPM_CC[]::new);
+        clearList = buf.readObjArr(TPM_CC::new, TPM_CC[]::new);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return auditAlg.wireSize() + objArrWireSize(setList) + objArrWireSize(clearList); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -79,7 +83,7 @@ public class TPM2_SetCommandCodeAuditStatus_REQUEST extends ReqStructure
      */
     public static TPM2_SetCommandCodeAuditStatus_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_SetCommandCodeAuditStatus_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_SetCommandCodeAuditStatus_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -94,7 +98,7 @@ public class TPM2_SetCommandCodeAuditStatus_REQUEST extends ReqStructure
      */
     public static TPM2_SetCommandCodeAuditStatus_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_SetCommandCodeAuditStatus_REQUEST.class);
+        return buf.createObj(TPM2_SetCommandCodeAuditStatus_REQUEST::new);
     }
 
     @Override
@@ -115,6 +119,28 @@ public class TPM2_SetCommandCodeAuditStatus_REQUEST extends ReqStructure
         _p.add(d, "TPM_CC[]", "clearList", clearList);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_SetCommandCodeAuditStatus_REQUEST that = (TPM2_SetCommandCodeAuditStatus_REQUEST)obj;
+        return Objects.equals(auth, that.auth)
+            && Objects.equals(auditAlg, that.auditAlg)
+            && Arrays.equals(setList, that.setList)
+            && Arrays.equals(clearList, that.clearList);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(auth);
+        _hash = 31 * _hash + Objects.hashCode(auditAlg);
+        _hash = 31 * _hash + Arrays.hashCode(setList);
+        _hash = 31 * _hash + Arrays.hashCode(clearList);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -69,6 +69,10 @@ public class TPM2_SetPrimaryPolicy_REQUEST extends ReqStructure
         hashAlg = TPM_ALG_ID.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(authPolicy, 2) + hashAlg.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -80,7 +84,7 @@ public class TPM2_SetPrimaryPolicy_REQUEST extends ReqStructure
      */
     public static TPM2_SetPrimaryPolicy_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_SetPrimaryPolicy_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_SetPrimaryPolicy_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -95,7 +99,7 @@ public class TPM2_SetPrimaryPolicy_REQUEST extends ReqStructure
      */
     public static TPM2_SetPrimaryPolicy_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_SetPrimaryPolicy_REQUEST.class);
+        return buf.createObj(TPM2_SetPrimaryPolicy_REQUEST::new);
     }
 
     @Override
@@ -115,6 +119,26 @@ public class TPM2_SetPrimaryPolicy_REQUEST extends ReqStructure
         _p.add(d, "TPM_ALG_ID", "hashAlg", hashAlg);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_SetPrimaryPolicy_REQUEST that = (TPM2_SetPrimaryPolicy_REQUEST)obj;
+        return Objects.equals(authHandle, that.authHandle)
+            && Arrays.equals(authPolicy, that.authPolicy)
+            && Objects.equals(hashAlg, that.hashAlg);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(authHandle);
+        _hash = 31 * _hash + Arrays.hashCode(authPolicy);
+        _hash = 31 * _hash + Objects.hashCode(hashAlg);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -28,6 +28,10 @@ public class TPM2_Shutdown_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { shutdownType = TPM_SU.fromTpm(buf); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return shutdownType.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -39,7 +43,7 @@ public class TPM2_Shutdown_REQUEST extends ReqStructure
      */
     public static TPM2_Shutdown_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_Shutdown_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_Shutdown_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -54,7 +58,7 @@ public class TPM2_Shutdown_REQUEST extends ReqStructure
      */
     public static TPM2_Shutdown_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_Shutdown_REQUEST.class);
+        return buf.createObj(TPM2_Shutdown_REQUEST::new);
     }
 
     @Override
@@ -71,6 +75,21 @@ public class TPM2_Shutdown_REQUEST extends ReqStructure
     {
         _p.add(d, "TPM_SU", "shutdownType", shutdownType);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_Shutdown_REQUEST that = (TPM2_Shutdown_REQUEST)obj;
+        return Objects.equals(shutdownType, that.shutdownType);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(shutdownType);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -75,11 +75,15 @@ public class TPM2_Sign_REQUEST extends ReqStructure
     {
         digest = buf.readSizedByteBuf();
         TPM_ALG_ID inSchemeScheme = TPM_ALG_ID.fromTpm(buf);
-        inScheme = UnionFactory.create("TPMU_SIG_SCHEME", inSchemeScheme);
+        inScheme = UnionFactory.createTPMU_SIG_SCHEME(inSchemeScheme);
         inScheme.initFromTpm(buf);
         validation = TPMT_TK_HASHCHECK.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedByteBufWireSize(digest, 2) + inScheme.wireSize() + validation.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -91,7 +95,7 @@ public class TPM2_Sign_REQUEST extends ReqStructure
      */
     public static TPM2_Sign_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_Sign_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_Sign_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -106,7 +110,7 @@ public class TPM2_Sign_REQUEST extends ReqStructure
      */
     public static TPM2_Sign_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_Sign_REQUEST.class);
+        return buf.createObj(TPM2_Sign_REQUEST::new);
     }
 
     @Override
@@ -127,6 +131,28 @@ public class TPM2_Sign_REQUEST extends ReqStructure
         _p.add(d, "TPMT_TK_HASHCHECK", "validation", validation);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_Sign_REQUEST that = (TPM2_Sign_REQUEST)obj;
+        return Objects.equals(keyHandle, that.keyHandle)
+            && Arrays.equals(digest, that.digest)
+            && Objects.equals(inScheme, that.inScheme)
+            && Objects.equals(validation, that.validation);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(keyHandle);
+        _hash = 31 * _hash + Arrays.hashCode(digest);
+        _hash = 31 * _hash + Objects.hashCode(inScheme);
+        _hash = 31 * _hash + Objects.hashCode(validation);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -106,6 +106,10 @@ public class TPM2_StartAuthSession_REQUEST extends ReqStructure
         authHash = TPM_ALG_ID.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(nonceCaller, 2) + sizedByteBufWireSize(encryptedSalt, 2) + sessionType.wireSize() + symmetric.wireSize() + authHash.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -117,7 +121,7 @@ public class TPM2_StartAuthSession_REQUEST extends ReqStructure
      */
     public static TPM2_StartAuthSession_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_StartAuthSession_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_StartAuthSession_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -132,7 +136,7 @@ public class TPM2_StartAuthSession_REQUEST extends ReqStructure
      */
     public static TPM2_StartAuthSession_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_StartAuthSession_REQUEST.class);
+        return buf.createObj(TPM2_StartAuthSession_REQUEST::new);
     }
 
     @Override
@@ -156,6 +160,34 @@ public class TPM2_StartAuthSession_REQUEST extends ReqStructure
         _p.add(d, "TPM_ALG_ID", "authHash", authHash);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_StartAuthSession_REQUEST that = (TPM2_StartAuthSession_REQUEST)obj;
+        return Objects.equals(tpmKey, that.tpmKey)
+            && Objects.equals(bind, that.bind)
+            && Arrays.equals(nonceCaller, that.nonceCaller)
+            && Arrays.equals(encryptedSalt, that.encryptedSalt)
+            && Objects.equals(sessionType, that.sessionType)
+            && Objects.equals(symmetric, that.symmetric)
+            && Objects.equals(authHash, that.authHash);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(tpmKey);
+        _hash = 31 * _hash + Objects.hashCode(bind);
+        _hash = 31 * _hash + Arrays.hashCode(nonceCaller);
+        _hash = 31 * _hash + Arrays.hashCode(encryptedSalt);
+        _hash = 31 * _hash + Objects.hashCode(sessionType);
+        _hash = 31 * _hash + Objects.hashCode(symmetric);
+        _hash = 31 * _hash + Objects.hashCode(authHash);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 2; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -32,6 +32,10 @@ public class TPM2_Startup_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { startupType = TPM_SU.fromTpm(buf); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return startupType.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -43,7 +47,7 @@ public class TPM2_Startup_REQUEST extends ReqStructure
      */
     public static TPM2_Startup_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_Startup_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_Startup_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -58,7 +62,7 @@ public class TPM2_Startup_REQUEST extends ReqStructure
      */
     public static TPM2_Startup_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_Startup_REQUEST.class);
+        return buf.createObj(TPM2_Startup_REQUEST::new);
     }
 
     @Override
@@ -75,6 +79,21 @@ public class TPM2_Startup_REQUEST extends ReqStructure
     {
         _p.add(d, "TPM_SU", "startupType", startupType);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_Startup_REQUEST that = (TPM2_Startup_REQUEST)obj;
+        return Objects.equals(startupType, that.startupType);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(startupType);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -43,10 +43,18 @@ public class TPM2_TestParms_REQUEST extends ReqStructure
     public void initFromTpm(TpmBuffer buf)
     {
         TPM_ALG_ID parametersType = TPM_ALG_ID.fromTpm(buf);
-        parameters = UnionFactory.create("TPMU_PUBLIC_PARMS", parametersType);
+        parameters = UnionFactory.createTPMU_PUBLIC_PARMS(parametersType);
         parameters.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize()
+    {
+        if (parameters == null) return 0;
+        return 2 + parameters.wireSize();
+    }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -58,7 +66,7 @@ public class TPM2_TestParms_REQUEST extends ReqStructure
      */
     public static TPM2_TestParms_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_TestParms_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_TestParms_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -73,7 +81,7 @@ public class TPM2_TestParms_REQUEST extends ReqStructure
      */
     public static TPM2_TestParms_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_TestParms_REQUEST.class);
+        return buf.createObj(TPM2_TestParms_REQUEST::new);
     }
 
     @Override
@@ -90,6 +98,21 @@ public class TPM2_TestParms_REQUEST extends ReqStructure
     {
         _p.add(d, "TPMU_PUBLIC_PARMS", "parameters", parameters);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_TestParms_REQUEST that = (TPM2_TestParms_REQUEST)obj;
+        return Objects.equals(parameters, that.parameters);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(parameters);
+    }
 }
 
 //<<<
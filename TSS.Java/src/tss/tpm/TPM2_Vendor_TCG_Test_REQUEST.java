@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -26,6 +26,10 @@ public class TPM2_Vendor_TCG_Test_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { inputData = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(inputData, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -37,7 +41,7 @@ public class TPM2_Vendor_TCG_Test_REQUEST extends ReqStructure
      */
     public static TPM2_Vendor_TCG_Test_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_Vendor_TCG_Test_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_Vendor_TCG_Test_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -52,7 +56,7 @@ public class TPM2_Vendor_TCG_Test_REQUEST extends ReqStructure
      */
     public static TPM2_Vendor_TCG_Test_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_Vendor_TCG_Test_REQUEST.class);
+        return buf.createObj(TPM2_Vendor_TCG_Test_REQUEST::new);
     }
 
     @Override
@@ -70,6 +74,21 @@ public class TPM2_Vendor_TCG_Test_REQUEST extends ReqStructure
         _p.add(d, "byte[]", "inputData", inputData);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_Vendor_TCG_Test_REQUEST that = (TPM2_Vendor_TCG_Test_REQUEST)obj;
+        return Arrays.equals(inputData, that.inputData);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(inputData);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
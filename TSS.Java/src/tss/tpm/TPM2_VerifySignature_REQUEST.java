@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -62,10 +62,14 @@ public class TPM2_VerifySignature_REQUEST extends ReqStructure
     {
         digest = buf.readSizedByteBuf();
         TPM_ALG_ID signatureSigAlg = TPM_ALG_ID.fromTpm(buf);
-        signature = UnionFactory.create("TPMU_SIGNATURE", signatureSigAlg);
+        signature = UnionFactory.createTPMU_SIGNATURE(signatureSigAlg);
         signature.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedByteBufWireSize(digest, 2) + signature.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -77,7 +81,7 @@ public class TPM2_VerifySignature_REQUEST extends ReqStructure
      */
     public static TPM2_VerifySignature_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_VerifySignature_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_VerifySignature_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -92,7 +96,7 @@ public class TPM2_VerifySignature_REQUEST extends ReqStructure
      */
     public static TPM2_VerifySignature_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_VerifySignature_REQUEST.class);
+        return buf.createObj(TPM2_VerifySignature_REQUEST::new);
     }
 
     @Override
@@ -112,6 +116,26 @@ public class TPM2_VerifySignature_REQUEST extends ReqStructure
         _p.add(d, "TPMU_SIGNATURE", "signature", signature);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_VerifySignature_REQUEST that = (TPM2_VerifySignature_REQUEST)obj;
+        return Objects.equals(keyHandle, that.keyHandle)
+            && Arrays.equals(digest, that.digest)
+            && Objects.equals(signature, that.signature);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(keyHandle);
+        _hash = 31 * _hash + Arrays.hashCode(digest);
+        _hash = 31 * _hash + Objects.hashCode(signature);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -71,12 +71,16 @@ public class TPM2_ZGen_2Phase_REQUEST extends ReqStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        inQsB = buf.createSizedObj(TPMS_ECC_POINT.class);
-        inQeB = buf.createSizedObj(TPMS_ECC_POINT.class);
+        inQsB = buf.createSizedObj(TPMS_ECC_POINT::new);
+        inQeB = buf.createSizedObj(TPMS_ECC_POINT::new);
         inScheme = TPM_ALG_ID.fromTpm(buf);
         counter = buf.readShort();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedObjWireSize(inQsB) + sizedObjWireSize(inQeB) + inScheme.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -88,7 +92,7 @@ public class TPM2_ZGen_2Phase_REQUEST extends ReqStructure
      */
     public static TPM2_ZGen_2Phase_REQUEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM2_ZGen_2Phase_REQUEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPM2_ZGen_2Phase_REQUEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -103,7 +107,7 @@ public class TPM2_ZGen_2Phase_REQUEST extends ReqStructure
      */
     public static TPM2_ZGen_2Phase_REQUEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM2_ZGen_2Phase_REQUEST.class);
+        return buf.createObj(TPM2_ZGen_2Phase_REQUEST::new);
     }
 
     @Override
@@ -125,6 +129,30 @@ public class TPM2_ZGen_2Phase_REQUEST extends ReqStructure
         _p.add(d, "int", "counter", counter);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM2_ZGen_2Phase_REQUEST that = (TPM2_ZGen_2Phase_REQUEST)obj;
+        return Objects.equals(keyA, that.keyA)
+            && Objects.equals(inQsB, that.inQsB)
+            && Objects.equals(inQeB, that.inQeB)
+            && Objects.equals(inScheme, that.inScheme)
+            && counter == that.counter;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(keyA);
+        _hash = 31 * _hash + Objects.hashCode(inQsB);
+        _hash = 31 * _hash + Objects.hashCode(inQeB);
+        _hash = 31 * _hash + Objects.hashCode(inScheme);
+        _hash = 31 * _hash + Integer.hashCode(counter);
+        return _hash;
+    }
+
     @Override
     public int numHandles() { return 1; }
 
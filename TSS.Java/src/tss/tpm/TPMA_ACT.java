@@ -39,18 +39,18 @@ public final class TPMA_ACT extends TpmAttribute<TPMA_ACT>
     public TPMA_ACT () { super(0, _ValueMap); }
     public TPMA_ACT (int value) { super(value, _ValueMap); }
     public TPMA_ACT (TPMA_ACT...attrs) { super(_ValueMap, attrs); }
-    public static TPMA_ACT fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPMA_ACT.class); }
-    public static TPMA_ACT fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_ACT.class); }
-    public static TPMA_ACT fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_ACT.class); }
+    public static TPMA_ACT fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPMA_ACT::new); }
+    public static TPMA_ACT fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_ACT::new); }
+    public static TPMA_ACT fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_ACT::new); }
     public TPMA_ACT._N asEnum() { return (TPMA_ACT._N)NameAsEnum; }
     public static Collection<TPMA_ACT> values() { return _ValueMap.values(); }
     public boolean hasAttr (TPMA_ACT attr) { return super.hasAttr(attr); }
-    public TPMA_ACT maskAttr (TPMA_ACT attr) { return super.maskAttr(attr, _ValueMap, TPMA_ACT.class); }
+    public TPMA_ACT maskAttr (TPMA_ACT attr) { return super.maskAttr(attr, _ValueMap, TPMA_ACT::new); }
     private TPMA_ACT (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPMA_ACT (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
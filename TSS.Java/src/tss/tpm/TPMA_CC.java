@@ -81,18 +81,18 @@ public final class TPMA_CC extends TpmAttribute<TPMA_CC>
     public TPMA_CC () { super(0, _ValueMap); }
     public TPMA_CC (int value) { super(value, _ValueMap); }
     public TPMA_CC (TPMA_CC...attrs) { super(_ValueMap, attrs); }
-    public static TPMA_CC fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPMA_CC.class); }
-    public static TPMA_CC fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_CC.class); }
-    public static TPMA_CC fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_CC.class); }
+    public static TPMA_CC fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPMA_CC::new); }
+    public static TPMA_CC fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_CC::new); }
+    public static TPMA_CC fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_CC::new); }
     public TPMA_CC._N asEnum() { return (TPMA_CC._N)NameAsEnum; }
     public static Collection<TPMA_CC> values() { return _ValueMap.values(); }
     public boolean hasAttr (TPMA_CC attr) { return super.hasAttr(attr); }
-    public TPMA_CC maskAttr (TPMA_CC attr) { return super.maskAttr(attr, _ValueMap, TPMA_CC.class); }
+    public TPMA_CC maskAttr (TPMA_CC attr) { return super.maskAttr(attr, _ValueMap, TPMA_CC::new); }
     private TPMA_CC (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPMA_CC (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
@@ -47,18 +47,18 @@ public final class TPMA_LOCALITY extends TpmAttribute<TPMA_LOCALITY>
     public TPMA_LOCALITY () { super(0, _ValueMap); }
     public TPMA_LOCALITY (int value) { super(value, _ValueMap); }
     public TPMA_LOCALITY (TPMA_LOCALITY...attrs) { super(_ValueMap, attrs); }
-    public static TPMA_LOCALITY fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPMA_LOCALITY.class); }
-    public static TPMA_LOCALITY fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_LOCALITY.class); }
-    public static TPMA_LOCALITY fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_LOCALITY.class); }
+    public static TPMA_LOCALITY fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPMA_LOCALITY::new); }
+    public static TPMA_LOCALITY fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_LOCALITY::new); }
+    public static TPMA_LOCALITY fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_LOCALITY::new); }
     public TPMA_LOCALITY._N asEnum() { return (TPMA_LOCALITY._N)NameAsEnum; }
     public static Collection<TPMA_LOCALITY> values() { return _ValueMap.values(); }
     public boolean hasAttr (TPMA_LOCALITY attr) { return super.hasAttr(attr); }
-    public TPMA_LOCALITY maskAttr (TPMA_LOCALITY attr) { return super.maskAttr(attr, _ValueMap, TPMA_LOCALITY.class); }
+    public TPMA_LOCALITY maskAttr (TPMA_LOCALITY attr) { return super.maskAttr(attr, _ValueMap, TPMA_LOCALITY::new); }
     private TPMA_LOCALITY (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPMA_LOCALITY (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 1; }
+    public int wireSize() { return 1; }
 }
 
 //<<<
@@ -34,18 +34,18 @@ public final class TPMA_MODES extends TpmAttribute<TPMA_MODES>
     public TPMA_MODES () { super(0, _ValueMap); }
     public TPMA_MODES (int value) { super(value, _ValueMap); }
     public TPMA_MODES (TPMA_MODES...attrs) { super(_ValueMap, attrs); }
-    public static TPMA_MODES fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPMA_MODES.class); }
-    public static TPMA_MODES fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_MODES.class); }
-    public static TPMA_MODES fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_MODES.class); }
+    public static TPMA_MODES fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPMA_MODES::new); }
+    public static TPMA_MODES fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_MODES::new); }
+    public static TPMA_MODES fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_MODES::new); }
     public TPMA_MODES._N asEnum() { return (TPMA_MODES._N)NameAsEnum; }
     public static Collection<TPMA_MODES> values() { return _ValueMap.values(); }
     public boolean hasAttr (TPMA_MODES attr) { return super.hasAttr(attr); }
-    public TPMA_MODES maskAttr (TPMA_MODES attr) { return super.maskAttr(attr, _ValueMap, TPMA_MODES.class); }
+    public TPMA_MODES maskAttr (TPMA_MODES attr) { return super.maskAttr(attr, _ValueMap, TPMA_MODES::new); }
     private TPMA_MODES (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPMA_MODES (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
@@ -218,18 +218,18 @@ public final class TPMA_NV extends TpmAttribute<TPMA_NV>
     public TPMA_NV () { super(0, _ValueMap); }
     public TPMA_NV (int value) { super(value, _ValueMap); }
     public TPMA_NV (TPMA_NV...attrs) { super(_ValueMap, attrs); }
-    public static TPMA_NV fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPMA_NV.class); }
-    public static TPMA_NV fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_NV.class); }
-    public static TPMA_NV fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_NV.class); }
+    public static TPMA_NV fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPMA_NV::new); }
+    public static TPMA_NV fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_NV::new); }
+    public static TPMA_NV fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_NV::new); }
     public TPMA_NV._N asEnum() { return (TPMA_NV._N)NameAsEnum; }
     public static Collection<TPMA_NV> values() { return _ValueMap.values(); }
     public boolean hasAttr (TPMA_NV attr) { return super.hasAttr(attr); }
-    public TPMA_NV maskAttr (TPMA_NV attr) { return super.maskAttr(attr, _ValueMap, TPMA_NV.class); }
+    public TPMA_NV maskAttr (TPMA_NV attr) { return super.maskAttr(attr, _ValueMap, TPMA_NV::new); }
     private TPMA_NV (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPMA_NV (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
@@ -119,18 +119,18 @@ public final class TPMA_OBJECT extends TpmAttribute<TPMA_OBJECT>
     public TPMA_OBJECT () { super(0, _ValueMap); }
     public TPMA_OBJECT (int value) { super(value, _ValueMap); }
     public TPMA_OBJECT (TPMA_OBJECT...attrs) { super(_ValueMap, attrs); }
-    public static TPMA_OBJECT fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPMA_OBJECT.class); }
-    public static TPMA_OBJECT fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_OBJECT.class); }
-    public static TPMA_OBJECT fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_OBJECT.class); }
+    public static TPMA_OBJECT fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPMA_OBJECT::new); }
+    public static TPMA_OBJECT fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_OBJECT::new); }
+    public static TPMA_OBJECT fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_OBJECT::new); }
     public TPMA_OBJECT._N asEnum() { return (TPMA_OBJECT._N)NameAsEnum; }
     public static Collection<TPMA_OBJECT> values() { return _ValueMap.values(); }
     public boolean hasAttr (TPMA_OBJECT attr) { return super.hasAttr(attr); }
-    public TPMA_OBJECT maskAttr (TPMA_OBJECT attr) { return super.maskAttr(attr, _ValueMap, TPMA_OBJECT.class); }
+    public TPMA_OBJECT maskAttr (TPMA_OBJECT attr) { return super.maskAttr(attr, _ValueMap, TPMA_OBJECT::new); }
     private TPMA_OBJECT (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPMA_OBJECT (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
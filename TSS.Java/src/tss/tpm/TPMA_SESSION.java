@@ -100,18 +100,18 @@ public final class TPMA_SESSION extends TpmAttribute<TPMA_SESSION>
     public TPMA_SESSION () { super(0, _ValueMap); }
     public TPMA_SESSION (int value) { super(value, _ValueMap); }
     public TPMA_SESSION (TPMA_SESSION...attrs) { super(_ValueMap, attrs); }
-    public static TPMA_SESSION fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPMA_SESSION.class); }
-    public static TPMA_SESSION fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_SESSION.class); }
-    public static TPMA_SESSION fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_SESSION.class); }
+    public static TPMA_SESSION fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPMA_SESSION::new); }
+    public static TPMA_SESSION fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_SESSION::new); }
+    public static TPMA_SESSION fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_SESSION::new); }
     public TPMA_SESSION._N asEnum() { return (TPMA_SESSION._N)NameAsEnum; }
     public static Collection<TPMA_SESSION> values() { return _ValueMap.values(); }
     public boolean hasAttr (TPMA_SESSION attr) { return super.hasAttr(attr); }
-    public TPMA_SESSION maskAttr (TPMA_SESSION attr) { return super.maskAttr(attr, _ValueMap, TPMA_SESSION.class); }
+    public TPMA_SESSION maskAttr (TPMA_SESSION attr) { return super.maskAttr(attr, _ValueMap, TPMA_SESSION::new); }
     private TPMA_SESSION (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPMA_SESSION (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 1; }
+    public int wireSize() { return 1; }
 }
 
 //<<<
@@ -81,18 +81,18 @@ public final class TPMA_STARTUP_CLEAR extends TpmAttribute<TPMA_STARTUP_CLEAR>
     public TPMA_STARTUP_CLEAR () { super(0, _ValueMap); }
     public TPMA_STARTUP_CLEAR (int value) { super(value, _ValueMap); }
     public TPMA_STARTUP_CLEAR (TPMA_STARTUP_CLEAR...attrs) { super(_ValueMap, attrs); }
-    public static TPMA_STARTUP_CLEAR fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPMA_STARTUP_CLEAR.class); }
-    public static TPMA_STARTUP_CLEAR fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_STARTUP_CLEAR.class); }
-    public static TPMA_STARTUP_CLEAR fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_STARTUP_CLEAR.class); }
+    public static TPMA_STARTUP_CLEAR fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPMA_STARTUP_CLEAR::new); }
+    public static TPMA_STARTUP_CLEAR fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_STARTUP_CLEAR::new); }
+    public static TPMA_STARTUP_CLEAR fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_STARTUP_CLEAR::new); }
     public TPMA_STARTUP_CLEAR._N asEnum() { return (TPMA_STARTUP_CLEAR._N)NameAsEnum; }
     public static Collection<TPMA_STARTUP_CLEAR> values() { return _ValueMap.values(); }
     public boolean hasAttr (TPMA_STARTUP_CLEAR attr) { return super.hasAttr(attr); }
-    public TPMA_STARTUP_CLEAR maskAttr (TPMA_STARTUP_CLEAR attr) { return super.maskAttr(attr, _ValueMap, TPMA_STARTUP_CLEAR.class); }
+    public TPMA_STARTUP_CLEAR maskAttr (TPMA_STARTUP_CLEAR attr) { return super.maskAttr(attr, _ValueMap, TPMA_STARTUP_CLEAR::new); }
     private TPMA_STARTUP_CLEAR (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPMA_STARTUP_CLEAR (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
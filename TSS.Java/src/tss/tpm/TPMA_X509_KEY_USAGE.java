@@ -70,18 +70,18 @@ public final class TPMA_X509_KEY_USAGE extends TpmAttribute<TPMA_X509_KEY_USAGE>
     public TPMA_X509_KEY_USAGE () { super(0, _ValueMap); }
     public TPMA_X509_KEY_USAGE (int value) { super(value, _ValueMap); }
     public TPMA_X509_KEY_USAGE (TPMA_X509_KEY_USAGE...attrs) { super(_ValueMap, attrs); }
-    public static TPMA_X509_KEY_USAGE fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPMA_X509_KEY_USAGE.class); }
-    public static TPMA_X509_KEY_USAGE fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_X509_KEY_USAGE.class); }
-    public static TPMA_X509_KEY_USAGE fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_X509_KEY_USAGE.class); }
+    public static TPMA_X509_KEY_USAGE fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPMA_X509_KEY_USAGE::new); }
+    public static TPMA_X509_KEY_USAGE fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_X509_KEY_USAGE::new); }
+    public static TPMA_X509_KEY_USAGE fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPMA_X509_KEY_USAGE::new); }
     public TPMA_X509_KEY_USAGE._N asEnum() { return (TPMA_X509_KEY_USAGE._N)NameAsEnum; }
     public static Collection<TPMA_X509_KEY_USAGE> values() { return _ValueMap.values(); }
     public boolean hasAttr (TPMA_X509_KEY_USAGE attr) { return super.hasAttr(attr); }
-    public TPMA_X509_KEY_USAGE maskAttr (TPMA_X509_KEY_USAGE attr) { return super.maskAttr(attr, _ValueMap, TPMA_X509_KEY_USAGE.class); }
+    public TPMA_X509_KEY_USAGE maskAttr (TPMA_X509_KEY_USAGE attr) { return super.maskAttr(attr, _ValueMap, TPMA_X509_KEY_USAGE::new); }
     private TPMA_X509_KEY_USAGE (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPMA_X509_KEY_USAGE (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -29,7 +29,11 @@ public class TPML_ACT_DATA extends TpmStructure implements TPMU_CAPABILITIES
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { actData = buf.readObjArr(TPMS_ACT_DATA.class); }
+    public void initFromTpm(TpmBuffer buf) { actData = buf.readObjArr(TPMS_ACT_DATA::new, TPMS_ACT_DATA[]::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(actData); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -42,7 +46,7 @@ public class TPML_ACT_DATA extends TpmStructure implements TPMU_CAPABILITIES
      */
     public static TPML_ACT_DATA fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPML_ACT_DATA.class);
+        return new TpmBuffer(byteBuf).createObj(TPML_ACT_DATA::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -57,7 +61,7 @@ public class TPML_ACT_DATA extends TpmStructure implements TPMU_CAPABILITIES
      */
     public static TPML_ACT_DATA fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPML_ACT_DATA.class);
+        return buf.createObj(TPML_ACT_DATA::new);
     }
 
     @Override
@@ -74,6 +78,21 @@ public class TPML_ACT_DATA extends TpmStructure implements TPMU_CAPABILITIES
     {
         _p.add(d, "TPMS_ACT_DATA[]", "actData", actData);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPML_ACT_DATA that = (TPML_ACT_DATA)obj;
+        return Arrays.equals(actData, that.actData);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(actData);
+    }
 }
 
 //<<<
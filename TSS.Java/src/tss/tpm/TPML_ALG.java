@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -30,7 +30,11 @@ public class TPML_ALG extends TpmStructure
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { algorithms = buf.readObjArr(TPM_ALG_ID.class); }
+    public void initFromTpm(TpmBuffer buf) { algorithms = buf.readObjArr(TPM_ALG_ID::new, TPM_ALG_ID[]::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(algorithms); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -43,7 +47,7 @@ public class TPML_ALG extends TpmStructure
      */
     public static TPML_ALG fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPML_ALG.class);
+        return new TpmBuffer(byteBuf).createObj(TPML_ALG::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -58,7 +62,7 @@ public class TPML_ALG extends TpmStructure
      */
     public static TPML_ALG fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPML_ALG.class);
+        return buf.createObj(TPML_ALG::new);
     }
 
     @Override
@@ -75,6 +79,21 @@ public class TPML_ALG extends TpmStructure
     {
         _p.add(d, "TPM_ALG_ID[]", "algorithms", algorithms);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPML_ALG that = (TPML_ALG)obj;
+        return Arrays.equals(algorithms, that.algorithms);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(algorithms);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -29,7 +29,11 @@ public class TPML_ALG_PROPERTY extends TpmStructure implements TPMU_CAPABILITIES
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { algProperties = buf.readObjArr(TPMS_ALG_PROPERTY.class); }
+    public void initFromTpm(TpmBuffer buf) { algProperties = buf.readObjArr(TPMS_ALG_PROPERTY::new, TPMS_ALG_PROPERTY[]::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(algProperties); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -42,7 +46,7 @@ public class TPML_ALG_PROPERTY extends TpmStructure implements TPMU_CAPABILITIES
      */
     public static TPML_ALG_PROPERTY fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPML_ALG_PROPERTY.class);
+        return new TpmBuffer(byteBuf).createObj(TPML_ALG_PROPERTY::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -57,7 +61,7 @@ public class TPML_ALG_PROPERTY extends TpmStructure implements TPMU_CAPABILITIES
      */
     public static TPML_ALG_PROPERTY fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPML_ALG_PROPERTY.class);
+        return buf.createObj(TPML_ALG_PROPERTY::new);
     }
 
     @Override
@@ -74,6 +78,21 @@ public class TPML_ALG_PROPERTY extends TpmStructure implements TPMU_CAPABILITIES
     {
         _p.add(d, "TPMS_ALG_PROPERTY[]", "algProperties", algProperties);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPML_ALG_PROPERTY that = (TPML_ALG_PROPERTY)obj;
+        return Arrays.equals(algProperties, that.algProperties);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(algProperties);
+    }
 }
 
 //<<<
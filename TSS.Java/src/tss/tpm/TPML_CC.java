@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -36,7 +36,11 @@ public class TPML_CC extends TpmStructure implements TPMU_CAPABILITIES
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { commandCodes = buf.readObjArr(TPM_CC.class); }
+    public void initFromTpm(TpmBuffer buf) { commandCodes = buf.readObjArr(TPM_CC::new, TPM_CC[]::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(commandCodes); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -49,7 +53,7 @@ public class TPML_CC extends TpmStructure implements TPMU_CAPABILITIES
      */
     public static TPML_CC fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPML_CC.class);
+        return new TpmBuffer(byteBuf).createObj(TPML_CC::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -64,7 +68,7 @@ public class TPML_CC extends TpmStructure implements TPMU_CAPABILITIES
      */
     public static TPML_CC fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPML_CC.class);
+        return buf.createObj(TPML_CC::new);
     }
 
     @Override
@@ -81,6 +85,21 @@ public class TPML_CC extends TpmStructure implements TPMU_CAPABILITIES
     {
         _p.add(d, "TPM_CC[]", "commandCodes", commandCodes);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPML_CC that = (TPML_CC)obj;
+        return Arrays.equals(commandCodes, that.commandCodes);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(commandCodes);
+    }
 }
 
 //<<<
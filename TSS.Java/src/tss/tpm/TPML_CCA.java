@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -27,7 +27,11 @@ public class TPML_CCA extends TpmStructure implements TPMU_CAPABILITIES
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { commandAttributes = buf.readObjArr(TPMA_CC.class); }
+    public void initFromTpm(TpmBuffer buf) { commandAttributes = buf.readObjArr(TPMA_CC::new, TPMA_CC[]::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(commandAttributes); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -40,7 +44,7 @@ public class TPML_CCA extends TpmStructure implements TPMU_CAPABILITIES
      */
     public static TPML_CCA fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPML_CCA.class);
+        return new TpmBuffer(byteBuf).createObj(TPML_CCA::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -55,7 +59,7 @@ public class TPML_CCA extends TpmStructure implements TPMU_CAPABILITIES
      */
     public static TPML_CCA fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPML_CCA.class);
+        return buf.createObj(TPML_CCA::new);
     }
 
     @Override
@@ -72,6 +76,21 @@ public class TPML_CCA extends TpmStructure implements TPMU_CAPABILITIES
     {
         _p.add(d, "TPMA_CC[]", "commandAttributes", commandAttributes);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPML_CCA that = (TPML_CCA)obj;
+        return Arrays.equals(commandAttributes, that.commandAttributes);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(commandAttributes);
+    }
 }
 
 //<<<
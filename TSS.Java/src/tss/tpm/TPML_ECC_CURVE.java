@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -29,7 +29,11 @@ public class TPML_ECC_CURVE extends TpmStructure implements TPMU_CAPABILITIES
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { eccCurves = buf.readObjArr(TPM_ECC_CURVE.class); }
+    public void initFromTpm(TpmBuffer buf) { eccCurves = buf.readObjArr(TPM_ECC_CURVE::new, TPM_ECC_CURVE[]::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(eccCurves); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -42,7 +46,7 @@ public class TPML_ECC_CURVE extends TpmStructure implements TPMU_CAPABILITIES
      */
     public static TPML_ECC_CURVE fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPML_ECC_CURVE.class);
+        return new TpmBuffer(byteBuf).createObj(TPML_ECC_CURVE::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -57,7 +61,7 @@ public class TPML_ECC_CURVE extends TpmStructure implements TPMU_CAPABILITIES
      */
     public static TPML_ECC_CURVE fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPML_ECC_CURVE.class);
+        return buf.createObj(TPML_ECC_CURVE::new);
     }
 
     @Override
@@ -74,6 +78,21 @@ public class TPML_ECC_CURVE extends TpmStructure implements TPMU_CAPABILITIES
     {
         _p.add(d, "TPM_ECC_CURVE[]", "eccCurves", eccCurves);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPML_ECC_CURVE that = (TPML_ECC_CURVE)obj;
+        return Arrays.equals(eccCurves, that.eccCurves);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(eccCurves);
+    }
 }
 
 //<<<
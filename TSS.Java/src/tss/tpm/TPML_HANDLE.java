@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -29,7 +29,11 @@ public class TPML_HANDLE extends TpmStructure implements TPMU_CAPABILITIES
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { handle = buf.readObjArr(TPM_HANDLE.class); }
+    public void initFromTpm(TpmBuffer buf) { handle = buf.readObjArr(TPM_HANDLE::new, TPM_HANDLE[]::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(handle); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -42,7 +46,7 @@ public class TPML_HANDLE extends TpmStructure implements TPMU_CAPABILITIES
      */
     public static TPML_HANDLE fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPML_HANDLE.class);
+        return new TpmBuffer(byteBuf).createObj(TPML_HANDLE::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -57,7 +61,7 @@ public class TPML_HANDLE extends TpmStructure implements TPMU_CAPABILITIES
      */
     public static TPML_HANDLE fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPML_HANDLE.class);
+        return buf.createObj(TPML_HANDLE::new);
     }
 
     @Override
@@ -74,6 +78,21 @@ public class TPML_HANDLE extends TpmStructure implements TPMU_CAPABILITIES
     {
         _p.add(d, "TPM_HANDLE[]", "handle", handle);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPML_HANDLE that = (TPML_HANDLE)obj;
+        return Arrays.equals(handle, that.handle);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(handle);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -29,7 +29,11 @@ public class TPML_PCR_SELECTION extends TpmStructure implements TPMU_CAPABILITIE
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { pcrSelections = buf.readObjArr(TPMS_PCR_SELECTION.class); }
+    public void initFromTpm(TpmBuffer buf) { pcrSelections = buf.readObjArr(TPMS_PCR_SELECTION::new, TPMS_PCR_SELECTION[]::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(pcrSelections); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -42,7 +46,7 @@ public class TPML_PCR_SELECTION extends TpmStructure implements TPMU_CAPABILITIE
      */
     public static TPML_PCR_SELECTION fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPML_PCR_SELECTION.class);
+        return new TpmBuffer(byteBuf).createObj(TPML_PCR_SELECTION::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -57,7 +61,7 @@ public class TPML_PCR_SELECTION extends TpmStructure implements TPMU_CAPABILITIE
      */
     public static TPML_PCR_SELECTION fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPML_PCR_SELECTION.class);
+        return buf.createObj(TPML_PCR_SELECTION::new);
     }
 
     @Override
@@ -74,6 +78,21 @@ public class TPML_PCR_SELECTION extends TpmStructure implements TPMU_CAPABILITIE
     {
         _p.add(d, "TPMS_PCR_SELECTION[]", "pcrSelections", pcrSelections);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPML_PCR_SELECTION that = (TPML_PCR_SELECTION)obj;
+        return Arrays.equals(pcrSelections, that.pcrSelections);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(pcrSelections);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -29,7 +29,11 @@ public class TPML_TAGGED_PCR_PROPERTY extends TpmStructure implements TPMU_CAPAB
 
     /** TpmMarshaller method */
     @Override
-    public void initFromTpm(TpmBuffer buf) { pcrProperty = buf.readObjArr(TPMS_TAGGED_PCR_SELECT.class); }
+    public void initFromTpm(TpmBuffer buf) { pcrProperty = buf.readObjArr(TPMS_TAGGED_PCR_SELECT::new, TPMS_TAGGED_PCR_SELECT[]::new); }
+
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(pcrProperty); }
 
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
@@ -42,7 +46,7 @@ public class TPML_TAGGED_PCR_PROPERTY extends TpmStructure implements TPMU_CAPAB
      */
     public static TPML_TAGGED_PCR_PROPERTY fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPML_TAGGED_PCR_PROPERTY.class);
+        return new TpmBuffer(byteBuf).createObj(TPML_TAGGED_PCR_PROPERTY::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -57,7 +61,7 @@ public class TPML_TAGGED_PCR_PROPERTY extends TpmStructure implements TPMU_CAPAB
      */
     public static TPML_TAGGED_PCR_PROPERTY fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPML_TAGGED_PCR_PROPERTY.class);
+        return buf.createObj(TPML_TAGGED_PCR_PROPERTY::new);
     }
 
     @Override
@@ -74,6 +78,21 @@ public class TPML_TAGGED_PCR_PROPERTY extends TpmStructure implements TPMU_CAPAB
     {
         _p.add(d, "TPMS_TAGGED_PCR_SELECT[]", "pcrProperty", pcrProperty);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPML_TAGGED_PCR_PROPERTY that = (TPML_TAGGED_PCR_PROPERTY)obj;
+        return Arrays.equals(pcrProperty, that.pcrProperty);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(pcrProperty);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -50,6 +50,10 @@ public class TPMS_ACT_DATA extends TpmStructure
         attributes = TPMA_ACT.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 4 + handle.wireSize() + attributes.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -61,7 +65,7 @@ public class TPMS_ACT_DATA extends TpmStructure
      */
     public static TPMS_ACT_DATA fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_ACT_DATA.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_ACT_DATA::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -76,7 +80,7 @@ public class TPMS_ACT_DATA extends TpmStructure
      */
     public static TPMS_ACT_DATA fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_ACT_DATA.class);
+        return buf.createObj(TPMS_ACT_DATA::new);
     }
 
     @Override
@@ -95,6 +99,26 @@ public class TPMS_ACT_DATA extends TpmStructure
         _p.add(d, "int", "timeout", timeout);
         _p.add(d, "TPMA_ACT", "attributes", attributes);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_ACT_DATA that = (TPMS_ACT_DATA)obj;
+        return Objects.equals(handle, that.handle)
+            && timeout == that.timeout
+            && Objects.equals(attributes, that.attributes);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(handle);
+        _hash = 31 * _hash + Integer.hashCode(timeout);
+        _hash = 31 * _hash + Objects.hashCode(attributes);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -45,6 +45,10 @@ public class TPMS_AC_OUTPUT extends TpmStructure
         data = buf.readInt();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 4 + tag.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -56,7 +60,7 @@ public class TPMS_AC_OUTPUT extends TpmStructure
      */
     public static TPMS_AC_OUTPUT fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_AC_OUTPUT.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_AC_OUTPUT::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -71,7 +75,7 @@ public class TPMS_AC_OUTPUT extends TpmStructure
      */
     public static TPMS_AC_OUTPUT fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_AC_OUTPUT.class);
+        return buf.createObj(TPMS_AC_OUTPUT::new);
     }
 
     @Override
@@ -89,6 +93,24 @@ public class TPMS_AC_OUTPUT extends TpmStructure
         _p.add(d, "TPM_AT", "tag", tag);
         _p.add(d, "int", "data", data);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_AC_OUTPUT that = (TPMS_AC_OUTPUT)obj;
+        return Objects.equals(tag, that.tag)
+            && data == that.data;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(tag);
+        _hash = 31 * _hash + Integer.hashCode(data);
+        return _hash;
+    }
 }
 
 //<<<
@@ -28,7 +28,7 @@ public class TPMS_AES_SYM_DETAILS extends TPMS_NULL_UNION
      */
     public static TPMS_AES_SYM_DETAILS fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_AES_SYM_DETAILS.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_AES_SYM_DETAILS::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -43,7 +43,7 @@ public class TPMS_AES_SYM_DETAILS extends TPMS_NULL_UNION
      */
     public static TPMS_AES_SYM_DETAILS fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_AES_SYM_DETAILS.class);
+        return buf.createObj(TPMS_AES_SYM_DETAILS::new);
     }
 
     @Override
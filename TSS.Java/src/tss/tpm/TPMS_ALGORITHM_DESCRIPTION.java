@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -43,6 +43,10 @@ public class TPMS_ALGORITHM_DESCRIPTION extends TpmStructure
         attributes = TPMA_ALGORITHM.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return alg.wireSize() + attributes.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -54,7 +58,7 @@ public class TPMS_ALGORITHM_DESCRIPTION extends TpmStructure
      */
     public static TPMS_ALGORITHM_DESCRIPTION fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_ALGORITHM_DESCRIPTION.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_ALGORITHM_DESCRIPTION::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -69,7 +73,7 @@ public class TPMS_ALGORITHM_DESCRIPTION extends TpmStructure
      */
     public static TPMS_ALGORITHM_DESCRIPTION fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_ALGORITHM_DESCRIPTION.class);
+        return buf.createObj(TPMS_ALGORITHM_DESCRIPTION::new);
     }
 
     @Override
@@ -87,6 +91,24 @@ public class TPMS_ALGORITHM_DESCRIPTION extends TpmStructure
         _p.add(d, "TPM_ALG_ID", "alg", alg);
         _p.add(d, "TPMA_ALGORITHM", "attributes", attributes);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_ALGORITHM_DESCRIPTION that = (TPMS_ALGORITHM_DESCRIPTION)obj;
+        return Objects.equals(alg, that.alg)
+            && Objects.equals(attributes, that.attributes);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(alg);
+        _hash = 31 * _hash + Objects.hashCode(attributes);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -123,10 +123,10 @@ public class TPMS_ALGORITHM_DETAIL_ECC extends TpmStructure
         curveID = TPM_ECC_CURVE.fromTpm(buf);
         keySize = buf.readShort();
         TPM_ALG_ID kdfScheme = TPM_ALG_ID.fromTpm(buf);
-        kdf = UnionFactory.create("TPMU_KDF_SCHEME", kdfScheme);
+        kdf = UnionFactory.createTPMU_KDF_SCHEME(kdfScheme);
         kdf.initFromTpm(buf);
         TPM_ALG_ID signScheme = TPM_ALG_ID.fromTpm(buf);
-        sign = UnionFactory.create("TPMU_ASYM_SCHEME", signScheme);
+        sign = UnionFactory.createTPMU_ASYM_SCHEME(signScheme);
         sign.initFromTpm(buf);
         p = buf.readSizedByteBuf();
         a = buf.readSizedByteBuf();
@@ -137,6 +137,10 @@ public class TPMS_ALGORITHM_DETAIL_ECC extends TpmStructure
         h = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 6 + curveID.wireSize() + kdf.wireSize() + sign.wireSize() + sizedByteBufWireSize(p, 2) + sizedByteBufWireSize(a, 2) + sizedByteBufWireSize(b, 2) + sizedByteBufWireSize(gX, 2) + sizedByteBufWireSize(gY, 2) + sizedByteBufWireSize(n, 2) + sizedByteBufWireSize(h, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -148,7 +152,7 @@ public class TPMS_ALGORITHM_DETAIL_ECC extends TpmStructure
      */
     public static TPMS_ALGORITHM_DETAIL_ECC fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_ALGORITHM_DETAIL_ECC.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_ALGORITHM_DETAIL_ECC::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -163,7 +167,7 @@ public class TPMS_ALGORITHM_DETAIL_ECC extends TpmStructure
      */
     public static TPMS_ALGORITHM_DETAIL_ECC fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_ALGORITHM_DETAIL_ECC.class);
+        return buf.createObj(TPMS_ALGORITHM_DETAIL_ECC::new);
     }
 
     @Override
@@ -190,6 +194,42 @@ public class TPMS_ALGORITHM_DETAIL_ECC extends TpmStructure
         _p.add(d, "byte[]", "n", n);
         _p.add(d, "byte[]", "h", h);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_ALGORITHM_DETAIL_ECC that = (TPMS_ALGORITHM_DETAIL_ECC)obj;
+        return Objects.equals(curveID, that.curveID)
+            && keySize == that.keySize
+            && Objects.equals(kdf, that.kdf)
+            && Objects.equals(sign, that.sign)
+            && Arrays.equals(p, that.p)
+            && Arrays.equals(a, that.a)
+            && Arrays.equals(b, that.b)
+            && Arrays.equals(gX, that.gX)
+            && Arrays.equals(gY, that.gY)
+            && Arrays.equals(n, that.n)
+            && Arrays.equals(h, that.h);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(curveID);
+        _hash = 31 * _hash + Integer.hashCode(keySize);
+        _hash = 31 * _hash + Objects.hashCode(kdf);
+        _hash = 31 * _hash + Objects.hashCode(sign);
+        _hash = 31 * _hash + Arrays.hashCode(p);
+        _hash = 31 * _hash + Arrays.hashCode(a);
+        _hash = 31 * _hash + Arrays.hashCode(b);
+        _hash = 31 * _hash + Arrays.hashCode(gX);
+        _hash = 31 * _hash + Arrays.hashCode(gY);
+        _hash = 31 * _hash + Arrays.hashCode(n);
+        _hash = 31 * _hash + Arrays.hashCode(h);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -45,6 +45,10 @@ public class TPMS_ALG_PROPERTY extends TpmStructure
         algProperties = TPMA_ALGORITHM.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return alg.wireSize() + algProperties.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -56,7 +60,7 @@ public class TPMS_ALG_PROPERTY extends TpmStructure
      */
     public static TPMS_ALG_PROPERTY fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_ALG_PROPERTY.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_ALG_PROPERTY::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -71,7 +75,7 @@ public class TPMS_ALG_PROPERTY extends TpmStructure
      */
     public static TPMS_ALG_PROPERTY fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_ALG_PROPERTY.class);
+        return buf.createObj(TPMS_ALG_PROPERTY::new);
     }
 
     @Override
@@ -89,6 +93,24 @@ public class TPMS_ALG_PROPERTY extends TpmStructure
         _p.add(d, "TPM_ALG_ID", "alg", alg);
         _p.add(d, "TPMA_ALGORITHM", "algProperties", algProperties);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_ALG_PROPERTY that = (TPMS_ALG_PROPERTY)obj;
+        return Objects.equals(alg, that.alg)
+            && Objects.equals(algProperties, that.algProperties);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(alg);
+        _hash = 31 * _hash + Objects.hashCode(algProperties);
+        return _hash;
+    }
 }
 
 //<<<
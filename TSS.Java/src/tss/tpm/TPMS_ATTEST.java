@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -91,10 +91,14 @@ public class TPMS_ATTEST extends TpmStructure
         extraData = buf.readSizedByteBuf();
         clockInfo = TPMS_CLOCK_INFO.fromTpm(buf);
         firmwareVersion = buf.readInt64();
-        attested = UnionFactory.create("TPMU_ATTEST", type);
+        attested = UnionFactory.createTPMU_ATTEST(type);
         attested.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 10 + magic.wireSize() + sizedByteBufWireSize(qualifiedSigner, 2) + sizedByteBufWireSize(extraData, 2) + clockInfo.wireSize() + attested.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -106,7 +110,7 @@ public class TPMS_ATTEST extends TpmStructure
      */
     public static TPMS_ATTEST fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_ATTEST.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_ATTEST::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -121,7 +125,7 @@ public class TPMS_ATTEST extends TpmStructure
      */
     public static TPMS_ATTEST fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_ATTEST.class);
+        return buf.createObj(TPMS_ATTEST::new);
     }
 
     @Override
@@ -143,6 +147,32 @@ public class TPMS_ATTEST extends TpmStructure
         _p.add(d, "long", "firmwareVersion", firmwareVersion);
         _p.add(d, "TPMU_ATTEST", "attested", attested);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_ATTEST that = (TPMS_ATTEST)obj;
+        return Objects.equals(magic, that.magic)
+            && Arrays.equals(qualifiedSigner, that.qualifiedSigner)
+            && Arrays.equals(extraData, that.extraData)
+            && Objects.equals(clockInfo, that.clockInfo)
+            && firmwareVersion == that.firmwareVersion
+            && Objects.equals(attested, that.attested);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(magic);
+        _hash = 31 * _hash + Arrays.hashCode(qualifiedSigner);
+        _hash = 31 * _hash + Arrays.hashCode(extraData);
+        _hash = 31 * _hash + Objects.hashCode(clockInfo);
+        _hash = 31 * _hash + Long.hashCode(firmwareVersion);
+        _hash = 31 * _hash + Objects.hashCode(attested);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -57,6 +57,10 @@ public class TPMS_AUTH_COMMAND extends TpmStructure
         hmac = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sessionHandle.wireSize() + sizedByteBufWireSize(nonce, 2) + sessionAttributes.wireSize() + sizedByteBufWireSize(hmac, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -68,7 +72,7 @@ public class TPMS_AUTH_COMMAND extends TpmStructure
      */
     public static TPMS_AUTH_COMMAND fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_AUTH_COMMAND.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_AUTH_COMMAND::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -83,7 +87,7 @@ public class TPMS_AUTH_COMMAND extends TpmStructure
      */
     public static TPMS_AUTH_COMMAND fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_AUTH_COMMAND.class);
+        return buf.createObj(TPMS_AUTH_COMMAND::new);
     }
 
     @Override
@@ -103,6 +107,28 @@ public class TPMS_AUTH_COMMAND extends TpmStructure
         _p.add(d, "TPMA_SESSION", "sessionAttributes", sessionAttributes);
         _p.add(d, "byte[]", "hmac", hmac);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_AUTH_COMMAND that = (TPMS_AUTH_COMMAND)obj;
+        return Objects.equals(sessionHandle, that.sessionHandle)
+            && Arrays.equals(nonce, that.nonce)
+            && Objects.equals(sessionAttributes, that.sessionAttributes)
+            && Arrays.equals(hmac, that.hmac);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(sessionHandle);
+        _hash = 31 * _hash + Arrays.hashCode(nonce);
+        _hash = 31 * _hash + Objects.hashCode(sessionAttributes);
+        _hash = 31 * _hash + Arrays.hashCode(hmac);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -53,6 +53,10 @@ public class TPMS_AUTH_RESPONSE extends TpmStructure
         hmac = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(nonce, 2) + sessionAttributes.wireSize() + sizedByteBufWireSize(hmac, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -64,7 +68,7 @@ public class TPMS_AUTH_RESPONSE extends TpmStructure
      */
     public static TPMS_AUTH_RESPONSE fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_AUTH_RESPONSE.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_AUTH_RESPONSE::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -79,7 +83,7 @@ public class TPMS_AUTH_RESPONSE extends TpmStructure
      */
     public static TPMS_AUTH_RESPONSE fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_AUTH_RESPONSE.class);
+        return buf.createObj(TPMS_AUTH_RESPONSE::new);
     }
 
     @Override
@@ -98,6 +102,26 @@ public class TPMS_AUTH_RESPONSE extends TpmStructure
         _p.add(d, "TPMA_SESSION", "sessionAttributes", sessionAttributes);
         _p.add(d, "byte[]", "hmac", hmac);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_AUTH_RESPONSE that = (TPMS_AUTH_RESPONSE)obj;
+        return Arrays.equals(nonce, that.nonce)
+            && Objects.equals(sessionAttributes, that.sessionAttributes)
+            && Arrays.equals(hmac, that.hmac);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(nonce);
+        _hash = 31 * _hash + Objects.hashCode(sessionAttributes);
+        _hash = 31 * _hash + Arrays.hashCode(hmac);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -43,10 +43,18 @@ public class TPMS_CAPABILITY_DATA extends TpmStructure
     public void initFromTpm(TpmBuffer buf)
     {
         TPM_CAP capability = TPM_CAP.fromTpm(buf);
-        data = UnionFactory.create("TPMU_CAPABILITIES", capability);
+        data = UnionFactory.createTPMU_CAPABILITIES(capability);
         data.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize()
+    {
+        if (data == null) return 0;
+        return 4 + data.wireSize();
+    }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -58,7 +66,7 @@ public class TPMS_CAPABILITY_DATA extends TpmStructure
      */
     public static TPMS_CAPABILITY_DATA fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_CAPABILITY_DATA.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_CAPABILITY_DATA::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -73,7 +81,7 @@ public class TPMS_CAPABILITY_DATA extends TpmStructure
      */
     public static TPMS_CAPABILITY_DATA fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_CAPABILITY_DATA.class);
+        return buf.createObj(TPMS_CAPABILITY_DATA::new);
     }
 
     @Override
@@ -90,6 +98,21 @@ public class TPMS_CAPABILITY_DATA extends TpmStructure
     {
         _p.add(d, "TPMU_CAPABILITIES", "data", data);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_CAPABILITY_DATA that = (TPMS_CAPABILITY_DATA)obj;
+        return Objects.equals(data, that.data);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(data);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -46,6 +46,10 @@ public class TPMS_CERTIFY_INFO extends TpmStructure implements TPMU_ATTEST
         qualifiedName = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(name, 2) + sizedByteBufWireSize(qualifiedName, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -57,7 +61,7 @@ public class TPMS_CERTIFY_INFO extends TpmStructure implements TPMU_ATTEST
      */
     public static TPMS_CERTIFY_INFO fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_CERTIFY_INFO.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_CERTIFY_INFO::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -72,7 +76,7 @@ public class TPMS_CERTIFY_INFO extends TpmStructure implements TPMU_ATTEST
      */
     public static TPMS_CERTIFY_INFO fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_CERTIFY_INFO.class);
+        return buf.createObj(TPMS_CERTIFY_INFO::new);
     }
 
     @Override
@@ -90,6 +94,24 @@ public class TPMS_CERTIFY_INFO extends TpmStructure implements TPMU_ATTEST
         _p.add(d, "byte[]", "name", name);
         _p.add(d, "byte[]", "qualifiedName", qualifiedName);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_CERTIFY_INFO that = (TPMS_CERTIFY_INFO)obj;
+        return Arrays.equals(name, that.name)
+            && Arrays.equals(qualifiedName, that.qualifiedName);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(name);
+        _hash = 31 * _hash + Arrays.hashCode(qualifiedName);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -74,6 +74,10 @@ public class TPMS_CLOCK_INFO extends TpmStructure
         safe = buf.readByte();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 17; }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -85,7 +89,7 @@ public class TPMS_CLOCK_INFO extends TpmStructure
      */
     public static TPMS_CLOCK_INFO fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_CLOCK_INFO.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_CLOCK_INFO::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -100,7 +104,7 @@ public class TPMS_CLOCK_INFO extends TpmStructure
      */
     public static TPMS_CLOCK_INFO fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_CLOCK_INFO.class);
+        return buf.createObj(TPMS_CLOCK_INFO::new);
     }
 
     @Override
@@ -120,6 +124,28 @@ public class TPMS_CLOCK_INFO extends TpmStructure
         _p.add(d, "int", "restartCount", restartCount);
         _p.add(d, "byte", "safe", safe);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_CLOCK_INFO that = (TPMS_CLOCK_INFO)obj;
+        return clock == that.clock
+            && resetCount == that.resetCount
+            && restartCount == that.restartCount
+            && safe == that.safe;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Long.hashCode(clock);
+        _hash = 31 * _hash + Integer.hashCode(resetCount);
+        _hash = 31 * _hash + Integer.hashCode(restartCount);
+        _hash = 31 * _hash + Byte.hashCode(safe);
+        return _hash;
+    }
 }
 
 //<<<
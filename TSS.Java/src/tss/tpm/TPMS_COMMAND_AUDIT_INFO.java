@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -60,6 +60,10 @@ public class TPMS_COMMAND_AUDIT_INFO extends TpmStructure implements TPMU_ATTEST
         commandDigest = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 8 + digestAlg.wireSize() + sizedByteBufWireSize(auditDigest, 2) + sizedByteBufWireSize(commandDigest, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -71,7 +75,7 @@ public class TPMS_COMMAND_AUDIT_INFO extends TpmStructure implements TPMU_ATTEST
      */
     public static TPMS_COMMAND_AUDIT_INFO fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_COMMAND_AUDIT_INFO.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_COMMAND_AUDIT_INFO::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -86,7 +90,7 @@ public class TPMS_COMMAND_AUDIT_INFO extends TpmStructure implements TPMU_ATTEST
      */
     public static TPMS_COMMAND_AUDIT_INFO fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_COMMAND_AUDIT_INFO.class);
+        return buf.createObj(TPMS_COMMAND_AUDIT_INFO::new);
     }
 
     @Override
@@ -106,6 +110,28 @@ public class TPMS_COMMAND_AUDIT_INFO extends TpmStructure implements TPMU_ATTEST
         _p.add(d, "byte[]", "auditDigest", auditDigest);
         _p.add(d, "byte[]", "commandDigest", commandDigest);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_COMMAND_AUDIT_INFO that = (TPMS_COMMAND_AUDIT_INFO)obj;
+        return auditCounter == that.auditCounter
+            && Objects.equals(digestAlg, that.digestAlg)
+            && Arrays.equals(auditDigest, that.auditDigest)
+            && Arrays.equals(commandDigest, that.commandDigest);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Long.hashCode(auditCounter);
+        _hash = 31 * _hash + Objects.hashCode(digestAlg);
+        _hash = 31 * _hash + Arrays.hashCode(auditDigest);
+        _hash = 31 * _hash + Arrays.hashCode(commandDigest);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -67,9 +67,13 @@ public class TPMS_CONTEXT extends TpmStructure
         sequence = buf.readInt64();
         savedHandle = TPM_HANDLE.fromTpm(buf);
         hierarchy = TPM_HANDLE.fromTpm(buf);
-        contextBlob = buf.createSizedObj(TPMS_CONTEXT_DATA.class);
+        contextBlob = buf.createSizedObj(TPMS_CONTEXT_DATA::new);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 8 + savedHandle.wireSize() + hierarchy.wireSize() + sizedObjWireSize(contextBlob); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -81,7 +85,7 @@ public class TPMS_CONTEXT extends TpmStructure
      */
     public static TPMS_CONTEXT fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_CONTEXT.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_CONTEXT::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -96,7 +100,7 @@ public class TPMS_CONTEXT extends TpmStructure
      */
     public static TPMS_CONTEXT fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_CONTEXT.class);
+        return buf.createObj(TPMS_CONTEXT::new);
     }
 
     @Override
@@ -116,6 +120,28 @@ public class TPMS_CONTEXT extends TpmStructure
         _p.add(d, "TPM_HANDLE", "hierarchy", hierarchy);
         _p.add(d, "TPMS_CONTEXT_DATA", "contextBlob", contextBlob);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_CONTEXT that = (TPMS_CONTEXT)obj;
+        return sequence == that.sequence
+            && Objects.equals(savedHandle, that.savedHandle)
+            && Objects.equals(hierarchy, that.hierarchy)
+            && Objects.equals(contextBlob, that.contextBlob);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Long.hashCode(sequence);
+        _hash = 31 * _hash + Objects.hashCode(savedHandle);
+        _hash = 31 * _hash + Objects.hashCode(hierarchy);
+        _hash = 31 * _hash + Objects.hashCode(contextBlob);
+        return _hash;
+    }
 }
 
 //<<<
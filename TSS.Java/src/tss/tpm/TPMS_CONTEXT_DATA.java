@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -43,6 +43,10 @@ public class TPMS_CONTEXT_DATA extends TpmStructure
         encrypted = buf.readByteBuf(buf.getCurStuctRemainingSize());
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(integrity, 2) + byteBufWireSize(encrypted); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -54,7 +58,7 @@ public class TPMS_CONTEXT_DATA extends TpmStructure
      */
     public static TPMS_CONTEXT_DATA fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_CONTEXT_DATA.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_CONTEXT_DATA::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -69,7 +73,7 @@ public class TPMS_CONTEXT_DATA extends TpmStructure
      */
     public static TPMS_CONTEXT_DATA fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_CONTEXT_DATA.class);
+        return buf.createObj(TPMS_CONTEXT_DATA::new);
     }
 
     @Override
@@ -87,6 +91,24 @@ public class TPMS_CONTEXT_DATA extends TpmStructure
         _p.add(d, "byte[]", "integrity", integrity);
         _p.add(d, "byte[]", "encrypted", encrypted);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_CONTEXT_DATA that = (TPMS_CONTEXT_DATA)obj;
+        return Arrays.equals(integrity, that.integrity)
+            && Arrays.equals(encrypted, that.encrypted);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(integrity);
+        _hash = 31 * _hash + Arrays.hashCode(encrypted);
+        return _hash;
+    }
 }
 
 //<<<
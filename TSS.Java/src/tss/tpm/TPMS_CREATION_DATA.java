@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -92,7 +92,7 @@ public class TPMS_CREATION_DATA extends TpmStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        pcrSelect = buf.readObjArr(TPMS_PCR_SELECTION.class);
+        pcrSelect = buf.readObjArr(TPMS_PCR_SELECTION::new, TPMS_PCR_SELECTION[]::new);
         pcrDigest = buf.readSizedByteBuf();
         locality = TPMA_LOCALITY.fromTpm(buf);
         parentNameAlg = TPM_ALG_ID.fromTpm(buf);
@@ -101,6 +101,10 @@ public class TPMS_CREATION_DATA extends TpmStructure
         outsideInfo = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(pcrSelect) + sizedByteBufWireSize(pcrDigest, 2) + locality.wireSize() + parentNameAlg.wireSize() + sizedByteBufWireSize(parentName, 2) + sizedByteBufWireSize(parentQualifiedName, 2) + sizedByteBufWireSize(outsideInfo, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -112,7 +116,7 @@ public class TPMS_CREATION_DATA extends TpmStructure
      */
     public static TPMS_CREATION_DATA fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_CREATION_DATA.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_CREATION_DATA::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -127,7 +131,7 @@ public class TPMS_CREATION_DATA extends TpmStructure
      */
     public static TPMS_CREATION_DATA fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_CREATION_DATA.class);
+        return buf.createObj(TPMS_CREATION_DATA::new);
     }
 
     @Override
@@ -150,6 +154,34 @@ public class TPMS_CREATION_DATA extends TpmStructure
         _p.add(d, "byte[]", "parentQualifiedName", parentQualifiedName);
         _p.add(d, "byte[]", "outsideInfo", outsideInfo);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_CREATION_DATA that = (TPMS_CREATION_DATA)obj;
+        return Arrays.equals(pcrSelect, that.pcrSelect)
+            && Arrays.equals(pcrDigest, that.pcrDigest)
+            && Objects.equals(locality, that.locality)
+            && Objects.equals(parentNameAlg, that.parentNameAlg)
+            && Arrays.equals(parentName, that.parentName)
+            && Arrays.equals(parentQualifiedName, that.parentQualifiedName)
+            && Arrays.equals(outsideInfo, that.outsideInfo);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(pcrSelect);
+        _hash = 31 * _hash + Arrays.hashCode(pcrDigest);
+        _hash = 31 * _hash + Objects.hashCode(locality);
+        _hash = 31 * _hash + Objects.hashCode(parentNameAlg);
+        _hash = 31 * _hash + Arrays.hashCode(parentName);
+        _hash = 31 * _hash + Arrays.hashCode(parentQualifiedName);
+        _hash = 31 * _hash + Arrays.hashCode(outsideInfo);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -46,6 +46,10 @@ public class TPMS_CREATION_INFO extends TpmStructure implements TPMU_ATTEST
         creationHash = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(objectName, 2) + sizedByteBufWireSize(creationHash, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -57,7 +61,7 @@ public class TPMS_CREATION_INFO extends TpmStructure implements TPMU_ATTEST
      */
     public static TPMS_CREATION_INFO fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_CREATION_INFO.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_CREATION_INFO::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -72,7 +76,7 @@ public class TPMS_CREATION_INFO extends TpmStructure implements TPMU_ATTEST
      */
     public static TPMS_CREATION_INFO fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_CREATION_INFO.class);
+        return buf.createObj(TPMS_CREATION_INFO::new);
     }
 
     @Override
@@ -90,6 +94,24 @@ public class TPMS_CREATION_INFO extends TpmStructure implements TPMU_ATTEST
         _p.add(d, "byte[]", "objectName", objectName);
         _p.add(d, "byte[]", "creationHash", creationHash);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_CREATION_INFO that = (TPMS_CREATION_INFO)obj;
+        return Arrays.equals(objectName, that.objectName)
+            && Arrays.equals(creationHash, that.creationHash);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(objectName);
+        _hash = 31 * _hash + Arrays.hashCode(creationHash);
+        return _hash;
+    }
 }
 
 //<<<
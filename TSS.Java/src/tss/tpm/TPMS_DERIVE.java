@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -46,6 +46,10 @@ public class TPMS_DERIVE extends TpmStructure implements TPMU_SENSITIVE_CREATE,
         context = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(label, 2) + sizedByteBufWireSize(context, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -57,7 +61,7 @@ public class TPMS_DERIVE extends TpmStructure implements TPMU_SENSITIVE_CREATE,
      */
     public static TPMS_DERIVE fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_DERIVE.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_DERIVE::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -72,7 +76,7 @@ public class TPMS_DERIVE extends TpmStructure implements TPMU_SENSITIVE_CREATE,
      */
     public static TPMS_DERIVE fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_DERIVE.class);
+        return buf.createObj(TPMS_DERIVE::new);
     }
 
     @Override
@@ -90,6 +94,24 @@ public class TPMS_DERIVE extends TpmStructure implements TPMU_SENSITIVE_CREATE,
         _p.add(d, "byte[]", "label", label);
         _p.add(d, "byte[]", "context", context);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_DERIVE that = (TPMS_DERIVE)obj;
+        return Arrays.equals(label, that.label)
+            && Arrays.equals(context, that.context);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(label);
+        _hash = 31 * _hash + Arrays.hashCode(context);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -102,14 +102,18 @@ public class TPMS_ECC_PARMS extends TpmStructure implements TPMU_PUBLIC_PARMS
     {
         symmetric = TPMT_SYM_DEF_OBJECT.fromTpm(buf);
         TPM_ALG_ID schemeScheme = TPM_ALG_ID.fromTpm(buf);
-        scheme = UnionFactory.create("TPMU_ASYM_SCHEME", schemeScheme);
+        scheme = UnionFactory.createTPMU_ASYM_SCHEME(schemeScheme);
         scheme.initFromTpm(buf);
         curveID = TPM_ECC_CURVE.fromTpm(buf);
         TPM_ALG_ID kdfScheme = TPM_ALG_ID.fromTpm(buf);
-        kdf = UnionFactory.create("TPMU_KDF_SCHEME", kdfScheme);
+        kdf = UnionFactory.createTPMU_KDF_SCHEME(kdfScheme);
         kdf.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 4 + symmetric.wireSize() + scheme.wireSize() + curveID.wireSize() + kdf.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -121,7 +125,7 @@ public class TPMS_ECC_PARMS extends TpmStructure implements TPMU_PUBLIC_PARMS
      */
     public static TPMS_ECC_PARMS fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_ECC_PARMS.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_ECC_PARMS::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -136,7 +140,7 @@ public class TPMS_ECC_PARMS extends TpmStructure implements TPMU_PUBLIC_PARMS
      */
     public static TPMS_ECC_PARMS fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_ECC_PARMS.class);
+        return buf.createObj(TPMS_ECC_PARMS::new);
     }
 
     @Override
@@ -156,6 +160,28 @@ public class TPMS_ECC_PARMS extends TpmStructure implements TPMU_PUBLIC_PARMS
         _p.add(d, "TPM_ECC_CURVE", "curveID", curveID);
         _p.add(d, "TPMU_KDF_SCHEME", "kdf", kdf);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_ECC_PARMS that = (TPMS_ECC_PARMS)obj;
+        return Objects.equals(symmetric, that.symmetric)
+            && Objects.equals(scheme, that.scheme)
+            && Objects.equals(curveID, that.curveID)
+            && Objects.equals(kdf, that.kdf);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(symmetric);
+        _hash = 31 * _hash + Objects.hashCode(scheme);
+        _hash = 31 * _hash + Objects.hashCode(curveID);
+        _hash = 31 * _hash + Objects.hashCode(kdf);
+        return _hash;
+    }
 }
 
 //<<<
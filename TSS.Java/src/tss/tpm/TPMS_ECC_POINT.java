@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -46,6 +46,10 @@ public class TPMS_ECC_POINT extends TpmStructure implements TPMU_PUBLIC_ID
         y = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(x, 2) + sizedByteBufWireSize(y, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -57,7 +61,7 @@ public class TPMS_ECC_POINT extends TpmStructure implements TPMU_PUBLIC_ID
      */
     public static TPMS_ECC_POINT fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_ECC_POINT.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_ECC_POINT::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -72,7 +76,7 @@ public class TPMS_ECC_POINT extends TpmStructure implements TPMU_PUBLIC_ID
      */
     public static TPMS_ECC_POINT fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_ECC_POINT.class);
+        return buf.createObj(TPMS_ECC_POINT::new);
     }
 
     @Override
@@ -90,6 +94,24 @@ public class TPMS_ECC_POINT extends TpmStructure implements TPMU_PUBLIC_ID
         _p.add(d, "byte[]", "x", x);
         _p.add(d, "byte[]", "y", y);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_ECC_POINT that = (TPMS_ECC_POINT)obj;
+        return Arrays.equals(x, that.x)
+            && Arrays.equals(y, that.y);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(x);
+        _hash = 31 * _hash + Arrays.hashCode(y);
+        return _hash;
+    }
 }
 
 //<<<
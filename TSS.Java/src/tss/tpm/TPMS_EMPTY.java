@@ -29,7 +29,7 @@ public class TPMS_EMPTY extends TpmStructure implements TPMU_ASYM_SCHEME
      */
     public static TPMS_EMPTY fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_EMPTY.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_EMPTY::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -44,7 +44,7 @@ public class TPMS_EMPTY extends TpmStructure implements TPMU_ASYM_SCHEME
      */
     public static TPMS_EMPTY fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_EMPTY.class);
+        return buf.createObj(TPMS_EMPTY::new);
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TPMS_ENC_SCHEME_RSAES extends TPMS_EMPTY
      */
     public static TPMS_ENC_SCHEME_RSAES fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_ENC_SCHEME_RSAES.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_ENC_SCHEME_RSAES::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -41,7 +41,7 @@ public class TPMS_ENC_SCHEME_RSAES extends TPMS_EMPTY
      */
     public static TPMS_ENC_SCHEME_RSAES fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_ENC_SCHEME_RSAES.class);
+        return buf.createObj(TPMS_ENC_SCHEME_RSAES::new);
     }
 
     @Override
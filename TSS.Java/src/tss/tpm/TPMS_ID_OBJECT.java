@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -54,6 +54,10 @@ public class TPMS_ID_OBJECT extends TpmStructure
         encIdentity = buf.readByteBuf(buf.getCurStuctRemainingSize());
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(integrityHMAC, 2) + byteBufWireSize(encIdentity); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -65,7 +69,7 @@ public class TPMS_ID_OBJECT extends TpmStructure
      */
     public static TPMS_ID_OBJECT fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_ID_OBJECT.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_ID_OBJECT::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -80,7 +84,7 @@ public class TPMS_ID_OBJECT extends TpmStructure
      */
     public static TPMS_ID_OBJECT fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_ID_OBJECT.class);
+        return buf.createObj(TPMS_ID_OBJECT::new);
     }
 
     @Override
@@ -98,6 +102,24 @@ public class TPMS_ID_OBJECT extends TpmStructure
         _p.add(d, "byte[]", "integrityHMAC", integrityHMAC);
         _p.add(d, "byte[]", "encIdentity", encIdentity);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_ID_OBJECT that = (TPMS_ID_OBJECT)obj;
+        return Arrays.equals(integrityHMAC, that.integrityHMAC)
+            && Arrays.equals(encIdentity, that.encIdentity);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(integrityHMAC);
+        _hash = 31 * _hash + Arrays.hashCode(encIdentity);
+        return _hash;
+    }
 }
 
 //<<<
@@ -32,7 +32,7 @@ public class TPMS_KDF_SCHEME_KDF1_SP800_108 extends TPMS_SCHEME_HASH
      */
     public static TPMS_KDF_SCHEME_KDF1_SP800_108 fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_KDF_SCHEME_KDF1_SP800_108.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_KDF_SCHEME_KDF1_SP800_108::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -47,7 +47,7 @@ public class TPMS_KDF_SCHEME_KDF1_SP800_108 extends TPMS_SCHEME_HASH
      */
     public static TPMS_KDF_SCHEME_KDF1_SP800_108 fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_KDF_SCHEME_KDF1_SP800_108.class);
+        return buf.createObj(TPMS_KDF_SCHEME_KDF1_SP800_108::new);
     }
 
     @Override
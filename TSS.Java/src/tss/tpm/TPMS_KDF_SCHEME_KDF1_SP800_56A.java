@@ -32,7 +32,7 @@ public class TPMS_KDF_SCHEME_KDF1_SP800_56A extends TPMS_SCHEME_HASH
      */
     public static TPMS_KDF_SCHEME_KDF1_SP800_56A fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_KDF_SCHEME_KDF1_SP800_56A.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_KDF_SCHEME_KDF1_SP800_56A::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -47,7 +47,7 @@ public class TPMS_KDF_SCHEME_KDF1_SP800_56A extends TPMS_SCHEME_HASH
      */
     public static TPMS_KDF_SCHEME_KDF1_SP800_56A fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_KDF_SCHEME_KDF1_SP800_56A.class);
+        return buf.createObj(TPMS_KDF_SCHEME_KDF1_SP800_56A::new);
     }
 
     @Override
@@ -32,7 +32,7 @@ public class TPMS_KDF_SCHEME_KDF2 extends TPMS_SCHEME_HASH
      */
     public static TPMS_KDF_SCHEME_KDF2 fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_KDF_SCHEME_KDF2.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_KDF_SCHEME_KDF2::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -47,7 +47,7 @@ public class TPMS_KDF_SCHEME_KDF2 extends TPMS_SCHEME_HASH
      */
     public static TPMS_KDF_SCHEME_KDF2 fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_KDF_SCHEME_KDF2.class);
+        return buf.createObj(TPMS_KDF_SCHEME_KDF2::new);
     }
 
     @Override
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -48,10 +48,18 @@ public class TPMS_KEYEDHASH_PARMS extends TpmStructure implements TPMU_PUBLIC_PA
     public void initFromTpm(TpmBuffer buf)
     {
         TPM_ALG_ID schemeScheme = TPM_ALG_ID.fromTpm(buf);
-        scheme = UnionFactory.create("TPMU_SCHEME_KEYEDHASH", schemeScheme);
+        scheme = UnionFactory.createTPMU_SCHEME_KEYEDHASH(schemeScheme);
         scheme.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize()
+    {
+        if (scheme == null) return 0;
+        return 2 + scheme.wireSize();
+    }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -63,7 +71,7 @@ public class TPMS_KEYEDHASH_PARMS extends TpmStructure implements TPMU_PUBLIC_PA
      */
     public static TPMS_KEYEDHASH_PARMS fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_KEYEDHASH_PARMS.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_KEYEDHASH_PARMS::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -78,7 +86,7 @@ public class TPMS_KEYEDHASH_PARMS extends TpmStructure implements TPMU_PUBLIC_PA
      */
     public static TPMS_KEYEDHASH_PARMS fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_KEYEDHASH_PARMS.class);
+        return buf.createObj(TPMS_KEYEDHASH_PARMS::new);
     }
 
     @Override
@@ -95,6 +103,21 @@ public class TPMS_KEYEDHASH_PARMS extends TpmStructure implements TPMU_PUBLIC_PA
     {
         _p.add(d, "TPMU_SCHEME_KEYEDHASH", "scheme", scheme);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_KEYEDHASH_PARMS that = (TPMS_KEYEDHASH_PARMS)obj;
+        return Objects.equals(scheme, that.scheme);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(scheme);
+    }
 }
 
 //<<<
@@ -28,7 +28,7 @@ public class TPMS_NULL_SIGNATURE extends TPMS_NULL_UNION
      */
     public static TPMS_NULL_SIGNATURE fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_NULL_SIGNATURE.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_NULL_SIGNATURE::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -43,7 +43,7 @@ public class TPMS_NULL_SIGNATURE extends TPMS_NULL_UNION
      */
     public static TPMS_NULL_SIGNATURE fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_NULL_SIGNATURE.class);
+        return buf.createObj(TPMS_NULL_SIGNATURE::new);
     }
 
     @Override
@@ -28,7 +28,7 @@ public class TPMS_NULL_SIG_SCHEME extends TPMS_NULL_UNION
      */
     public static TPMS_NULL_SIG_SCHEME fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_NULL_SIG_SCHEME.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_NULL_SIG_SCHEME::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -43,7 +43,7 @@ public class TPMS_NULL_SIG_SCHEME extends TPMS_NULL_UNION
      */
     public static TPMS_NULL_SIG_SCHEME fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_NULL_SIG_SCHEME.class);
+        return buf.createObj(TPMS_NULL_SIG_SCHEME::new);
     }
 
     @Override
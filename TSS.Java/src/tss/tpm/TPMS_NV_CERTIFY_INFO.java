@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -55,6 +55,10 @@ public class TPMS_NV_CERTIFY_INFO extends TpmStructure implements TPMU_ATTEST
         nvContents = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + sizedByteBufWireSize(indexName, 2) + sizedByteBufWireSize(nvContents, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -66,7 +70,7 @@ public class TPMS_NV_CERTIFY_INFO extends TpmStructure implements TPMU_ATTEST
      */
     public static TPMS_NV_CERTIFY_INFO fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_NV_CERTIFY_INFO.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_NV_CERTIFY_INFO::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -81,7 +85,7 @@ public class TPMS_NV_CERTIFY_INFO extends TpmStructure implements TPMU_ATTEST
      */
     public static TPMS_NV_CERTIFY_INFO fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_NV_CERTIFY_INFO.class);
+        return buf.createObj(TPMS_NV_CERTIFY_INFO::new);
     }
 
     @Override
@@ -100,6 +104,26 @@ public class TPMS_NV_CERTIFY_INFO extends TpmStructure implements TPMU_ATTEST
         _p.add(d, "int", "offset", offset);
         _p.add(d, "byte[]", "nvContents", nvContents);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_NV_CERTIFY_INFO that = (TPMS_NV_CERTIFY_INFO)obj;
+        return Arrays.equals(indexName, that.indexName)
+            && offset == that.offset
+            && Arrays.equals(nvContents, that.nvContents);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(indexName);
+        _hash = 31 * _hash + Integer.hashCode(offset);
+        _hash = 31 * _hash + Arrays.hashCode(nvContents);
+        return _hash;
+    }
 }
 
 //<<<
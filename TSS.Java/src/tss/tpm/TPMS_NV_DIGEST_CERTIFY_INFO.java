@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -48,6 +48,10 @@ public class TPMS_NV_DIGEST_CERTIFY_INFO extends TpmStructure implements TPMU_AT
         nvDigest = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(indexName, 2) + sizedByteBufWireSize(nvDigest, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -59,7 +63,7 @@ public class TPMS_NV_DIGEST_CERTIFY_INFO extends TpmStructure implements TPMU_AT
      */
     public static TPMS_NV_DIGEST_CERTIFY_INFO fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_NV_DIGEST_CERTIFY_INFO.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_NV_DIGEST_CERTIFY_INFO::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -74,7 +78,7 @@ public class TPMS_NV_DIGEST_CERTIFY_INFO extends TpmStructure implements TPMU_AT
      */
     public static TPMS_NV_DIGEST_CERTIFY_INFO fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_NV_DIGEST_CERTIFY_INFO.class);
+        return buf.createObj(TPMS_NV_DIGEST_CERTIFY_INFO::new);
     }
 
     @Override
@@ -92,6 +96,24 @@ public class TPMS_NV_DIGEST_CERTIFY_INFO extends TpmStructure implements TPMU_AT
         _p.add(d, "byte[]", "indexName", indexName);
         _p.add(d, "byte[]", "nvDigest", nvDigest);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_NV_DIGEST_CERTIFY_INFO that = (TPMS_NV_DIGEST_CERTIFY_INFO)obj;
+        return Arrays.equals(indexName, that.indexName)
+            && Arrays.equals(nvDigest, that.nvDigest);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(indexName);
+        _hash = 31 * _hash + Arrays.hashCode(nvDigest);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -54,6 +54,10 @@ public class TPMS_NV_PIN_COUNTER_PARAMETERS extends TpmStructure
         pinLimit = buf.readInt();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 8; }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -65,7 +69,7 @@ public class TPMS_NV_PIN_COUNTER_PARAMETERS extends TpmStructure
      */
     public static TPMS_NV_PIN_COUNTER_PARAMETERS fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_NV_PIN_COUNTER_PARAMETERS.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_NV_PIN_COUNTER_PARAMETERS::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -80,7 +84,7 @@ public class TPMS_NV_PIN_COUNTER_PARAMETERS extends TpmStructure
      */
     public static TPMS_NV_PIN_COUNTER_PARAMETERS fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_NV_PIN_COUNTER_PARAMETERS.class);
+        return buf.createObj(TPMS_NV_PIN_COUNTER_PARAMETERS::new);
     }
 
     @Override
@@ -98,6 +102,24 @@ public class TPMS_NV_PIN_COUNTER_PARAMETERS extends TpmStructure
         _p.add(d, "int", "pinCount", pinCount);
         _p.add(d, "int", "pinLimit", pinLimit);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_NV_PIN_COUNTER_PARAMETERS that = (TPMS_NV_PIN_COUNTER_PARAMETERS)obj;
+        return pinCount == that.pinCount
+            && pinLimit == that.pinLimit;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Integer.hashCode(pinCount);
+        _hash = 31 * _hash + Integer.hashCode(pinLimit);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -80,6 +80,10 @@ public class TPMS_NV_PUBLIC extends TpmStructure
         dataSize = buf.readShort();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + nvIndex.wireSize() + nameAlg.wireSize() + attributes.wireSize() + sizedByteBufWireSize(authPolicy, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -91,7 +95,7 @@ public class TPMS_NV_PUBLIC extends TpmStructure
      */
     public static TPMS_NV_PUBLIC fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_NV_PUBLIC.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_NV_PUBLIC::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -106,7 +110,7 @@ public class TPMS_NV_PUBLIC extends TpmStructure
      */
     public static TPMS_NV_PUBLIC fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_NV_PUBLIC.class);
+        return buf.createObj(TPMS_NV_PUBLIC::new);
     }
 
     @Override
@@ -127,6 +131,30 @@ public class TPMS_NV_PUBLIC extends TpmStructure
         _p.add(d, "byte[]", "authPolicy", authPolicy);
         _p.add(d, "int", "dataSize", dataSize);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_NV_PUBLIC that = (TPMS_NV_PUBLIC)obj;
+        return Objects.equals(nvIndex, that.nvIndex)
+            && Objects.equals(nameAlg, that.nameAlg)
+            && Objects.equals(attributes, that.attributes)
+            && Arrays.equals(authPolicy, that.authPolicy)
+            && dataSize == that.dataSize;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(nvIndex);
+        _hash = 31 * _hash + Objects.hashCode(nameAlg);
+        _hash = 31 * _hash + Objects.hashCode(attributes);
+        _hash = 31 * _hash + Arrays.hashCode(authPolicy);
+        _hash = 31 * _hash + Integer.hashCode(dataSize);
+        return _hash;
+    }
 }
 
 //<<<
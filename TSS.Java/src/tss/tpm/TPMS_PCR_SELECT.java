@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -26,6 +26,10 @@ public class TPMS_PCR_SELECT extends TpmStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { pcrSelect = buf.readSizedByteBuf(1); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(pcrSelect, 1); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -37,7 +41,7 @@ public class TPMS_PCR_SELECT extends TpmStructure
      */
     public static TPMS_PCR_SELECT fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_PCR_SELECT.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_PCR_SELECT::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -52,7 +56,7 @@ public class TPMS_PCR_SELECT extends TpmStructure
      */
     public static TPMS_PCR_SELECT fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_PCR_SELECT.class);
+        return buf.createObj(TPMS_PCR_SELECT::new);
     }
 
     @Override
@@ -69,6 +73,21 @@ public class TPMS_PCR_SELECT extends TpmStructure
     {
         _p.add(d, "byte[]", "pcrSelect", pcrSelect);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_PCR_SELECT that = (TPMS_PCR_SELECT)obj;
+        return Arrays.equals(pcrSelect, that.pcrSelect);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(pcrSelect);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -43,6 +43,10 @@ public class TPMS_PCR_SELECTION extends TpmStructure
         pcrSelect = buf.readSizedByteBuf(1);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return hash.wireSize() + sizedByteBufWireSize(pcrSelect, 1); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -54,7 +58,7 @@ public class TPMS_PCR_SELECTION extends TpmStructure
      */
     public static TPMS_PCR_SELECTION fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_PCR_SELECTION.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_PCR_SELECTION::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -69,7 +73,7 @@ public class TPMS_PCR_SELECTION extends TpmStructure
      */
     public static TPMS_PCR_SELECTION fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_PCR_SELECTION.class);
+        return buf.createObj(TPMS_PCR_SELECTION::new);
     }
 
     @Override
@@ -88,6 +92,24 @@ public class TPMS_PCR_SELECTION extends TpmStructure
         _p.add(d, "byte[]", "pcrSelect", pcrSelect);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_PCR_SELECTION that = (TPMS_PCR_SELECTION)obj;
+        return Objects.equals(hash, that.hash)
+            && Arrays.equals(pcrSelect, that.pcrSelect);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(hash);
+        _hash = 31 * _hash + Arrays.hashCode(pcrSelect);
+        return _hash;
+    }
+
     /** Create a PCR_SELECTION naming a single PCR
      * @param pcrAlg The hash algorithm
      * @param pcrIndex The PCR index
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -42,10 +42,14 @@ public class TPMS_QUOTE_INFO extends TpmStructure implements TPMU_ATTEST
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        pcrSelect = buf.readObjArr(TPMS_PCR_SELECTION.class);
+        pcrSelect = buf.readObjArr(TPMS_PCR_SELECTION::new, TPMS_PCR_SELECTION[]::new);
         pcrDigest = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return objArrWireSize(pcrSelect) + sizedByteBufWireSize(pcrDigest, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -57,7 +61,7 @@ public class TPMS_QUOTE_INFO extends TpmStructure implements TPMU_ATTEST
      */
     public static TPMS_QUOTE_INFO fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_QUOTE_INFO.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_QUOTE_INFO::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -72,7 +76,7 @@ public class TPMS_QUOTE_INFO extends TpmStructure implements TPMU_ATTEST
      */
     public static TPMS_QUOTE_INFO fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_QUOTE_INFO.class);
+        return buf.createObj(TPMS_QUOTE_INFO::new);
     }
 
     @Override
@@ -90,6 +94,24 @@ public class TPMS_QUOTE_INFO extends TpmStructure implements TPMU_ATTEST
         _p.add(d, "TPMS_PCR_SELECTION[]", "pcrSelect", pcrSelect);
         _p.add(d, "byte[]", "pcrDigest", pcrDigest);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_QUOTE_INFO that = (TPMS_QUOTE_INFO)obj;
+        return Arrays.equals(pcrSelect, that.pcrSelect)
+            && Arrays.equals(pcrDigest, that.pcrDigest);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(pcrSelect);
+        _hash = 31 * _hash + Arrays.hashCode(pcrDigest);
+        return _hash;
+    }
 }
 
 //<<<
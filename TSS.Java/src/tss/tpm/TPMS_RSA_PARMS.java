@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -96,12 +96,16 @@ public class TPMS_RSA_PARMS extends TpmStructure implements TPMU_PUBLIC_PARMS
     {
         symmetric = TPMT_SYM_DEF_OBJECT.fromTpm(buf);
         TPM_ALG_ID schemeScheme = TPM_ALG_ID.fromTpm(buf);
-        scheme = UnionFactory.create("TPMU_ASYM_SCHEME", schemeScheme);
+        scheme = UnionFactory.createTPMU_ASYM_SCHEME(schemeScheme);
         scheme.initFromTpm(buf);
         keyBits = buf.readShort();
         exponent = buf.readInt();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 8 + symmetric.wireSize() + scheme.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -113,7 +117,7 @@ public class TPMS_RSA_PARMS extends TpmStructure implements TPMU_PUBLIC_PARMS
      */
     public static TPMS_RSA_PARMS fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_RSA_PARMS.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_RSA_PARMS::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -128,7 +132,7 @@ public class TPMS_RSA_PARMS extends TpmStructure implements TPMU_PUBLIC_PARMS
      */
     public static TPMS_RSA_PARMS fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_RSA_PARMS.class);
+        return buf.createObj(TPMS_RSA_PARMS::new);
     }
 
     @Override
@@ -148,6 +152,28 @@ public class TPMS_RSA_PARMS extends TpmStructure implements TPMU_PUBLIC_PARMS
         _p.add(d, "int", "keyBits", keyBits);
         _p.add(d, "int", "exponent", exponent);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_RSA_PARMS that = (TPMS_RSA_PARMS)obj;
+        return Objects.equals(symmetric, that.symmetric)
+            && Objects.equals(scheme, that.scheme)
+            && keyBits == that.keyBits
+            && exponent == that.exponent;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(symmetric);
+        _hash = 31 * _hash + Objects.hashCode(scheme);
+        _hash = 31 * _hash + Integer.hashCode(keyBits);
+        _hash = 31 * _hash + Integer.hashCode(exponent);
+        return _hash;
+    }
 }
 
 //<<<
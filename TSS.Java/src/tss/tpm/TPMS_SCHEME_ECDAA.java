@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -46,6 +46,10 @@ public class TPMS_SCHEME_ECDAA extends TpmStructure implements TPMU_SIG_SCHEME,
         count = buf.readShort();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + hashAlg.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -57,7 +61,7 @@ public class TPMS_SCHEME_ECDAA extends TpmStructure implements TPMU_SIG_SCHEME,
      */
     public static TPMS_SCHEME_ECDAA fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_ECDAA.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_ECDAA::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -72,7 +76,7 @@ public class TPMS_SCHEME_ECDAA extends TpmStructure implements TPMU_SIG_SCHEME,
      */
     public static TPMS_SCHEME_ECDAA fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SCHEME_ECDAA.class);
+        return buf.createObj(TPMS_SCHEME_ECDAA::new);
     }
 
     @Override
@@ -90,6 +94,24 @@ public class TPMS_SCHEME_ECDAA extends TpmStructure implements TPMU_SIG_SCHEME,
         _p.add(d, "TPM_ALG_ID", "hashAlg", hashAlg);
         _p.add(d, "int", "count", count);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_SCHEME_ECDAA that = (TPMS_SCHEME_ECDAA)obj;
+        return Objects.equals(hashAlg, that.hashAlg)
+            && count == that.count;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(hashAlg);
+        _hash = 31 * _hash + Integer.hashCode(count);
+        return _hash;
+    }
 }
 
 //<<<
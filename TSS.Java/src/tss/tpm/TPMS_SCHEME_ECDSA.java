@@ -29,7 +29,7 @@ public class TPMS_SCHEME_ECDSA extends TPMS_SIG_SCHEME_ECDSA
      */
     public static TPMS_SCHEME_ECDSA fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_ECDSA.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_ECDSA::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -44,7 +44,7 @@ public class TPMS_SCHEME_ECDSA extends TPMS_SIG_SCHEME_ECDSA
      */
     public static TPMS_SCHEME_ECDSA fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SCHEME_ECDSA.class);
+        return buf.createObj(TPMS_SCHEME_ECDSA::new);
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TPMS_SCHEME_ECMQV extends TPMS_KEY_SCHEME_ECMQV
      */
     public static TPMS_SCHEME_ECMQV fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_ECMQV.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_ECMQV::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -41,7 +41,7 @@ public class TPMS_SCHEME_ECMQV extends TPMS_KEY_SCHEME_ECMQV
      */
     public static TPMS_SCHEME_ECMQV fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SCHEME_ECMQV.class);
+        return buf.createObj(TPMS_SCHEME_ECMQV::new);
     }
 
     @Override
@@ -29,7 +29,7 @@ public class TPMS_SCHEME_ECSCHNORR extends TPMS_SIG_SCHEME_ECSCHNORR
      */
     public static TPMS_SCHEME_ECSCHNORR fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_ECSCHNORR.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_ECSCHNORR::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -44,7 +44,7 @@ public class TPMS_SCHEME_ECSCHNORR extends TPMS_SIG_SCHEME_ECSCHNORR
      */
     public static TPMS_SCHEME_ECSCHNORR fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SCHEME_ECSCHNORR.class);
+        return buf.createObj(TPMS_SCHEME_ECSCHNORR::new);
     }
 
     @Override
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -31,6 +31,10 @@ public class TPMS_SCHEME_HASH extends TpmStructure implements TPMU_SCHEME_KEYEDH
     @Override
     public void initFromTpm(TpmBuffer buf) { hashAlg = TPM_ALG_ID.fromTpm(buf); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return hashAlg.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -42,7 +46,7 @@ public class TPMS_SCHEME_HASH extends TpmStructure implements TPMU_SCHEME_KEYEDH
      */
     public static TPMS_SCHEME_HASH fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_HASH.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_HASH::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -57,7 +61,7 @@ public class TPMS_SCHEME_HASH extends TpmStructure implements TPMU_SCHEME_KEYEDH
      */
     public static TPMS_SCHEME_HASH fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SCHEME_HASH.class);
+        return buf.createObj(TPMS_SCHEME_HASH::new);
     }
 
     @Override
@@ -74,6 +78,21 @@ public class TPMS_SCHEME_HASH extends TpmStructure implements TPMU_SCHEME_KEYEDH
     {
         _p.add(d, "TPM_ALG_ID", "hashAlg", hashAlg);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_SCHEME_HASH that = (TPMS_SCHEME_HASH)obj;
+        return Objects.equals(hashAlg, that.hashAlg);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(hashAlg);
+    }
 }
 
 //<<<
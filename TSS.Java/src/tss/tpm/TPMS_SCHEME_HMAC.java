@@ -29,7 +29,7 @@ public class TPMS_SCHEME_HMAC extends TPMS_SCHEME_HASH
      */
     public static TPMS_SCHEME_HMAC fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_HMAC.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_HMAC::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -44,7 +44,7 @@ public class TPMS_SCHEME_HMAC extends TPMS_SCHEME_HASH
      */
     public static TPMS_SCHEME_HMAC fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SCHEME_HMAC.class);
+        return buf.createObj(TPMS_SCHEME_HMAC::new);
     }
 
     @Override
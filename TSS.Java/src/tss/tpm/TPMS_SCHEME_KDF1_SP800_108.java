@@ -29,7 +29,7 @@ public class TPMS_SCHEME_KDF1_SP800_108 extends TPMS_KDF_SCHEME_KDF1_SP800_108
      */
     public static TPMS_SCHEME_KDF1_SP800_108 fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_KDF1_SP800_108.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_KDF1_SP800_108::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -44,7 +44,7 @@ public class TPMS_SCHEME_KDF1_SP800_108 extends TPMS_KDF_SCHEME_KDF1_SP800_108
      */
     public static TPMS_SCHEME_KDF1_SP800_108 fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SCHEME_KDF1_SP800_108.class);
+        return buf.createObj(TPMS_SCHEME_KDF1_SP800_108::new);
     }
 
     @Override
@@ -29,7 +29,7 @@ public class TPMS_SCHEME_KDF1_SP800_56A extends TPMS_KDF_SCHEME_KDF1_SP800_56A
      */
     public static TPMS_SCHEME_KDF1_SP800_56A fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_KDF1_SP800_56A.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_KDF1_SP800_56A::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -44,7 +44,7 @@ public class TPMS_SCHEME_KDF1_SP800_56A extends TPMS_KDF_SCHEME_KDF1_SP800_56A
      */
     public static TPMS_SCHEME_KDF1_SP800_56A fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SCHEME_KDF1_SP800_56A.class);
+        return buf.createObj(TPMS_SCHEME_KDF1_SP800_56A::new);
     }
 
     @Override
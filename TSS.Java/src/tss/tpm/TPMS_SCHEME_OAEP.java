@@ -26,7 +26,7 @@ public class TPMS_SCHEME_OAEP extends TPMS_ENC_SCHEME_OAEP
      */
     public static TPMS_SCHEME_OAEP fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_OAEP.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_OAEP::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -41,7 +41,7 @@ public class TPMS_SCHEME_OAEP extends TPMS_ENC_SCHEME_OAEP
      */
     public static TPMS_SCHEME_OAEP fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SCHEME_OAEP.class);
+        return buf.createObj(TPMS_SCHEME_OAEP::new);
     }
 
     @Override
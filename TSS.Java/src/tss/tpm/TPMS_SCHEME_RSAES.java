@@ -23,7 +23,7 @@ public class TPMS_SCHEME_RSAES extends TPMS_ENC_SCHEME_RSAES
      */
     public static TPMS_SCHEME_RSAES fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_RSAES.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_RSAES::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -38,7 +38,7 @@ public class TPMS_SCHEME_RSAES extends TPMS_ENC_SCHEME_RSAES
      */
     public static TPMS_SCHEME_RSAES fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SCHEME_RSAES.class);
+        return buf.createObj(TPMS_SCHEME_RSAES::new);
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TPMS_SCHEME_RSAPSS extends TPMS_SIG_SCHEME_RSAPSS
      */
     public static TPMS_SCHEME_RSAPSS fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_RSAPSS.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_RSAPSS::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -41,7 +41,7 @@ public class TPMS_SCHEME_RSAPSS extends TPMS_SIG_SCHEME_RSAPSS
      */
     public static TPMS_SCHEME_RSAPSS fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SCHEME_RSAPSS.class);
+        return buf.createObj(TPMS_SCHEME_RSAPSS::new);
     }
 
     @Override
@@ -26,7 +26,7 @@ public class TPMS_SCHEME_RSASSA extends TPMS_SIG_SCHEME_RSASSA
      */
     public static TPMS_SCHEME_RSASSA fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_RSASSA.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_RSASSA::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -41,7 +41,7 @@ public class TPMS_SCHEME_RSASSA extends TPMS_SIG_SCHEME_RSASSA
      */
     public static TPMS_SCHEME_RSASSA fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SCHEME_RSASSA.class);
+        return buf.createObj(TPMS_SCHEME_RSASSA::new);
     }
 
     @Override
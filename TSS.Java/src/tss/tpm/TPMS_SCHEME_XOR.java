@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -50,6 +50,10 @@ public class TPMS_SCHEME_XOR extends TpmStructure implements TPMU_SCHEME_KEYEDHA
         kdf = TPM_ALG_ID.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return hashAlg.wireSize() + kdf.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -61,7 +65,7 @@ public class TPMS_SCHEME_XOR extends TpmStructure implements TPMU_SCHEME_KEYEDHA
      */
     public static TPMS_SCHEME_XOR fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_XOR.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SCHEME_XOR::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -76,7 +80,7 @@ public class TPMS_SCHEME_XOR extends TpmStructure implements TPMU_SCHEME_KEYEDHA
      */
     public static TPMS_SCHEME_XOR fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SCHEME_XOR.class);
+        return buf.createObj(TPMS_SCHEME_XOR::new);
     }
 
     @Override
@@ -94,6 +98,24 @@ public class TPMS_SCHEME_XOR extends TpmStructure implements TPMU_SCHEME_KEYEDHA
         _p.add(d, "TPM_ALG_ID", "hashAlg", hashAlg);
         _p.add(d, "TPM_ALG_ID", "kdf", kdf);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_SCHEME_XOR that = (TPMS_SCHEME_XOR)obj;
+        return Objects.equals(hashAlg, that.hashAlg)
+            && Objects.equals(kdf, that.kdf);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(hashAlg);
+        _hash = 31 * _hash + Objects.hashCode(kdf);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -45,6 +45,10 @@ public class TPMS_SENSITIVE_CREATE extends TpmStructure
         data = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(userAuth, 2) + sizedByteBufWireSize(data, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -56,7 +60,7 @@ public class TPMS_SENSITIVE_CREATE extends TpmStructure
      */
     public static TPMS_SENSITIVE_CREATE fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SENSITIVE_CREATE.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SENSITIVE_CREATE::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -71,7 +75,7 @@ public class TPMS_SENSITIVE_CREATE extends TpmStructure
      */
     public static TPMS_SENSITIVE_CREATE fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SENSITIVE_CREATE.class);
+        return buf.createObj(TPMS_SENSITIVE_CREATE::new);
     }
 
     @Override
@@ -89,6 +93,24 @@ public class TPMS_SENSITIVE_CREATE extends TpmStructure
         _p.add(d, "byte[]", "userAuth", userAuth);
         _p.add(d, "byte[]", "data", data);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_SENSITIVE_CREATE that = (TPMS_SENSITIVE_CREATE)obj;
+        return Arrays.equals(userAuth, that.userAuth)
+            && Arrays.equals(data, that.data);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(userAuth);
+        _hash = 31 * _hash + Arrays.hashCode(data);
+        return _hash;
+    }
 }
 
 //<<<
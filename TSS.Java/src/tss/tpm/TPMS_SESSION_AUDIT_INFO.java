@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -52,6 +52,10 @@ public class TPMS_SESSION_AUDIT_INFO extends TpmStructure implements TPMU_ATTEST
         sessionDigest = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 1 + sizedByteBufWireSize(sessionDigest, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -63,7 +67,7 @@ public class TPMS_SESSION_AUDIT_INFO extends TpmStructure implements TPMU_ATTEST
      */
     public static TPMS_SESSION_AUDIT_INFO fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SESSION_AUDIT_INFO.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SESSION_AUDIT_INFO::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -78,7 +82,7 @@ public class TPMS_SESSION_AUDIT_INFO extends TpmStructure implements TPMU_ATTEST
      */
     public static TPMS_SESSION_AUDIT_INFO fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SESSION_AUDIT_INFO.class);
+        return buf.createObj(TPMS_SESSION_AUDIT_INFO::new);
     }
 
     @Override
@@ -96,6 +100,24 @@ public class TPMS_SESSION_AUDIT_INFO extends TpmStructure implements TPMU_ATTEST
         _p.add(d, "byte", "exclusiveSession", exclusiveSession);
         _p.add(d, "byte[]", "sessionDigest", sessionDigest);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_SESSION_AUDIT_INFO that = (TPMS_SESSION_AUDIT_INFO)obj;
+        return exclusiveSession == that.exclusiveSession
+            && Arrays.equals(sessionDigest, that.sessionDigest);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Byte.hashCode(exclusiveSession);
+        _hash = 31 * _hash + Arrays.hashCode(sessionDigest);
+        return _hash;
+    }
 }
 
 //<<<
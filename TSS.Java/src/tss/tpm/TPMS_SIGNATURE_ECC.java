@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -52,6 +52,10 @@ public class TPMS_SIGNATURE_ECC extends TpmStructure implements TPMU_SIGNATURE
         signatureS = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return hash.wireSize() + sizedByteBufWireSize(signatureR, 2) + sizedByteBufWireSize(signatureS, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -63,7 +67,7 @@ public class TPMS_SIGNATURE_ECC extends TpmStructure implements TPMU_SIGNATURE
      */
     public static TPMS_SIGNATURE_ECC fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SIGNATURE_ECC.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SIGNATURE_ECC::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -78,7 +82,7 @@ public class TPMS_SIGNATURE_ECC extends TpmStructure implements TPMU_SIGNATURE
      */
     public static TPMS_SIGNATURE_ECC fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SIGNATURE_ECC.class);
+        return buf.createObj(TPMS_SIGNATURE_ECC::new);
     }
 
     @Override
@@ -97,6 +101,26 @@ public class TPMS_SIGNATURE_ECC extends TpmStructure implements TPMU_SIGNATURE
         _p.add(d, "byte[]", "signatureR", signatureR);
         _p.add(d, "byte[]", "signatureS", signatureS);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_SIGNATURE_ECC that = (TPMS_SIGNATURE_ECC)obj;
+        return Objects.equals(hash, that.hash)
+            && Arrays.equals(signatureR, that.signatureR)
+            && Arrays.equals(signatureS, that.signatureS);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(hash);
+        _hash = 31 * _hash + Arrays.hashCode(signatureR);
+        _hash = 31 * _hash + Arrays.hashCode(signatureS);
+        return _hash;
+    }
 }
 
 //<<<
@@ -36,7 +36,7 @@ public class TPMS_SIGNATURE_ECDAA extends TPMS_SIGNATURE_ECC
      */
     public static TPMS_SIGNATURE_ECDAA fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SIGNATURE_ECDAA.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SIGNATURE_ECDAA::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -51,7 +51,7 @@ public class TPMS_SIGNATURE_ECDAA extends TPMS_SIGNATURE_ECC
      */
     public static TPMS_SIGNATURE_ECDAA fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SIGNATURE_ECDAA.class);
+        return buf.createObj(TPMS_SIGNATURE_ECDAA::new);
     }
 
     @Override
@@ -36,7 +36,7 @@ public class TPMS_SIGNATURE_ECSCHNORR extends TPMS_SIGNATURE_ECC
      */
     public static TPMS_SIGNATURE_ECSCHNORR fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SIGNATURE_ECSCHNORR.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SIGNATURE_ECSCHNORR::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -51,7 +51,7 @@ public class TPMS_SIGNATURE_ECSCHNORR extends TPMS_SIGNATURE_ECC
      */
     public static TPMS_SIGNATURE_ECSCHNORR fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SIGNATURE_ECSCHNORR.class);
+        return buf.createObj(TPMS_SIGNATURE_ECSCHNORR::new);
     }
 
     @Override
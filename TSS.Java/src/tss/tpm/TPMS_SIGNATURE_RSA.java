@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -49,6 +49,10 @@ public class TPMS_SIGNATURE_RSA extends TpmStructure implements TPMU_SIGNATURE
         sig = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return hash.wireSize() + sizedByteBufWireSize(sig, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -60,7 +64,7 @@ public class TPMS_SIGNATURE_RSA extends TpmStructure implements TPMU_SIGNATURE
      */
     public static TPMS_SIGNATURE_RSA fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SIGNATURE_RSA.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SIGNATURE_RSA::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -75,7 +79,7 @@ public class TPMS_SIGNATURE_RSA extends TpmStructure implements TPMU_SIGNATURE
      */
     public static TPMS_SIGNATURE_RSA fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SIGNATURE_RSA.class);
+        return buf.createObj(TPMS_SIGNATURE_RSA::new);
     }
 
     @Override
@@ -93,6 +97,24 @@ public class TPMS_SIGNATURE_RSA extends TpmStructure implements TPMU_SIGNATURE
         _p.add(d, "TPM_ALG_ID", "hash", hash);
         _p.add(d, "byte[]", "sig", sig);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_SIGNATURE_RSA that = (TPMS_SIGNATURE_RSA)obj;
+        return Objects.equals(hash, that.hash)
+            && Arrays.equals(sig, that.sig);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(hash);
+        _hash = 31 * _hash + Arrays.hashCode(sig);
+        return _hash;
+    }
 }
 
 //<<<
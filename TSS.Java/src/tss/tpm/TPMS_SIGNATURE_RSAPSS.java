@@ -35,7 +35,7 @@ public class TPMS_SIGNATURE_RSAPSS extends TPMS_SIGNATURE_RSA
      */
     public static TPMS_SIGNATURE_RSAPSS fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SIGNATURE_RSAPSS.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SIGNATURE_RSAPSS::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -50,7 +50,7 @@ public class TPMS_SIGNATURE_RSAPSS extends TPMS_SIGNATURE_RSA
      */
     public static TPMS_SIGNATURE_RSAPSS fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SIGNATURE_RSAPSS.class);
+        return buf.createObj(TPMS_SIGNATURE_RSAPSS::new);
     }
 
     @Override
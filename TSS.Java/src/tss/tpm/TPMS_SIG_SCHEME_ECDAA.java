@@ -37,7 +37,7 @@ public class TPMS_SIG_SCHEME_ECDAA extends TPMS_SCHEME_ECDAA
      */
     public static TPMS_SIG_SCHEME_ECDAA fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SIG_SCHEME_ECDAA.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SIG_SCHEME_ECDAA::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -52,7 +52,7 @@ public class TPMS_SIG_SCHEME_ECDAA extends TPMS_SCHEME_ECDAA
      */
     public static TPMS_SIG_SCHEME_ECDAA fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SIG_SCHEME_ECDAA.class);
+        return buf.createObj(TPMS_SIG_SCHEME_ECDAA::new);
     }
 
     @Override
@@ -32,7 +32,7 @@ public class TPMS_SIG_SCHEME_ECDSA extends TPMS_SCHEME_HASH
      */
     public static TPMS_SIG_SCHEME_ECDSA fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SIG_SCHEME_ECDSA.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SIG_SCHEME_ECDSA::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -47,7 +47,7 @@ public class TPMS_SIG_SCHEME_ECDSA extends TPMS_SCHEME_HASH
      */
     public static TPMS_SIG_SCHEME_ECDSA fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SIG_SCHEME_ECDSA.class);
+        return buf.createObj(TPMS_SIG_SCHEME_ECDSA::new);
     }
 
     @Override
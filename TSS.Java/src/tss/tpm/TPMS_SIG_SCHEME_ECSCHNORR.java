@@ -32,7 +32,7 @@ public class TPMS_SIG_SCHEME_ECSCHNORR extends TPMS_SCHEME_HASH
      */
     public static TPMS_SIG_SCHEME_ECSCHNORR fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SIG_SCHEME_ECSCHNORR.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SIG_SCHEME_ECSCHNORR::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -47,7 +47,7 @@ public class TPMS_SIG_SCHEME_ECSCHNORR extends TPMS_SCHEME_HASH
      */
     public static TPMS_SIG_SCHEME_ECSCHNORR fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SIG_SCHEME_ECSCHNORR.class);
+        return buf.createObj(TPMS_SIG_SCHEME_ECSCHNORR::new);
     }
 
     @Override
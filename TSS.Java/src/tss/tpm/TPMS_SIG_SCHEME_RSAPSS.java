@@ -29,7 +29,7 @@ public class TPMS_SIG_SCHEME_RSAPSS extends TPMS_SCHEME_HASH
      */
     public static TPMS_SIG_SCHEME_RSAPSS fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SIG_SCHEME_RSAPSS.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SIG_SCHEME_RSAPSS::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -44,7 +44,7 @@ public class TPMS_SIG_SCHEME_RSAPSS extends TPMS_SCHEME_HASH
      */
     public static TPMS_SIG_SCHEME_RSAPSS fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SIG_SCHEME_RSAPSS.class);
+        return buf.createObj(TPMS_SIG_SCHEME_RSAPSS::new);
     }
 
     @Override
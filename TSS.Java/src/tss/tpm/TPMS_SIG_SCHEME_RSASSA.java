@@ -29,7 +29,7 @@ public class TPMS_SIG_SCHEME_RSASSA extends TPMS_SCHEME_HASH
      */
     public static TPMS_SIG_SCHEME_RSASSA fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SIG_SCHEME_RSASSA.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SIG_SCHEME_RSASSA::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -44,7 +44,7 @@ public class TPMS_SIG_SCHEME_RSASSA extends TPMS_SCHEME_HASH
      */
     public static TPMS_SIG_SCHEME_RSASSA fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SIG_SCHEME_RSASSA.class);
+        return buf.createObj(TPMS_SIG_SCHEME_RSASSA::new);
     }
 
     @Override
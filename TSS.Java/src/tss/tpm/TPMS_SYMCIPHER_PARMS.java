@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -29,6 +29,10 @@ public class TPMS_SYMCIPHER_PARMS extends TpmStructure implements TPMU_PUBLIC_PA
     @Override
     public void initFromTpm(TpmBuffer buf) { sym = TPMT_SYM_DEF_OBJECT.fromTpm(buf); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sym.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -40,7 +44,7 @@ public class TPMS_SYMCIPHER_PARMS extends TpmStructure implements TPMU_PUBLIC_PA
      */
     public static TPMS_SYMCIPHER_PARMS fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_SYMCIPHER_PARMS.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_SYMCIPHER_PARMS::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -55,7 +59,7 @@ public class TPMS_SYMCIPHER_PARMS extends TpmStructure implements TPMU_PUBLIC_PA
      */
     public static TPMS_SYMCIPHER_PARMS fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_SYMCIPHER_PARMS.class);
+        return buf.createObj(TPMS_SYMCIPHER_PARMS::new);
     }
 
     @Override
@@ -72,6 +76,21 @@ public class TPMS_SYMCIPHER_PARMS extends TpmStructure implements TPMU_PUBLIC_PA
     {
         _p.add(d, "TPMT_SYM_DEF_OBJECT", "sym", sym);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_SYMCIPHER_PARMS that = (TPMS_SYMCIPHER_PARMS)obj;
+        return Objects.equals(sym, that.sym);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(sym);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -43,6 +43,10 @@ public class TPMS_TAGGED_PCR_SELECT extends TpmStructure
         pcrSelect = buf.readSizedByteBuf(1);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return tag.wireSize() + sizedByteBufWireSize(pcrSelect, 1); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -54,7 +58,7 @@ public class TPMS_TAGGED_PCR_SELECT extends TpmStructure
      */
     public static TPMS_TAGGED_PCR_SELECT fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_TAGGED_PCR_SELECT.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_TAGGED_PCR_SELECT::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -69,7 +73,7 @@ public class TPMS_TAGGED_PCR_SELECT extends TpmStructure
      */
     public static TPMS_TAGGED_PCR_SELECT fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_TAGGED_PCR_SELECT.class);
+        return buf.createObj(TPMS_TAGGED_PCR_SELECT::new);
     }
 
     @Override
@@ -87,6 +91,24 @@ public class TPMS_TAGGED_PCR_SELECT extends TpmStructure
         _p.add(d, "TPM_PT_PCR", "tag", tag);
         _p.add(d, "byte[]", "pcrSelect", pcrSelect);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_TAGGED_PCR_SELECT that = (TPMS_TAGGED_PCR_SELECT)obj;
+        return Objects.equals(tag, that.tag)
+            && Arrays.equals(pcrSelect, that.pcrSelect);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(tag);
+        _hash = 31 * _hash + Arrays.hashCode(pcrSelect);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -45,6 +45,10 @@ public class TPMS_TAGGED_POLICY extends TpmStructure
         policyHash = TPMT_HA.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return handle.wireSize() + policyHash.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -56,7 +60,7 @@ public class TPMS_TAGGED_POLICY extends TpmStructure
      */
     public static TPMS_TAGGED_POLICY fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_TAGGED_POLICY.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_TAGGED_POLICY::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -71,7 +75,7 @@ public class TPMS_TAGGED_POLICY extends TpmStructure
      */
     public static TPMS_TAGGED_POLICY fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_TAGGED_POLICY.class);
+        return buf.createObj(TPMS_TAGGED_POLICY::new);
     }
 
     @Override
@@ -89,6 +93,24 @@ public class TPMS_TAGGED_POLICY extends TpmStructure
         _p.add(d, "TPM_HANDLE", "handle", handle);
         _p.add(d, "TPMT_HA", "policyHash", policyHash);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_TAGGED_POLICY that = (TPMS_TAGGED_POLICY)obj;
+        return Objects.equals(handle, that.handle)
+            && Objects.equals(policyHash, that.policyHash);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(handle);
+        _hash = 31 * _hash + Objects.hashCode(policyHash);
+        return _hash;
+    }
 }
 
 //<<<
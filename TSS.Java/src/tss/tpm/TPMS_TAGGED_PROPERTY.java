@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -45,6 +45,10 @@ public class TPMS_TAGGED_PROPERTY extends TpmStructure
         value = buf.readInt();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 4 + property.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -56,7 +60,7 @@ public class TPMS_TAGGED_PROPERTY extends TpmStructure
      */
     public static TPMS_TAGGED_PROPERTY fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_TAGGED_PROPERTY.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_TAGGED_PROPERTY::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -71,7 +75,7 @@ public class TPMS_TAGGED_PROPERTY extends TpmStructure
      */
     public static TPMS_TAGGED_PROPERTY fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_TAGGED_PROPERTY.class);
+        return buf.createObj(TPMS_TAGGED_PROPERTY::new);
     }
 
     @Override
@@ -89,6 +93,24 @@ public class TPMS_TAGGED_PROPERTY extends TpmStructure
         _p.add(d, "TPM_PT", "property", property);
         _p.add(d, "int", "value", value);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_TAGGED_PROPERTY that = (TPMS_TAGGED_PROPERTY)obj;
+        return Objects.equals(property, that.property)
+            && value == that.value;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(property);
+        _hash = 31 * _hash + Integer.hashCode(value);
+        return _hash;
+    }
 }
 
 //<<<
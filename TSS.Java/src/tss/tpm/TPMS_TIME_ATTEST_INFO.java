@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -47,6 +47,10 @@ public class TPMS_TIME_ATTEST_INFO extends TpmStructure implements TPMU_ATTEST
         firmwareVersion = buf.readInt64();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 8 + time.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -58,7 +62,7 @@ public class TPMS_TIME_ATTEST_INFO extends TpmStructure implements TPMU_ATTEST
      */
     public static TPMS_TIME_ATTEST_INFO fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_TIME_ATTEST_INFO.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_TIME_ATTEST_INFO::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -73,7 +77,7 @@ public class TPMS_TIME_ATTEST_INFO extends TpmStructure implements TPMU_ATTEST
      */
     public static TPMS_TIME_ATTEST_INFO fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_TIME_ATTEST_INFO.class);
+        return buf.createObj(TPMS_TIME_ATTEST_INFO::new);
     }
 
     @Override
@@ -91,6 +95,24 @@ public class TPMS_TIME_ATTEST_INFO extends TpmStructure implements TPMU_ATTEST
         _p.add(d, "TPMS_TIME_INFO", "time", time);
         _p.add(d, "long", "firmwareVersion", firmwareVersion);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_TIME_ATTEST_INFO that = (TPMS_TIME_ATTEST_INFO)obj;
+        return Objects.equals(time, that.time)
+            && firmwareVersion == that.firmwareVersion;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(time);
+        _hash = 31 * _hash + Long.hashCode(firmwareVersion);
+        return _hash;
+    }
 }
 
 //<<<
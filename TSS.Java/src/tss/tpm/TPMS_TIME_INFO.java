@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -46,6 +46,10 @@ public class TPMS_TIME_INFO extends TpmStructure
         clockInfo = TPMS_CLOCK_INFO.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 8 + clockInfo.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -57,7 +61,7 @@ public class TPMS_TIME_INFO extends TpmStructure
      */
     public static TPMS_TIME_INFO fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMS_TIME_INFO.class);
+        return new TpmBuffer(byteBuf).createObj(TPMS_TIME_INFO::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -72,7 +76,7 @@ public class TPMS_TIME_INFO extends TpmStructure
      */
     public static TPMS_TIME_INFO fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMS_TIME_INFO.class);
+        return buf.createObj(TPMS_TIME_INFO::new);
     }
 
     @Override
@@ -90,6 +94,24 @@ public class TPMS_TIME_INFO extends TpmStructure
         _p.add(d, "long", "time", time);
         _p.add(d, "TPMS_CLOCK_INFO", "clockInfo", clockInfo);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMS_TIME_INFO that = (TPMS_TIME_INFO)obj;
+        return time == that.time
+            && Objects.equals(clockInfo, that.clockInfo);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Long.hashCode(time);
+        _hash = 31 * _hash + Objects.hashCode(clockInfo);
+        return _hash;
+    }
 }
 
 //<<<
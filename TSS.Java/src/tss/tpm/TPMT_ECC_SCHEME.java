@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -45,10 +45,18 @@ public class TPMT_ECC_SCHEME extends TpmStructure
     public void initFromTpm(TpmBuffer buf)
     {
         TPM_ALG_ID scheme = TPM_ALG_ID.fromTpm(buf);
-        details = UnionFactory.create("TPMU_ASYM_SCHEME", scheme);
+        details = UnionFactory.createTPMU_ASYM_SCHEME(scheme);
         details.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize()
+    {
+        if (details == null) return 0;
+        return 2 + details.wireSize();
+    }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -60,7 +68,7 @@ public class TPMT_ECC_SCHEME extends TpmStructure
      */
     public static TPMT_ECC_SCHEME fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMT_ECC_SCHEME.class);
+        return new TpmBuffer(byteBuf).createObj(TPMT_ECC_SCHEME::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -75,7 +83,7 @@ public class TPMT_ECC_SCHEME extends TpmStructure
      */
     public static TPMT_ECC_SCHEME fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMT_ECC_SCHEME.class);
+        return buf.createObj(TPMT_ECC_SCHEME::new);
     }
 
     @Override
@@ -92,6 +100,21 @@ public class TPMT_ECC_SCHEME extends TpmStructure
     {
         _p.add(d, "TPMU_ASYM_SCHEME", "details", details);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMT_ECC_SCHEME that = (TPMT_ECC_SCHEME)obj;
+        return Objects.equals(details, that.details);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(details);
+    }
 }
 
 //<<<
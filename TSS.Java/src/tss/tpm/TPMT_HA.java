@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -57,6 +57,10 @@ public class TPMT_HA extends TpmStructure implements TPMU_SIGNATURE
         digest = buf.readByteBuf(Crypto.digestSize(hashAlg));
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return hashAlg.wireSize() + byteBufWireSize(digest); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -68,7 +72,7 @@ public class TPMT_HA extends TpmStructure implements TPMU_SIGNATURE
      */
     public static TPMT_HA fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMT_HA.class);
+        return new TpmBuffer(byteBuf).createObj(TPMT_HA::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -83,7 +87,7 @@ public class TPMT_HA extends TpmStructure implements TPMU_SIGNATURE
      */
     public static TPMT_HA fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMT_HA.class);
+        return buf.createObj(TPMT_HA::new);
     }
 
     @Override
@@ -102,6 +106,24 @@ public class TPMT_HA extends TpmStructure implements TPMU_SIGNATURE
         _p.add(d, "byte[]", "digest", digest);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMT_HA that = (TPMT_HA)obj;
+        return Objects.equals(hashAlg, that.hashAlg)
+            && Arrays.equals(digest, that.digest);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(hashAlg);
+        _hash = 31 * _hash + Arrays.hashCode(digest);
+        return _hash;
+    }
+
     /** Create a TPMT_HA from the hash of data
      * @param hashAlg The hash algorithm
      * @param data The data to hash
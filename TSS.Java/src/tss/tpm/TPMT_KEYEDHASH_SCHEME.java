@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -39,10 +39,18 @@ public class TPMT_KEYEDHASH_SCHEME extends TpmStructure
     public void initFromTpm(TpmBuffer buf)
     {
         TPM_ALG_ID scheme = TPM_ALG_ID.fromTpm(buf);
-        details = UnionFactory.create("TPMU_SCHEME_KEYEDHASH", scheme);
+        details = UnionFactory.createTPMU_SCHEME_KEYEDHASH(scheme);
         details.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize()
+    {
+        if (details == null) return 0;
+        return 2 + details.wireSize();
+    }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -54,7 +62,7 @@ public class TPMT_KEYEDHASH_SCHEME extends TpmStructure
      */
     public static TPMT_KEYEDHASH_SCHEME fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMT_KEYEDHASH_SCHEME.class);
+        return new TpmBuffer(byteBuf).createObj(TPMT_KEYEDHASH_SCHEME::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -69,7 +77,7 @@ public class TPMT_KEYEDHASH_SCHEME extends TpmStructure
      */
     public static TPMT_KEYEDHASH_SCHEME fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMT_KEYEDHASH_SCHEME.class);
+        return buf.createObj(TPMT_KEYEDHASH_SCHEME::new);
     }
 
     @Override
@@ -86,6 +94,21 @@ public class TPMT_KEYEDHASH_SCHEME extends TpmStructure
     {
         _p.add(d, "TPMU_SCHEME_KEYEDHASH", "details", details);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMT_KEYEDHASH_SCHEME that = (TPMT_KEYEDHASH_SCHEME)obj;
+        return Objects.equals(details, that.details);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(details);
+    }
 }
 
 //<<<
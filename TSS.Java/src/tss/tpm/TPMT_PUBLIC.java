@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -92,12 +92,20 @@ public class TPMT_PUBLIC extends TpmStructure
         nameAlg = TPM_ALG_ID.fromTpm(buf);
         objectAttributes = TPMA_OBJECT.fromTpm(buf);
         authPolicy = buf.readSizedByteBuf();
-        parameters = UnionFactory.create("TPMU_PUBLIC_PARMS", type);
+        parameters = UnionFactory.createTPMU_PUBLIC_PARMS(type);
         parameters.initFromTpm(buf);
-        unique = UnionFactory.create("TPMU_PUBLIC_ID", type);
+        unique = UnionFactory.createTPMU_PUBLIC_ID(type);
         unique.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize()
+    {
+        if (parameters == null) return 0;
+        return 2 + nameAlg.wireSize() + objectAttributes.wireSize() + sizedByteBufWireSize(authPolicy, 2) + parameters.wireSize() + unique.wireSize();
+    }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -109,7 +117,7 @@ public class TPMT_PUBLIC extends TpmStructure
      */
     public static TPMT_PUBLIC fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMT_PUBLIC.class);
+        return new TpmBuffer(byteBuf).createObj(TPMT_PUBLIC::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -124,7 +132,7 @@ public class TPMT_PUBLIC extends TpmStructure
      */
     public static TPMT_PUBLIC fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMT_PUBLIC.class);
+        return buf.createObj(TPMT_PUBLIC::new);
     }
 
     @Override
@@ -146,6 +154,30 @@ public class TPMT_PUBLIC extends TpmStructure
         _p.add(d, "TPMU_PUBLIC_ID", "unique", unique);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMT_PUBLIC that = (TPMT_PUBLIC)obj;
+        return Objects.equals(nameAlg, that.nameAlg)
+            && Objects.equals(objectAttributes, that.objectAttributes)
+            && Arrays.equals(authPolicy, that.authPolicy)
+            && Objects.equals(parameters, that.parameters)
+            && Objects.equals(unique, that.unique);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(nameAlg);
+        _hash = 31 * _hash + Objects.hashCode(objectAttributes);
+        _hash = 31 * _hash + Arrays.hashCode(authPolicy);
+        _hash = 31 * _hash + Objects.hashCode(parameters);
+        _hash = 31 * _hash + Objects.hashCode(unique);
+        return _hash;
+    }
+
     /**
      * Validate a TPM signature.  Note that this function hashes dataThatWasSigned before
      * verifying the signature.
@@ -164,17 +196,41 @@ public class TPMT_PUBLIC extends TpmStructure
         return Crypto.asymEncrypt(this, inData, label);
     }
 
+    /** Name memoized together with the marshaled public area it was computed from */
+    private static class NameMemo
+    {
+        final byte[] publicArea;
+        final byte[] name;
+
+        NameMemo(byte[] publicArea, byte[] name)
+        {
+            this.publicArea = publicArea;
+            this.name = name;
+        }
+    }
+
+    /** Last name computed by getName() (null if it has not been computed yet) */
+    private volatile NameMemo _memoName;
+
     /**
      * Returns the TPM name of this object.  The name is the alg-prepended hash of the public area.
+     * The name is memoized together with the marshaled public area, and is only rehashed when
+     * the marshaled contents change (including in-place modifications of nested fields).
      *
      * @return The TPM object name
      */
     public byte[] getName()
     {
-           byte[] pub = toTpm();
-        byte[] pubHash = Crypto.hash(nameAlg, pub);
-        byte[] theHashAlg = Helpers.hostToNet((short)nameAlg.toInt());
-        return Helpers.concatenate(theHashAlg, pubHash);
+        byte[] pub = toTpm();
+        NameMemo memo = _memoName;
+        if (memo == null || !Arrays.equals(memo.publicArea, pub))
+        {
+            byte[] pubHash = Crypto.hash(nameAlg, pub);
+            byte[] theHashAlg = Helpers.hostToNet((short)nameAlg.toInt());
+            memo = new NameMemo(pub, Helpers.concatenate(theHashAlg, pubHash));
+            _memoName = memo;
+        }
+        return memo.name.clone();
     }
     /**
      * Validate a TPM quote against a set of PCR and a nonce.
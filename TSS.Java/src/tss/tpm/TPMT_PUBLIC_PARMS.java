@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -43,10 +43,18 @@ public class TPMT_PUBLIC_PARMS extends TpmStructure
     public void initFromTpm(TpmBuffer buf)
     {
         TPM_ALG_ID type = TPM_ALG_ID.fromTpm(buf);
-        parameters = UnionFactory.create("TPMU_PUBLIC_PARMS", type);
+        parameters = UnionFactory.createTPMU_PUBLIC_PARMS(type);
         parameters.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize()
+    {
+        if (parameters == null) return 0;
+        return 2 + parameters.wireSize();
+    }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -58,7 +66,7 @@ public class TPMT_PUBLIC_PARMS extends TpmStructure
      */
     public static TPMT_PUBLIC_PARMS fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMT_PUBLIC_PARMS.class);
+        return new TpmBuffer(byteBuf).createObj(TPMT_PUBLIC_PARMS::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -73,7 +81,7 @@ public class TPMT_PUBLIC_PARMS extends TpmStructure
      */
     public static TPMT_PUBLIC_PARMS fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMT_PUBLIC_PARMS.class);
+        return buf.createObj(TPMT_PUBLIC_PARMS::new);
     }
 
     @Override
@@ -90,6 +98,21 @@ public class TPMT_PUBLIC_PARMS extends TpmStructure
     {
         _p.add(d, "TPMU_PUBLIC_PARMS", "parameters", parameters);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMT_PUBLIC_PARMS that = (TPMT_PUBLIC_PARMS)obj;
+        return Objects.equals(parameters, that.parameters);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(parameters);
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -66,10 +66,18 @@ public class TPMT_SENSITIVE extends TpmStructure
         TPM_ALG_ID sensitiveType = TPM_ALG_ID.fromTpm(buf);
         authValue = buf.readSizedByteBuf();
         seedValue = buf.readSizedByteBuf();
-        sensitive = UnionFactory.create("TPMU_SENSITIVE_COMPOSITE", sensitiveType);
+        sensitive = UnionFactory.createTPMU_SENSITIVE_COMPOSITE(sensitiveType);
         sensitive.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize()
+    {
+        if (sensitive == null) return 0;
+        return 2 + sizedByteBufWireSize(authValue, 2) + sizedByteBufWireSize(seedValue, 2) + sensitive.wireSize();
+    }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -81,7 +89,7 @@ public class TPMT_SENSITIVE extends TpmStructure
      */
     public static TPMT_SENSITIVE fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMT_SENSITIVE.class);
+        return new TpmBuffer(byteBuf).createObj(TPMT_SENSITIVE::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -96,7 +104,7 @@ public class TPMT_SENSITIVE extends TpmStructure
      */
     public static TPMT_SENSITIVE fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMT_SENSITIVE.class);
+        return buf.createObj(TPMT_SENSITIVE::new);
     }
 
     @Override
@@ -115,6 +123,26 @@ public class TPMT_SENSITIVE extends TpmStructure
         _p.add(d, "byte[]", "seedValue", seedValue);
         _p.add(d, "TPMU_SENSITIVE_COMPOSITE", "sensitive", sensitive);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMT_SENSITIVE that = (TPMT_SENSITIVE)obj;
+        return Arrays.equals(authValue, that.authValue)
+            && Arrays.equals(seedValue, that.seedValue)
+            && Objects.equals(sensitive, that.sensitive);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(authValue);
+        _hash = 31 * _hash + Arrays.hashCode(seedValue);
+        _hash = 31 * _hash + Objects.hashCode(sensitive);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -48,10 +48,18 @@ public class TPMT_SIGNATURE extends TpmStructure
     public void initFromTpm(TpmBuffer buf)
     {
         TPM_ALG_ID sigAlg = TPM_ALG_ID.fromTpm(buf);
-        signature = UnionFactory.create("TPMU_SIGNATURE", sigAlg);
+        signature = UnionFactory.createTPMU_SIGNATURE(sigAlg);
         signature.initFromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize()
+    {
+        if (signature == null) return 0;
+        return 2 + signature.wireSize();
+    }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -63,7 +71,7 @@ public class TPMT_SIGNATURE extends TpmStructure
      */
     public static TPMT_SIGNATURE fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMT_SIGNATURE.class);
+        return new TpmBuffer(byteBuf).createObj(TPMT_SIGNATURE::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -78,7 +86,7 @@ public class TPMT_SIGNATURE extends TpmStructure
      */
     public static TPMT_SIGNATURE fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMT_SIGNATURE.class);
+        return buf.createObj(TPMT_SIGNATURE::new);
     }
 
     @Override
@@ -95,6 +103,21 @@ public class TPMT_SIGNATURE extends TpmStructure
     {
         _p.add(d, "TPMU_SIGNATURE", "signature", signature);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMT_SIGNATURE that = (TPMT_SIGNATURE)obj;
+        return Objects.equals(signature, that.signature);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(signature);
+    }
 }
 
 //<<<
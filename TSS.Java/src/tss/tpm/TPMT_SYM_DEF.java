@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -58,6 +58,15 @@ public class TPMT_SYM_DEF extends TpmStructure
         mode = TPM_ALG_ID.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize()
+    {
+        int size = algorithm.wireSize();
+        if (algorithm == TPM_ALG_ID.NULL) return size;
+        return size + 2 + mode.wireSize();
+    }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -69,7 +78,7 @@ public class TPMT_SYM_DEF extends TpmStructure
      */
     public static TPMT_SYM_DEF fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMT_SYM_DEF.class);
+        return new TpmBuffer(byteBuf).createObj(TPMT_SYM_DEF::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -84,7 +93,7 @@ public class TPMT_SYM_DEF extends TpmStructure
      */
     public static TPMT_SYM_DEF fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMT_SYM_DEF.class);
+        return buf.createObj(TPMT_SYM_DEF::new);
     }
 
     @Override
@@ -104,6 +113,26 @@ public class TPMT_SYM_DEF extends TpmStructure
         _p.add(d, "TPM_ALG_ID", "mode", mode);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMT_SYM_DEF that = (TPMT_SYM_DEF)obj;
+        return Objects.equals(algorithm, that.algorithm)
+            && keyBits == that.keyBits
+            && Objects.equals(mode, that.mode);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(algorithm);
+        _hash = 31 * _hash + Integer.hashCode(keyBits);
+        _hash = 31 * _hash + Objects.hashCode(mode);
+        return _hash;
+    }
+
     /** @deprecated Use default constructor instead */
 
     @Deprecated
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -67,6 +67,15 @@ public class TPMT_SYM_DEF_OBJECT extends TpmStructure
         mode = TPM_ALG_ID.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize()
+    {
+        int size = algorithm.wireSize();
+        if (algorithm == TPM_ALG_ID.NULL) return size;
+        return size + 2 + mode.wireSize();
+    }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -78,7 +87,7 @@ public class TPMT_SYM_DEF_OBJECT extends TpmStructure
      */
     public static TPMT_SYM_DEF_OBJECT fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMT_SYM_DEF_OBJECT.class);
+        return new TpmBuffer(byteBuf).createObj(TPMT_SYM_DEF_OBJECT::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -93,7 +102,7 @@ public class TPMT_SYM_DEF_OBJECT extends TpmStructure
      */
     public static TPMT_SYM_DEF_OBJECT fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMT_SYM_DEF_OBJECT.class);
+        return buf.createObj(TPMT_SYM_DEF_OBJECT::new);
     }
 
     @Override
@@ -113,6 +122,26 @@ public class TPMT_SYM_DEF_OBJECT extends TpmStructure
         _p.add(d, "TPM_ALG_ID", "mode", mode);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMT_SYM_DEF_OBJECT that = (TPMT_SYM_DEF_OBJECT)obj;
+        return Objects.equals(algorithm, that.algorithm)
+            && keyBits == that.keyBits
+            && Objects.equals(mode, that.mode);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(algorithm);
+        _hash = 31 * _hash + Integer.hashCode(keyBits);
+        _hash = 31 * _hash + Objects.hashCode(mode);
+        return _hash;
+    }
+
     /** @deprecated Use default constructor instead */
 
     @Deprecated
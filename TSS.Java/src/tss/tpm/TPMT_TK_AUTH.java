@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -53,6 +53,10 @@ public class TPMT_TK_AUTH extends TpmStructure
         digest = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return tag.wireSize() + hierarchy.wireSize() + sizedByteBufWireSize(digest, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -64,7 +68,7 @@ public class TPMT_TK_AUTH extends TpmStructure
      */
     public static TPMT_TK_AUTH fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMT_TK_AUTH.class);
+        return new TpmBuffer(byteBuf).createObj(TPMT_TK_AUTH::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -79,7 +83,7 @@ public class TPMT_TK_AUTH extends TpmStructure
      */
     public static TPMT_TK_AUTH fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMT_TK_AUTH.class);
+        return buf.createObj(TPMT_TK_AUTH::new);
     }
 
     @Override
@@ -98,6 +102,26 @@ public class TPMT_TK_AUTH extends TpmStructure
         _p.add(d, "TPM_HANDLE", "hierarchy", hierarchy);
         _p.add(d, "byte[]", "digest", digest);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMT_TK_AUTH that = (TPMT_TK_AUTH)obj;
+        return Objects.equals(tag, that.tag)
+            && Objects.equals(hierarchy, that.hierarchy)
+            && Arrays.equals(digest, that.digest);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(tag);
+        _hash = 31 * _hash + Objects.hashCode(hierarchy);
+        _hash = 31 * _hash + Arrays.hashCode(digest);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -47,6 +47,10 @@ public class TPMT_TK_HASHCHECK extends TpmStructure
         digest = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + hierarchy.wireSize() + sizedByteBufWireSize(digest, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -58,7 +62,7 @@ public class TPMT_TK_HASHCHECK extends TpmStructure
      */
     public static TPMT_TK_HASHCHECK fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMT_TK_HASHCHECK.class);
+        return new TpmBuffer(byteBuf).createObj(TPMT_TK_HASHCHECK::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -73,7 +77,7 @@ public class TPMT_TK_HASHCHECK extends TpmStructure
      */
     public static TPMT_TK_HASHCHECK fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMT_TK_HASHCHECK.class);
+        return buf.createObj(TPMT_TK_HASHCHECK::new);
     }
 
     @Override
@@ -92,6 +96,24 @@ public class TPMT_TK_HASHCHECK extends TpmStructure
         _p.add(d, "byte[]", "digest", digest);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMT_TK_HASHCHECK that = (TPMT_TK_HASHCHECK)obj;
+        return Objects.equals(hierarchy, that.hierarchy)
+            && Arrays.equals(digest, that.digest);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(hierarchy);
+        _hash = 31 * _hash + Arrays.hashCode(digest);
+        return _hash;
+    }
+
     /** Create a NULL ticket (e.g. used for signing data with non-restricted keys)
      * @return The null ticket
      */
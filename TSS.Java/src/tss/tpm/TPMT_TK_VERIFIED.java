@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -48,6 +48,10 @@ public class TPMT_TK_VERIFIED extends TpmStructure
         digest = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 2 + hierarchy.wireSize() + sizedByteBufWireSize(digest, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -59,7 +63,7 @@ public class TPMT_TK_VERIFIED extends TpmStructure
      */
     public static TPMT_TK_VERIFIED fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPMT_TK_VERIFIED.class);
+        return new TpmBuffer(byteBuf).createObj(TPMT_TK_VERIFIED::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -74,7 +78,7 @@ public class TPMT_TK_VERIFIED extends TpmStructure
      */
     public static TPMT_TK_VERIFIED fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPMT_TK_VERIFIED.class);
+        return buf.createObj(TPMT_TK_VERIFIED::new);
     }
 
     @Override
@@ -92,6 +96,24 @@ public class TPMT_TK_VERIFIED extends TpmStructure
         _p.add(d, "TPM_HANDLE", "hierarchy", hierarchy);
         _p.add(d, "byte[]", "digest", digest);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPMT_TK_VERIFIED that = (TPMT_TK_VERIFIED)obj;
+        return Objects.equals(hierarchy, that.hierarchy)
+            && Arrays.equals(digest, that.digest);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(hierarchy);
+        _hash = 31 * _hash + Arrays.hashCode(digest);
+        return _hash;
+    }
 }
 
 //<<<
@@ -30,16 +30,16 @@ public final class TPM_AE extends TpmEnum<TPM_AE>
 
     public TPM_AE () { super(0, _ValueMap); }
     public TPM_AE (int value) { super(value, _ValueMap); }
-    public static TPM_AE fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_AE.class); }
-    public static TPM_AE fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_AE.class); }
-    public static TPM_AE fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_AE.class); }
+    public static TPM_AE fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_AE::new); }
+    public static TPM_AE fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_AE::new); }
+    public static TPM_AE fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_AE::new); }
     public TPM_AE._N asEnum() { return (TPM_AE._N)NameAsEnum; }
     public static Collection<TPM_AE> values() { return _ValueMap.values(); }
     private TPM_AE (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPM_AE (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
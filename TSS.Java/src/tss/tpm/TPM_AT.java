@@ -44,16 +44,16 @@ public final class TPM_AT extends TpmEnum<TPM_AT>
 
     public TPM_AT () { super(0, _ValueMap); }
     public TPM_AT (int value) { super(value, _ValueMap); }
-    public static TPM_AT fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_AT.class); }
-    public static TPM_AT fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_AT.class); }
-    public static TPM_AT fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_AT.class); }
+    public static TPM_AT fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_AT::new); }
+    public static TPM_AT fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_AT::new); }
+    public static TPM_AT fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_AT::new); }
     public TPM_AT._N asEnum() { return (TPM_AT._N)NameAsEnum; }
     public static Collection<TPM_AT> values() { return _ValueMap.values(); }
     private TPM_AT (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPM_AT (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
@@ -79,16 +79,16 @@ public final class TPM_CAP extends TpmEnum<TPM_CAP>
 
     public TPM_CAP () { super(0, _ValueMap); }
     public TPM_CAP (int value) { super(value, _ValueMap); }
-    public static TPM_CAP fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_CAP.class); }
-    public static TPM_CAP fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_CAP.class); }
-    public static TPM_CAP fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_CAP.class); }
+    public static TPM_CAP fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_CAP::new); }
+    public static TPM_CAP fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_CAP::new); }
+    public static TPM_CAP fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_CAP::new); }
     public TPM_CAP._N asEnum() { return (TPM_CAP._N)NameAsEnum; }
     public static Collection<TPM_CAP> values() { return _ValueMap.values(); }
     private TPM_CAP (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPM_CAP (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
@@ -342,16 +342,16 @@ public final class TPM_CC extends TpmEnum<TPM_CC>
 
     public TPM_CC () { super(0, _ValueMap); }
     public TPM_CC (int value) { super(value, _ValueMap); }
-    public static TPM_CC fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_CC.class); }
-    public static TPM_CC fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_CC.class); }
-    public static TPM_CC fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_CC.class); }
+    public static TPM_CC fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_CC::new); }
+    public static TPM_CC fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_CC::new); }
+    public static TPM_CC fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_CC::new); }
     public TPM_CC._N asEnum() { return (TPM_CC._N)NameAsEnum; }
     public static Collection<TPM_CC> values() { return _ValueMap.values(); }
     private TPM_CC (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPM_CC (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
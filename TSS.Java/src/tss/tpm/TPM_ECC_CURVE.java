@@ -51,16 +51,16 @@ public final class TPM_ECC_CURVE extends TpmEnum<TPM_ECC_CURVE>
 
     public TPM_ECC_CURVE () { super(0, _ValueMap); }
     public TPM_ECC_CURVE (int value) { super(value, _ValueMap); }
-    public static TPM_ECC_CURVE fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_ECC_CURVE.class); }
-    public static TPM_ECC_CURVE fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_ECC_CURVE.class); }
-    public static TPM_ECC_CURVE fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_ECC_CURVE.class); }
+    public static TPM_ECC_CURVE fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_ECC_CURVE::new); }
+    public static TPM_ECC_CURVE fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_ECC_CURVE::new); }
+    public static TPM_ECC_CURVE fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_ECC_CURVE::new); }
     public TPM_ECC_CURVE._N asEnum() { return (TPM_ECC_CURVE._N)NameAsEnum; }
     public static Collection<TPM_ECC_CURVE> values() { return _ValueMap.values(); }
     private TPM_ECC_CURVE (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPM_ECC_CURVE (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 2; }
+    public int wireSize() { return 2; }
 }
 
 //<<<
@@ -28,16 +28,16 @@ public final class TPM_GENERATED extends TpmEnum<TPM_GENERATED>
 
     public TPM_GENERATED () { super(0, _ValueMap); }
     public TPM_GENERATED (int value) { super(value, _ValueMap); }
-    public static TPM_GENERATED fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_GENERATED.class); }
-    public static TPM_GENERATED fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_GENERATED.class); }
-    public static TPM_GENERATED fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_GENERATED.class); }
+    public static TPM_GENERATED fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_GENERATED::new); }
+    public static TPM_GENERATED fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_GENERATED::new); }
+    public static TPM_GENERATED fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_GENERATED::new); }
     public TPM_GENERATED._N asEnum() { return (TPM_GENERATED._N)NameAsEnum; }
     public static Collection<TPM_GENERATED> values() { return _ValueMap.values(); }
     private TPM_GENERATED (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPM_GENERATED (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -26,6 +26,10 @@ public class TPM_HANDLE extends TpmStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { handle = buf.readInt(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return 4; }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -37,7 +41,7 @@ public class TPM_HANDLE extends TpmStructure
      */
     public static TPM_HANDLE fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TPM_HANDLE.class);
+        return new TpmBuffer(byteBuf).createObj(TPM_HANDLE::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -52,7 +56,7 @@ public class TPM_HANDLE extends TpmStructure
      */
     public static TPM_HANDLE fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TPM_HANDLE.class);
+        return buf.createObj(TPM_HANDLE::new);
     }
 
     @Override
@@ -70,6 +74,21 @@ public class TPM_HANDLE extends TpmStructure
         _p.add(d, "int", "handle", handle);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TPM_HANDLE that = (TPM_HANDLE)obj;
+        return handle == that.handle;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Integer.hashCode(handle);
+    }
+
     public static final TPM_HANDLE
         /** Represents TPM_RH.NULL handle constant */
         NULL = TPM_HANDLE.from(TPM_RH.NULL),
@@ -147,7 +166,7 @@ public class TPM_HANDLE extends TpmStructure
     /** @return  This handle type */
     public TPM_HT getType()
     {
-        return TPM_HT.fromInt(handle >> 24);
+        return TPM_HT.fromInt(handle >>> 24);
     };
 
     /** Creates a password session handle with the given authorization value
@@ -76,16 +76,16 @@ public final class TPM_HT extends TpmEnum<TPM_HT>
 
     public TPM_HT () { super(0, _ValueMap); }
     public TPM_HT (int value) { super(value, _ValueMap); }
-    public static TPM_HT fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_HT.class); }
-    public static TPM_HT fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_HT.class); }
-    public static TPM_HT fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_HT.class); }
+    public static TPM_HT fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_HT::new); }
+    public static TPM_HT fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_HT::new); }
+    public static TPM_HT fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_HT::new); }
     public TPM_HT._N asEnum() { return (TPM_HT._N)NameAsEnum; }
     public static Collection<TPM_HT> values() { return _ValueMap.values(); }
     private TPM_HT (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPM_HT (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 1; }
+    public int wireSize() { return 1; }
 }
 
 //<<<
@@ -54,16 +54,16 @@ public final class TPM_NT extends TpmEnum<TPM_NT>
 
     public TPM_NT () { super(0, _ValueMap); }
     public TPM_NT (int value) { super(value, _ValueMap); }
-    public static TPM_NT fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_NT.class); }
-    public static TPM_NT fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_NT.class); }
-    public static TPM_NT fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_NT.class); }
+    public static TPM_NT fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_NT::new); }
+    public static TPM_NT fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_NT::new); }
+    public static TPM_NT fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_NT::new); }
     public TPM_NT._N asEnum() { return (TPM_NT._N)NameAsEnum; }
     public static Collection<TPM_NT> values() { return _ValueMap.values(); }
     private TPM_NT (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPM_NT (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
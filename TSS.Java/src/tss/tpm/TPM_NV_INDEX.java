@@ -45,18 +45,18 @@ public final class TPM_NV_INDEX extends TpmAttribute<TPM_NV_INDEX>
     public TPM_NV_INDEX () { super(0, _ValueMap); }
     public TPM_NV_INDEX (int value) { super(value, _ValueMap); }
     public TPM_NV_INDEX (TPM_NV_INDEX...attrs) { super(_ValueMap, attrs); }
-    public static TPM_NV_INDEX fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_NV_INDEX.class); }
-    public static TPM_NV_INDEX fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_NV_INDEX.class); }
-    public static TPM_NV_INDEX fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_NV_INDEX.class); }
+    public static TPM_NV_INDEX fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_NV_INDEX::new); }
+    public static TPM_NV_INDEX fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_NV_INDEX::new); }
+    public static TPM_NV_INDEX fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_NV_INDEX::new); }
     public TPM_NV_INDEX._N asEnum() { return (TPM_NV_INDEX._N)NameAsEnum; }
     public static Collection<TPM_NV_INDEX> values() { return _ValueMap.values(); }
     public boolean hasAttr (TPM_NV_INDEX attr) { return super.hasAttr(attr); }
-    public TPM_NV_INDEX maskAttr (TPM_NV_INDEX attr) { return super.maskAttr(attr, _ValueMap, TPM_NV_INDEX.class); }
+    public TPM_NV_INDEX maskAttr (TPM_NV_INDEX attr) { return super.maskAttr(attr, _ValueMap, TPM_NV_INDEX::new); }
     private TPM_NV_INDEX (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPM_NV_INDEX (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
@@ -421,16 +421,16 @@ public final class TPM_PT extends TpmEnum<TPM_PT>
 
     public TPM_PT () { super(0, _ValueMap); }
     public TPM_PT (int value) { super(value, _ValueMap); }
-    public static TPM_PT fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_PT.class); }
-    public static TPM_PT fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_PT.class); }
-    public static TPM_PT fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_PT.class); }
+    public static TPM_PT fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_PT::new); }
+    public static TPM_PT fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_PT::new); }
+    public static TPM_PT fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_PT::new); }
     public TPM_PT._N asEnum() { return (TPM_PT._N)NameAsEnum; }
     public static Collection<TPM_PT> values() { return _ValueMap.values(); }
     private TPM_PT (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPM_PT (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
@@ -135,16 +135,16 @@ public final class TPM_PT_PCR extends TpmEnum<TPM_PT_PCR>
 
     public TPM_PT_PCR () { super(0, _ValueMap); }
     public TPM_PT_PCR (int value) { super(value, _ValueMap); }
-    public static TPM_PT_PCR fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_PT_PCR.class); }
-    public static TPM_PT_PCR fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_PT_PCR.class); }
-    public static TPM_PT_PCR fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_PT_PCR.class); }
+    public static TPM_PT_PCR fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_PT_PCR::new); }
+    public static TPM_PT_PCR fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_PT_PCR::new); }
+    public static TPM_PT_PCR fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_PT_PCR::new); }
     public TPM_PT_PCR._N asEnum() { return (TPM_PT_PCR._N)NameAsEnum; }
     public static Collection<TPM_PT_PCR> values() { return _ValueMap.values(); }
     private TPM_PT_PCR (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPM_PT_PCR (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 4; }
+    public int wireSize() { return 4; }
 }
 
 //<<<
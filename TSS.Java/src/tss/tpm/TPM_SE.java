@@ -38,16 +38,16 @@ public final class TPM_SE extends TpmEnum<TPM_SE>
 
     public TPM_SE () { super(0, _ValueMap); }
     public TPM_SE (int value) { super(value, _ValueMap); }
-    public static TPM_SE fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_SE.class); }
-    public static TPM_SE fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_SE.class); }
-    public static TPM_SE fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_SE.class); }
+    public static TPM_SE fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_SE::new); }
+    public static TPM_SE fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_SE::new); }
+    public static TPM_SE fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_SE::new); }
     public TPM_SE._N asEnum() { return (TPM_SE._N)NameAsEnum; }
     public static Collection<TPM_SE> values() { return _ValueMap.values(); }
     private TPM_SE (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPM_SE (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 1; }
+    public int wireSize() { return 1; }
 }
 
 //<<<
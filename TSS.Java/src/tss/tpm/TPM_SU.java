@@ -41,16 +41,16 @@ public final class TPM_SU extends TpmEnum<TPM_SU>
 
     public TPM_SU () { super(0, _ValueMap); }
     public TPM_SU (int value) { super(value, _ValueMap); }
-    public static TPM_SU fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_SU.class); }
-    public static TPM_SU fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_SU.class); }
-    public static TPM_SU fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_SU.class); }
+    public static TPM_SU fromInt (int value) { return TpmEnum.fromInt(value, _ValueMap, TPM_SU::new); }
+    public static TPM_SU fromTpm (byte[] buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_SU::new); }
+    public static TPM_SU fromTpm (TpmBuffer buf) { return TpmEnum.fromTpm(buf, _ValueMap, TPM_SU::new); }
     public TPM_SU._N asEnum() { return (TPM_SU._N)NameAsEnum; }
     public static Collection<TPM_SU> values() { return _ValueMap.values(); }
     private TPM_SU (int value, _N nameAsEnum) { super(value, nameAsEnum, _ValueMap); }
     private TPM_SU (int value, _N nameAsEnum, boolean noConvFromInt) { super(value, nameAsEnum, null); }
 
     @Override
-    protected int wireSize() { return 2; }
+    public int wireSize() { return 2; }
 }
 
 //<<<
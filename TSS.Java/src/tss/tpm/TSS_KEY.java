@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -43,6 +43,10 @@ public class TSS_KEY extends TpmStructure
         privatePart = buf.readSizedByteBuf();
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return publicPart.wireSize() + sizedByteBufWireSize(privatePart, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -54,7 +58,7 @@ public class TSS_KEY extends TpmStructure
      */
     public static TSS_KEY fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TSS_KEY.class);
+        return new TpmBuffer(byteBuf).createObj(TSS_KEY::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -69,7 +73,7 @@ public class TSS_KEY extends TpmStructure
      */
     public static TSS_KEY fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TSS_KEY.class);
+        return buf.createObj(TSS_KEY::new);
     }
 
     @Override
@@ -87,6 +91,24 @@ public class TSS_KEY extends TpmStructure
         _p.add(d, "TPMT_PUBLIC", "publicPart", publicPart);
         _p.add(d, "byte[]", "privatePart", privatePart);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TSS_KEY that = (TSS_KEY)obj;
+        return Objects.equals(publicPart, that.publicPart)
+            && Arrays.equals(privatePart, that.privatePart);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(publicPart);
+        _hash = 31 * _hash + Arrays.hashCode(privatePart);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -52,6 +52,10 @@ public class TssObject extends TpmStructure
         Private = TPM2B_PRIVATE.fromTpm(buf);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return Public.wireSize() + Sensitive.wireSize() + Private.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -63,7 +67,7 @@ public class TssObject extends TpmStructure
      */
     public static TssObject fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(TssObject.class);
+        return new TpmBuffer(byteBuf).createObj(TssObject::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -78,7 +82,7 @@ public class TssObject extends TpmStructure
      */
     public static TssObject fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(TssObject.class);
+        return buf.createObj(TssObject::new);
     }
 
     @Override
@@ -97,6 +101,26 @@ public class TssObject extends TpmStructure
         _p.add(d, "TPMT_SENSITIVE", "Sensitive", Sensitive);
         _p.add(d, "TPM2B_PRIVATE", "Private", Private);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TssObject that = (TssObject)obj;
+        return Objects.equals(Public, that.Public)
+            && Objects.equals(Sensitive, that.Sensitive)
+            && Objects.equals(Private, that.Private);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(Public);
+        _hash = 31 * _hash + Objects.hashCode(Sensitive);
+        _hash = 31 * _hash + Objects.hashCode(Private);
+        return _hash;
+    }
 }
 
 //<<<
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -25,6 +25,10 @@ public class UnsealResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { outData = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(outData, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -36,7 +40,7 @@ public class UnsealResponse extends RespStructure
      */
     public static UnsealResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(UnsealResponse.class);
+        return new TpmBuffer(byteBuf).createObj(UnsealResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -51,7 +55,7 @@ public class UnsealResponse extends RespStructure
      */
     public static UnsealResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(UnsealResponse.class);
+        return buf.createObj(UnsealResponse::new);
     }
 
     @Override
@@ -69,6 +73,21 @@ public class UnsealResponse extends RespStructure
         _p.add(d, "byte[]", "outData", outData);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        UnsealResponse that = (UnsealResponse)obj;
+        return Arrays.equals(outData, that.outData);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(outData);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -23,6 +23,10 @@ public class Vendor_TCG_TestResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { outputData = buf.readSizedByteBuf(); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(outputData, 2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -34,7 +38,7 @@ public class Vendor_TCG_TestResponse extends RespStructure
      */
     public static Vendor_TCG_TestResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(Vendor_TCG_TestResponse.class);
+        return new TpmBuffer(byteBuf).createObj(Vendor_TCG_TestResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -49,7 +53,7 @@ public class Vendor_TCG_TestResponse extends RespStructure
      */
     public static Vendor_TCG_TestResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(Vendor_TCG_TestResponse.class);
+        return buf.createObj(Vendor_TCG_TestResponse::new);
     }
 
     @Override
@@ -67,6 +71,21 @@ public class Vendor_TCG_TestResponse extends RespStructure
         _p.add(d, "byte[]", "outputData", outputData);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Vendor_TCG_TestResponse that = (Vendor_TCG_TestResponse)obj;
+        return Arrays.equals(outputData, that.outputData);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(outputData);
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -24,6 +24,10 @@ public class VerifySignatureResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf) { validation = TPMT_TK_VERIFIED.fromTpm(buf); }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return validation.wireSize(); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -35,7 +39,7 @@ public class VerifySignatureResponse extends RespStructure
      */
     public static VerifySignatureResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(VerifySignatureResponse.class);
+        return new TpmBuffer(byteBuf).createObj(VerifySignatureResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -50,7 +54,7 @@ public class VerifySignatureResponse extends RespStructure
      */
     public static VerifySignatureResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(VerifySignatureResponse.class);
+        return buf.createObj(VerifySignatureResponse::new);
     }
 
     @Override
@@ -67,6 +71,21 @@ public class VerifySignatureResponse extends RespStructure
     {
         _p.add(d, "TPMT_TK_VERIFIED", "validation", validation);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        VerifySignatureResponse that = (VerifySignatureResponse)obj;
+        return Objects.equals(validation, that.validation);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hashCode(validation);
+    }
 }
 
 //<<<
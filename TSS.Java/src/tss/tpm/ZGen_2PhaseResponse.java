@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -34,10 +34,14 @@ public class ZGen_2PhaseResponse extends RespStructure
     @Override
     public void initFromTpm(TpmBuffer buf)
     {
-        outZ1 = buf.createSizedObj(TPMS_ECC_POINT.class);
-        outZ2 = buf.createSizedObj(TPMS_ECC_POINT.class);
+        outZ1 = buf.createSizedObj(TPMS_ECC_POINT::new);
+        outZ2 = buf.createSizedObj(TPMS_ECC_POINT::new);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedObjWireSize(outZ1) + sizedObjWireSize(outZ2); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -49,7 +53,7 @@ public class ZGen_2PhaseResponse extends RespStructure
      */
     public static ZGen_2PhaseResponse fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(ZGen_2PhaseResponse.class);
+        return new TpmBuffer(byteBuf).createObj(ZGen_2PhaseResponse::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -64,7 +68,7 @@ public class ZGen_2PhaseResponse extends RespStructure
      */
     public static ZGen_2PhaseResponse fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(ZGen_2PhaseResponse.class);
+        return buf.createObj(ZGen_2PhaseResponse::new);
     }
 
     @Override
@@ -83,6 +87,24 @@ public class ZGen_2PhaseResponse extends RespStructure
         _p.add(d, "TPMS_ECC_POINT", "outZ2", outZ2);
     }
 
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ZGen_2PhaseResponse that = (ZGen_2PhaseResponse)obj;
+        return Objects.equals(outZ1, that.outZ1)
+            && Objects.equals(outZ2, that.outZ2);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Objects.hashCode(outZ1);
+        _hash = 31 * _hash + Objects.hashCode(outZ2);
+        return _hash;
+    }
+
     @Override
     public SessEncInfo sessEncInfo() { return new SessEncInfo(2, 1); }
 }
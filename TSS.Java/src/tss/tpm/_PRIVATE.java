@@ -1,7 +1,7 @@
 package tss.tpm;
 
 import tss.*;
-
+import java.util.*;
 
 // -----------This is an auto-generated file: do not edit
 
@@ -48,9 +48,13 @@ public class _PRIVATE extends TpmStructure
     {
         integrityOuter = buf.readSizedByteBuf();
         integrityInner = buf.readSizedByteBuf();
-        sensitive = buf.createSizedObj(TPMT_SENSITIVE.class);
+        sensitive = buf.createSizedObj(TPMT_SENSITIVE::new);
     }
 
+    /** TpmMarshaller method */
+    @Override
+    public int wireSize() { return sizedByteBufWireSize(integrityOuter, 2) + sizedByteBufWireSize(integrityInner, 2) + sizedObjWireSize(sensitive); }
+
     /** @deprecated Use {@link #toBytes()} instead
      *  @return Wire (marshaled) representation of this object
      */
@@ -62,7 +66,7 @@ public class _PRIVATE extends TpmStructure
      */
     public static _PRIVATE fromBytes (byte[] byteBuf) 
     {
-        return new TpmBuffer(byteBuf).createObj(_PRIVATE.class);
+        return new TpmBuffer(byteBuf).createObj(_PRIVATE::new);
     }
 
     /** @deprecated Use {@link #fromBytes(byte[])} instead
@@ -77,7 +81,7 @@ public class _PRIVATE extends TpmStructure
      */
     public static _PRIVATE fromTpm (TpmBuffer buf) 
     {
-        return buf.createObj(_PRIVATE.class);
+        return buf.createObj(_PRIVATE::new);
     }
 
     @Override
@@ -96,6 +100,26 @@ public class _PRIVATE extends TpmStructure
         _p.add(d, "byte[]", "integrityInner", integrityInner);
         _p.add(d, "TPMT_SENSITIVE", "sensitive", sensitive);
     }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        _PRIVATE that = (_PRIVATE)obj;
+        return Arrays.equals(integrityOuter, that.integrityOuter)
+            && Arrays.equals(integrityInner, that.integrityInner)
+            && Objects.equals(sensitive, that.sensitive);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int _hash = Arrays.hashCode(integrityOuter);
+        _hash = 31 * _hash + Arrays.hashCode(integrityInner);
+        _hash = 31 * _hash + Objects.hashCode(sensitive);
+        return _hash;
+    }
 }
 
 //<<<
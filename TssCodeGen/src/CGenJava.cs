@@ -46,6 +46,9 @@ namespace CodeGen
             GenCommands();
             WriteDef(GetJavaFileName(), null, true);
 
+            GenAsyncCommands();
+            WriteDef(RootDir + "tss\\AsyncTpm.java", null, true);
+
             foreach (var t in TpmTypes.TheTypes.Where(t => !t.Implement))
             {
                 string typeName = t.Name;
@@ -119,15 +122,15 @@ namespace CodeGen
             Write($"public {e.Name} (int value) {{ super(value, _ValueMap); }}", true);
             if (e is TpmBitfield)
                 Write($"public {e.Name} ({e.Name}...attrs) {{ super(_ValueMap, attrs); }}", true);
-            Write($"public static {e.Name} fromInt (int value) {{ return TpmEnum.fromInt(value, _ValueMap, {e.Name}.class); }}", true);
-            Write($"public static {e.Name} fromTpm (byte[] buf) {{ return TpmEnum.fromTpm(buf, _ValueMap, {e.Name}.class); }}", true);
-            Write($"public static {e.Name} fromTpm (TpmBuffer buf) {{ return TpmEnum.fromTpm(buf, _ValueMap, {e.Name}.class); }}", true);
+            Write($"public static {e.Name} fromInt (int value) {{ return TpmEnum.fromInt(value, _ValueMap, {e.Name}::new); }}", true);
+            Write($"public static {e.Name} fromTpm (byte[] buf) {{ return TpmEnum.fromTpm(buf, _ValueMap, {e.Name}::new); }}", true);
+            Write($"public static {e.Name} fromTpm (TpmBuffer buf) {{ return TpmEnum.fromTpm(buf, _ValueMap, {e.Name}::new); }}", true);
             Write($"public {e.Name}._N asEnum() {{ return ({e.Name}._N)NameAsEnum; }}", true);
             Write($"public static Collection<{e.Name}> values() {{ return _ValueMap.values(); }}", true);
             if (e is TpmBitfield)
             {
                 Write($"public boolean hasAttr ({ e.Name} attr) {{ return super.hasAttr(attr); }}", true);
-                Write($"public {e.Name} maskAttr ({e.Name} attr) {{ return super.maskAttr(attr, _ValueMap, {e.Name}.class); }}", true);
+                Write($"public {e.Name} maskAttr ({e.Name} attr) {{ return super.maskAttr(attr, _ValueMap, {e.Name}::new); }}", true);
             }
 
             // Do not include params and bits of a mask of a multibit member of a bitfield
@@ -136,7 +139,7 @@ namespace CodeGen
             Write($"private {e.Name} (int value, _N nameAsEnum, boolean noConvFromInt) {{ super(value, nameAsEnum, null); }}", true);
 
             Write("@Override");
-            Write($"protected int wireSize() {{ return {wireSize}; }}");
+            Write($"public int wireSize() {{ return {wireSize}; }}");
 
             InsertSnip(e.Name);
             TabOut("}", false);
@@ -167,35 +170,30 @@ namespace CodeGen
 
         void GenUnionFactory()
         {
-            WriteComment("Holds static factory method for instantiating TPM unions.\n" +
+            WriteComment("Holds static factory methods for instantiating TPM unions.\n" +
                 "Note: A wrapper class is used instead of simply static function solely " +
                 "for the sake of uniformity with languages like C# and Java.");
             Write("class UnionFactory");
             TabIn("{");
-            WriteComment("Creates specific TPM union member based on the union type and selector (tag) value");
-            Write("@SuppressWarnings(\"unchecked\")");
-            Write("public static <U extends TpmUnion, S extends TpmEnum<S>>");
-            Write("U create(String unionType, S selector) // S = TPM_ALG_ID | TPM_CAP | TPM_ST");
-            TabIn("{");
-            string elsePref = "";
             foreach (TpmUnion u in TpmTypes.Get<TpmUnion>())
             {
-                TabIn($"{elsePref}if (unionType == \"{u.Name}\")");
-                elsePref = "else ";
-                TabIn($"switch ((({GetUnionSelectorType(u)})selector).asEnum()) {{");
+                string selType = GetUnionSelectorType(u);
+                WriteComment($"Creates specific {u.Name} union member based on the selector (tag) value");
+                Write($"public static {u.Name} create{u.Name}({selType} selector)");
+                TabIn("{");
+                TabIn("if (selector.asEnum() != null)");
+                TabIn("switch (selector.asEnum()) {");
                 foreach (UnionMember m in u.Members)
                 {
                     string newObj = m.Type.IsElementary() ? TargetLang.Null : $"new {m.Type.Name}()";
-                    Write($"case {m.SelectorValue.Name}: return (U) {newObj};");
+                    Write($"case {m.SelectorValue.Name}: return {newObj};");
                 }
                 Write("default:");
                 TabOut("}", false);  // switch (selector)
-                TabOut();   // if / else if
+                TabOut();   // if
+                Write($"throw new RuntimeException(\"Unknown selector value \" + selector.toString() + \" for union {u.Name}\");");
+                TabOut($"}} // create{u.Name}()");
             }
-            TabIn("else");
-            Write("throw new RuntimeException(\"UnionFactory::Create(): Unknown union type \" + unionType);");
-            TabOut("throw new RuntimeException(\"Unknown selector value \" + selector.toString() + \" for union \" + unionType);");
-            TabOut("} // create()");
             TabOut("}; // class UnionFactory");
         }
 
@@ -238,6 +236,166 @@ namespace CodeGen
             }
         } // GenMarshalingMethod()
 
+        /// <summary> Translates the marshaling sequence of a structure into the statements of its
+        /// wireSize() method, which computes the exact marshaled size without marshaling </summary>
+        static List<string> GetWireSizeOps(StructField[] fields)
+        {
+            var ops = new List<string>();
+            var terms = new List<string>();
+            int constSize = 0;
+            bool haveVar = false;
+
+            Func<bool, string> sum = withVar => {
+                var parts = new List<string>();
+                if (withVar)
+                    parts.Add("size");
+                if (constSize != 0 || (terms.Count == 0 && !withVar))
+                    parts.Add(constSize.ToString());
+                parts.AddRange(terms);
+                return string.Join(" + ", parts);
+            };
+
+            // Returns the accumulated size at the point where toTpm() may stop marshaling
+            Action<string> earlyReturn = cond => {
+                if (terms.Count == 0 && constSize == 0 && !haveVar)
+                {
+                    ops.Add($"if ({cond}) return 0");
+                    return;
+                }
+                if (terms.Count != 0 || constSize != 0)
+                {
+                    ops.Add(haveVar ? $"size += {sum(false)}" : $"int size = {sum(false)}");
+                    haveVar = true;
+                    terms.Clear();
+                    constSize = 0;
+                }
+                ops.Add($"if ({cond}) return size");
+            };
+
+            foreach (StructField f in fields)
+            {
+                int size = f.Type.GetSize();
+                string fieldName = f.Name;
+                switch (f.MarshalType)
+                {
+                    case MarshalType.Normal:
+                        if (f.IsValueType())
+                            constSize += size;
+                        else
+                            terms.Add($"{fieldName}.wireSize()");
+
+                        if (f.Attrs.HasFlag(StructFieldAttr.TermOnNull))
+                            earlyReturn($"{fieldName} == {TpmTypes.AlgNull}");
+                        break;
+
+                    case MarshalType.ConstantValue:
+                        constSize += size;
+                        break;
+
+                    case MarshalType.SizedStruct:
+                        terms.Add($"sizedObjWireSize({fieldName})");
+                        break;
+
+                    case MarshalType.EncryptedVariableLengthArray:
+                    case MarshalType.SpecialVariableLengthArray:
+                        terms.Add($"byteBufWireSize({fieldName})");
+                        break;
+
+                    case MarshalType.VariableLengthArray:
+                        var sizeTagLen = f.SizeTagField.Type.GetSize();
+                        if (f.IsByteBuffer())
+                            terms.Add($"sizedByteBufWireSize({fieldName}, {sizeTagLen})");
+                        else if (f.IsValueType())
+                            terms.Add($"{sizeTagLen} + {fieldName}.length * {size}");
+                        else
+                            terms.Add($"objArrWireSize({fieldName})");
+                        break;
+
+                    case MarshalType.UnionSelector:
+                        if (f == fields.First())
+                            earlyReturn($"{f.RelatedUnion.Name} == null");
+                        constSize += size;
+                        break;
+
+                    case MarshalType.UnionObject:
+                        terms.Add($"{fieldName}.wireSize()");
+                        break;
+
+                    default:
+                        Debug.Assert(false);
+                        break;
+                }
+            }
+            ops.Add(terms.Count != 0 || constSize != 0 || !haveVar ? $"return {sum(haveVar)}" : "return size");
+            return ops;
+        } // GetWireSizeOps()
+
+        void GenWireSizeMethod(TpmStruct s)
+        {
+            var fields = s.MarshalFields;
+            if (s.DerivedFrom != null || fields.Count() == 0)
+                return;
+
+            var sizeOps = GetWireSizeOps(fields);
+
+            WriteComment("TpmMarshaller method");
+            Write("@Override");
+            if (sizeOps.Count == 1)
+                Write($"public int wireSize() {{ {sizeOps[0]}; }}");
+            else
+            {
+                Write("public int wireSize()");
+                TabIn("{");
+                foreach (var op in sizeOps)
+                    Write($"{op};");
+                TabOut("}", false);
+            }
+        } // GenWireSizeMethod()
+
+        static readonly Dictionary<string, string> BoxedTypes = new Dictionary<string, string> {
+            { "byte", "Byte" }, { "short", "Short" }, { "int", "Integer" }, { "long", "Long" }
+        };
+
+        static string FieldEquals(StructField f)
+            => f.TypeName.EndsWith("[]") ? $"Arrays.equals({f.Name}, that.{f.Name})"
+             : BoxedTypes.ContainsKey(f.TypeName) ? $"{f.Name} == that.{f.Name}"
+             : $"Objects.equals({f.Name}, that.{f.Name})";
+
+        static string FieldHashCode(StructField f)
+            => f.TypeName.EndsWith("[]") ? $"Arrays.hashCode({f.Name})"
+             : BoxedTypes.ContainsKey(f.TypeName) ? $"{BoxedTypes[f.TypeName]}.hashCode({f.Name})"
+             : $"Objects.hashCode({f.Name})";
+
+        /// <summary> Generates structural (field-wise) equals() and hashCode() </summary>
+        void GenEqualsAndHashCode(TpmStruct s, IEnumerable<StructField> fields)
+        {
+            needsUtil = true;   // Arrays and Objects
+
+            Write("@Override");
+            Write("public boolean equals(Object obj)");
+            TabIn("{");
+            Write("if (this == obj) return true;");
+            Write("if (obj == null || getClass() != obj.getClass()) return false;");
+            Write($"{s.Name} that = ({s.Name})obj;");
+            string eq = string.Join("\n    && ", fields.Select(f => FieldEquals(f)));
+            Write($"return {eq};");
+            TabOut("}", false);
+
+            Write("@Override");
+            Write("public int hashCode()");
+            TabIn("{");
+            if (fields.Count() == 1)
+                Write($"return {FieldHashCode(fields.First())};");
+            else
+            {
+                Write($"int _hash = {FieldHashCode(fields.First())};");
+                foreach (var f in fields.Skip(1))
+                    Write($"_hash = 31 * _hash + {FieldHashCode(f)};");
+                Write("return _hash;");
+            }
+            TabOut("}", false);
+        } // GenEqualsAndHashCode()
+
         void GenStruct(TpmStruct s)
         {
             bool hasBase = s.DerivedFrom != null;
@@ -369,6 +527,7 @@ namespace CodeGen
             //
             GenMarshalingMethod(true, s);
             GenMarshalingMethod(false, s);
+            GenWireSizeMethod(s);
 
             WriteComment("@deprecated Use {@link #toBytes()} instead\n" +
                          "@return Wire (marshaled) representation of this object");
@@ -379,7 +538,7 @@ namespace CodeGen
                          "@return New object constructed from its wire representation");
             Write($"public static {className} fromBytes (byte[] byteBuf) ");
             TabIn("{");
-            Write($"return new TpmBuffer(byteBuf).createObj({className}.class);");
+            Write($"return new TpmBuffer(byteBuf).createObj({className}::new);");
             TabOut("}");
 
             WriteComment("@deprecated Use {@link #fromBytes(byte[])} instead\n" +
@@ -392,7 +551,7 @@ namespace CodeGen
                          "@return New object constructed from its wire representation");
             Write($"public static {className} fromTpm (TpmBuffer buf) ");
             TabIn("{");
-            Write($"return buf.createObj({className}.class);");
+            Write($"return buf.createObj({className}::new);");
             TabOut("}");
 
             Write("@Override");
@@ -414,6 +573,9 @@ namespace CodeGen
                 TabOut("}", false);
             }
 
+            if (s.Fields.Count() > 0)
+                GenEqualsAndHashCode(s, ctorParams);
+
             var info = s.IsCmdStruct() ? s.Info as CmdStructInfo : null;
             if (info != null && (info.NumHandles != 0 || info.SessEncSizeLen != 0))
             {
@@ -463,6 +625,10 @@ namespace CodeGen
                 "<P>\n" +
                 "Tpm objects must be \"connected\" to a physical TPM or TPM simulator using the _setDevice()\n" +
                 "method.  Some devices (like the TPM simulator) need to be configured before they can be used.\n" +
+                "<P>\n" +
+                "A Tpm object can be shared by multiple threads. The modifiers (like _allowErrors() or\n" +
+                "_withSession()) apply to the next command executed by the calling thread, and the commands\n" +
+                "of different threads are sent to the TPM device one at a time.\n" +
                 "See the sample code that is part of the TSS.Java distribution for more information.";
 
             WriteComment(tpmComment);
@@ -531,9 +697,70 @@ namespace CodeGen
             TabOut("}");
         } // GenCommand()
 
+        void GenAsyncCommands()
+        {
+            ExtraImports = "import java.util.concurrent.CompletableFuture;";
+
+            string asyncTpmComment =
+                "The AsyncTpm class provides asynchronous counterparts of the Tpm class methods.\n" +
+                "<P>\n" +
+                "Each method queues the command for execution by the dispatcher thread of the TPM device,\n" +
+                "and returns a future of the result that the corresponding Tpm method would return.\n" +
+                "If the TPM returns an unexpected response code, the future completes exceptionally\n" +
+                "with a TpmException. The modifiers (like _allowErrors() or _withSession()) apply to\n" +
+                "the next command submitted by the calling thread.";
+
+            WriteComment(asyncTpmComment);
+            Write($"public class AsyncTpm extends AsyncTpmBase");
+            TabIn("{");
+            WriteComment("Creates an asynchronous interface to the given TPM\n" +
+                         "@param tpm Tpm object with an attached device. It can still be used synchronously.");
+            Write("public AsyncTpm(Tpm tpm) { super(tpm); }");
+            foreach (var req in TpmTypes.Get<TpmStruct>().Where(s => s.Info.IsRequest()))
+            {
+                GenAsyncCommand(req);
+            }
+            TabOut("}", false);
+        } // GenAsyncCommands()
+
+        void GenAsyncCommand(TpmStruct req)
+        {
+            var resp = GetRespStruct(req);
+            var cmdName = GetCommandName(req);
+            string cmdCode = "TPM_CC." + cmdName;
+            var fields = req.NonTagFields;
+            var respFields = resp.NonTagFields;
+            if (ForceJustOneReturnParm.Contains(cmdName))
+                respFields = respFields.Take(1).ToArray();
+
+            int numOutParms = respFields.Count();
+            string returnType = numOutParms == 1 ? respFields[0].TypeName
+                              : numOutParms == 0 ? "Void" : resp.Name;
+            if (BoxedTypes.ContainsKey(returnType))
+                returnType = BoxedTypes[returnType];
+
+            WriteComment($"Asynchronous version of {{@link Tpm#{cmdName}}}");
+
+            string paramList = string.Join(", ", fields.Select(f => f.TypeName + " " + f.Name));
+            string reqStructInitList = string.Join(", ", fields.Select(f => f.Name));
+            Write($"public CompletableFuture<{returnType}> {cmdName}({paramList})");
+            TabIn("{");
+            Write($"{req.Name} req = new {req.Name}({reqStructInitList});");
+            if (numOutParms == 0)
+                Write($"return dispatch({cmdCode}, req);");
+            else if (numOutParms == 1)
+                Write($"return dispatch({cmdCode}, req, new {resp.Name}(), resp -> resp.{respFields[0].Name});");
+            else
+                Write($"return dispatch({cmdCode}, req, new {resp.Name}());");
+            TabOut("}");
+        } // GenAsyncCommand()
+
 
         const string ExtraImportsTag = "//ExtraImports";
 
+        /// <summary> Imports added to the next generated file (unless it needs java.util) </summary>
+        string ExtraImports = "";
+
         string typesTemplate =
             "package tss.tpm;\n" +
             "\n" +
@@ -601,8 +828,9 @@ namespace CodeGen
 
             string temp = b.ToString();
             b.Clear();
-            temp = temp.Replace(ExtraImportsTag, needsUtil ? "import java.util.*;" : "");
+            temp = temp.Replace(ExtraImportsTag, needsUtil ? "import java.util.*;" : ExtraImports);
             needsUtil = false;
+            ExtraImports = "";
             File.WriteAllText(fileName, temp);
         }
 
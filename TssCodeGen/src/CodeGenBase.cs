@@ -195,7 +195,7 @@ namespace CodeGen
                     case MarshalType.SizedStruct:
                         Debug.Assert(f.SizeTagField != null);
                         marshalOps.Add(TargetLang.Cpp ? $"buf.readSizedObj({fieldName})"
-                                                      : $"{fieldName} = buf.createSizedObj({TargetLang.TypeInfo(f.TypeName)})");
+                                                      : $"{fieldName} = buf.createSizedObj({TargetLang.Factory(f.TypeName)})");
                         break;
 
                     case MarshalType.EncryptedVariableLengthArray:
@@ -217,7 +217,7 @@ namespace CodeGen
                                                           : $"{fieldName} = buf.readValArr({f.Type.GetSize()})");
                         else
                             marshalOps.Add(TargetLang.Cpp ? $"buf.readObjArr({fieldName})"
-                                                          : $"{fieldName} = buf.readObjArr({TargetLang.TypeInfo(f.TypeName.TrimEnd('[', ']'))})");
+                                                          : $"{fieldName} = buf.readObjArr({TargetLang.ArrayFactory(f.TypeName.TrimEnd('[', ']'))})");
                         break;
 
                     case MarshalType.UnionSelector:
@@ -229,6 +229,7 @@ namespace CodeGen
                     case MarshalType.UnionObject:
                         var selector = (f as UnionField).UnionSelector.Name;
                         marshalOps.Add(TargetLang.Cpp ? $"UnionFactory::Create({fieldName}, {selector})"
+                                     : TargetLang.Java ? $"{fieldName} = UnionFactory.create{f.TypeName}({selector})"
                                                       : $"{fieldName} = UnionFactory.create({TargetLang.Quote(f.TypeName)}, {selector})");
                         marshalOps.Add($"{fieldName}{TargetLang.Member}initFromTpm(buf)");
                         break;
@@ -102,7 +102,12 @@ namespace CodeGen
 
         public static string Quote(string str) => _quote + str + _quote;
 
-        public static string TypeInfo(string typeName) => typeName + (Java ? ".class" : "");
+        /// <summary> Argument passed to the unmarshaling helpers to construct objects of the given type </summary>
+        public static string Factory(string typeName) => typeName + (Java ? "::new" : "");
+
+        /// <summary> Argument(s) passed to the array unmarshaling helper to construct an array of
+        /// objects of the given element type </summary>
+        public static string ArrayFactory(string elemType) => Java ? $"{elemType}::new, {elemType}[]::new" : elemType;
 
         public static string LocalVar(string varName, string typeName)
             => Py ? varName : Node ? $"let {varName}: {typeName}" : $"{typeName} {varName}";